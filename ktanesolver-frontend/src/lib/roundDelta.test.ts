@@ -0,0 +1,95 @@
+import { describe, expect, it } from "vitest";
+
+import { BombStatus, ModuleType, RoundStatus, type RoundDelta, type RoundEntity } from "../types";
+import { applyRoundDeltas, requiresReload, unbatchRoundMessages } from "./roundDelta";
+
+const createRound = (): RoundEntity => ({
+  id: "round-1",
+  status: RoundStatus.ACTIVE,
+  roundState: {},
+  bombs: [
+    {
+      id: "bomb-1",
+      serialNumber: "ABC123",
+      aaBatteryCount: 2,
+      dBatteryCount: 1,
+      indicators: {},
+      portPlates: [],
+      status: BombStatus.ACTIVE,
+      strikes: 1,
+      modules: [
+        { id: "module-1", type: ModuleType.WIRES, solved: false, version: 2, state: {}, solution: {} },
+        { id: "module-2", type: ModuleType.BUTTON, solved: false, version: 0, state: {}, solution: {} },
+      ],
+    },
+  ],
+});
+
+describe("applyRoundDeltas", () => {
+  it("replaces the changed module fields and leaves other modules untouched", () => {
+    const round = createRound();
+    const delta: RoundDelta = {
+      roundId: "round-1",
+      version: 1,
+      changes: [
+        {
+          kind: "MODULE",
+          bombId: "bomb-1",
+          moduleId: "module-1",
+          version: 3,
+          solved: false,
+          state: { wires: ["RED"] },
+          solution: { cut: 1 },
+        },
+      ],
+    };
+
+    const next = applyRoundDeltas(round, [delta]);
+
+    expect(next.bombs[0].modules[0]).toMatchObject({ version: 3, state: { wires: ["RED"] }, solution: { cut: 1 } });
+    expect(next.bombs[0].modules[1]).toBe(round.bombs[0].modules[1]);
+  });
+
+  it("ignores module changes older than the current version and lower strike counts", () => {
+    const round = createRound();
+    const delta: RoundDelta = {
+      roundId: "round-1",
+      version: 4,
+      changes: [
+        { kind: "MODULE", bombId: "bomb-1", moduleId: "module-1", version: 1, solved: true, state: {}, solution: {} },
+        { kind: "BOMB", bombId: "bomb-1", strikes: 0 },
+      ],
+    };
+
+    const next = applyRoundDeltas(round, [delta]);
+
+    expect(next.bombs[0].modules[0].solved).toBe(false);
+    expect(next.bombs[0].strikes).toBe(1);
+  });
+
+  it("ignores deltas for another round", () => {
+    const round = createRound();
+
+    const next = applyRoundDeltas(round, [
+      { roundId: "round-2", version: 1, changes: [{ kind: "BOMB", bombId: "bomb-1", strikes: 3 }] },
+    ]);
+
+    expect(next).toBe(round);
+  });
+
+  it("flags structural changes for reload", () => {
+    expect(requiresReload({ roundId: "round-1", version: 1, changes: [{ kind: "ROUND" }] })).toBe(true);
+    expect(requiresReload({ roundId: "round-1", version: 1, changes: [{ kind: "BOMB", bombId: "bomb-1", strikes: 1 }] })).toBe(false);
+  });
+});
+
+describe("unbatchRoundMessages", () => {
+  it("returns the messages of a batch frame in order and wraps single messages", () => {
+    const delta = { type: "ROUND_DELTA" as const, payload: { roundId: "round-1", version: 1, changes: [] } };
+    const update = { type: "ROUND_UPDATED" as const, payload: { roundId: "round-1", version: 2 } };
+
+    expect(unbatchRoundMessages({ type: "ROUND_BATCH", payload: { roundId: "round-1", messages: [delta, update] } }))
+      .toEqual([delta, update]);
+    expect(unbatchRoundMessages(update)).toEqual([update]);
+  });
+});
@@ -0,0 +1,49 @@
+import type { BombEntity, ModuleEntity, RoundChange, RoundDelta, RoundEntity, RoundEventMessage } from "../types";
+
+/** True when the delta contains a structural change that can only be applied by reloading the round. */
+export const requiresReload = (delta: RoundDelta): boolean =>
+  delta.changes.some((change) => change.kind === "ROUND");
+
+const applyModuleChange = (module: ModuleEntity, change: RoundChange): ModuleEntity => {
+  if (change.version !== undefined && change.version < module.version) {
+    return module;
+  }
+  return {
+    ...module,
+    version: change.version ?? module.version,
+    solved: change.solved ?? module.solved,
+    twitchCode: change.twitchCode ?? undefined,
+    state: change.state ?? module.state,
+    solution: change.solution ?? module.solution,
+  };
+};
+
+const applyBombChanges = (bomb: BombEntity, changes: RoundChange[]): BombEntity => {
+  const relevant = changes.filter((change) => change.bombId === bomb.id);
+  if (relevant.length === 0) return bomb;
+  let strikes = bomb.strikes;
+  let modules = bomb.modules;
+  for (const change of relevant) {
+    if (change.kind === "BOMB" && change.strikes !== undefined) {
+      strikes = Math.max(strikes, change.strikes);
+    }
+    if (change.kind === "MODULE") {
+      modules = modules.map((m) => (m.id === change.moduleId ? applyModuleChange(m, change) : m));
+    }
+  }
+  return { ...bomb, strikes, modules };
+};
+
+/**
+ * Patches the round with the changed fields of each delta. Module changes older than the module's current version and
+ * strike counts lower than the current one are ignored, so re-applying a delta is harmless.
+ */
+export const applyRoundDeltas = (round: RoundEntity, deltas: RoundDelta[]): RoundEntity => {
+  const changes = deltas.filter((delta) => delta.roundId === round.id).flatMap((delta) => delta.changes);
+  if (changes.length === 0) return round;
+  return { ...round, bombs: round.bombs.map((bomb) => applyBombChanges(bomb, changes)) };
+};
+
+/** Messages carried by one STOMP frame, in order; the server coalesces bursts into a single ROUND_BATCH frame. */
+export const unbatchRoundMessages = (frame: RoundEventMessage): RoundEventMessage[] =>
+  frame.type === "ROUND_BATCH" ? ((frame.payload.messages as RoundEventMessage[] | undefined) ?? []) : [frame];
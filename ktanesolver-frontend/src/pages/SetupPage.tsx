@@ -7,6 +7,7 @@ import {useCatalogStore} from "../store/useCatalogStore";
 import {
     type BombEntity,
     PortType,
+    type RoundEventMessage,
     RoundStatus,
 } from "../types";
 import BombCard from "../features/setup/BombCard";
@@ -17,6 +18,7 @@ import ModuleSelector from "../components/ModuleSelector";
 import PageContainer from "../components/layout/PageContainer";
 import PageHeader from "../components/layout/PageHeader";
 import { getRoundStatusLabel } from "../lib/utils";
+import { unbatchRoundMessages } from "../lib/roundDelta";
 import { Alert, AlertTitle, AlertDescription } from "../components/ui/alert";
 import {
     Dialog,
@@ -182,8 +184,8 @@ export default function SetupPage() {
             onConnect: () => {
                 client.subscribe(`/topic/rounds/${roundId}`, (message) => {
                     try {
-                        const body = JSON.parse(message.body) as { type?: string };
-                        if (body.type === "ROUND_UPDATED") {
+                        const body = JSON.parse(message.body) as RoundEventMessage;
+                        if (unbatchRoundMessages(body).some((m) => m.type === "ROUND_UPDATED")) {
                             void refreshRound(roundId);
                         }
                     } catch {
@@ -4,7 +4,7 @@ import { useNavigate, useParams } from "react-router-dom";
 import { Client } from "@stomp/stompjs";
 import SockJS from "sockjs-client";
 import { useRoundStore } from "../store/useRoundStore";
-import { type BombEntity, type ModuleEntity, type ModuleCatalogItem, ModuleType } from "../types";
+import { type BombEntity, type ModuleEntity, type ModuleCatalogItem, type RoundDelta, type RoundEventMessage, ModuleType } from "../types";
 import { isNeedyModuleType, lazySolverRegistry } from "../components/solvers/registry";
 import { useCatalogStore } from "../store/useCatalogStore";
 import NeedyModulesPanel from "../components/NeedyModulesPanel";
@@ -13,6 +13,7 @@ import ModuleGrid from "../features/solve/ModuleGrid";
 import ManualPanel from "../features/solve/ManualPanel";
 import { useKeyboardShortcuts } from "../hooks/useKeyboardShortcut";
 import { formatModuleName } from "../lib/utils";
+import { unbatchRoundMessages } from "../lib/roundDelta";
 import { Skeleton } from "../components/ui/skeleton";
 import { Alert, AlertDescription } from "../components/ui/alert";
 import { Button } from "../components/ui/button";
@@ -30,13 +31,6 @@ import ModuleNumberInput from "../components/ModuleNumberInput";
 
 const API_BASE = import.meta.env.VITE_API_BASE_URL ?? "http://localhost:8080";
 
-const REFRESH_EVENT_TYPES = [
-  "MODULE_UPDATED",
-  "MODULE_SOLVED",
-  "ROUND_STRIKE",
-  "MODULE_STRIKE",
-  "ROUND_UPDATED",
-] as const;
 
 function SolverContent({
   moduleType,
@@ -80,6 +74,8 @@ export default function SolvePage() {
   const navigate = useNavigate();
   const round = useRoundStore((state) => state.round);
   const refreshRound = useRoundStore((state) => state.refreshRound);
+  const receiveRoundDelta = useRoundStore((state) => state.receiveRoundDelta);
+  const receiveRoundUpdated = useRoundStore((state) => state.receiveRoundUpdated);
   const loading = useRoundStore((state) => state.loading);
   const currentBomb = useRoundStore((state) => state.currentBomb);
   const currentModule = useRoundStore((state) => state.currentModule);
@@ -157,7 +153,7 @@ export default function SolvePage() {
     return () => { cancelled = true; };
   }, [roundId, refreshRound]);
 
-  // WebSocket: refresh round on events; on MODULE_SOLVED, show FMN reminder if round has unsolved Forget Me Not
+  // WebSocket: patch the round from deltas, reload it on structural updates; on MODULE_SOLVED, show FMN reminder if round has unsolved Forget Me Not
   const onModuleSolved = useCallback(() => {
     const state = useRoundStore.getState();
     const r = state.round;
@@ -176,13 +172,21 @@ export default function SolvePage() {
       onConnect: () => {
         client.subscribe(`/topic/rounds/${roundId}`, (message) => {
           try {
-            const body = JSON.parse(message.body) as { type: string };
-            if (REFRESH_EVENT_TYPES.includes(body.type as (typeof REFRESH_EVENT_TYPES)[number])) {
-              void refreshRound(roundId);
-            }
-            if (body.type === "MODULE_SOLVED") {
-              onModuleSolved();
-            }
+            const messages = unbatchRoundMessages(JSON.parse(message.body) as RoundEventMessage);
+            void (async () => {
+              // sequential, so a reload finishes before later deltas are checked for gaps
+              for (const body of messages) {
+                if (body.type === "ROUND_DELTA") {
+                  await receiveRoundDelta(body.payload as unknown as RoundDelta);
+                }
+                if (body.type === "ROUND_UPDATED") {
+                  await receiveRoundUpdated(roundId, body.payload.version as number | undefined);
+                }
+                if (body.type === "MODULE_SOLVED") {
+                  onModuleSolved();
+                }
+              }
+            })();
           } catch {
             // ignore parse errors
           }
@@ -193,7 +197,7 @@ export default function SolvePage() {
     return () => {
       client.deactivate();
     };
-  }, [onModuleSolved, roundId, refreshRound]);
+  }, [onModuleSolved, roundId, receiveRoundDelta, receiveRoundUpdated]);
 
   useEffect(() => {
     if (!currentBomb && round?.bombs.length) {
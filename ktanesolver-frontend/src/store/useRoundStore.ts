@@ -6,11 +6,14 @@ import {
     type BombEntity,
     type CreateBombRequest,
     type ModuleEntity,
+    type RoundChanges,
+    type RoundDelta,
     type RoundEntity,
     type RoundSummary,
 
 } from "../types";
 import {api, debugModuleSync, withErrorWrapping} from "../lib/api";
+import {applyRoundDeltas, requiresReload} from "../lib/roundDelta";
 import {useCatalogStore} from "./useCatalogStore";
 
 type RoundStoreState = {
@@ -26,6 +29,8 @@ type RoundStoreState = {
     error?: string;
     /** Module ID currently being opened (enter + fetch in progress); used to show loading and prevent double-clicks. */
     openingModuleId?: string | null;
+    /** Version of the last ROUND_DELTA / ROUND_UPDATED message applied to the round. */
+    changeVersion?: number;
 };
 
 type RoundStoreActions = {
@@ -64,6 +69,10 @@ type RoundStoreActions = {
         solved?: boolean
     ) => void;
     addStrike: (bombId: string) => Promise<BombEntity>;
+    /** Apply a ROUND_DELTA message, catching up through /changes when a version was missed. */
+    receiveRoundDelta: (delta: RoundDelta) => Promise<void>;
+    /** Reload the round after a structural ROUND_UPDATED message. */
+    receiveRoundUpdated: (roundId: string, version?: number) => Promise<void>;
 };
 
 const attachManualUrl = (moduleType: string): string | undefined => {
@@ -79,6 +88,44 @@ const attachManualUrl = (moduleType: string): string | undefined => {
 
 let roundMutationVersion = 0;
 
+/** Deltas applied recently; re-applied to a refreshed round in case they arrived while the refresh was in flight. */
+const RECENT_DELTA_LIMIT = 32;
+let recentDeltas: RoundDelta[] = [];
+
+const rememberDeltas = (deltas: RoundDelta[]) => {
+    recentDeltas = [...recentDeltas, ...deltas].slice(-RECENT_DELTA_LIMIT);
+};
+
+const withSelection = (
+    round: RoundEntity,
+    currentBomb: BombEntity | undefined,
+    currentModule: RoundStoreState["currentModule"],
+): Pick<RoundStoreState, "round" | "currentBomb" | "currentModule"> => {
+    const nextBomb = currentBomb ? round.bombs.find((b) => b.id === currentBomb.id) ?? currentBomb : undefined;
+    const module = nextBomb && currentModule && nextBomb.id === currentModule.bomb.id
+        ? nextBomb.modules.find((m) => m.id === currentModule.id)
+        : undefined;
+    return {
+        round,
+        currentBomb: nextBomb,
+        currentModule: nextBomb && currentModule && module
+            ? {...currentModule, ...module, bomb: nextBomb, moduleType: module.type}
+            : currentModule,
+    };
+};
+
+const patchRound = (
+    prev: RoundStoreState,
+    deltas: RoundDelta[],
+    version: number,
+): Partial<RoundStoreState> => {
+    if (!prev.round) return {};
+    return {
+        ...withSelection(applyRoundDeltas(prev.round, deltas), prev.currentBomb, prev.currentModule),
+        changeVersion: Math.max(prev.changeVersion ?? 0, version),
+    };
+};
+
 export const useRoundStore = create<RoundStoreState & RoundStoreActions>()(
     devtools(
         (set, get) => ({
@@ -123,7 +170,8 @@ export const useRoundStore = create<RoundStoreState & RoundStoreActions>()(
                         bombs: round.bombs.length,
                         modulesTotal: round.bombs.reduce((acc, b) => acc + b.modules.length, 0),
                     });
-                    set({round, loading: false, currentBomb: undefined, currentModule: undefined, manualUrl: undefined});
+                    recentDeltas = [];
+                    set({round, loading: false, currentBomb: undefined, currentModule: undefined, manualUrl: undefined, changeVersion: undefined});
                     return round;
                 } catch (error) {
                     debugModuleSync("fetchRound:error", {roundId, error});
@@ -152,7 +200,7 @@ export const useRoundStore = create<RoundStoreState & RoundStoreActions>()(
                 try {
                     const round = await withErrorWrapping(async () => {
                         const {data} = await api.get<RoundEntity>(`/rounds/${roundId}`);
-                        return data;
+                        return applyRoundDeltas(data, recentDeltas);
                     });
 
                     debugModuleSync("refreshRound:fetched", {
@@ -705,6 +753,40 @@ export const useRoundStore = create<RoundStoreState & RoundStoreActions>()(
                 });
             },
 
+            receiveRoundDelta: async (delta) => {
+                const {round, changeVersion} = get();
+                if (!round || round.id !== delta.roundId) return;
+                if (changeVersion !== undefined && delta.version !== changeVersion + 1) {
+                    debugModuleSync("roundDelta:gap", {roundId: round.id, changeVersion, version: delta.version});
+                    const changes = await withErrorWrapping(async () => {
+                        const {data} = await api.get<RoundChanges>(`/rounds/${round.id}/changes`, {
+                            params: {sinceVersion: changeVersion},
+                        });
+                        return data;
+                    });
+                    if (changes.resync) {
+                        await get().receiveRoundUpdated(round.id, changes.version);
+                        return;
+                    }
+                    rememberDeltas(changes.deltas);
+                    set((prev) => patchRound(prev, changes.deltas, changes.version));
+                    return;
+                }
+                if (requiresReload(delta)) {
+                    await get().receiveRoundUpdated(round.id, delta.version);
+                    return;
+                }
+                rememberDeltas([delta]);
+                set((prev) => patchRound(prev, [delta], delta.version));
+            },
+
+            receiveRoundUpdated: async (roundId, version) => {
+                await get().refreshRound(roundId);
+                if (version !== undefined) {
+                    set({changeVersion: version});
+                }
+            },
+
             addStrike: async (bombId) => {
                 set({loading: true, error: undefined});
                 try {
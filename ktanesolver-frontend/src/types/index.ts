@@ -548,7 +548,35 @@ export type RoundEventType =
   | "MODULE_STRIKE"
   | "ROUND_STRIKE"
   | "MEMORY_STAGE_COMPLETED"
-  | "ROUND_UPDATED";
+  | "ROUND_UPDATED"
+  | "ROUND_DELTA"
+  | "ROUND_BATCH";
+
+/** One changed bomb or module in a ROUND_DELTA message; only the fields of its kind are present. */
+export interface RoundChange {
+  kind: "MODULE" | "BOMB" | "ROUND";
+  bombId?: string;
+  moduleId?: string;
+  version?: number;
+  solved?: boolean;
+  twitchCode?: string;
+  state?: JsonRecord;
+  solution?: JsonRecord;
+  strikes?: number;
+}
+
+export interface RoundDelta {
+  roundId: string;
+  version: number;
+  changes: RoundChange[];
+}
+
+export interface RoundChanges {
+  roundId: string;
+  version: number;
+  resync: boolean;
+  deltas: RoundDelta[];
+}
 
 export interface RoundEventMessage {
   type: RoundEventType;
@@ -0,0 +1,214 @@
+package ktanesolver.processor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Writes {@code ktanesolver.registry.GeneratedSolverIndex}, which lists every public {@code @ModuleInfo} solver with a
+ * constructor reference, its input record (the first type argument of {@code AbstractModuleSolver}) and its catalog
+ * entry built from the annotation values. The application registers solver beans and resolves input types from that
+ * list instead of scanning and reflecting at runtime. Solvers the index cannot reference (non-public, no public no-arg
+ * constructor, generic input) are left out and keep the reflective path.
+ */
+@SupportedAnnotationTypes (SolverIndexProcessor.MODULE_INFO)
+public class SolverIndexProcessor extends AbstractProcessor {
+
+	static final String MODULE_INFO = "ktanesolver.annotation.ModuleInfo";
+	static final String ABSTRACT_SOLVER = "ktanesolver.logic.AbstractModuleSolver";
+	static final String INDEX_PACKAGE = "ktanesolver.registry";
+	static final String INDEX_CLASS = "GeneratedSolverIndex";
+
+	// keeps each generated method well below the 64 KB bytecode limit
+	private static final int ENTRIES_PER_METHOD = 40;
+
+	private boolean written;
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+		if (annotations.isEmpty()) {
+			return false;
+		}
+		List<Entry> entries = new ArrayList<>();
+		for (TypeElement annotation : annotations) {
+			for (Element element : round.getElementsAnnotatedWith(annotation)) {
+				if (element.getKind() == ElementKind.CLASS) {
+					Entry entry = entry((TypeElement)element);
+					if (entry != null) {
+						entries.add(entry);
+					}
+				}
+			}
+		}
+		if (entries.isEmpty()) {
+			return false;
+		}
+		if (written) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+				"@ModuleInfo solvers generated in a later round are not indexed: " + entries.getFirst().solverClass());
+			return false;
+		}
+		entries.sort(Comparator.comparing(Entry::type));
+		write(entries);
+		written = true;
+		return false;
+	}
+
+	private record Entry(String type, String solverClass, String inputClass, String catalog) {
+	}
+
+	private Entry entry(TypeElement solver) {
+		if (!isAccessible(solver) || solver.getModifiers().contains(Modifier.ABSTRACT) || !hasPublicNoArgConstructor(solver)) {
+			return null;
+		}
+		AnnotationMirror info = solver.getAnnotationMirrors().stream()
+			.filter(mirror -> mirror.getAnnotationType().toString().equals(MODULE_INFO))
+			.findFirst()
+			.orElse(null);
+		if (info == null) {
+			return null;
+		}
+		Map<String, Object> values = processingEnv.getElementUtils().getElementValuesWithDefaults(info).entrySet().stream()
+			.collect(Collectors.toMap(value -> value.getKey().getSimpleName().toString(), value -> value.getValue().getValue()));
+		String type = values.get("type").toString();
+		@SuppressWarnings ("unchecked")
+		List<? extends AnnotationValue> tags = (List<? extends AnnotationValue>)values.get("tags");
+		String catalog = "new ModuleCatalogDto("
+			+ literal(values.get("id").toString()) + ", "
+			+ literal(values.get("name").toString()) + ", "
+			+ "ModuleCatalogDto.ModuleCategory." + values.get("category") + ", "
+			+ literal(type) + ", "
+			+ "List.of(" + tags.stream().map(tag -> literal(tag.getValue().toString())).collect(Collectors.joining(", ")) + "), "
+			+ literal(values.get("description").toString()) + ", "
+			+ values.get("hasInput") + ", "
+			+ values.get("hasOutput") + ", "
+			+ values.get("checkFirst") + ")";
+		TypeElement input = inputType(solver);
+		return new Entry(type, solver.getQualifiedName().toString(), input != null ? input.getQualifiedName() + ".class" : "null", catalog);
+	}
+
+	private TypeElement inputType(TypeElement solver) {
+		TypeMirror current = solver.getSuperclass();
+		while (current.getKind() == TypeKind.DECLARED) {
+			DeclaredType declared = (DeclaredType)current;
+			TypeElement element = (TypeElement)declared.asElement();
+			if (element.getQualifiedName().contentEquals(ABSTRACT_SOLVER)) {
+				List<? extends TypeMirror> arguments = declared.getTypeArguments();
+				if (arguments.isEmpty() || arguments.getFirst().getKind() != TypeKind.DECLARED) {
+					return null;
+				}
+				TypeElement input = (TypeElement)((DeclaredType)arguments.getFirst()).asElement();
+				return isAccessible(input) ? input : null;
+			}
+			current = element.getSuperclass();
+		}
+		return null;
+	}
+
+	private static boolean isAccessible(TypeElement type) {
+		Element element = type;
+		while (element instanceof TypeElement nested) {
+			if (!nested.getModifiers().contains(Modifier.PUBLIC)) {
+				return false;
+			}
+			Element enclosing = nested.getEnclosingElement();
+			// an inner class needs an enclosing instance, so it cannot be referenced from the index
+			if (enclosing instanceof TypeElement && nested.getKind() == ElementKind.CLASS && !nested.getModifiers().contains(Modifier.STATIC)) {
+				return false;
+			}
+			element = enclosing;
+		}
+		return true;
+	}
+
+	private static boolean hasPublicNoArgConstructor(TypeElement type) {
+		List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+		return constructors.stream().anyMatch(constructor -> constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC));
+	}
+
+	private void write(List<Entry> entries) {
+		try (Writer out = processingEnv.getFiler().createSourceFile(INDEX_PACKAGE + "." + INDEX_CLASS).openWriter()) {
+			out.write("package " + INDEX_PACKAGE + ";\n\n");
+			out.write("import java.util.ArrayList;\n");
+			out.write("import java.util.List;\n");
+			out.write("import java.util.function.Supplier;\n\n");
+			out.write("import javax.annotation.processing.Generated;\n\n");
+			out.write("import ktanesolver.dto.ModuleCatalogDto;\n");
+			out.write("import ktanesolver.enums.ModuleType;\n\n");
+			out.write("@Generated (\"" + getClass().getName() + "\")\n");
+			out.write("public final class " + INDEX_CLASS + " implements Supplier<List<SolverIndex.Entry>> {\n\n");
+			out.write("\t@Override\n");
+			out.write("\tpublic List<SolverIndex.Entry> get() {\n");
+			out.write("\t\tList<SolverIndex.Entry> entries = new ArrayList<>(" + entries.size() + ");\n");
+			int parts = (entries.size() + ENTRIES_PER_METHOD - 1) / ENTRIES_PER_METHOD;
+			for (int part = 0; part < parts; part++) {
+				out.write("\t\tpart" + part + "(entries);\n");
+			}
+			out.write("\t\treturn entries;\n");
+			out.write("\t}\n");
+			for (int part = 0; part < parts; part++) {
+				out.write("\n\tprivate static void part" + part + "(List<SolverIndex.Entry> entries) {\n");
+				for (Entry entry : entries.subList(part * ENTRIES_PER_METHOD, Math.min(entries.size(), (part + 1) * ENTRIES_PER_METHOD))) {
+					out.write("\t\tentries.add(new SolverIndex.Entry(ModuleType." + entry.type() + ", "
+						+ entry.solverClass() + ".class, " + entry.solverClass() + "::new, " + entry.inputClass() + ",\n");
+					out.write("\t\t\t" + entry.catalog() + "));\n");
+				}
+				out.write("\t}\n");
+			}
+			out.write("}\n");
+		}
+		catch(IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+	private static String literal(String value) {
+		StringBuilder literal = new StringBuilder("\"");
+		for (char c : value.toCharArray()) {
+			switch (c) {
+				case '"' -> literal.append("\\\"");
+				case '\\' -> literal.append("\\\\");
+				case '\n' -> literal.append("\\n");
+				case '\r' -> literal.append("\\r");
+				case '\t' -> literal.append("\\t");
+				default -> {
+					if (c < 0x20 || c > 0x7e) {
+						literal.append(String.format("\\u%04x", (int)c));
+					}
+					else {
+						literal.append(c);
+					}
+				}
+			}
+		}
+		return literal.append('"').toString();
+	}
+}
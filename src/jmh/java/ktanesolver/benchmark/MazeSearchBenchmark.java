@@ -0,0 +1,244 @@
+package ktanesolver.benchmark;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import ktanesolver.module.shared.graph.AdjacencyGraph;
+import ktanesolver.module.shared.graph.GraphSearch;
+import ktanesolver.module.shared.graph.RouteTable;
+
+/**
+ * The maze solvers' searches before and after moving them onto {@link GraphSearch}. The {@code legacy} methods are
+ * the record-keyed {@code HashMap}/{@code ArrayDeque} breadth-first search the grid mazes used and the
+ * {@code PriorityQueue} A* of the 3D Maze; the {@code graph} methods run the same searches over int states with
+ * thread-local buffers, and {@code routeTable} walks the grid's precomputed {@link RouteTable}. Grids are random wall
+ * layouts of the given width, so a 6 wide grid is a vanilla maze, 20 is Module Maze; the A* pair searches an 8×8
+ * torus with four facings like the 3D Maze. Setup checks that every version returns the same path. Run with
+ * {@code ./gradlew benchmarkMazeSearch} (the gc profiler shows the allocation rate).
+ */
+@State (Scope.Benchmark)
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.NANOSECONDS)
+public class MazeSearchBenchmark {
+
+	private static final int[] ROW_STEP = { -1, 1, 0, 0 };
+	private static final int[] COL_STEP = { 0, 0, -1, 1 };
+	private static final int TORUS = 8;
+	// torus facings N, E, S, W: their index into open[][][] and their steps
+	private static final int[] TORUS_DIRECTION = { 0, 3, 1, 2 };
+	private static final int[] TORUS_ROW = { -1, 0, 1, 0 };
+	private static final int[] TORUS_COL = { 0, 1, 0, -1 };
+
+	@Param ({ "6", "20" })
+	int size;
+
+	// open[row][col][direction], direction in ROW_STEP order
+	private boolean[][][] open;
+	private AdjacencyGraph grid;
+	private RouteTable routes;
+	private boolean[][][] torusOpen;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(size);
+		do {
+			open = randomWalls(random, size, false);
+		}
+		while (legacyBreadthFirst() == null);
+		grid = grid();
+		routes = RouteTable.of("Benchmark", grid);
+		torusOpen = randomWalls(new Random(TORUS), TORUS, true);
+		if (!legacyBreadthFirst().equals(graphBreadthFirst())) {
+			throw new IllegalStateException("Breadth-first paths differ");
+		}
+		if (!legacyBreadthFirst().equals(routeTable())) {
+			throw new IllegalStateException("Route table paths differ");
+		}
+		if (!String.valueOf(legacyAStar()).equals(String.valueOf(graphAStar()))) {
+			throw new IllegalStateException("A* paths differ");
+		}
+	}
+
+	@Benchmark
+	public List<Integer> legacyBreadthFirst() {
+		record Cell(int row, int col) {}
+		Cell start = new Cell(0, 0);
+		Cell target = new Cell(size - 1, size - 1);
+		ArrayDeque<Cell> queue = new ArrayDeque<>();
+		Map<Cell, Cell> previous = new HashMap<>();
+		Map<Cell, Integer> moveUsed = new HashMap<>();
+		queue.add(start);
+		previous.put(start, null);
+		while (!queue.isEmpty()) {
+			Cell current = queue.remove();
+			if (current.equals(target)) break;
+			for (int direction = 0; direction < 4; direction++) {
+				if (!open[current.row()][current.col()][direction]) continue;
+				Cell next = new Cell(current.row() + ROW_STEP[direction], current.col() + COL_STEP[direction]);
+				if (previous.containsKey(next)) continue;
+				previous.put(next, current);
+				moveUsed.put(next, direction);
+				queue.add(next);
+			}
+		}
+		if (!previous.containsKey(target)) return null;
+		List<Integer> path = new ArrayList<>();
+		for (Cell current = target; !current.equals(start); current = previous.get(current)) path.add(moveUsed.get(current));
+		Collections.reverse(path);
+		return path;
+	}
+
+	@Benchmark
+	public List<Integer> graphBreadthFirst() {
+		int target = size * size - 1;
+		GraphSearch search = GraphSearch.acquire();
+		try {
+			int found = search.breadthFirst(size * size, 0, state -> state == target, grid);
+			List<Integer> path = new ArrayList<>();
+			for (int move : search.moves(found)) path.add(move);
+			return path;
+		}
+		finally {
+			GraphSearch.release(search);
+		}
+	}
+
+	@Benchmark
+	public List<Integer> routeTable() {
+		List<Integer> path = new ArrayList<>();
+		for (int move : routes.moves(0, size * size - 1)) path.add(move);
+		return path;
+	}
+
+	@Benchmark
+	public List<Integer> legacyAStar() {
+		record Position(int r, int c, int dir) {}
+		record Scored(int cost, Position position) {}
+		int goalRow = TORUS / 2, goalCol = TORUS / 2 + 1;
+		Map<Position, Integer> bestCost = new HashMap<>();
+		Map<Position, Position> prev = new HashMap<>();
+		Map<Position, Integer> moveToReach = new HashMap<>();
+		PriorityQueue<Scored> queue = new PriorityQueue<>(
+			Comparator.comparingInt(scored -> scored.cost() + manhattanCyclic(scored.position().r(), scored.position().c(), goalRow, goalCol)));
+		Position initial = new Position(0, 0, 0);
+		bestCost.put(initial, 0);
+		queue.add(new Scored(0, initial));
+		while (!queue.isEmpty()) {
+			Scored scored = queue.poll();
+			Position p = scored.position();
+			if (scored.cost() > bestCost.getOrDefault(p, Integer.MAX_VALUE)) continue;
+			if (p.r() == goalRow && p.c() == goalCol && p.dir() == 0) {
+				List<Integer> path = new ArrayList<>();
+				for (Position at = p; moveToReach.containsKey(at); at = prev.get(at)) path.add(0, moveToReach.get(at));
+				return path;
+			}
+			int cost = scored.cost() + 1;
+			Position[] next = new Position[3];
+			if (torusOpen[p.r()][p.c()][TORUS_DIRECTION[p.dir()]]) {
+				next[0] = new Position(Math.floorMod(p.r() + TORUS_ROW[p.dir()], TORUS), Math.floorMod(p.c() + TORUS_COL[p.dir()], TORUS), p.dir());
+			}
+			next[1] = new Position(p.r(), p.c(), (p.dir() + 3) & 3);
+			next[2] = new Position(p.r(), p.c(), (p.dir() + 1) & 3);
+			for (int move = 0; move < 3; move++) {
+				if (next[move] == null || cost >= bestCost.getOrDefault(next[move], Integer.MAX_VALUE)) continue;
+				bestCost.put(next[move], cost);
+				prev.put(next[move], p);
+				moveToReach.put(next[move], move);
+				queue.add(new Scored(cost, next[move]));
+			}
+		}
+		return null;
+	}
+
+	@Benchmark
+	public List<Integer> graphAStar() {
+		int goalRow = TORUS / 2, goalCol = TORUS / 2 + 1;
+		int goal = (goalRow * TORUS + goalCol) * 4;
+		GraphSearch search = GraphSearch.acquire();
+		try {
+			int found = search.aStar(TORUS * TORUS * 4, 0, state -> state == goal, (state, moves) -> {
+				int r = (state >> 2) / TORUS, c = (state >> 2) % TORUS, dir = state & 3;
+				if (torusOpen[r][c][TORUS_DIRECTION[dir]]) {
+					moves.accept((Math.floorMod(r + TORUS_ROW[dir], TORUS) * TORUS + Math.floorMod(c + TORUS_COL[dir], TORUS)) * 4 + dir, 0);
+				}
+				moves.accept((state & ~3) | (dir + 3) & 3, 1);
+				moves.accept((state & ~3) | (dir + 1) & 3, 2);
+			}, state -> manhattanCyclic((state >> 2) / TORUS, (state >> 2) % TORUS, goalRow, goalCol));
+			if (found == GraphSearch.NONE) return null;
+			List<Integer> path = new ArrayList<>();
+			for (int move : search.moves(found)) path.add(move);
+			return path;
+		}
+		finally {
+			GraphSearch.release(search);
+		}
+	}
+
+	private AdjacencyGraph grid() {
+		AdjacencyGraph.Builder graph = AdjacencyGraph.builder(size * size);
+		for (int row = 0; row < size; row++) {
+			for (int col = 0; col < size; col++) {
+				for (int direction = 0; direction < 4; direction++) {
+					if (open[row][col][direction]) {
+						graph.edge(row * size + col, (row + ROW_STEP[direction]) * size + col + COL_STEP[direction], direction);
+					}
+				}
+			}
+		}
+		return graph.build();
+	}
+
+	/** Each wall between neighbouring cells is present with probability 0.3; off-grid moves are closed unless wrapping. */
+	private static boolean[][][] randomWalls(Random random, int size, boolean wrap) {
+		boolean[][][] open = new boolean[size][size][4];
+		for (boolean[][] row : open) {
+			for (boolean[] cell : row) {
+				Arrays.fill(cell, true);
+			}
+		}
+		for (int row = 0; row < size; row++) {
+			for (int col = 0; col < size; col++) {
+				for (int direction = 1; direction < 4; direction += 2) {
+					int nextRow = row + ROW_STEP[direction], nextCol = col + COL_STEP[direction];
+					boolean inside = nextRow < size && nextCol < size;
+					boolean wall = random.nextDouble() < 0.3 || !inside && !wrap;
+					open[row][col][direction] = !wall;
+					if (inside || wrap) {
+						open[Math.floorMod(nextRow, size)][Math.floorMod(nextCol, size)][direction - 1] = !wall;
+					}
+				}
+			}
+		}
+		if (!wrap) {
+			for (int i = 0; i < size; i++) {
+				open[0][i][0] = false;
+				open[i][0][2] = false;
+			}
+		}
+		return open;
+	}
+
+	private static int manhattanCyclic(int r1, int c1, int r2, int c2) {
+		int dr = Math.min(Math.abs(r1 - r2), TORUS - Math.abs(r1 - r2));
+		int dc = Math.min(Math.abs(c1 - c2), TORUS - Math.abs(c1 - c2));
+		return dr + dc;
+	}
+}
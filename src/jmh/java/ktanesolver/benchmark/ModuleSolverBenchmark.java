@@ -0,0 +1,75 @@
+package ktanesolver.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import ktanesolver.entity.BombEntity;
+import ktanesolver.entity.ModuleEntity;
+import ktanesolver.entity.RoundEntity;
+import ktanesolver.enums.ModuleType;
+import ktanesolver.logic.ModuleInput;
+import ktanesolver.logic.ModuleOutput;
+import ktanesolver.logic.ModuleSolver;
+
+/**
+ * Measures {@code AbstractModuleSolver.solve} (doSolve plus solution serialization) for one module type per run.
+ * One operation replays every fixture case of the type from its first stage on a freshly reset module.
+ * {@link SolverBenchmarkRunner} supplies every type with a recorded fixture; running this class directly only covers
+ * the default.
+ */
+@State (Scope.Thread)
+@BenchmarkMode (Mode.Throughput)
+@OutputTimeUnit (TimeUnit.SECONDS)
+public class ModuleSolverBenchmark {
+
+	@Param ("WIRES")
+	public String moduleType;
+
+	private ModuleSolver<ModuleInput, ModuleOutput> solver;
+	private RoundEntity round;
+	private BombEntity bomb;
+	private List<List<ModuleInput>> cases;
+	private List<ModuleEntity> modules;
+
+	@Setup (Level.Trial)
+	public void setUp() {
+		ModuleType type = ModuleType.valueOf(moduleType);
+		solver = SolverFixtures.registry().get(type);
+		if (solver == null) {
+			throw new IllegalStateException("No solver is registered for module type " + type);
+		}
+		round = SolverFixtures.newRound();
+		bomb = SolverFixtures.newBomb(round);
+		cases = SolverFixtures.boundCases(solver);
+		if (cases.isEmpty()) {
+			throw new IllegalStateException("No recorded fixture for module type " + type);
+		}
+		modules = new ArrayList<>(cases.size());
+		for (int i = 0; i < cases.size(); i++) {
+			modules.add(SolverFixtures.newModule(bomb, type));
+		}
+	}
+
+	@Benchmark
+	public void solve(Blackhole blackhole) {
+		for (int i = 0; i < cases.size(); i++) {
+			ModuleEntity module = modules.get(i);
+			SolverFixtures.reset(module);
+			for (ModuleInput input : cases.get(i)) {
+				blackhole.consume(solver.solve(round, bomb, module, input));
+			}
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package ktanesolver.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import ktanesolver.entity.BombEntity;
+import ktanesolver.entity.ModuleEntity;
+import ktanesolver.entity.RoundEntity;
+import ktanesolver.enums.ModuleType;
+import ktanesolver.logic.SolveResult;
+import ktanesolver.logic.SolveSuccess;
+import ktanesolver.module.modded.regular.shikaku.ShikakuInput;
+import ktanesolver.module.modded.regular.shikaku.ShikakuInput.Clue;
+import ktanesolver.module.modded.regular.shikaku.ShikakuOutput;
+import ktanesolver.module.modded.regular.shikaku.ShikakuSolver;
+
+/**
+ * One full Shikaku solve (clue parsing, region lookup, {@code ExactCover} search and output) per operation, with the
+ * region library already built by setup, so the score is the steady-state request time. {@code numbers} is the six
+ * rows of sixes from the solver fixtures; {@code mixed} and {@code symbols} are complete boards with three and seven
+ * symbol clues, whose shapes have far more placements than the number regions. Setup checks that every puzzle solves.
+ * Run with {@code ./gradlew benchmarkShikaku}.
+ */
+@State (Scope.Benchmark)
+@BenchmarkMode (Mode.AverageTime)
+@OutputTimeUnit (TimeUnit.MICROSECONDS)
+public class ShikakuBenchmark {
+
+	private static final Map<String, String[][]> PUZZLES = Map.of(
+		"numbers", new String[][] {
+			{ "A1", "6", null }, { "A2", "6", null }, { "A3", "6", null }, { "A4", "6", null }, { "A5", "6", null }, { "A6", "6", null }
+		},
+		"mixed", new String[][] {
+			{ "A2", "3", null }, { "C2", "4", null }, { "F1", "D", "U" }, { "E2", "A", "Z" }, { "C4", "H", "N" },
+			{ "B4", "A", "Z" }, { "D3", "2", null }, { "A6", "A", "X" }, { "C6", "L", "F" }, { "E5", "3", null }
+		},
+		"symbols", new String[][] {
+			{ "B1", "K", "S" }, { "C1", "4", null }, { "E1", "B", "R" }, { "F2", "D", "A" }, { "E3", "A", "J" },
+			{ "A3", "7", null }, { "F3", "A", "R" }, { "A5", "A", "L" }, { "E5", "F", "N" }, { "F5", "2", null }
+		}
+	);
+
+	@Param ({ "numbers", "mixed", "symbols" })
+	String puzzle;
+
+	private final ShikakuSolver solver = new ShikakuSolver();
+	private RoundEntity round;
+	private BombEntity bomb;
+	private ModuleEntity module;
+	private ShikakuInput input;
+
+	@Setup
+	public void setUp() {
+		List<Clue> clues = new ArrayList<>();
+		for (String[] clue : PUZZLES.get(puzzle)) {
+			clues.add(new Clue(clue[0], clue[1], clue[2]));
+		}
+		input = new ShikakuInput(clues);
+		round = SolverFixtures.newRound();
+		bomb = SolverFixtures.newBomb(round);
+		module = SolverFixtures.newModule(bomb, ModuleType.SHIKAKU);
+		if (!(solve() instanceof SolveSuccess<?>)) {
+			throw new IllegalStateException("Puzzle " + puzzle + " does not solve");
+		}
+	}
+
+	@Benchmark
+	public SolveResult<ShikakuOutput> solve() {
+		SolverFixtures.reset(module);
+		return solver.solve(round, bomb, module, input);
+	}
+}
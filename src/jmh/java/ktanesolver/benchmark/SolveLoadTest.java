@@ -0,0 +1,210 @@
+package ktanesolver.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import ktanesolver.enums.ModuleType;
+import ktanesolver.utils.Json;
+
+/**
+ * Closed-loop load test for {@code POST .../solve} against a running backend. It creates a round with the fixture bomb
+ * plus one module of the tested type per worker (so workers never contend on a module's optimistic lock), warms up,
+ * then has every worker send solves back to back and reports throughput, p50 and p99. Each run is saved under
+ * {@code build/reports/load/solve-<label>.json} and printed next to the earlier runs, so starting the backend once
+ * normally and once with the {@code virtual-threads} profile gives a side-by-side comparison.
+ * <p>
+ * System properties, all prefixed with {@code ktanesolver.loadtest.}: {@code url} (default
+ * {@code http://localhost:8080}), {@code type} ({@code WIRES}), {@code concurrency} (64), {@code requests} (5000),
+ * {@code warmup} (1000) and {@code label} ({@code run}).
+ */
+public final class SolveLoadTest {
+
+	private static final String PREFIX = "ktanesolver.loadtest.";
+	private static final Path REPORT_DIR = Path.of("build/reports/load");
+
+	private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+	private final String baseUrl;
+
+	private SolveLoadTest(String baseUrl) {
+		this.baseUrl = baseUrl;
+	}
+
+	record Result(String label, String type, int concurrency, int requests, int errors, double throughput, double p50Millis,
+		double p99Millis, double maxMillis) {
+	}
+
+	private record Target(String roundId, String bombId, List<String> moduleIds) {
+	}
+
+	public static void main(String[] args) throws Exception {
+		ModuleType type = ModuleType.valueOf(System.getProperty(PREFIX + "type", "WIRES").toUpperCase(Locale.ROOT));
+		int concurrency = Integer.getInteger(PREFIX + "concurrency", 64);
+		int requests = Integer.getInteger(PREFIX + "requests", 5000);
+		int warmup = Integer.getInteger(PREFIX + "warmup", 1000);
+		String label = System.getProperty(PREFIX + "label", "run");
+
+		List<Map<String, Object>> inputs = SolverFixtures.rawCases(type).stream().map(List::getFirst).toList();
+		if (inputs.isEmpty()) {
+			throw new IllegalStateException("No recorded fixture for module type " + type);
+		}
+
+		SolveLoadTest test = new SolveLoadTest(System.getProperty(PREFIX + "url", "http://localhost:8080"));
+		Target target = test.createTarget(type, concurrency);
+		try {
+			test.run(target, inputs, concurrency, warmup);
+			Result result = test.run(target, inputs, concurrency, requests).toResult(label, type, concurrency);
+			Files.createDirectories(REPORT_DIR);
+			Json.mapper().writerWithDefaultPrettyPrinter().writeValue(REPORT_DIR.resolve("solve-" + label + ".json").toFile(), result);
+			printComparison();
+		}
+		finally {
+			test.send("DELETE", "/rounds/" + target.roundId(), null);
+		}
+	}
+
+	private Target createTarget(ModuleType type, int concurrency) throws IOException, InterruptedException {
+		String roundId = send("POST", "/rounds", null).get("id").asText();
+		SolverFixtures.BombFixture fixture = SolverFixtures.bomb();
+		Map<ModuleType, Integer> modules = new HashMap<>(fixture.modules());
+		modules.merge(type, concurrency, Integer::sum);
+		Map<String, Object> bombRequest = new LinkedHashMap<>();
+		bombRequest.put("serialNumber", fixture.serialNumber());
+		bombRequest.put("aaBatteryCount", fixture.aaBatteryCount());
+		bombRequest.put("dBatteryCount", fixture.dBatteryCount());
+		bombRequest.put("indicators", fixture.indicators());
+		bombRequest.put("portPlates", fixture.portPlates());
+		bombRequest.put("modules", modules);
+		JsonNode bomb = send("POST", "/rounds/" + roundId + "/bombs", bombRequest);
+		List<String> moduleIds = new ArrayList<>();
+		for (JsonNode module : bomb.get("modules")) {
+			if (type.name().equals(module.get("type").asText()) && moduleIds.size() < concurrency) {
+				moduleIds.add(module.get("id").asText());
+			}
+		}
+		send("POST", "/rounds/" + roundId + "/start", null);
+		return new Target(roundId, bomb.get("id").asText(), moduleIds);
+	}
+
+	private Latencies run(Target target, List<Map<String, Object>> inputs, int concurrency, int requests)
+		throws InterruptedException {
+		Latencies latencies = new Latencies(requests);
+		AtomicInteger next = new AtomicInteger();
+		long started = System.nanoTime();
+		try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+			List<Future<?>> running = new ArrayList<>();
+			for (int worker = 0; worker < concurrency; worker++) {
+				String path = "/rounds/" + target.roundId() + "/bombs/" + target.bombId() + "/modules/"
+					+ target.moduleIds().get(worker % target.moduleIds().size()) + "/solve";
+				running.add(workers.submit(() -> {
+					for (int i = next.getAndIncrement(); i < requests; i = next.getAndIncrement()) {
+						String body = Json.mapper().writeValueAsString(Map.of("input", inputs.get(i % inputs.size())));
+						long sent = System.nanoTime();
+						HttpResponse<Void> response = client.send(post(path, body), HttpResponse.BodyHandlers.discarding());
+						latencies.record(i, System.nanoTime() - sent, response.statusCode() < 300);
+					}
+					return null;
+				}));
+			}
+			for (Future<?> worker : running) {
+				try {
+					worker.get();
+				}
+				catch(ExecutionException exception) {
+					throw new IllegalStateException("Load worker failed", exception.getCause());
+				}
+			}
+		}
+		latencies.elapsedNanos = System.nanoTime() - started;
+		return latencies;
+	}
+
+	private HttpRequest post(String path, String body) {
+		return HttpRequest.newBuilder(URI.create(baseUrl + path))
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(body))
+			.build();
+	}
+
+	private JsonNode send(String method, String path, Object body) throws IOException, InterruptedException {
+		HttpRequest.BodyPublisher publisher = body == null
+			? HttpRequest.BodyPublishers.noBody()
+			: HttpRequest.BodyPublishers.ofString(Json.mapper().writeValueAsString(body));
+		HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+			.header("Content-Type", "application/json")
+			.method(method, publisher)
+			.build();
+		HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+		if (response.statusCode() >= 300) {
+			throw new IllegalStateException(method + " " + path + " returned " + response.statusCode() + ": " + response.body());
+		}
+		return response.body().isBlank() ? null : Json.mapper().readTree(response.body());
+	}
+
+	private static void printComparison() throws IOException {
+		List<Result> results = new ArrayList<>();
+		try (Stream<Path> files = Files.list(REPORT_DIR)) {
+			for (Path file : files.filter(path -> path.getFileName().toString().startsWith("solve-")).sorted().toList()) {
+				results.add(Json.mapper().readValue(file.toFile(), Result.class));
+			}
+		}
+		System.out.printf("%-16s %-12s %6s %8s %7s %12s %9s %9s %9s%n",
+			"label", "type", "conc", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms");
+		for (Result result : results) {
+			System.out.printf(Locale.ROOT, "%-16s %-12s %6d %8d %7d %12.1f %9.2f %9.2f %9.2f%n",
+				result.label(), result.type(), result.concurrency(), result.requests(), result.errors(),
+				result.throughput(), result.p50Millis(), result.p99Millis(), result.maxMillis());
+		}
+	}
+
+	private static final class Latencies {
+
+		private final long[] nanos;
+		private final AtomicInteger errors = new AtomicInteger();
+		private long elapsedNanos;
+
+		Latencies(int requests) {
+			this.nanos = new long[requests];
+		}
+
+		void record(int request, long latency, boolean ok) {
+			nanos[request] = latency;
+			if (!ok) {
+				errors.incrementAndGet();
+			}
+		}
+
+		Result toResult(String label, ModuleType type, int concurrency) {
+			long[] sorted = nanos.clone();
+			Arrays.sort(sorted);
+			double throughput = sorted.length / (elapsedNanos / 1e9);
+			return new Result(label, type.name(), concurrency, sorted.length, errors.get(), throughput,
+				percentile(sorted, 0.50), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1e6);
+		}
+
+		private static double percentile(long[] sorted, double quantile) {
+			int index = (int)Math.ceil(quantile * sorted.length) - 1;
+			return sorted[Math.max(0, index)] / 1e6;
+		}
+	}
+}
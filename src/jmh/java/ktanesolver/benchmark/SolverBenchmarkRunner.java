@@ -0,0 +1,115 @@
+package ktanesolver.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import ktanesolver.enums.ModuleType;
+import ktanesolver.logic.ModuleSolver;
+
+/**
+ * Runs {@link ModuleSolverBenchmark} once per registered solver with a recorded fixture, with the GC profiler, so the
+ * report lists ops/s and {@code gc.alloc.rate.norm} (bytes per solve) side by side. Set
+ * {@code ktanesolver.benchmark.types} to a comma-separated list of module types to narrow the run.
+ * <p>
+ * Every selected type without a usable fixture is a coverage gap: it is printed by name and written to
+ * {@code build/reports/jmh/solvers-uncovered.txt}, and the run fails before benchmarking anything unless
+ * {@code ktanesolver.benchmark.allowUncovered=true} accepts a partial report.
+ */
+public final class SolverBenchmarkRunner {
+
+	static final String TYPES_PROPERTY = "ktanesolver.benchmark.types";
+	static final String ALLOW_UNCOVERED_PROPERTY = "ktanesolver.benchmark.allowUncovered";
+	private static final Path UNCOVERED_REPORT = Path.of("build/reports/jmh/solvers-uncovered.txt");
+
+	private SolverBenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		List<String> uncovered = new ArrayList<>();
+		List<String> types = benchmarkTypes(uncovered);
+		reportUncovered(uncovered);
+		if (!uncovered.isEmpty() && !Boolean.getBoolean(ALLOW_UNCOVERED_PROPERTY)) {
+			throw new IllegalStateException(uncovered.size() + " module types have no usable fixture (listed in "
+				+ UNCOVERED_REPORT + "); record them in solver-fixtures.json, pass -D"
+				+ SolverFixtures.FIXTURES_PROPERTY + ", or set -D" + ALLOW_UNCOVERED_PROPERTY
+				+ "=true to benchmark only the covered types");
+		}
+		if (types.isEmpty()) {
+			System.err.println("No module types with recorded, bindable fixtures; nothing to benchmark");
+			return;
+		}
+
+		Options options = new OptionsBuilder()
+			.include(ModuleSolverBenchmark.class.getName())
+			.param("moduleType", types.toArray(String[]::new))
+			.addProfiler(GCProfiler.class)
+			.forks(1)
+			.warmupIterations(2)
+			.warmupTime(TimeValue.seconds(1))
+			.measurementIterations(3)
+			.measurementTime(TimeValue.seconds(1))
+			.resultFormat(ResultFormatType.JSON)
+			.result("build/reports/jmh/solvers.json")
+			.build();
+		new Runner(options).run();
+	}
+
+	private static List<String> benchmarkTypes(List<String> uncovered) {
+		String requested = System.getProperty(TYPES_PROPERTY);
+		List<String> types = new ArrayList<>();
+		for (ModuleSolver<?, ?> solver : SolverFixtures.registry().getAllSolvers()) {
+			ModuleType type = solver.getType();
+			if (requested != null && !requested.isBlank() && !requested(requested, type)) {
+				continue;
+			}
+			if (!SolverFixtures.hasRecordedCase(type)) {
+				uncovered.add(type.name() + "\tno recorded fixture");
+				continue;
+			}
+			try {
+				SolverFixtures.boundCases(solver);
+			}
+			catch(IllegalArgumentException exception) {
+				uncovered.add(type.name() + "\tfixture does not bind to " + solver.inputType().getSimpleName());
+				continue;
+			}
+			types.add(type.name());
+		}
+		types.sort(null);
+		uncovered.sort(null);
+		return types;
+	}
+
+	private static void reportUncovered(List<String> uncovered) {
+		try {
+			Files.createDirectories(UNCOVERED_REPORT.getParent());
+			Files.write(UNCOVERED_REPORT, uncovered);
+		}
+		catch(IOException exception) {
+			throw new UncheckedIOException("Cannot write " + UNCOVERED_REPORT, exception);
+		}
+		for (String gap : uncovered) {
+			System.err.println("Not benchmarked: " + gap);
+		}
+	}
+
+	private static boolean requested(String requested, ModuleType type) {
+		return Arrays.stream(requested.split(","))
+			.map(value -> value.trim().toUpperCase(Locale.ROOT))
+			.anyMatch(type.name()::equals);
+	}
+}
@@ -0,0 +1,227 @@
+package ktanesolver.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import ktanesolver.annotation.ModuleInfo;
+import ktanesolver.entity.BombEntity;
+import ktanesolver.entity.ModuleEntity;
+import ktanesolver.entity.RoundEntity;
+import ktanesolver.enums.BombStatus;
+import ktanesolver.enums.ModuleType;
+import ktanesolver.enums.PortType;
+import ktanesolver.enums.RoundStatus;
+import ktanesolver.logic.ModuleInput;
+import ktanesolver.logic.ModuleSolver;
+import ktanesolver.registry.ModuleSolverRegistry;
+import ktanesolver.registry.SolverIndex;
+import ktanesolver.utils.Json;
+
+/**
+ * Offline fixtures for the solver benchmarks: the solver registry is built by scanning for {@link ModuleInfo}
+ * classes (no Spring context, no database) and every round, bomb and module is an in-memory entity.
+ * <p>
+ * Fixtures map a {@link ModuleType} to a list of cases; each case is the ordered list of stage inputs fed to one
+ * module. The bundled file is {@code /benchmark/solver-fixtures.json}; pass {@code -Dktanesolver.benchmark.fixtures=path}
+ * to use inputs recorded from a real database instead, for example:
+ *
+ * <pre>
+ * SELECT jsonb_build_object('fixtures', jsonb_object_agg(type, inputs))
+ * FROM (SELECT type, jsonb_agg(jsonb_build_array(solution -> 'input')) AS inputs
+ *       FROM modules WHERE solution ? 'input' GROUP BY type) recorded;
+ * </pre>
+ *
+ * Types without a recorded case are not benchmarked: an empty input would only time binding and validation.
+ */
+public final class SolverFixtures {
+
+	static final String FIXTURES_PROPERTY = "ktanesolver.benchmark.fixtures";
+	private static final String DEFAULT_FIXTURES = "/benchmark/solver-fixtures.json";
+
+	private static ModuleSolverRegistry registry;
+	private static FixtureFile fixtures;
+
+	private SolverFixtures() {
+	}
+
+	record BombFixture(
+		String serialNumber,
+		int aaBatteryCount,
+		int dBatteryCount,
+		Map<String, Boolean> indicators,
+		List<Set<PortType>> portPlates,
+		Map<ModuleType, Integer> modules,
+		int strikes
+	) {
+	}
+
+	record FixtureFile(BombFixture bomb, Map<ModuleType, List<List<Map<String, Object>>>> fixtures) {
+	}
+
+	public static synchronized ModuleSolverRegistry registry() {
+		if (registry == null) {
+			registry = new ModuleSolverRegistry(discoverSolvers());
+		}
+		return registry;
+	}
+
+	static BombFixture bomb() {
+		return fixtureFile().bomb();
+	}
+
+	public static boolean hasRecordedCase(ModuleType type) {
+		return fixtureFile().fixtures().containsKey(type);
+	}
+
+	/** Raw stage inputs for every recorded case of the given type; empty when the type has none. */
+	public static List<List<Map<String, Object>>> rawCases(ModuleType type) {
+		return fixtureFile().fixtures().getOrDefault(type, List.of());
+	}
+
+	/** Binds every recorded stage input to the solver's input record, exactly as {@code ModuleService} does. */
+	public static List<List<ModuleInput>> boundCases(ModuleSolver<?, ?> solver) {
+		List<List<ModuleInput>> cases = new ArrayList<>();
+		for (List<Map<String, Object>> stages : rawCases(solver.getType())) {
+			List<ModuleInput> bound = new ArrayList<>(stages.size());
+			for (Map<String, Object> stage : stages) {
+				bound.add(Json.mapper().convertValue(stage, solver.inputType()));
+			}
+			cases.add(bound);
+		}
+		return cases;
+	}
+
+	public static RoundEntity newRound() {
+		RoundEntity round = new RoundEntity();
+		round.setId(UUID.randomUUID());
+		round.setStatus(RoundStatus.ACTIVE);
+		return round;
+	}
+
+	/** Builds the shared fixture bomb, including its filler modules, and attaches it to the round. */
+	public static BombEntity newBomb(RoundEntity round) {
+		BombFixture fixture = fixtureFile().bomb();
+		BombEntity bomb = new BombEntity();
+		bomb.setId(UUID.randomUUID());
+		bomb.setRound(round);
+		bomb.setSerialNumber(fixture.serialNumber());
+		bomb.setAaBatteryCount(fixture.aaBatteryCount());
+		bomb.setDBatteryCount(fixture.dBatteryCount());
+		bomb.setIndicators(new HashMap<>(fixture.indicators()));
+		bomb.replacePortPlates(fixture.portPlates());
+		bomb.setStatus(BombStatus.ACTIVE);
+		bomb.setStrikes(fixture.strikes());
+		fixture.modules().forEach((type, count) -> {
+			for (int i = 0; i < count; i++) {
+				newModule(bomb, type).setSolved(i % 2 == 0);
+			}
+		});
+		round.getBombs().add(bomb);
+		return bomb;
+	}
+
+	public static ModuleEntity newModule(BombEntity bomb, ModuleType type) {
+		ModuleEntity module = new ModuleEntity();
+		module.setId(UUID.randomUUID());
+		module.setBomb(bomb);
+		module.setType(type);
+		bomb.getModules().add(module);
+		return module;
+	}
+
+	/** Clears a fixture module so the next invocation starts from stage one again. */
+	public static void reset(ModuleEntity module) {
+		module.getState().clear();
+		module.getSolution().clear();
+		module.setSolved(false);
+	}
+
+	private static List<ModuleSolver<?, ?>> discoverSolvers() {
+		return SolverIndex.entries().isEmpty() ? scanSolvers() : indexedSolvers();
+	}
+
+	/** Every solver created through the build-time {@link SolverIndex}. */
+	static List<ModuleSolver<?, ?>> indexedSolvers() {
+		List<ModuleSolver<?, ?>> solvers = new ArrayList<>();
+		for (SolverIndex.Entry entry : SolverIndex.entries()) {
+			solvers.add(entry.factory().get());
+		}
+		return solvers;
+	}
+
+	/** Every solver found by classpath scanning and created reflectively, as before the index existed. */
+	static List<ModuleSolver<?, ?>> scanSolvers() {
+		ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+		scanner.addIncludeFilter(new AnnotationTypeFilter(ModuleInfo.class));
+		List<ModuleSolver<?, ?>> solvers = new ArrayList<>();
+		scanner.findCandidateComponents("ktanesolver.module").forEach(definition -> {
+			try {
+				Class<?> solverClass = Class.forName(definition.getBeanClassName());
+				solvers.add((ModuleSolver<?, ?>)solverClass.getDeclaredConstructor().newInstance());
+			}
+			catch(ReflectiveOperationException exception) {
+				throw new IllegalStateException("Cannot instantiate solver " + definition.getBeanClassName(), exception);
+			}
+		});
+		return solvers;
+	}
+
+	private static synchronized FixtureFile fixtureFile() {
+		if (fixtures == null) {
+			fixtures = readFixtures();
+		}
+		return fixtures;
+	}
+
+	private static FixtureFile readFixtures() {
+		String override = System.getProperty(FIXTURES_PROPERTY);
+		try (InputStream in = override != null && !override.isBlank()
+			? Files.newInputStream(Path.of(override))
+			: SolverFixtures.class.getResourceAsStream(DEFAULT_FIXTURES)) {
+			if (in == null) {
+				throw new IllegalStateException("Missing benchmark fixtures " + DEFAULT_FIXTURES);
+			}
+			FixtureFile file = Json.mapper().readValue(in, new TypeReference<>() {
+			});
+			BombFixture bomb = file.bomb() != null ? file.bomb() : defaultBomb();
+			Map<ModuleType, List<List<Map<String, Object>>>> cases = new EnumMap<>(ModuleType.class);
+			if (file.fixtures() != null) {
+				cases.putAll(file.fixtures());
+			}
+			return new FixtureFile(withDefaults(bomb), cases);
+		}
+		catch(IOException exception) {
+			throw new UncheckedIOException("Cannot read benchmark fixtures", exception);
+		}
+	}
+
+	private static BombFixture withDefaults(BombFixture bomb) {
+		return new BombFixture(
+			bomb.serialNumber() != null ? bomb.serialNumber() : "AB3DE4",
+			bomb.aaBatteryCount(),
+			bomb.dBatteryCount(),
+			bomb.indicators() != null ? bomb.indicators() : Map.of(),
+			bomb.portPlates() != null ? bomb.portPlates() : List.of(),
+			bomb.modules() != null ? bomb.modules() : Map.of(),
+			bomb.strikes());
+	}
+
+	private static BombFixture defaultBomb() {
+		return new BombFixture("AB3DE4", 2, 1, Map.of("FRK", true, "CAR", false), List.of(Set.of(PortType.PARALLEL, PortType.SERIAL)), Map.of(), 0);
+	}
+}
@@ -0,0 +1,79 @@
+package ktanesolver.benchmark;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import ktanesolver.configuration.SolverRegistryProperties;
+import ktanesolver.enums.ModuleType;
+import ktanesolver.logic.ModuleSolver;
+import ktanesolver.registry.ModuleSolverRegistry;
+import ktanesolver.registry.SolverIndex;
+
+/**
+ * Cold-start cost of finding, creating and registering every solver and resolving its input type, measured once per
+ * fresh JVM so class loading is included. {@code scanned} is the path used before the build-time index (classpath
+ * scan, reflective construction, generic-superclass lookup) and runs with the index switched off; {@code indexed}
+ * uses the generated constructor references and input classes. {@code lazyFirstUse} builds the lazy registry from the
+ * index and creates only the solver for the first request. Run with {@code ./gradlew benchmarkStartup}.
+ */
+@State (Scope.Benchmark)
+@BenchmarkMode (Mode.SingleShotTime)
+@OutputTimeUnit (TimeUnit.MILLISECONDS)
+@Warmup (iterations = 0)
+@Measurement (iterations = 1)
+public class SolverRegistryStartupBenchmark {
+
+	@Benchmark
+	@Fork (value = 10, jvmArgsAppend = "-D" + SolverIndex.ENABLED_PROPERTY + "=false")
+	public ModuleSolverRegistry scanned(Blackhole blackhole) {
+		return register(SolverFixtures.scanSolvers(), blackhole);
+	}
+
+	@Benchmark
+	@Fork (10)
+	public ModuleSolverRegistry indexed(Blackhole blackhole) {
+		if (SolverIndex.entries().isEmpty()) {
+			throw new IllegalStateException("GeneratedSolverIndex is missing; build with the solver-index-processor");
+		}
+		return register(SolverFixtures.indexedSolvers(), blackhole);
+	}
+
+	@Benchmark
+	@Fork (10)
+	public ModuleSolverRegistry lazyFirstUse(Blackhole blackhole) {
+		if (SolverIndex.entries().isEmpty()) {
+			throw new IllegalStateException("GeneratedSolverIndex is missing; build with the solver-index-processor");
+		}
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		for (SolverIndex.Entry entry : SolverIndex.entries()) {
+			RootBeanDefinition definition = new RootBeanDefinition(entry.solverClass());
+			definition.setInstanceSupplier(entry.factory());
+			beanFactory.registerBeanDefinition(entry.solverClass().getName(), definition);
+		}
+		ModuleSolverRegistry registry = new ModuleSolverRegistry(beanFactory, new SolverRegistryProperties(true, false, Duration.ZERO));
+		blackhole.consume(registry.get(ModuleType.WIRES).inputType());
+		return registry;
+	}
+
+	private static ModuleSolverRegistry register(List<ModuleSolver<?, ?>> solvers, Blackhole blackhole) {
+		ModuleSolverRegistry registry = new ModuleSolverRegistry(solvers);
+		for (ModuleSolver<?, ?> solver : solvers) {
+			blackhole.consume(solver.inputType());
+		}
+		return registry;
+	}
+}
@@ -0,0 +1,26 @@
+package ktanesolver.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import ktanesolver.enums.ModuleType;
+import ktanesolver.logic.RefreshableSolver;
+
+/**
+ * Declares what a {@link RefreshableSolver}'s stored solution reads from the rest of its bomb. After a matching change
+ * commits, every module of the solver's type on that bomb is recomputed and written back if its solution changed.
+ */
+@Target (ElementType.TYPE)
+@Retention (RetentionPolicy.RUNTIME)
+public @interface RefreshOn {
+	/** Module types whose solved state or stored state the solution reads. */
+	ModuleType[] modules() default { };
+
+	/** Whether a change to any module on the bomb can change the solution. */
+	boolean anyModule() default false;
+
+	/** Whether the solution reads the bomb's strike count. */
+	boolean strikes() default false;
+}
@@ -0,0 +1,14 @@
+package ktanesolver.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Messages for the same round that are sent within {@code coalesceWindow} of the first one go out as a single
+ * {@code ROUND_BATCH} frame; a zero window sends every message immediately.
+ */
+@ConfigurationProperties (prefix = "ktanesolver.broadcast")
+public record BroadcastProperties(@DefaultValue ("40ms") Duration coalesceWindow) {
+}
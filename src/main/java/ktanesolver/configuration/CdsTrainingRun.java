@@ -0,0 +1,55 @@
+package ktanesolver.configuration;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import ktanesolver.registry.ModuleSolverRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Training run for the class data sharing archive built by {@code ./gradlew cdsArchive} and the Docker image. Under the
+ * {@code cds-training} profile the application loads every one of its own classes (solvers, their input and output
+ * records, data tables) and creates every solver before refresh ends, so all of them are in the archive even though a
+ * lazy registry would not touch them at startup. Only the registry is used; no repository or database is involved.
+ */
+@Slf4j
+@Component
+@Profile (CdsTrainingRun.PROFILE)
+@RequiredArgsConstructor
+public class CdsTrainingRun implements SmartInitializingSingleton {
+
+	public static final String PROFILE = "cds-training";
+
+	private static final String APPLICATION_CLASSES = "classpath*:ktanesolver/**/*.class";
+
+	private final ModuleSolverRegistry registry;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+		PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
+		MetadataReaderFactory readers = new CachingMetadataReaderFactory(resolver);
+		int loaded = 0;
+		try {
+			for (Resource resource : resolver.getResources(APPLICATION_CLASSES)) {
+				// loaded and linked into the archive, but not initialized
+				Class.forName(readers.getMetadataReader(resource).getClassMetadata().getClassName(), false, classLoader);
+				loaded++;
+			}
+		}
+		catch(IOException | ClassNotFoundException exception) {
+			throw new IllegalStateException("Cannot load the application classes for the CDS training run", exception);
+		}
+		int solvers = registry.getAllSolvers().size();
+		log.info("CDS training run loaded {} application classes and created {} solvers", loaded, solvers);
+	}
+}
@@ -0,0 +1,22 @@
+package ktanesolver.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties (prefix = "ktanesolver.module-state")
+public record ModuleStateProperties(@DefaultValue WriteBehind writeBehind) {
+
+	/**
+	 * When enabled, solves update an in-memory copy of the module state and a background batcher writes it to the
+	 * database every {@code flushInterval}, coalescing repeated stage inputs on the same module into one update. A written
+	 * entry stays cached until no solve has staged it for {@code idleExpiry}, so abandoned rounds do not keep it forever.
+	 */
+	public record WriteBehind(
+		@DefaultValue ("false") boolean enabled,
+		@DefaultValue ("200ms") Duration flushInterval,
+		@DefaultValue ("5m") Duration idleExpiry
+	) {
+	}
+}
@@ -0,0 +1,9 @@
+package ktanesolver.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/** Bounds for the in-memory aggregate of {@code ACTIVE} rounds served by {@code GET /rounds/{id}}. */
+@ConfigurationProperties (prefix = "ktanesolver.round-cache")
+public record RoundCacheProperties(@DefaultValue ("true") boolean enabled, @DefaultValue ("32") int maxActiveRounds) {
+}
@@ -0,0 +1,9 @@
+package ktanesolver.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/** How many {@code ROUND_DELTA} messages are kept per round for clients that reconnect, and for how many rounds. */
+@ConfigurationProperties (prefix = "ktanesolver.round-changes")
+public record RoundChangeLogProperties(@DefaultValue ("256") int retainedPerRound, @DefaultValue ("64") int maxRounds) {
+}
@@ -0,0 +1,18 @@
+package ktanesolver.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Round events are queued and inserted in batches of up to {@code batchSize} by a background writer. When the queue
+ * stays full for {@code offerTimeout} the event is written on the calling thread instead.
+ */
+@ConfigurationProperties (prefix = "ktanesolver.round-events")
+public record RoundEventProperties(
+	@DefaultValue ("1024") int queueCapacity,
+	@DefaultValue ("64") int batchSize,
+	@DefaultValue ("50ms") Duration offerTimeout
+) {
+}
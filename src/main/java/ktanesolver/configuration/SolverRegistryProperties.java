@@ -0,0 +1,20 @@
+package ktanesolver.configuration;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * How the solver registry creates solvers. With {@code lazy} the registry starts from metadata only and creates each
+ * solver (and initializes its static tables) the first time its module type is used; {@code warmUp} then preloads the
+ * vanilla modules and the types on active rounds in the background once the application is ready. A first use that
+ * takes longer than {@code coldStartBudget} is logged.
+ */
+@ConfigurationProperties (prefix = "ktanesolver.solvers")
+public record SolverRegistryProperties(
+	@DefaultValue ("false") boolean lazy,
+	@DefaultValue ("true") boolean warmUp,
+	@DefaultValue ("1s") Duration coldStartBudget
+) {
+}
@@ -0,0 +1,32 @@
+package ktanesolver.configuration;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Executor for the round listeners, following {@code spring.threads.virtual.enabled} (the {@code virtual-threads}
+ * profile): in platform mode listeners keep running on the committing request thread, in virtual mode each invocation
+ * gets its own virtual thread so the request returns without waiting for them.
+ */
+@Configuration
+@EnableAsync
+public class ThreadingConfig {
+
+	public static final String ROUND_LISTENER_EXECUTOR = "roundListenerExecutor";
+
+	@Bean (ROUND_LISTENER_EXECUTOR)
+	TaskExecutor roundListenerExecutor(Environment environment) {
+		if (!Threading.VIRTUAL.isActive(environment)) {
+			return new SyncTaskExecutor();
+		}
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("round-listener-");
+		executor.setVirtualThreads(true);
+		return executor;
+	}
+}
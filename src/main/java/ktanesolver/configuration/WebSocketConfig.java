@@ -1,19 +1,45 @@
 package ktanesolver.configuration;
 
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
 
+import lombok.RequiredArgsConstructor;
+
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+	private final Environment environment;
+
 	@Override
 	public void configureMessageBroker(MessageBrokerRegistry config) {
 		config.enableSimpleBroker("/topic");
 		config.setApplicationDestinationPrefixes("/app");
+		if (Threading.VIRTUAL.isActive(environment)) {
+			// sends to one session may run on different virtual threads; keep them in publish order
+			config.setPreservePublishOrder(true);
+		}
+	}
+
+	@Override
+	public void configureClientOutboundChannel(ChannelRegistration registration) {
+		if (!Threading.VIRTUAL.isActive(environment)) {
+			return;
+		}
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setThreadNamePrefix("stomp-outbound-");
+		executor.setVirtualThreads(true);
+		executor.setCorePoolSize(Runtime.getRuntime().availableProcessors() * 2);
+		executor.setAllowCoreThreadTimeOut(true);
+		registration.taskExecutor(executor);
 	}
 
 	@Override
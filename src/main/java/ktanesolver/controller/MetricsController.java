@@ -0,0 +1,54 @@
+package ktanesolver.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import ktanesolver.dto.BroadcastStatsDto;
+import ktanesolver.dto.RoundCacheStatsDto;
+import ktanesolver.dto.RouteTableStatsDto;
+import ktanesolver.dto.SolverMetricsDto;
+import ktanesolver.metrics.SolverMetrics;
+import ktanesolver.module.shared.graph.RouteTable;
+import ktanesolver.service.RoundBroadcastCoalescer;
+import ktanesolver.state.RoundAggregateCache;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping ("/api/metrics")
+@RequiredArgsConstructor
+public class MetricsController {
+
+	private final SolverMetrics solverMetrics;
+	private final RoundAggregateCache roundCache;
+	private final RoundBroadcastCoalescer broadcastCoalescer;
+
+	@GetMapping ("/solvers")
+	public List<SolverMetricsDto> getSolverMetrics() {
+		return solverMetrics.snapshot();
+	}
+
+	@DeleteMapping ("/solvers")
+	@ResponseStatus (HttpStatus.NO_CONTENT)
+	public void resetSolverMetrics() {
+		solverMetrics.reset();
+	}
+
+	@GetMapping ("/round-cache")
+	public RoundCacheStatsDto getRoundCacheStats() {
+		return roundCache.stats();
+	}
+
+	@GetMapping ("/broadcast")
+	public BroadcastStatsDto getBroadcastStats() {
+		return broadcastCoalescer.stats();
+	}
+
+	@GetMapping ("/route-tables")
+	public List<RouteTableStatsDto> getRouteTableStats() {
+		return RouteTable.families().stream()
+			.map(family -> new RouteTableStatsDto(family.name(), family.tables(), family.builtTables(), family.bytes(), family.fullBytes(), RouteTable.enabled()))
+			.toList();
+	}
+}
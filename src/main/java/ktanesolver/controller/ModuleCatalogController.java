@@ -1,11 +1,14 @@
-
 package ktanesolver.controller;
 
 import ktanesolver.dto.ModuleCatalogDto;
-import ktanesolver.module.modded.regular.crazytalk.CrazyTalkSolver;
 import ktanesolver.service.ModuleCatalogService;
+import ktanesolver.utils.PrecompressedJson;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 
@@ -15,16 +18,48 @@ import java.util.List;
 @CrossOrigin
 public class ModuleCatalogController {
 
+	private static final String CATALOG_PATH = "/api/modules";
+	private static final String CRAZY_TALK_DISPLAYS_PATH = "/api/modules/crazy-talk/displays";
+
 	private final ModuleCatalogService moduleCatalogService;
-	private final CrazyTalkSolver crazyTalkSolver;
 
 	@GetMapping
-	public List<ModuleCatalogDto> getAllModules(@RequestParam (required = false) String category, @RequestParam (required = false) String search) {
-		return moduleCatalogService.getAllModules(category, search);
+	public ResponseEntity<?> getAllModules(@RequestParam (required = false) String category, @RequestParam (required = false) String search,
+		@RequestHeader (value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+		@RequestHeader (value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+		if ((category == null || category.isEmpty()) && (search == null || search.isEmpty())) {
+			return respond(moduleCatalogService.catalogBody(), CATALOG_PATH, null, ifNoneMatch, acceptEncoding);
+		}
+		List<ModuleCatalogDto> modules = moduleCatalogService.getAllModules(category, search);
+		return ResponseEntity.ok(modules);
+	}
+
+	/** The full catalog under an immutable URL; {@code version} is the ETag of {@code GET /api/modules}. */
+	@GetMapping ("/v/{version}")
+	public ResponseEntity<byte[]> getAllModulesVersion(@PathVariable String version,
+		@RequestHeader (value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+		@RequestHeader (value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+		return respond(moduleCatalogService.catalogBody(), CATALOG_PATH, version, ifNoneMatch, acceptEncoding);
 	}
 
 	@GetMapping ("/crazy-talk/displays")
-	public List<String> getCrazyTalkDisplays() {
-		return crazyTalkSolver.displays();
+	public ResponseEntity<byte[]> getCrazyTalkDisplays(@RequestHeader (value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+		@RequestHeader (value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+		return respond(moduleCatalogService.crazyTalkDisplaysBody(), CRAZY_TALK_DISPLAYS_PATH, null, ifNoneMatch, acceptEncoding);
+	}
+
+	@GetMapping ("/crazy-talk/displays/v/{version}")
+	public ResponseEntity<byte[]> getCrazyTalkDisplaysVersion(@PathVariable String version,
+		@RequestHeader (value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+		@RequestHeader (value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+		return respond(moduleCatalogService.crazyTalkDisplaysBody(), CRAZY_TALK_DISPLAYS_PATH, version, ifNoneMatch, acceptEncoding);
+	}
+
+	private static ResponseEntity<byte[]> respond(PrecompressedJson body, String path, String version, String ifNoneMatch, String acceptEncoding) {
+		if (version != null && !version.equals(body.version())) {
+			// an immutable URL must never serve other content; the client refetches the plain URL
+			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Version " + version + " of " + path + " is no longer served");
+		}
+		return body.respond(ifNoneMatch, acceptEncoding, version != null, path + "/v/" + body.version());
 	}
 }
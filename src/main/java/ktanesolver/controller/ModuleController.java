@@ -5,7 +5,6 @@ import java.util.UUID;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.server.ResponseStatusException;
 
 import jakarta.validation.Valid;
 
@@ -13,7 +12,6 @@ import ktanesolver.dto.AddModulesRequest;
 import ktanesolver.dto.CompleteModuleRequest;
 import ktanesolver.dto.UpdateTwitchCodeRequest;
 import ktanesolver.entity.ModuleEntity;
-import ktanesolver.repository.ModuleRepository;
 import ktanesolver.service.ModuleService;
 import lombok.RequiredArgsConstructor;
 
@@ -22,7 +20,6 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ModuleController {
 
-    private final ModuleRepository moduleRepo;
     private final ModuleService moduleService;
 
     @PostMapping
@@ -32,12 +29,7 @@ public class ModuleController {
 
     @GetMapping("/{moduleId}")
     public ModuleEntity getModule(@PathVariable UUID bombId, @PathVariable UUID moduleId) {
-        ModuleEntity module = moduleRepo.findByIdWithBomb(moduleId)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Module not found"));
-        if (!module.getBomb().getId().equals(bombId)) {
-            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Module not found");
-        }
-        return module;
+        return moduleService.getModule(bombId, moduleId);
     }
 
     @DeleteMapping("/{moduleId}")
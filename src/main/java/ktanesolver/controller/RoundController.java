@@ -7,6 +7,7 @@ import java.util.UUID;
 
 import org.springframework.web.bind.annotation.*;
 
+import ktanesolver.dto.RoundChangesDto;
 import ktanesolver.dto.RoundEventDto;
 import ktanesolver.dto.RoundSummaryDto;
 import ktanesolver.entity.RoundEntity;
@@ -29,7 +30,7 @@ public class RoundController {
 
 	@GetMapping ("/{roundId}")
 	public RoundEntity getRound(@PathVariable UUID roundId) {
-		return roundService.getRoundWithDetails(roundId);
+		return roundService.findCachedRound(roundId).orElseGet(() -> roundService.getRoundWithDetails(roundId));
 	}
 
 	@GetMapping ("/{roundId}/events")
@@ -49,6 +50,11 @@ public class RoundController {
 		return roundEventService.getEvents(roundId, sinceInstant, limit);
 	}
 
+	@GetMapping ("/{roundId}/changes")
+	public RoundChangesDto getChanges(@PathVariable UUID roundId, @RequestParam (defaultValue = "0") long sinceVersion) {
+		return roundEventService.getChanges(roundId, sinceVersion);
+	}
+
 	@PostMapping ("/{roundId}/start")
 	public RoundEntity startRound(@PathVariable UUID roundId) {
 		return roundService.startRound(roundId);
@@ -1,23 +1,24 @@
-
 package ktanesolver.controller;
 
+import java.util.List;
 import java.util.UUID;
 
 import org.springframework.web.bind.annotation.*;
 
+import ktanesolver.dto.SolveBatchItem;
 import ktanesolver.dto.SolveModuleRequest;
 import ktanesolver.logic.SolveResult;
 import ktanesolver.service.ModuleService;
 import lombok.RequiredArgsConstructor;
 
 @RestController
-@RequestMapping ("/rounds/{roundId}/bombs/{bombId}/modules")
+@RequestMapping ("/rounds/{roundId}/bombs/{bombId}")
 @RequiredArgsConstructor
 public class SolveController {
 
 	private final ModuleService moduleService;
 
-	@PostMapping ("/{moduleId}/solve")
+	@PostMapping ("/modules/{moduleId}/solve")
 	public SolveResult<?> solve(
 		@PathVariable UUID roundId,
 		@PathVariable UUID bombId,
@@ -26,4 +27,13 @@ public class SolveController {
 	) {
 		return moduleService.solveModule(roundId, bombId, moduleId, req.input());
 	}
+
+	@PostMapping ("/solve-batch")
+	public List<SolveResult<?>> solveBatch(
+		@PathVariable UUID roundId,
+		@PathVariable UUID bombId,
+		@RequestBody List<SolveBatchItem> items
+	) {
+		return moduleService.solveBatch(roundId, bombId, items);
+	}
 }
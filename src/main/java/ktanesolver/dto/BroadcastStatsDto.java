@@ -0,0 +1,8 @@
+package ktanesolver.dto;
+
+public record BroadcastStatsDto(
+        long messagesIn,
+        long framesOut,
+        long coalesceWindowMillis
+) {
+}
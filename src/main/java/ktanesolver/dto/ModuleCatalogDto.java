@@ -3,6 +3,8 @@ package ktanesolver.dto;
 
 import java.util.List;
 
+import ktanesolver.annotation.ModuleInfo;
+
 public record ModuleCatalogDto(
         String id,
         String name,
@@ -14,6 +16,22 @@ public record ModuleCatalogDto(
         boolean hasOutput,
         boolean checkFirst
 ) {
+
+    /** The catalog entry declared by a solver's {@code @ModuleInfo}. */
+    public static ModuleCatalogDto of(ModuleInfo info) {
+        return new ModuleCatalogDto(
+                info.id(),
+                info.name(),
+                info.category(),
+                info.type().name(),
+                List.of(info.tags()),
+                info.description(),
+                info.hasInput(),
+                info.hasOutput(),
+                info.checkFirst()
+        );
+    }
+
     public enum ModuleCategory {
         VANILLA_REGULAR, VANILLA_NEEDY, MODDED_REGULAR, MODDED_NEEDY
     }
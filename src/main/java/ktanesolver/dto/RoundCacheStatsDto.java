@@ -0,0 +1,9 @@
+package ktanesolver.dto;
+
+public record RoundCacheStatsDto(
+        long hits,
+        long misses,
+        int size,
+        int maxActiveRounds
+) {
+}
@@ -0,0 +1,52 @@
+package ktanesolver.dto;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import ktanesolver.entity.ModuleEntity;
+
+/**
+ * One changed entity in a {@code ROUND_DELTA} message. Only the fields of the given {@link Kind} are set;
+ * {@link Kind#ROUND} marks a structural change (bombs or modules added or removed, status change) that clients can
+ * only apply by reloading the round.
+ */
+@JsonInclude (JsonInclude.Include.NON_NULL)
+public record RoundChangeDto(
+        Kind kind,
+        UUID bombId,
+        UUID moduleId,
+        Long version,
+        Boolean solved,
+        String twitchCode,
+        Object state,
+        Map<String, Object> solution,
+        Integer strikes
+) {
+    public enum Kind {
+        MODULE, BOMB, ROUND
+    }
+
+    public static RoundChangeDto module(UUID bombId, ModuleEntity module) {
+        return new RoundChangeDto(
+                Kind.MODULE,
+                bombId,
+                module.getId(),
+                module.getVersion(),
+                module.isSolved(),
+                module.getTwitchCode(),
+                module.stateValue(),
+                new HashMap<>(module.getSolution()),
+                null);
+    }
+
+    public static RoundChangeDto strikes(UUID bombId, int strikes) {
+        return new RoundChangeDto(Kind.BOMB, bombId, null, null, null, null, null, null, strikes);
+    }
+
+    public static RoundChangeDto structural() {
+        return new RoundChangeDto(Kind.ROUND, null, null, null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,16 @@
+package ktanesolver.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deltas a client missed since {@code sinceVersion}. When {@code resync} is set the missed changes are no longer
+ * retained (or include a structural change) and the client must reload the round instead.
+ */
+public record RoundChangesDto(
+        UUID roundId,
+        long version,
+        boolean resync,
+        List<RoundDeltaDto> deltas
+) {
+}
@@ -0,0 +1,11 @@
+package ktanesolver.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record RoundDeltaDto(
+        UUID roundId,
+        long version,
+        List<RoundChangeDto> changes
+) {
+}
@@ -0,0 +1,11 @@
+package ktanesolver.dto;
+
+public record RouteTableStatsDto(
+        String family,
+        int tables,
+        int builtTables,
+        long bytes,
+        long fullBytes,
+        boolean enabled
+) {
+}
@@ -0,0 +1,7 @@
+package ktanesolver.dto;
+
+import java.util.Map;
+import java.util.UUID;
+
+public record SolveBatchItem(UUID moduleId, Map<String, Object> input) {
+}
@@ -0,0 +1,17 @@
+package ktanesolver.dto;
+
+import java.util.Map;
+
+import ktanesolver.enums.ModuleType;
+import ktanesolver.metrics.SolvePhase;
+
+public record SolverMetricsDto(
+        ModuleType type,
+        long count,
+        Latency total,
+        Map<SolvePhase, Latency> phases,
+        Long allocatedBytesPerCall
+) {
+    public record Latency(double meanMicros, double p50Micros, double p99Micros) {
+    }
+}
@@ -9,7 +9,14 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import ktanesolver.enums.BombStatus;
 import ktanesolver.enums.PortType;
+import ktanesolver.logic.BombStatistics;
+import ktanesolver.module.shared.edgework.EdgeworkSnapshot;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
 @Data
 @Entity
@@ -50,7 +57,56 @@ public class BombEntity {
 	@OrderBy ("id ASC")
 	private List<ModuleEntity> modules = new ArrayList<>();
 
+	@Transient
+	@JsonIgnore
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private BombStatistics statistics;
+
+	// computed from the modules when none are attached, until a module is added, removed or changed
+	@Transient
+	@JsonIgnore
+	@Getter (AccessLevel.NONE)
+	@Setter (AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private BombStatistics computedStatistics;
+
+	@Transient
+	@JsonIgnore
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private EdgeworkSnapshot edgework;
+
+	public void setSerialNumber(String serialNumber) {
+		this.serialNumber = serialNumber;
+		edgework = null;
+	}
+
+	public void setIndicators(Map<String, Boolean> indicators) {
+		this.indicators = indicators;
+		edgework = null;
+	}
+
+	/** The live indicator map; handing it out detaches the edgework snapshot, since the caller may change it in place. */
+	public Map<String, Boolean> getIndicators() {
+		edgework = null;
+		return indicators;
+	}
+
+	/** The live port plate list; handing it out detaches the edgework snapshot, since the caller may change it in place. */
+	public List<PortPlateEntity> getPortPlates() {
+		edgework = null;
+		return portPlates;
+	}
+
+	public void setPortPlates(List<PortPlateEntity> portPlates) {
+		this.portPlates = portPlates;
+		edgework = null;
+	}
+
 	public void replacePortPlates(List<Set<PortType>> portPlateDefinitions) {
+		edgework = null;
 		portPlates.clear();
 		if(portPlateDefinitions == null) {
 			return;
@@ -69,6 +125,48 @@ public class BombEntity {
 		}
 	}
 
+	/** The live module list; handing it out drops the computed statistics, since the caller may add or remove modules. */
+	public List<ModuleEntity> getModules() {
+		computedStatistics = null;
+		return modules;
+	}
+
+	public void setModules(List<ModuleEntity> modules) {
+		this.modules = modules;
+		computedStatistics = null;
+	}
+
+	/**
+	 * Module counts attached for the current solve, or counts computed from {@link #getModules()} on first use and kept
+	 * until a module is added, removed, or changes its type or solved state.
+	 */
+	@JsonIgnore
+	public BombStatistics getStatistics() {
+		if (statistics != null) {
+			return statistics;
+		}
+		if (computedStatistics == null) {
+			computedStatistics = BombStatistics.of(modules);
+		}
+		return computedStatistics;
+	}
+
+	void moduleChanged() {
+		computedStatistics = null;
+	}
+
+	/**
+	 * Edgework attached for the current solve, or a snapshot of the serial number, indicators and port plates taken on
+	 * first use and kept until one of those changes through a setter or its collection is handed out.
+	 */
+	@JsonIgnore
+	public EdgeworkSnapshot getEdgework() {
+		if (edgework == null) {
+			edgework = EdgeworkSnapshot.of(this);
+		}
+		return edgework;
+	}
+
 	@JsonIgnore
 	public int getBatteryCount() {
 		return aaBatteryCount + dBatteryCount;
@@ -76,17 +174,17 @@ public class BombEntity {
 
 	@JsonIgnore
 	public boolean hasIndicator(String indicator) {
-		return indicators.containsKey(indicator);
+		return getEdgework().hasIndicator(indicator);
 	}
 
 	@JsonIgnore
 	public boolean isIndicatorLit(String indicator) {
-		return Boolean.TRUE.equals(indicators.get(indicator));
+		return getEdgework().isIndicatorLit(indicator);
 	}
 
 	@JsonIgnore
 	public boolean isIndicatorUnlit(String indicator) {
-		return Boolean.FALSE.equals(indicators.get(indicator));
+		return getEdgework().isIndicatorUnlit(indicator);
 	}
 
 	@JsonIgnore
@@ -101,15 +199,15 @@ public class BombEntity {
 
 	@JsonIgnore
 	public int getLastDigit() {
-		return serialNumber.chars().filter(Character::isDigit).map(c -> c - '0').reduce((a, b) -> b).orElse(0);
+		return getEdgework().lastSerialDigit();
 	}
 
 	public boolean serialHasVowel() {
-		return serialNumber.chars().anyMatch(c -> "AEIOU".indexOf(c) >= 0);
+		return getEdgework().serialHasVowel();
 	}
 
 	public boolean hasPort(PortType portType) {
-		return portPlates.stream().anyMatch(plate -> plate.getPorts().contains(portType));
+		return getEdgework().hasPort(portType);
 	}
 
 	@JsonIgnore
@@ -119,6 +217,6 @@ public class BombEntity {
 
 	@JsonIgnore
     public boolean serialHasCharacter(char character) {
-		return serialNumber.indexOf(character) >= 0;
+		return getEdgework().serialHasCharacter(character);
     }
 }
@@ -3,22 +3,31 @@ package ktanesolver.entity;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.function.Supplier;
 
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.Type;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
-import com.fasterxml.jackson.core.type.TypeReference;
 
 import io.hypersistence.utils.hibernate.type.json.JsonType;
 import jakarta.persistence.*;
 import ktanesolver.enums.ModuleType;
-import ktanesolver.utils.Json;
+import ktanesolver.utils.ChangeTrackingMap;
+import ktanesolver.utils.StateCodec;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.ToString;
 
 @Entity
 @Data
+@DynamicUpdate
 @Table (name = "modules")
 public class ModuleEntity {
 
@@ -41,31 +50,157 @@ public class ModuleEntity {
 	@Column(name = "twitch_code", length = 32)
 	private String twitchCode;
 
-	@Type (JsonType.class)
-	@Column (columnDefinition = "jsonb")
+	// mapped through getStoredState() so that Hibernate, dirty checks included, always sees a pending typed state
+	@Transient
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
 	private Map<String, Object> state = new HashMap<>();
 
 	@Type (JsonType.class)
 	@Column (columnDefinition = "jsonb")
 	private Map<String, Object> solution = new HashMap<>();
 
+	// typed state read or stored by a solver; while dirty it is newer than the state map
+	@Transient
+	@JsonIgnore
+	@Getter (AccessLevel.NONE)
+	@Setter (AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private Object typedState;
+
+	@Transient
+	@JsonIgnore
+	@Getter (AccessLevel.NONE)
+	@Setter (AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private boolean typedStateDirty;
+
+	// hash of the state map when it last matched a clean typed state, to notice writes made through getState()
+	@Transient
+	@JsonIgnore
+	@Getter (AccessLevel.NONE)
+	@Setter (AccessLevel.NONE)
+	@EqualsAndHashCode.Exclude
+	@ToString.Exclude
+	private int typedStateSource;
+
+	public void setType(ModuleType type) {
+		this.type = type;
+		bombModuleChanged();
+	}
+
+	public void setSolved(boolean solved) {
+		this.solved = solved;
+		bombModuleChanged();
+	}
+
+	/**
+	 * The state as the given type. The decoded object stays attached to the module, so later reads in the same solve
+	 * (or of a working copy carrying a staged state) do not convert the map again.
+	 */
 	public <T> T getStateAs(Class<T> type, Supplier<T> defaultSupplier) {
+		if (type.isInstance(typedState) && (typedStateDirty || stateHash() == typedStateSource)) {
+			return type.cast(typedState);
+		}
+		encodePendingState();
 		if (state == null || state.isEmpty()) {
+			// the default is stored, so it is persisted even if the solver never stores the state itself
 			T value = defaultSupplier.get();
 			setState(value);
 			return value;
 		}
 		// State may have been stored under the type name by storeTypedState(); use it if present
 		String typeKey = type.getName();
-		if (state.containsKey(typeKey)) {
-			return Json.mapper().convertValue(state.get(typeKey), type);
-		}
-		return Json.mapper().convertValue(state, type);
+		T value = StateCodec.decode(state.containsKey(typeKey) ? state.get(typeKey) : state, type);
+		typedState = value;
+		typedStateDirty = false;
+		typedStateSource = stateHash();
+		return value;
 	}
 
+	/** Replaces the state. A map is copied; any other object is kept as is and encoded only when the map is needed. */
+	@SuppressWarnings ("unchecked")
 	public void setState(Object value) {
-		this.state = Json.mapper().convertValue(value, new TypeReference<>() {
-		});
+		if (value == null || value instanceof Map<?, ?>) {
+			if (value instanceof ChangeTrackingMap tracked) {
+				this.state = tracked;
+			}
+			else {
+				this.state = value == null ? new HashMap<>() : new HashMap<>((Map<String, Object>)value);
+			}
+			this.typedState = null;
+			this.typedStateDirty = false;
+			return;
+		}
+		this.typedState = value;
+		this.typedStateDirty = true;
+	}
+
+	/**
+	 * The state map, with a typed state stored by a solver encoded first. The caller may change it in place; the next
+	 * {@link #getStateAs} then decodes it again instead of returning the attached typed object.
+	 */
+	public Map<String, Object> getState() {
+		encodePendingState();
+		return state;
+	}
+
+	/**
+	 * Top-level state keys changed since the state was set as a {@link ChangeTrackingMap}, or {@code null} when the
+	 * whole state may have changed (untracked map, typed state stored, or tracking given up).
+	 */
+	public Set<String> changedStateKeys() {
+		if (typedStateDirty || !(state instanceof ChangeTrackingMap tracked)) {
+			return null;
+		}
+		return tracked.changedKeys();
+	}
+
+	/**
+	 * A copy of the state map to store or send, with a typed state stored by a solver encoded first. The attached typed
+	 * object is never handed out, since the next solve of this module may change it in place.
+	 */
+	public Map<String, Object> stateValue() {
+		encodePendingState();
+		return state == null ? new HashMap<>() : new HashMap<>(state);
+	}
+
+	/**
+	 * The state column as JPA reads and writes it. A typed state stored by a solver does not change the map until it is
+	 * encoded, so Hibernate reads the column through here to see it in dirty checks as well as in inserts and updates.
+	 */
+	@Access (AccessType.PROPERTY)
+	@Type (JsonType.class)
+	@Column (name = "state", columnDefinition = "jsonb")
+	protected Map<String, Object> getStoredState() {
+		encodePendingState();
+		return state;
+	}
+
+	protected void setStoredState(Map<String, Object> state) {
+		this.state = state;
+		this.typedState = null;
+		this.typedStateDirty = false;
+	}
+
+	private void encodePendingState() {
+		if (typedStateDirty) {
+			state = StateCodec.encode(typedState);
+			typedStateDirty = false;
+			typedStateSource = stateHash();
+		}
 	}
 
+	private int stateHash() {
+		return state == null ? 0 : state.hashCode();
+	}
+
+	// an unloaded bomb has no computed statistics to drop, and must not be loaded just for this
+	private void bombModuleChanged() {
+		if (bomb != null && Hibernate.isInitialized(bomb)) {
+			bomb.moduleChanged();
+		}
+	}
 }
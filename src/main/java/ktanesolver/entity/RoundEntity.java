@@ -4,6 +4,7 @@ package ktanesolver.entity;
 import java.time.Instant;
 import java.util.*;
 
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.Type;
 
 import io.hypersistence.utils.hibernate.type.json.JsonType;
@@ -13,6 +14,7 @@ import lombok.Data;
 
 @Data
 @Entity
+@DynamicUpdate
 @Table (name = "rounds")
 public class RoundEntity {
 
@@ -0,0 +1,28 @@
+package ktanesolver.event;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEvent;
+
+import ktanesolver.enums.ModuleType;
+import lombok.Getter;
+
+/** The modules of one bomb that a batch solve changed, published once for the whole batch. */
+@Getter
+public class BombModulesUpdatedEvent extends ApplicationEvent {
+
+	public record ModuleUpdate(UUID moduleId, ModuleType moduleType, boolean solved) {
+	}
+
+	private final UUID roundId;
+	private final UUID bombId;
+	private final List<ModuleUpdate> modules;
+
+	public BombModulesUpdatedEvent(Object source, UUID roundId, UUID bombId, List<ModuleUpdate> modules) {
+		super(source);
+		this.roundId = roundId;
+		this.bombId = bombId;
+		this.modules = modules;
+	}
+}
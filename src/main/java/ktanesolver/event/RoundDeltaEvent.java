@@ -0,0 +1,22 @@
+package ktanesolver.event;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEvent;
+
+import ktanesolver.dto.RoundChangeDto;
+import lombok.Getter;
+
+@Getter
+public class RoundDeltaEvent extends ApplicationEvent {
+
+	private final UUID roundId;
+	private final List<RoundChangeDto> changes;
+
+	public RoundDeltaEvent(Object source, UUID roundId, List<RoundChangeDto> changes) {
+		super(source);
+		this.roundId = roundId;
+		this.changes = changes;
+	}
+}
@@ -0,0 +1,159 @@
+package ktanesolver.listener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import ktanesolver.annotation.RefreshOn;
+import ktanesolver.configuration.ThreadingConfig;
+import ktanesolver.dto.RoundChangeDto;
+import ktanesolver.entity.BombEntity;
+import ktanesolver.entity.ModuleEntity;
+import ktanesolver.enums.ModuleType;
+import ktanesolver.event.BombModuleUpdatedEvent;
+import ktanesolver.event.BombModulesUpdatedEvent;
+import ktanesolver.event.RoundDeltaEvent;
+import ktanesolver.event.StrikeAddedEvent;
+import ktanesolver.registry.ModuleSolverRegistry;
+import ktanesolver.repository.BombRepository;
+import ktanesolver.repository.ModuleRepository;
+import ktanesolver.state.BombDependencyIndex;
+import ktanesolver.state.BombEdgeworkCache;
+import ktanesolver.state.DependentModule;
+import ktanesolver.state.ModuleStateStore;
+import ktanesolver.state.RoundAggregateCache;
+
+/**
+ * Recomputes derived solutions (solvers annotated with {@link RefreshOn}) after a change they read commits. Changes no
+ * dependent module on the bomb declares, and bombs without dependent modules (per {@link BombDependencyIndex}), return
+ * before any database access. Only solutions that actually changed are written.
+ * <p>
+ * Runs on the round listener executor, so in virtual-thread mode refreshes happen off the request thread and may
+ * overlap; refreshes of the same bomb are serialized through a lock held until their transaction commits, so a later
+ * refresh never reads an older version.
+ */
+@Component
+public class DependentModuleRefreshListener {
+
+	private static final int LOCK_STRIPES = 64;
+
+	private final BombRepository bombRepo;
+	private final ModuleRepository moduleRepo;
+	private final ModuleSolverRegistry registry;
+	private final ModuleStateStore moduleStateStore;
+	private final RoundAggregateCache roundCache;
+	private final BombDependencyIndex dependencyIndex;
+	private final BombEdgeworkCache edgeworkCache;
+	private final ApplicationEventPublisher eventPublisher;
+	private final TransactionTemplate transactionTemplate;
+	private final ReentrantLock[] bombLocks = new ReentrantLock[LOCK_STRIPES];
+
+	public DependentModuleRefreshListener(
+		BombRepository bombRepo,
+		ModuleRepository moduleRepo,
+		ModuleSolverRegistry registry,
+		ModuleStateStore moduleStateStore,
+		RoundAggregateCache roundCache,
+		BombDependencyIndex dependencyIndex,
+		BombEdgeworkCache edgeworkCache,
+		ApplicationEventPublisher eventPublisher,
+		PlatformTransactionManager transactionManager
+	) {
+		this.bombRepo = bombRepo;
+		this.moduleRepo = moduleRepo;
+		this.registry = registry;
+		this.moduleStateStore = moduleStateStore;
+		this.roundCache = roundCache;
+		this.dependencyIndex = dependencyIndex;
+		this.edgeworkCache = edgeworkCache;
+		this.eventPublisher = eventPublisher;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		for (int i = 0; i < LOCK_STRIPES; i++) {
+			// ReentrantLock rather than synchronized: the holder blocks on JDBC, which would pin a virtual thread
+			bombLocks[i] = new ReentrantLock();
+		}
+	}
+
+	@Async (ThreadingConfig.ROUND_LISTENER_EXECUTOR)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onBombModuleUpdated(BombModuleUpdatedEvent event) {
+		refreshDependents(event.getRoundId(), event.getBombId(),
+			dependent -> registry.refreshesOnModuleChange(dependent.type(), event.getModuleType()));
+	}
+
+	@Async (ThreadingConfig.ROUND_LISTENER_EXECUTOR)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onBombModulesUpdated(BombModulesUpdatedEvent event) {
+		Set<ModuleType> types = event.getModules().stream().map(BombModulesUpdatedEvent.ModuleUpdate::moduleType).collect(Collectors.toSet());
+		refreshDependents(event.getRoundId(), event.getBombId(),
+			dependent -> types.stream().anyMatch(type -> registry.refreshesOnModuleChange(dependent.type(), type)));
+	}
+
+	@Async (ThreadingConfig.ROUND_LISTENER_EXECUTOR)
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onStrikeAdded(StrikeAddedEvent event) {
+		refreshDependents(event.getRoundId(), event.getBombId(), dependent -> registry.refreshesOnStrike(dependent.type()));
+	}
+
+	private void refreshDependents(UUID roundId, UUID bombId, Predicate<DependentModule> affected) {
+		List<DependentModule> dependents = dependencyIndex.dependents(roundId, bombId).stream().filter(affected).toList();
+		if (dependents.isEmpty()) {
+			return;
+		}
+		ReentrantLock lock = bombLocks[Math.floorMod(bombId.hashCode(), LOCK_STRIPES)];
+		lock.lock();
+		try {
+			// pending write-behind state is committed before the refresh reads it, whatever becomes of the refresh
+			dependents.stream().map(DependentModule::type).distinct().forEach(type -> moduleStateStore.flushBomb(bombId, type));
+			transactionTemplate.executeWithoutResult(status -> refreshInTransaction(roundId, bombId, dependents));
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void refreshInTransaction(UUID roundId, UUID bombId, List<DependentModule> dependents) {
+		Set<UUID> dependentIds = dependents.stream().map(DependentModule::id).collect(Collectors.toSet());
+		BombEntity bomb = bombRepo.findByIdWithModules(bombId).orElse(null);
+		if (bomb == null) {
+			return;
+		}
+		bomb.setEdgework(edgeworkCache.get(bomb));
+		List<RoundChangeDto> changes = new ArrayList<>();
+		for (ModuleEntity module : bomb.getModules()) {
+			if (!dependentIds.contains(module.getId())) {
+				continue;
+			}
+			Map<String, Object> previous = module.getSolution() != null ? new HashMap<>(module.getSolution()) : null;
+			registry.refreshable(module.getType()).refreshSolution(bomb.getRound(), bomb, module);
+			if (Objects.equals(previous, module.getSolution())) {
+				continue;
+			}
+			ModuleEntity saved = moduleRepo.saveAndFlush(module);
+			// both apply once the refresh commits, so a rollback leaves the store entry and the cached round alone
+			moduleStateStore.evict(saved.getId());
+			roundCache.updateModule(roundId, saved);
+			changes.add(RoundChangeDto.module(bombId, saved));
+		}
+		if (!changes.isEmpty()) {
+			eventPublisher.publishEvent(new RoundDeltaEvent(this, roundId, changes));
+		}
+	}
+}
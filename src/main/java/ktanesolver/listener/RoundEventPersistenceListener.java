@@ -3,64 +3,54 @@ package ktanesolver.listener;
 import java.time.Instant;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
+
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
-import ktanesolver.dto.RoundEventDto;
-import ktanesolver.entity.RoundEntity;
-import ktanesolver.entity.RoundEventEntity;
 import ktanesolver.enums.EventType;
+import ktanesolver.enums.ModuleType;
 import ktanesolver.event.BombModuleUpdatedEvent;
+import ktanesolver.event.BombModulesUpdatedEvent;
 import ktanesolver.event.StrikeAddedEvent;
-import ktanesolver.repository.RoundEventRepository;
-import ktanesolver.repository.RoundRepository;
-import ktanesolver.service.RoundEventBroadcastService;
+import ktanesolver.listener.RoundEventWriter.PendingRoundEvent;
 import lombok.RequiredArgsConstructor;
 
 @Component
 @RequiredArgsConstructor
 public class RoundEventPersistenceListener {
 
-	private final RoundRepository roundRepo;
-	private final RoundEventRepository roundEventRepo;
-	private final RoundEventBroadcastService broadcastService;
+	private final RoundEventWriter roundEventWriter;
 
 	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	public void onBombModuleUpdated(BombModuleUpdatedEvent event) {
-		RoundEntity round = roundRepo.findById(event.getRoundId()).orElse(null);
-		if (round == null) return;
-		RoundEventEntity entity = new RoundEventEntity();
-		entity.setRound(round);
-		entity.setTimestamp(Instant.now());
-		entity.setType(event.isSolved() ? EventType.MODULE_SOLVED : EventType.MODULE_UPDATED);
-		Map<String, Object> payload = new HashMap<>();
-		payload.put("moduleId", event.getModuleId().toString());
-		payload.put("moduleType", event.getModuleType() != null ? event.getModuleType().name() : null);
-		payload.put("bombId", event.getBombId().toString());
-		payload.put("solved", event.isSolved());
-		entity.setPayload(payload);
-		roundEventRepo.save(entity);
-		broadcastService.broadcastRoundEvent(event.getRoundId(), new RoundEventDto(entity.getId(), entity.getTimestamp(), entity.getType(), entity.getPayload()));
+		enqueueModuleEvent(event.getRoundId(), event.getBombId(), event.getModuleId(), event.getModuleType(), event.isSolved());
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onBombModulesUpdated(BombModulesUpdatedEvent event) {
+		// the round history keeps one entry per module, as when each module is solved on its own
+		for (BombModulesUpdatedEvent.ModuleUpdate module : event.getModules()) {
+			enqueueModuleEvent(event.getRoundId(), event.getBombId(), module.moduleId(), module.moduleType(), module.solved());
+		}
 	}
 
 	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	public void onStrikeAdded(StrikeAddedEvent event) {
-		RoundEntity round = roundRepo.findById(event.getRoundId()).orElse(null);
-		if (round == null) return;
-		RoundEventEntity entity = new RoundEventEntity();
-		entity.setRound(round);
-		entity.setTimestamp(Instant.now());
-		entity.setType(EventType.ROUND_STRIKE);
 		Map<String, Object> payload = new HashMap<>();
 		payload.put("bombId", event.getBombId().toString());
 		payload.put("strikes", event.getStrikes());
-		entity.setPayload(payload);
-		roundEventRepo.save(entity);
-		broadcastService.broadcastRoundEvent(event.getRoundId(), new RoundEventDto(entity.getId(), entity.getTimestamp(), entity.getType(), entity.getPayload()));
+		roundEventWriter.enqueue(new PendingRoundEvent(event.getRoundId(), Instant.now(), EventType.ROUND_STRIKE, payload));
+	}
+
+	private void enqueueModuleEvent(UUID roundId, UUID bombId, UUID moduleId, ModuleType moduleType, boolean solved) {
+		Map<String, Object> payload = new HashMap<>();
+		payload.put("moduleId", moduleId.toString());
+		payload.put("moduleType", moduleType != null ? moduleType.name() : null);
+		payload.put("bombId", bombId.toString());
+		payload.put("solved", solved);
+		EventType type = solved ? EventType.MODULE_SOLVED : EventType.MODULE_UPDATED;
+		roundEventWriter.enqueue(new PendingRoundEvent(roundId, Instant.now(), type, payload));
 	}
 }
@@ -0,0 +1,167 @@
+package ktanesolver.listener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import ktanesolver.configuration.RoundEventProperties;
+import ktanesolver.dto.RoundEventDto;
+import ktanesolver.entity.RoundEventEntity;
+import ktanesolver.enums.EventType;
+import ktanesolver.repository.RoundEventRepository;
+import ktanesolver.repository.RoundRepository;
+import ktanesolver.service.RoundEventBroadcastService;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Persists round events off the request thread: events are queued, a virtual-thread writer inserts each batch in one
+ * transaction (JDBC-batched, with the round as a reference proxy instead of a load) and broadcasts them once it
+ * commits. A full queue falls back to writing on the caller's thread, and shutdown drains whatever is still queued.
+ */
+@Slf4j
+@Component
+public class RoundEventWriter {
+
+	private static final long POLL_INTERVAL_MILLIS = 200;
+
+	private final RoundRepository roundRepo;
+	private final RoundEventRepository roundEventRepo;
+	private final RoundEventBroadcastService broadcastService;
+	private final TransactionTemplate transactionTemplate;
+	private final RoundEventProperties properties;
+	private final BlockingQueue<PendingRoundEvent> queue;
+	private volatile boolean running;
+	private Thread writer;
+
+	public RoundEventWriter(
+		RoundRepository roundRepo,
+		RoundEventRepository roundEventRepo,
+		RoundEventBroadcastService broadcastService,
+		PlatformTransactionManager transactionManager,
+		RoundEventProperties properties
+	) {
+		this.roundRepo = roundRepo;
+		this.roundEventRepo = roundEventRepo;
+		this.broadcastService = broadcastService;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.properties = properties;
+		this.queue = new ArrayBlockingQueue<>(properties.queueCapacity());
+	}
+
+	record PendingRoundEvent(UUID roundId, Instant timestamp, EventType type, Map<String, Object> payload) {
+	}
+
+	@PostConstruct
+	void start() {
+		running = true;
+		writer = Thread.ofVirtual().name("round-event-writer").start(this::run);
+	}
+
+	@PreDestroy
+	void stop() throws InterruptedException {
+		// not interrupted: an interrupt could abort a batch in the middle of its JDBC write
+		running = false;
+		if (writer != null) {
+			writer.join(POLL_INTERVAL_MILLIS * 10);
+		}
+		drain();
+	}
+
+	void enqueue(PendingRoundEvent event) {
+		boolean queued;
+		try {
+			queued = running && queue.offer(event, properties.offerTimeout().toMillis(), TimeUnit.MILLISECONDS);
+		}
+		catch(InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			queued = false;
+		}
+		if (!queued) {
+			if (running) {
+				log.warn("Round event queue is full; writing {} event inline", event.type());
+			}
+			write(List.of(event));
+		}
+	}
+
+	/** Writes everything currently queued, in batches. */
+	void drain() {
+		List<PendingRoundEvent> batch = new ArrayList<>();
+		while (queue.drainTo(batch, properties.batchSize()) > 0) {
+			write(batch);
+			batch.clear();
+		}
+	}
+
+	int queuedCount() {
+		return queue.size();
+	}
+
+	private void run() {
+		List<PendingRoundEvent> batch = new ArrayList<>();
+		while (running) {
+			try {
+				PendingRoundEvent first = queue.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+				if (first == null) {
+					continue;
+				}
+				batch.add(first);
+				queue.drainTo(batch, properties.batchSize() - 1);
+				write(batch);
+			}
+			catch(InterruptedException exception) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			catch(RuntimeException exception) {
+				log.error("Writing {} round events failed", batch.size(), exception);
+			}
+			finally {
+				batch.clear();
+			}
+		}
+	}
+
+	private void write(List<PendingRoundEvent> events) {
+		List<RoundEventEntity> saved;
+		try {
+			saved = transactionTemplate.execute(status -> roundEventRepo.saveAll(events.stream().map(this::toEntity).toList()));
+		}
+		catch(RuntimeException exception) {
+			if (events.size() == 1) {
+				// typically the round was deleted after the event was raised
+				log.warn("Dropping {} event for round {}: {}", events.getFirst().type(), events.getFirst().roundId(), exception.getMessage());
+				return;
+			}
+			events.forEach(event -> write(List.of(event)));
+			return;
+		}
+		for (int i = 0; i < saved.size(); i++) {
+			RoundEventEntity entity = saved.get(i);
+			broadcastService.broadcastRoundEvent(events.get(i).roundId(),
+				new RoundEventDto(entity.getId(), entity.getTimestamp(), entity.getType(), entity.getPayload()));
+		}
+	}
+
+	private RoundEventEntity toEntity(PendingRoundEvent event) {
+		RoundEventEntity entity = new RoundEventEntity();
+		entity.setRound(roundRepo.getReferenceById(event.roundId()));
+		entity.setTimestamp(event.timestamp());
+		entity.setType(event.type());
+		entity.setPayload(event.payload());
+		return entity;
+	}
+}
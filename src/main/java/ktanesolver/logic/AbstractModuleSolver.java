@@ -6,60 +6,70 @@ import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Map;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-
 import ktanesolver.annotation.ModuleInfo;
 import ktanesolver.dto.ModuleCatalogDto;
 import ktanesolver.entity.BombEntity;
 import ktanesolver.entity.ModuleEntity;
 import ktanesolver.entity.RoundEntity;
 import ktanesolver.enums.ModuleType;
-import ktanesolver.utils.Json;
+import ktanesolver.metrics.SolvePhase;
+import ktanesolver.metrics.SolveTrace;
+import ktanesolver.registry.SolverIndex;
+import ktanesolver.utils.StateCodec;
 
 public abstract class AbstractModuleSolver<I extends ModuleInput, O extends ModuleOutput> implements ModuleSolver<I, O> {
 
-	private final ModuleInfo moduleInfo;
+	private final ModuleType type;
+	private final ModuleCatalogDto catalogInfo;
+	private volatile Class<I> inputType;
 
+	@SuppressWarnings ("unchecked")
 	protected AbstractModuleSolver() {
+		// indexed solvers take everything from the build-time index; others read @ModuleInfo and resolve the input lazily
+		SolverIndex.Entry entry = SolverIndex.forClass(getClass());
+		if (entry != null) {
+			this.type = entry.type();
+			this.catalogInfo = entry.catalog();
+			this.inputType = (Class<I>)entry.inputType();
+			return;
+		}
 		ModuleInfo info = getClass().getAnnotation(ModuleInfo.class);
 		if (info == null) {
 			throw new IllegalStateException("ModuleSolver must be annotated with @ModuleInfo: " + getClass().getName());
 		}
-		this.moduleInfo = info;
+		this.type = info.type();
+		this.catalogInfo = ModuleCatalogDto.of(info);
 	}
 
 	@Override
 	public ModuleType getType() {
-		return moduleInfo.type();
+		return type;
 	}
 
 	@Override
 	@SuppressWarnings ("unchecked")
 	public Class<I> inputType() {
-		return (Class<I>)extractGenericType(getClass(), 0);
+		Class<I> resolved = inputType;
+		if (resolved == null) {
+			resolved = (Class<I>)extractGenericType(getClass(), 0);
+			inputType = resolved;
+		}
+		return resolved;
 	}
 
 	@Override
 	public ModuleCatalogDto getCatalogInfo() {
-		return new ModuleCatalogDto(
-			moduleInfo.id(),
-			moduleInfo.name(),
-			moduleInfo.category(),
-			moduleInfo.type().name(),
-			List.of(moduleInfo.tags()),
-			moduleInfo.description(),
-			moduleInfo.hasInput(),
-			moduleInfo.hasOutput(),
-			moduleInfo.checkFirst()
-		);
+		return catalogInfo;
 	}
 
 	@Override
 	public final SolveResult<O> solve(RoundEntity round, BombEntity bomb, ModuleEntity module, I input) {
 		SolveResult<O> result = doSolve(round, bomb, module, input);
+		SolveTrace.mark(SolvePhase.SOLVE);
 
 		if(result instanceof SolveSuccess<O> success) {
 			handleSuccess(module, input, success);
+			SolveTrace.mark(SolvePhase.SERIALIZE);
 		}
 
 		return result;
@@ -80,9 +90,11 @@ public abstract class AbstractModuleSolver<I extends ModuleInput, O extends Modu
 	}
 
 	private void handleSuccess(ModuleEntity module, I input, SolveSuccess<O> success) {
-		Map<String, Object> convertedValue = Json.mapper().convertValue(success.output(), new TypeReference<>() {
-		});
-		if (input != null) convertedValue.putIfAbsent("input", Json.mapper().convertValue(input, Object.class));
+		// output and input are converted in one pass
+		List<Object> converted = StateCodec.encodeAll(success.output(), input);
+		@SuppressWarnings ("unchecked")
+		Map<String, Object> convertedValue = (Map<String, Object>)converted.getFirst();
+		if (input != null) convertedValue.putIfAbsent("input", converted.get(1));
 		convertedValue.forEach(module.getSolution()::put);
 		module.setSolved(success.solved());
 	}
@@ -99,7 +111,10 @@ public abstract class AbstractModuleSolver<I extends ModuleInput, O extends Modu
 		}
 	}
 
-	/** Replaces the module state with the serialized form of the given object (e.g. {@code {"stages": [...]}}). */
+	/**
+	 * Replaces the module state with the given object (stored as e.g. {@code {"stages": [...]}}). The object stays
+	 * attached to the module and is encoded once, when the state is persisted or read as a map.
+	 */
 	protected final <T> void storeTypedState(ModuleEntity module, T state) {
 		if (state != null) {
 			module.setState(state);
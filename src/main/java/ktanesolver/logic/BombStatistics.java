@@ -0,0 +1,152 @@
+package ktanesolver.logic;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+import ktanesolver.entity.BombEntity;
+import ktanesolver.entity.ModuleEntity;
+import ktanesolver.enums.ModuleType;
+
+/**
+ * Immutable module counts for one bomb: how many modules of each type it has and how many of those are solved. Solvers
+ * read these through {@link BombEntity#getStatistics()} instead of scanning {@link BombEntity#getModules()}; during a
+ * solve the service attaches a copy maintained by {@code BombStatisticsCache}, so the modules collection is never
+ * loaded just to be counted. Modules without a type count towards the totals as regular modules.
+ */
+public final class BombStatistics {
+
+	private final Map<ModuleType, Integer> modulesByType;
+	private final Map<ModuleType, Integer> solvedByType;
+	private final int untypedCount;
+	private final int untypedSolvedCount;
+	private final int moduleCount;
+	private final int solvedCount;
+	private final int needyCount;
+	private final int solvedNeedyCount;
+
+	private BombStatistics(Map<ModuleType, Integer> modulesByType, Map<ModuleType, Integer> solvedByType, int untypedCount,
+		int untypedSolvedCount) {
+		this.modulesByType = modulesByType;
+		this.solvedByType = solvedByType;
+		this.untypedCount = untypedCount;
+		this.untypedSolvedCount = untypedSolvedCount;
+		int modules = untypedCount;
+		int needy = 0;
+		for (Map.Entry<ModuleType, Integer> entry : modulesByType.entrySet()) {
+			modules += entry.getValue();
+			needy += entry.getKey().isNeedy() ? entry.getValue() : 0;
+		}
+		int solved = untypedSolvedCount;
+		int solvedNeedy = 0;
+		for (Map.Entry<ModuleType, Integer> entry : solvedByType.entrySet()) {
+			solved += entry.getValue();
+			solvedNeedy += entry.getKey().isNeedy() ? entry.getValue() : 0;
+		}
+		this.moduleCount = modules;
+		this.solvedCount = solved;
+		this.needyCount = needy;
+		this.solvedNeedyCount = solvedNeedy;
+	}
+
+	public static BombStatistics of(Collection<ModuleEntity> modules) {
+		Map<ModuleType, Integer> modulesByType = new EnumMap<>(ModuleType.class);
+		Map<ModuleType, Integer> solvedByType = new EnumMap<>(ModuleType.class);
+		int untyped = 0;
+		int untypedSolved = 0;
+		for (ModuleEntity module : modules) {
+			if (module.getType() == null) {
+				untyped++;
+				untypedSolved += module.isSolved() ? 1 : 0;
+				continue;
+			}
+			modulesByType.merge(module.getType(), 1, Integer::sum);
+			if (module.isSolved()) {
+				solvedByType.merge(module.getType(), 1, Integer::sum);
+			}
+		}
+		return new BombStatistics(modulesByType, solvedByType, untyped, untypedSolved);
+	}
+
+	public static BombStatistics ofCounts(Collection<ModuleTypeCount> counts) {
+		Map<ModuleType, Integer> modulesByType = new EnumMap<>(ModuleType.class);
+		Map<ModuleType, Integer> solvedByType = new EnumMap<>(ModuleType.class);
+		int untyped = 0;
+		int untypedSolved = 0;
+		for (ModuleTypeCount count : counts) {
+			if (count.type() == null) {
+				untyped += (int)count.modules();
+				untypedSolved += (int)count.solved();
+				continue;
+			}
+			modulesByType.put(count.type(), (int)count.modules());
+			if (count.solved() > 0) {
+				solvedByType.put(count.type(), (int)count.solved());
+			}
+		}
+		return new BombStatistics(modulesByType, solvedByType, untyped, untypedSolved);
+	}
+
+	/** A copy with one more (or one fewer) solved module of the given type. */
+	public BombStatistics withSolved(ModuleType type, boolean solved) {
+		Map<ModuleType, Integer> solvedByType = new EnumMap<>(ModuleType.class);
+		solvedByType.putAll(this.solvedByType);
+		int updated = Math.clamp(solvedCount(type) + (solved ? 1 : -1), 0, count(type));
+		if (updated == 0) {
+			solvedByType.remove(type);
+		}
+		else {
+			solvedByType.put(type, updated);
+		}
+		return new BombStatistics(modulesByType, solvedByType, untypedCount, untypedSolvedCount);
+	}
+
+	public int moduleCount() {
+		return moduleCount;
+	}
+
+	public int solvedCount() {
+		return solvedCount;
+	}
+
+	public int unsolvedCount() {
+		return moduleCount - solvedCount;
+	}
+
+	public int needyCount() {
+		return needyCount;
+	}
+
+	public boolean hasNeedy() {
+		return needyCount > 0;
+	}
+
+	/** Non-needy modules, the ones that have to be solved to defuse the bomb. */
+	public int regularCount() {
+		return moduleCount - needyCount;
+	}
+
+	public int solvedRegularCount() {
+		return solvedCount - solvedNeedyCount;
+	}
+
+	public int unsolvedRegularCount() {
+		return regularCount() - solvedRegularCount();
+	}
+
+	public int count(ModuleType type) {
+		return modulesByType.getOrDefault(type, 0);
+	}
+
+	public int solvedCount(ModuleType type) {
+		return solvedByType.getOrDefault(type, 0);
+	}
+
+	public boolean has(ModuleType type) {
+		return count(type) > 0;
+	}
+
+	public int distinctTypeCount() {
+		return modulesByType.size();
+	}
+}
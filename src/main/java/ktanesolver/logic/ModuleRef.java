@@ -0,0 +1,9 @@
+package ktanesolver.logic;
+
+import java.util.UUID;
+
+import ktanesolver.enums.ModuleType;
+
+/** A module's id and type, read without loading the entity; a row of the per-bomb module listing query. */
+public record ModuleRef(UUID id, ModuleType type) {
+}
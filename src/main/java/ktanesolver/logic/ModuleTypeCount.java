@@ -0,0 +1,7 @@
+package ktanesolver.logic;
+
+import ktanesolver.enums.ModuleType;
+
+/** Modules of one type on a bomb and how many of them are solved; a row of the per-bomb aggregate query. */
+public record ModuleTypeCount(ModuleType type, long modules, long solved) {
+}
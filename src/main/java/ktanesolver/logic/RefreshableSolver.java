@@ -0,0 +1,13 @@
+package ktanesolver.logic;
+
+import ktanesolver.annotation.RefreshOn;
+import ktanesolver.entity.BombEntity;
+import ktanesolver.entity.ModuleEntity;
+import ktanesolver.entity.RoundEntity;
+
+/** A solver whose stored solution is derived from other modules on the bomb; see {@link RefreshOn}. */
+public interface RefreshableSolver {
+
+	/** Recomputes the module's solution from the bomb's current state without changing the module's inputs. */
+	void refreshSolution(RoundEntity round, BombEntity bomb, ModuleEntity module);
+}
@@ -0,0 +1,72 @@
+package ktanesolver.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free log-linear histogram of nanosecond durations: four sub-buckets per power of two from 1 µs upwards,
+ * so any reported percentile is within roughly 19% of the true value.
+ */
+final class LatencyHistogram {
+
+	private static final int SUB_BUCKETS = 4;
+	private static final int MIN_SHIFT = 10; // 1024 ns
+	private static final int BUCKETS = (63 - MIN_SHIFT) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder totalNanos = new LongAdder();
+
+	void record(long nanos) {
+		long value = Math.max(0, nanos);
+		counts.incrementAndGet(bucketOf(value));
+		count.increment();
+		totalNanos.add(value);
+	}
+
+	long count() {
+		return count.sum();
+	}
+
+	double meanMicros() {
+		long samples = count.sum();
+		return samples == 0 ? 0 : totalNanos.sum() / 1_000.0 / samples;
+	}
+
+	/** Upper bound of the bucket holding the given quantile (0..1), in microseconds. */
+	double percentileMicros(double quantile) {
+		long samples = 0;
+		long[] snapshot = new long[BUCKETS];
+		for (int i = 0; i < BUCKETS; i++) {
+			snapshot[i] = counts.get(i);
+			samples += snapshot[i];
+		}
+		if (samples == 0) {
+			return 0;
+		}
+		long rank = (long)Math.ceil(quantile * samples);
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += snapshot[i];
+			if (seen >= rank) {
+				return upperBoundNanos(i) / 1_000.0;
+			}
+		}
+		return upperBoundNanos(BUCKETS - 1) / 1_000.0;
+	}
+
+	private static int bucketOf(long nanos) {
+		if (nanos < (1L << MIN_SHIFT)) {
+			return 0;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+		int sub = (int)((nanos >>> (exponent - 2)) & (SUB_BUCKETS - 1));
+		return Math.min(BUCKETS - 1, (exponent - MIN_SHIFT) * SUB_BUCKETS + sub);
+	}
+
+	private static long upperBoundNanos(int bucket) {
+		int exponent = bucket / SUB_BUCKETS + MIN_SHIFT;
+		int sub = bucket % SUB_BUCKETS;
+		return (1L << exponent) + ((long)(sub + 1) << (exponent - 2));
+	}
+}
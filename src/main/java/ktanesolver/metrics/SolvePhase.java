@@ -0,0 +1,15 @@
+package ktanesolver.metrics;
+
+/** Consecutive phases of a single {@code ModuleService.solveModule} call, in execution order. */
+public enum SolvePhase {
+	/** Loading the module, bomb and round entities. */
+	LOAD,
+	/** Converting the raw request map into the solver's input record. */
+	BIND,
+	/** {@code AbstractModuleSolver.doSolve}. */
+	SOLVE,
+	/** Converting the output into the module's solution map. */
+	SERIALIZE,
+	/** Writing the module back to the database. */
+	PERSIST
+}
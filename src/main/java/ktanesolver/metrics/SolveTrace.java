@@ -0,0 +1,85 @@
+package ktanesolver.metrics;
+
+import java.lang.management.ManagementFactory;
+
+import ktanesolver.enums.ModuleType;
+
+/**
+ * Thread-bound stopwatch for one solve call. {@link #mark(SolvePhase)} charges the time since the previous mark to the
+ * given phase, so callers only mark the end of each phase. Marks are no-ops when no trace is active, which keeps
+ * solvers usable from unit tests and benchmarks without a trace.
+ */
+public final class SolveTrace {
+
+	private static final ThreadLocal<SolveTrace> CURRENT = new ThreadLocal<>();
+	private static final com.sun.management.ThreadMXBean THREADS = allocationBean();
+
+	private final long[] phaseNanos = new long[SolvePhase.values().length];
+	private final long startNanos;
+	private final long startAllocatedBytes;
+	private long lastMarkNanos;
+	private ModuleType type;
+
+	private SolveTrace() {
+		this.startNanos = System.nanoTime();
+		this.lastMarkNanos = startNanos;
+		this.startAllocatedBytes = allocatedBytes();
+	}
+
+	/** Starts a trace on the current thread, replacing any trace left behind by a failed call. */
+	public static SolveTrace start() {
+		SolveTrace trace = new SolveTrace();
+		CURRENT.set(trace);
+		return trace;
+	}
+
+	public static void mark(SolvePhase phase) {
+		SolveTrace trace = CURRENT.get();
+		if (trace != null) {
+			trace.record(phase);
+		}
+	}
+
+	public void type(ModuleType type) {
+		this.type = type;
+	}
+
+	public ModuleType type() {
+		return type;
+	}
+
+	public long phaseNanos(SolvePhase phase) {
+		return phaseNanos[phase.ordinal()];
+	}
+
+	/** Detaches the trace from the thread and returns the bytes allocated since {@link #start()}, or -1 if unknown. */
+	public long finish() {
+		lastMarkNanos = System.nanoTime();
+		CURRENT.remove();
+		long allocated = allocatedBytes();
+		return allocated < 0 || startAllocatedBytes < 0 ? -1 : allocated - startAllocatedBytes;
+	}
+
+	public long totalNanos() {
+		return lastMarkNanos - startNanos;
+	}
+
+	private void record(SolvePhase phase) {
+		long now = System.nanoTime();
+		phaseNanos[phase.ordinal()] += now - lastMarkNanos;
+		lastMarkNanos = now;
+	}
+
+	// Virtual threads report -1 here; those calls are timed but excluded from the allocation average
+	private static long allocatedBytes() {
+		return THREADS != null ? THREADS.getCurrentThreadAllocatedBytes() : -1;
+	}
+
+	private static com.sun.management.ThreadMXBean allocationBean() {
+		if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean && bean.isThreadAllocatedMemorySupported()) {
+			bean.setThreadAllocatedMemoryEnabled(true);
+			return bean;
+		}
+		return null;
+	}
+}
@@ -0,0 +1,79 @@
+package ktanesolver.metrics;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import ktanesolver.dto.SolverMetricsDto;
+import ktanesolver.enums.ModuleType;
+
+/** Per-{@link ModuleType} latency and allocation statistics for the solve path, fed by finished {@link SolveTrace}s. */
+@Component
+public class SolverMetrics {
+
+	private final Map<ModuleType, TypeStats> stats = new ConcurrentHashMap<>();
+
+	public void record(SolveTrace trace, long allocatedBytes) {
+		if (trace.type() == null) {
+			return;
+		}
+		TypeStats typeStats = stats.computeIfAbsent(trace.type(), type -> new TypeStats());
+		typeStats.total.record(trace.totalNanos());
+		for (SolvePhase phase : SolvePhase.values()) {
+			typeStats.phases.get(phase).record(trace.phaseNanos(phase));
+		}
+		if (allocatedBytes >= 0) {
+			typeStats.allocatedBytes.add(allocatedBytes);
+			typeStats.allocationSamples.increment();
+		}
+	}
+
+	/** Snapshot of every type solved so far, slowest p99 first. */
+	public List<SolverMetricsDto> snapshot() {
+		return stats.entrySet().stream()
+			.map(entry -> entry.getValue().toDto(entry.getKey()))
+			.sorted(Comparator.comparingDouble((SolverMetricsDto dto) -> dto.total().p99Micros()).reversed())
+			.toList();
+	}
+
+	public void reset() {
+		stats.clear();
+	}
+
+	private static final class TypeStats {
+		private final LatencyHistogram total = new LatencyHistogram();
+		private final Map<SolvePhase, LatencyHistogram> phases = new EnumMap<>(SolvePhase.class);
+		private final LongAdder allocatedBytes = new LongAdder();
+		private final LongAdder allocationSamples = new LongAdder();
+
+		private TypeStats() {
+			for (SolvePhase phase : SolvePhase.values()) {
+				phases.put(phase, new LatencyHistogram());
+			}
+		}
+
+		private SolverMetricsDto toDto(ModuleType type) {
+			Map<SolvePhase, SolverMetricsDto.Latency> phaseLatencies = new EnumMap<>(SolvePhase.class);
+			phases.forEach((phase, histogram) -> phaseLatencies.put(phase, latency(histogram)));
+			long samples = allocationSamples.sum();
+			return new SolverMetricsDto(
+				type,
+				total.count(),
+				latency(total),
+				phaseLatencies,
+				samples == 0 ? null : allocatedBytes.sum() / samples);
+		}
+
+		private static SolverMetricsDto.Latency latency(LatencyHistogram histogram) {
+			return new SolverMetricsDto.Latency(
+				histogram.meanMicros(),
+				histogram.percentileMicros(0.50),
+				histogram.percentileMicros(0.99));
+		}
+	}
+}
@@ -34,7 +34,7 @@ public class AccumulationSolver extends AbstractModuleSolver<AccumulationInput,
 			if(observation==null||observation.backgroundColor()==null||observation.digitColors()==null||observation.digitColors().size()!=10||observation.digitColors().stream().anyMatch(java.util.Objects::isNull))
 				return failure("Enter the background and all ten digit colors for stage "+(stage+1));
 		}
-		int target=bomb.getBatteryCount()+bomb.getPortPlates().size()+bomb.getIndicators().size()+value(input.borderColor());
+		int target=bomb.getBatteryCount()+bomb.getEdgework().portPlateCount()+bomb.getEdgework().indicatorCount()+value(input.borderColor());
 		int priorKeyTotal=0;
 		List<Integer> answers=new ArrayList<>();
 		for(int stage=0;stage<input.stages().size();stage++){
@@ -84,7 +84,7 @@ public class AlgebraSolver extends AbstractModuleSolver<AlgebraInput, AlgebraOut
 
 	private static BigDecimal y(BombEntity bomb) {
 		int digitSum = BombEdgeworkUtils.getSerialDigitSum(bomb);
-		int value = bomb.getIndicators().size() - BombEdgeworkUtils.getTotalPortCount(bomb);
+		int value = bomb.getEdgework().indicatorCount() - BombEdgeworkUtils.getTotalPortCount(bomb);
 		if (bomb.getBatteryHolders() < 3) value -= 2;
 		if (bomb.hasPort(PortType.SERIAL)) value += 3;
 		if (bomb.isIndicatorUnlit("FRQ")) value -= 5;
@@ -94,7 +94,7 @@ public class AlgebraSolver extends AbstractModuleSolver<AlgebraInput, AlgebraOut
 
 	private static BigDecimal z(BombEntity bomb) {
 		int digitSum = BombEdgeworkUtils.getSerialDigitSum(bomb);
-		int value = bomb.getModules().size() + bomb.getAaBatteryCount() * bomb.getDBatteryCount();
+		int value = bomb.getStatistics().moduleCount() + bomb.getAaBatteryCount() * bomb.getDBatteryCount();
 		if (bomb.getBatteryHolders() == 0) value += 3;
 		if (bomb.hasPort(PortType.PARALLEL)) value -= 6;
 		if (bomb.isIndicatorLit("MSA")) value += 2;
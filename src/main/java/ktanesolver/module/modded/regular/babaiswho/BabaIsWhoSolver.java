@@ -61,10 +61,10 @@ public class BabaIsWhoSolver extends AbstractModuleSolver<BabaIsWhoInput, BabaIs
 		return switch (attribute) {
 			case YOU -> bomb.getBatteryCount() % 10;
 			case MOVE -> bomb.getLastDigit();
-			case DEFEAT -> bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum() % 10;
-			case PUSH -> bomb.getIndicators().size() % 10;
+			case DEFEAT -> bomb.getEdgework().totalPortCount() % 10;
+			case PUSH -> bomb.getEdgework().indicatorCount() % 10;
 			case WIN -> serial.length() > 3 && java.lang.Character.isLetter(serial.charAt(3)) ? (serial.charAt(3) - 'A' + 1) % 10 : 0;
-			case STOP -> bomb.getModules().size() % 10;
+			case STOP -> bomb.getStatistics().moduleCount() % 10;
 		};
 	}
 
@@ -1,2 +1,2 @@
 package ktanesolver.module.modded.regular.bases;import org.springframework.stereotype.Service;import ktanesolver.annotation.ModuleInfo;import ktanesolver.dto.ModuleCatalogDto;import ktanesolver.entity.*;import ktanesolver.enums.*;import ktanesolver.logic.*;
-@Service @ModuleInfo(type=ModuleType.BASES,id="bases",name="Bases",category=ModuleCatalogDto.ModuleCategory.MODDED_REGULAR,description="Determine three edgework-derived radices, evaluate the displayed operation, and convert the answer.",tags={"numbers","bases","arithmetic","keypad","edgework"})public class BasesSolver extends AbstractModuleSolver<BasesInput,BasesOutput>{@Override protected SolveResult<BasesOutput>doSolve(RoundEntity r,BombEntity b,ModuleEntity m,BasesInput i){if(i==null||i.first()==null||i.second()==null||i.operator()==null||!i.first().matches("[0-9]+")||!i.second().matches("[0-9]+"))return failure("Enter both displayed numbers and the operator");if(b.getSerialNumber()==null||b.getSerialNumber().chars().noneMatch(Character::isDigit))return failure("The serial number needs a digit");int lit=(int)b.getIndicators().values().stream().filter(Boolean.TRUE::equals).count(),unlit=(int)b.getIndicators().values().stream().filter(Boolean.FALSE::equals).count();int firstBase=base(lit+b.getLastDigit()+(b.hasPort(PortType.DVI)?3:0)),secondBase=base(unlit+firstDigit(b)+(b.hasPort(PortType.SERIAL)?6:0)),answerBase=base(b.getPortPlates().size()+(b.hasIndicator("IND")?2:0));Integer a=parse(i.first(),firstBase),c=parse(i.second(),secondBase);if(a==null||c==null)return failure("A displayed digit is not valid in its calculated base");if(i.operator()==BasesInput.Operator.DIVIDE&&(c==0||a%c!=0))return failure("The displayed division must have a whole-number result");int value=switch(i.operator()){case ADD->a+c;case SUBTRACT->Math.abs(a-c);case MULTIPLY->a*c;case DIVIDE->a/c;};return success(new BasesOutput(Integer.toString(value,answerBase),firstBase,secondBase,answerBase,a,c));}static int base(int n){return n==10?10:n%7+2;}private static int firstDigit(BombEntity b){return b.getSerialNumber().chars().filter(Character::isDigit).map(x->x-'0').findFirst().orElse(0);}private static Integer parse(String s,int radix){try{if(s.chars().anyMatch(x->x-'0'>=radix))return null;return Integer.parseInt(s,radix);}catch(NumberFormatException e){return null;}}}
+@Service @ModuleInfo(type=ModuleType.BASES,id="bases",name="Bases",category=ModuleCatalogDto.ModuleCategory.MODDED_REGULAR,description="Determine three edgework-derived radices, evaluate the displayed operation, and convert the answer.",tags={"numbers","bases","arithmetic","keypad","edgework"})public class BasesSolver extends AbstractModuleSolver<BasesInput,BasesOutput>{@Override protected SolveResult<BasesOutput>doSolve(RoundEntity r,BombEntity b,ModuleEntity m,BasesInput i){if(i==null||i.first()==null||i.second()==null||i.operator()==null||!i.first().matches("[0-9]+")||!i.second().matches("[0-9]+"))return failure("Enter both displayed numbers and the operator");if(b.getSerialNumber()==null||b.getSerialNumber().chars().noneMatch(Character::isDigit))return failure("The serial number needs a digit");int lit=b.getEdgework().litIndicatorCount(),unlit=b.getEdgework().explicitlyUnlitIndicatorCount();int firstBase=base(lit+b.getLastDigit()+(b.hasPort(PortType.DVI)?3:0)),secondBase=base(unlit+firstDigit(b)+(b.hasPort(PortType.SERIAL)?6:0)),answerBase=base(b.getEdgework().portPlateCount()+(b.hasIndicator("IND")?2:0));Integer a=parse(i.first(),firstBase),c=parse(i.second(),secondBase);if(a==null||c==null)return failure("A displayed digit is not valid in its calculated base");if(i.operator()==BasesInput.Operator.DIVIDE&&(c==0||a%c!=0))return failure("The displayed division must have a whole-number result");int value=switch(i.operator()){case ADD->a+c;case SUBTRACT->Math.abs(a-c);case MULTIPLY->a*c;case DIVIDE->a/c;};return success(new BasesOutput(Integer.toString(value,answerBase),firstBase,secondBase,answerBase,a,c));}static int base(int n){return n==10?10:n%7+2;}private static int firstDigit(BombEntity b){return b.getSerialNumber().chars().filter(Character::isDigit).map(x->x-'0').findFirst().orElse(0);}private static Integer parse(String s,int radix){try{if(s.chars().anyMatch(x->x-'0'>=radix))return null;return Integer.parseInt(s,radix);}catch(NumberFormatException e){return null;}}}
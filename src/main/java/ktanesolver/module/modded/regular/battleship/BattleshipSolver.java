@@ -91,9 +91,9 @@ public class BattleshipSolver extends AbstractModuleSolver<BattleshipInput, Batt
 		LinkedHashSet<String> result = new LinkedHashSet<>();
 		for(int i = 0; i < Math.min(columns.size(), rows.size()); i++) result.add(coordinate(columns.get(i), rows.get(i)));
 
-		int portCount = bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum();
+		int portCount = bomb.getEdgework().totalPortCount();
 		result.add(coordinate((portCount + SIZE - 1) % SIZE,
-			(bomb.getIndicators().size() + bomb.getBatteryCount() + SIZE - 1) % SIZE));
+			(bomb.getEdgework().indicatorCount() + bomb.getBatteryCount() + SIZE - 1) % SIZE));
 		return List.copyOf(result);
 	}
 
@@ -12,7 +12,6 @@ import ktanesolver.annotation.ModuleInfo;
 import ktanesolver.dto.ModuleCatalogDto;
 import ktanesolver.entity.BombEntity;
 import ktanesolver.entity.ModuleEntity;
-import ktanesolver.entity.PortPlateEntity;
 import ktanesolver.entity.RoundEntity;
 import ktanesolver.enums.ModuleType;
 import ktanesolver.enums.PortType;
@@ -99,7 +98,7 @@ public class BigCircleSolver extends AbstractModuleSolver<BigCircleInput, BigCir
 
 	private static int indicatorScore(BombEntity bomb) {
 		int score = 0;
-		for (Map.Entry<String, Boolean> indicator : bomb.getIndicators().entrySet()) {
+		for (Map.Entry<String, Boolean> indicator : bomb.getEdgework().indicators().entrySet()) {
 			String label = indicator.getKey().toUpperCase(Locale.ROOT);
 			boolean lit = Boolean.TRUE.equals(indicator.getValue());
 			score += switch (label) {
@@ -114,8 +113,7 @@ public class BigCircleSolver extends AbstractModuleSolver<BigCircleInput, BigCir
 
 	private static int portScore(BombEntity bomb) {
 		int score = 0;
-		for (PortPlateEntity plate : bomb.getPortPlates()) {
-			Set<PortType> ports = plate.getPorts();
+		for (Set<PortType> ports : bomb.getEdgework().portPlates()) {
 			if (ports.contains(PortType.PARALLEL)) score += ports.contains(PortType.SERIAL) ? -4 : 5;
 			if (ports.contains(PortType.DVI)) score += ports.contains(PortType.STEREO_RCA) ? 4 : -5;
 		}
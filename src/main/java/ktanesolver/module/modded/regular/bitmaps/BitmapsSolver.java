@@ -40,8 +40,8 @@ public class BitmapsSolver extends AbstractModuleSolver<BitmapsInput, BitmapsOut
 		int totalWhite = Arrays.stream(whites).sum();
 		int mostlyWhite = (int)Arrays.stream(whites).filter(count -> count > 8).count();
 		int mostlyBlack = (int)Arrays.stream(whites).filter(count -> count < 8).count();
-		int litIndicators = (int)bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
-		int unlitIndicators = (int)bomb.getIndicators().values().stream().filter(Boolean.FALSE::equals).count();
+		int litIndicators = bomb.getEdgework().litIndicatorCount();
+		int unlitIndicators = bomb.getEdgework().explicitlyUnlitIndicatorCount();
 
 		for (int offset = 0; offset < 10; offset++) {
 			int rule = (bomb.getLastDigit() + offset) % 10;
@@ -60,7 +60,7 @@ public class BitmapsSolver extends AbstractModuleSolver<BitmapsInput, BitmapsOut
 					yield quadrant < 0 ? null : 64 - totalWhite - (16 - whites[quadrant]);
 				}
 				case 7 -> mostlyBlack == unlitIndicators
-					? bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum() : null;
+					? bomb.getEdgework().totalPortCount() : null;
 				case 8 -> input.squareCenterX() == 0 ? null : input.squareCenterX();
 				case 9 -> mostlyWhite == mostlyBlack
 					? bomb.getSerialNumber().chars().filter(Character::isDigit).map(c -> c - '0').findFirst().orElse(0) : null;
@@ -36,7 +36,7 @@ public class BitwiseOperationsSolver extends AbstractModuleSolver<BitwiseOperati
 		String operator = input.operator().trim().toUpperCase(Locale.ROOT);
 		if (!operator.matches("AND|OR|XOR|NOT")) return failure("Operator must be AND, OR, XOR, or NOT");
 
-		int modules = bomb.getModules().size();
+		int modules = bomb.getStatistics().moduleCount();
 		int ports = BombEdgeworkUtils.getTotalPortCount(bomb);
 		long lit = BombEdgeworkUtils.getLitIndicatorCount(bomb);
 		long unlit = BombEdgeworkUtils.getUnlitIndicatorCount(bomb);
@@ -81,7 +81,7 @@ public class BlackHoleSolver extends AbstractModuleSolver<BlackHoleInput, BlackH
 		int enteredGlobally = progress.values().stream().mapToInt(Progress::entered).sum();
 		int codeLength = blackHoles.size() * 7;
 		if (enteredGlobally >= codeLength) return failure("The shared Black Hole code is already complete");
-		int portCount = bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum();
+		int portCount = bomb.getEdgework().totalPortCount();
 		int digit = calculateCode(serial, portCount, codeLength).get(enteredGlobally);
 
 		current = progress.get(module);
@@ -72,7 +72,7 @@ public class BlackjackSolver extends AbstractModuleSolver<BlackjackInput, Blackj
 				: serial.chars().anyMatch(c -> "AEIOU".indexOf(c) >= 0) ? new Decision("Five of Diamonds", 5, 1)
 				: serial.chars().filter(Character::isDigit).map(c -> c - '0').sum() > 7 ? new Decision("Seven of Spades", 7, 250)
 				: new Decision("Two of Clubs", 2, 10);
-			case KING_OF_DIAMONDS -> bomb.getIndicators().keySet().stream().map(String::toUpperCase)
+			case KING_OF_DIAMONDS -> bomb.getEdgework().indicators().keySet().stream().map(String::toUpperCase)
 				.anyMatch(label -> label.chars().anyMatch(c -> "GAMBLER".indexOf(c) >= 0)) ? new Decision("Queen of Hearts", 10, 250)
 				: bomb.getDBatteryCount() > 1 ? new Decision("Nine of Spades", 9, 100)
 				: bomb.hasPort(PortType.SERIAL) ? new Decision("Three of Diamonds", 3, 10)
@@ -98,7 +98,7 @@ public class BlackjackSolver extends AbstractModuleSolver<BlackjackInput, Blackj
 	}
 
 	private static int totalPorts(BombEntity bomb) {
-		return bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum();
+		return bomb.getEdgework().totalPortCount();
 	}
 
 	static record Decision(String card, int value, int bet) {}
@@ -1,8 +1,7 @@
 package ktanesolver.module.modded.regular.blindmaze;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -18,6 +17,8 @@ import ktanesolver.logic.AbstractModuleSolver;
 import ktanesolver.logic.SolveResult;
 import ktanesolver.module.modded.regular.blindmaze.BlindMazeInput.ButtonColor;
 import ktanesolver.module.modded.regular.blindmaze.BlindMazeOutput.Direction;
+import ktanesolver.module.shared.graph.AdjacencyGraph;
+import ktanesolver.module.shared.graph.RouteTable;
 
 @Service
 @ModuleInfo(
@@ -48,6 +49,10 @@ public class BlindMazeSolver extends AbstractModuleSolver<BlindMazeInput, BlindM
 		maze("UL,UD,GR,UL,URD,LR,UL,D,D,UR,LR,LD,URD,ULD,R,LD,URD,UL,UR,LR,DLU,UD,DR,LD,RD"),
 		maze("ULR,LUD,GR,LU,UR,LD,UR,LR,LR,LRD,LUR,DL,D,,DR,L,UR,UL,,UDR,DLR,DL,DR,D,URD")
 	};
+	private static final int SIZE = 5;
+	// the exit is north of the top middle cell
+	private static final int EXIT_CELL = 2;
+	private static final RouteTable[] ROUTES = Arrays.stream(MAZES).map(maze -> RouteTable.of("Blind Maze", graph(maze))).toArray(RouteTable[]::new);
 
 	@Override
 	protected SolveResult<BlindMazeOutput> doSolve(RoundEntity round, BombEntity bomb, ModuleEntity module, BlindMazeInput input) {
@@ -61,7 +66,7 @@ public class BlindMazeSolver extends AbstractModuleSolver<BlindMazeInput, BlindM
 		int mazeModules = (int) bomb.getModules().stream()
 			.filter(candidate -> candidate.getType() != ModuleType.BLIND_MAZE && candidate.getType().name().contains("MAZE"))
 			.count();
-		int portTypes = (int) bomb.getPortPlates().stream().flatMap(plate -> plate.getPorts().stream()).distinct().count();
+		int portTypes = bomb.getEdgework().distinctPortTypeCount();
 
 		int rule;
 		int rotation;
@@ -77,8 +82,8 @@ public class BlindMazeSolver extends AbstractModuleSolver<BlindMazeInput, BlindM
 		int column = (value(0, input.north()) + value(2, input.south()) - 1) % 5;
 		int row = (value(1, input.east()) + value(3, input.west()) - 1) % 5;
 		int[] canonicalStart = rotate(row, column, calculateBeforeRotation ? 0 : (4 - rotation) % 4);
-		int mazeNumber = (bomb.getLastDigit() + (int) bomb.getModules().stream().filter(ModuleEntity::isSolved).count()) % 10;
-		List<Direction> moves = path(MAZES[mazeNumber], canonicalStart[0], canonicalStart[1]).stream()
+		int mazeNumber = (bomb.getLastDigit() + bomb.getStatistics().solvedCount()) % 10;
+		List<Direction> moves = path(mazeNumber, canonicalStart[0], canonicalStart[1]).stream()
 			.map(direction -> DIRECTIONS[(direction.ordinal() + rotation) % 4])
 			.toList();
 		int[] displayedStart = rotate(canonicalStart[0], canonicalStart[1], rotation);
@@ -112,38 +117,29 @@ public class BlindMazeSolver extends AbstractModuleSolver<BlindMazeInput, BlindM
 		};
 	}
 
-	private static List<Direction> path(String[] maze, int startRow, int startColumn) {
-		record Cell(int row, int column) {}
-		Cell start = new Cell(startRow, startColumn);
-		Cell target = new Cell(0, 2);
-		ArrayDeque<Cell> queue = new ArrayDeque<>();
-		Map<Cell, Cell> previous = new HashMap<>();
-		Map<Cell, Direction> move = new HashMap<>();
-		queue.add(start);
-		previous.put(start, null);
-
-		while (!queue.isEmpty()) {
-			Cell current = queue.removeFirst();
-			if (current.equals(target)) break;
-			for (Direction direction : DIRECTIONS) {
-				int nextRow = current.row() + ROW_DELTA[direction.ordinal()];
-				int nextColumn = current.column() + COLUMN_DELTA[direction.ordinal()];
-				Cell next = new Cell(nextRow, nextColumn);
-				if (nextRow < 0 || nextRow >= 5 || nextColumn < 0 || nextColumn >= 5
-					|| maze[current.row() * 5 + current.column()].indexOf(WALLS[direction.ordinal()]) >= 0
-					|| previous.containsKey(next)) continue;
-				previous.put(next, current);
-				move.put(next, direction);
-				queue.addLast(next);
-			}
-		}
-
+	private static List<Direction> path(int maze, int startRow, int startColumn) {
 		List<Direction> result = new ArrayList<>();
-		for (Cell current = target; !current.equals(start); current = previous.get(current)) result.add(0, move.get(current));
+		for (int direction : ROUTES[maze].moves(startRow * SIZE + startColumn, EXIT_CELL)) result.add(DIRECTIONS[direction]);
 		result.add(Direction.NORTH);
 		return result;
 	}
 
+	private static AdjacencyGraph graph(String[] maze) {
+		AdjacencyGraph.Builder graph = AdjacencyGraph.builder(SIZE * SIZE);
+		for (int row = 0; row < SIZE; row++) {
+			for (int column = 0; column < SIZE; column++) {
+				for (Direction direction : DIRECTIONS) {
+					int nextRow = row + ROW_DELTA[direction.ordinal()];
+					int nextColumn = column + COLUMN_DELTA[direction.ordinal()];
+					if (nextRow < 0 || nextRow >= SIZE || nextColumn < 0 || nextColumn >= SIZE
+						|| maze[row * SIZE + column].indexOf(WALLS[direction.ordinal()]) >= 0) continue;
+					graph.edge(row * SIZE + column, nextRow * SIZE + nextColumn, direction.ordinal());
+				}
+			}
+		}
+		return graph.build();
+	}
+
 	private static String[] maze(String cells) {
 		return cells.split(",", -1);
 	}
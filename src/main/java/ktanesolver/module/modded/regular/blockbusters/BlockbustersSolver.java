@@ -2,5 +2,5 @@ package ktanesolver.module.modded.regular.blockbusters;import java.util.*;import
 @Service@ModuleInfo(type=ModuleType.BLOCKBUSTERS,id="blockbusters",name="Blockbusters",category=ModuleCatalogDto.ModuleCategory.MODDED_REGULAR,description="Follow the unique safe edgework letter across the staggered hex grid.",tags={"letters","hex-grid","path","edgework"})
 public class BlockbustersSolver extends AbstractModuleSolver<BlockbustersInput,BlockbustersOutput>{private static final String ALPHABET="ABCDEFGHIJKLMNOPQRSTUVWY";@Override protected SolveResult<BlockbustersOutput>doSolve(RoundEntity round,BombEntity bomb,ModuleEntity module,BlockbustersInput input){if(input==null||input.columns()==null||input.columns().size()!=5)return failure("Enter five grid columns");int[]sizes={4,5,4,5,4};List<String>columns=new ArrayList<>();for(int c=0;c<5;c++){String value=input.columns().get(c)==null?"":input.columns().get(c).replaceAll("\\s","").toUpperCase(Locale.ROOT);if(value.length()!=sizes[c]||!value.chars().allMatch(ch->ALPHABET.indexOf(ch)>=0||ch=='-'))return failure("Columns must have lengths 4, 5, 4, 5, 4 and use A–W/Y or - for taken tiles");columns.add(value);}List<String>path=input.path()==null?List.of():input.path().stream().map(s->s.toUpperCase(Locale.ROOT)).toList();if(path.stream().distinct().count()!=path.size()||path.stream().anyMatch(p->!validCoordinate(p))||(!path.isEmpty()&&path.getFirst().charAt(0)!='A'))return failure("Path must start in column A and contain distinct valid tiles");for(int i=1;i<path.size();i++)if(!neighbors(path.get(i-1)).contains(path.get(i)))return failure("Each path tile must be a legal forward/vertical neighbor");Set<String>candidates=path.isEmpty()?new LinkedHashSet<>(List.of("A1","A2","A3","A4")):neighbors(path.getLast());candidates.removeAll(path);Set<Character>legal=legalLetters(bomb);List<String>safe=candidates.stream().filter(p->{char ch=columns.get(p.charAt(0)-'A').charAt(p.charAt(1)-'1');return legal.contains(ch);}).toList();if(safe.size()!=1)return failure("Expected exactly one safe adjacent tile; verify the current shuffled letters and path");String coordinate=safe.getFirst();char letter=columns.get(coordinate.charAt(0)-'A').charAt(coordinate.charAt(1)-'1');List<String>next=new ArrayList<>(path);next.add(coordinate);if(path.isEmpty())storeState(module,"blockbustersInitialLetters",columns.getFirst().chars().mapToObj(c->String.valueOf((char)c)).toList());return success(new BlockbustersOutput(coordinate,String.valueOf(letter),List.copyOf(next),legal.stream().map(String::valueOf).sorted().toList()),coordinate.charAt(0)=='E');}
 	static Set<String>neighbors(String coordinate){int c=coordinate.charAt(0)-'A',r=coordinate.charAt(1)-'1',rows=c%2==0?4:5;Set<String>out=new LinkedHashSet<>();if(r>0)out.add(coord(c,r-1));if(r+1<rows)out.add(coord(c,r+1));if(c<4){if(c%2==0){out.add(coord(c+1,r));out.add(coord(c+1,r+1));}else{if(r>0)out.add(coord(c+1,r-1));if(r<4)out.add(coord(c+1,r));}}return out;}
-	static Set<Character>legalLetters(BombEntity b){Set<Character>s=new LinkedHashSet<>();String serial=b.getSerialNumber()==null?"":b.getSerialNumber().toUpperCase(Locale.ROOT);long lit=b.getIndicators().values().stream().filter(Boolean.TRUE::equals).count(),unlit=b.getIndicators().values().stream().filter(Boolean.FALSE::equals).count();int bat=b.getBatteryCount(),d=b.getDBatteryCount(),aa=bat-d,plates=b.getPortPlates().size(),holders=b.getBatteryHolders(),ports=b.getPortPlates().stream().mapToInt(p->p.getPorts().size()).sum();boolean[]v={unlit>bat,count(b,PortType.RJ45)>2,count(b,PortType.STEREO_RCA)==0,holders==3,b.isIndicatorLit("FRK"),count(b,PortType.PS2)>0,plates<2,d==3,b.serialHasVowel(),b.getPortPlates().stream().anyMatch(p->p.getPorts().contains(PortType.PARALLEL)&&p.getPorts().contains(PortType.SERIAL)),b.isIndicatorUnlit("CAR"),plates+holders<4,bat==5,b.isLastDigitOdd(),count(b,PortType.DVI)>d,b.isIndicatorLit("BOB"),!b.serialHasVowel(),aa==4,serial.chars().filter(Character::isLetter).count()<plates,plates>1,serial.chars().filter(Character::isDigit).map(c->c-'0').sum()>17,b.isIndicatorUnlit("IND"),lit>unlit,serial.chars().filter(Character::isDigit).count()>lit};for(int i=0;i<v.length;i++)if(v[i])s.add(ALPHABET.charAt(i));return s;}
-	private static int count(BombEntity b,PortType type){return(int)b.getPortPlates().stream().filter(p->p.getPorts().contains(type)).count();}private static String coord(int c,int r){return""+(char)('A'+c)+(r+1);}private static boolean validCoordinate(String p){if(p==null||!p.matches("[A-E][1-5]"))return false;int c=p.charAt(0)-'A',r=p.charAt(1)-'1';return r<(c%2==0?4:5);}}
+	static Set<Character>legalLetters(BombEntity b){Set<Character>s=new LinkedHashSet<>();String serial=b.getSerialNumber()==null?"":b.getSerialNumber().toUpperCase(Locale.ROOT);long lit=b.getEdgework().litIndicatorCount(),unlit=b.getEdgework().explicitlyUnlitIndicatorCount();int bat=b.getBatteryCount(),d=b.getDBatteryCount(),aa=bat-d,plates=b.getEdgework().portPlateCount(),holders=b.getBatteryHolders(),ports=b.getEdgework().totalPortCount();boolean[]v={unlit>bat,count(b,PortType.RJ45)>2,count(b,PortType.STEREO_RCA)==0,holders==3,b.isIndicatorLit("FRK"),count(b,PortType.PS2)>0,plates<2,d==3,b.serialHasVowel(),b.getEdgework().portPlates().stream().anyMatch(p->p.contains(PortType.PARALLEL)&&p.contains(PortType.SERIAL)),b.isIndicatorUnlit("CAR"),plates+holders<4,bat==5,b.isLastDigitOdd(),count(b,PortType.DVI)>d,b.isIndicatorLit("BOB"),!b.serialHasVowel(),aa==4,serial.chars().filter(Character::isLetter).count()<plates,plates>1,serial.chars().filter(Character::isDigit).map(c->c-'0').sum()>17,b.isIndicatorUnlit("IND"),lit>unlit,serial.chars().filter(Character::isDigit).count()>lit};for(int i=0;i<v.length;i++)if(v[i])s.add(ALPHABET.charAt(i));return s;}
+	private static int count(BombEntity b,PortType type){return b.getEdgework().portPlatesWith(type);}private static String coord(int c,int r){return""+(char)('A'+c)+(r+1);}private static boolean validCoordinate(String p){if(p==null||!p.matches("[A-E][1-5]"))return false;int c=p.charAt(0)-'A',r=p.charAt(1)-'1';return r<(c%2==0?4:5);}}
@@ -57,7 +57,7 @@ public class BlueArrowsSolver extends AbstractModuleSolver<BlueArrowsInput, Blue
         Work work = new Work(shift(ALPHABET, bomb.getLastDigit()));
         apply(10, work, bomb, assigned);
         boolean bobException = bomb.isIndicatorLit("BOB") && bomb.getBatteryCount() == 0
-            && bomb.getPortPlates().isEmpty() && STANDARD_INDICATORS.stream().noneMatch(bomb::isIndicatorUnlit)
+            && bomb.getEdgework().portPlateCount() == 0 && STANDARD_INDICATORS.stream().noneMatch(bomb::isIndicatorUnlit)
             && bomb.serialHasVowel();
         if (bobException) work.priority = ALPHABET;
         else {
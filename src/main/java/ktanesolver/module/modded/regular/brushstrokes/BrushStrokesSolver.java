@@ -61,9 +61,9 @@ public class BrushStrokesSolver extends AbstractModuleSolver<BrushStrokesInput,
     static int keyNumber(BombEntity bomb, KeyColor color, Integer solvableModuleCount) {
         String serial = bomb.getSerialNumber().toUpperCase(Locale.ROOT);
         int[] digits = serial.chars().filter(Character::isDigit).map(c -> c - '0').toArray();
-        int batteries = bomb.getBatteryCount(), indicatorCount = bomb.getIndicators().size();
-        int lit = (int) bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
-        int ports = bomb.getPortPlates().stream().mapToInt(p -> p.getPorts().size()).sum();
+        int batteries = bomb.getBatteryCount(), indicatorCount = bomb.getEdgework().indicatorCount();
+        int lit = bomb.getEdgework().litIndicatorCount();
+        int ports = bomb.getEdgework().totalPortCount();
         return switch (color) {
             case RED -> {
                 int n = alpha(firstLetter(serial)) + digits[digits.length - 1] * batteries;
@@ -100,7 +100,7 @@ public class BrushStrokesSolver extends AbstractModuleSolver<BrushStrokesInput,
         return lit > indicators - lit ? 69 : 3;
     }
     private static int cooking(BombEntity bomb, int batteries, int indicators, int ports) {
-        int meal = Math.floorMod(bomb.getBatteryHolders() - indicators + batteries * ports - bomb.getPortPlates().size() - 1, 5);
+        int meal = Math.floorMod(bomb.getBatteryHolders() - indicators + batteries * ports - bomb.getEdgework().portPlateCount() - 1, 5);
         return new int[]{250, 160, 200, 180, 180}[meal];
     }
     private static int fastMath(BombEntity bomb, String serial, int batteries) {
@@ -120,7 +120,7 @@ public class BrushStrokesSolver extends AbstractModuleSolver<BrushStrokesInput,
     private static int moduleHomework(BombEntity bomb, String serial, int[] digits) {
         int n = digits[0];
         if (containsAny(serial, "SCHOOL")) n += 3;
-        if (bomb.getIndicators().keySet().stream().anyMatch(i -> containsAny(i, "STUDENT"))) n += 2;
+        if (bomb.getEdgework().indicators().keySet().stream().anyMatch(i -> containsAny(i, "STUDENT"))) n += 2;
         if (bomb.hasPort(PortType.PARALLEL)) n += 2;
         if (bomb.hasIndicator("FRK") || bomb.hasIndicator("NSA")) n += 2;
         if (containsAny(serial, "AEIOU")) n += 5;
@@ -128,10 +128,10 @@ public class BrushStrokesSolver extends AbstractModuleSolver<BrushStrokesInput,
         return bomb.isIndicatorLit("BOB") ? 1 : n;
     }
     private static int matchingIndicators(BombEntity bomb, String serial, boolean lit) {
-        return (int) bomb.getIndicators().entrySet().stream().filter(e -> Boolean.valueOf(lit).equals(e.getValue()))
+        return (int) bomb.getEdgework().indicators().entrySet().stream().filter(e -> Boolean.valueOf(lit).equals(e.getValue()))
             .filter(e -> e.getKey().chars().anyMatch(c -> serial.indexOf(c) >= 0)).count();
     }
-    private static int distinctPorts(BombEntity bomb) { return (int) bomb.getPortPlates().stream().flatMap(p -> p.getPorts().stream()).distinct().count(); }
+    private static int distinctPorts(BombEntity bomb) { return bomb.getEdgework().distinctPortTypeCount(); }
     private static int base16ish(char c) { return Character.isDigit(c) ? c - '0' : alpha(c) % 16; }
     private static char firstLetter(String value) { return (char) value.chars().filter(Character::isLetter).findFirst().orElseThrow(); }
     private static int alpha(int c) { return c - 'A' + 1; }
@@ -37,7 +37,7 @@ public class BurglarAlarmSolver extends AbstractModuleSolver<BurglarAlarmInput,
 		List<Integer> digits = input.moduleNumber().chars().map(c -> c - '0').boxed().toList();
 		int batteries = bomb.getBatteryCount();
 		int ports = BombEdgeworkUtils.getTotalPortCount(bomb);
-		int indicators = bomb.getIndicators().size();
+		int indicators = bomb.getEdgework().indicatorCount();
 		int solved = BombEdgeworkUtils.countSolvedModules(bomb);
 		long lit = BombEdgeworkUtils.getLitIndicatorCount(bomb);
 		long unlit = BombEdgeworkUtils.getUnlitIndicatorCount(bomb);
@@ -56,9 +56,9 @@ public class BurglarAlarmSolver extends AbstractModuleSolver<BurglarAlarmInput,
 					? (digits.get(2) % 2 == 0 ? 8 : 4)
 					: (bomb.hasPort(PortType.RJ45) ? 9 : 3);
 				case 3 -> digits.stream().mapToInt(Integer::intValue).sum() % 2 == 1
-					? (bomb.getPortPlates().size() > indicators ? 7 : 3)
+					? (bomb.getEdgework().portPlateCount() > indicators ? 7 : 3)
 					: (bomb.getDBatteryCount() > bomb.getAaBatteryCount() ? 7 : 2);
-				case 4 -> solved > batteries * bomb.getPortPlates().size()
+				case 4 -> solved > batteries * bomb.getEdgework().portPlateCount()
 					? (ports % 2 == 0 ? 9 : 3)
 					: (ports > indicators ? 7 : 8);
 				case 5 -> bomb.hasPort(PortType.PARALLEL)
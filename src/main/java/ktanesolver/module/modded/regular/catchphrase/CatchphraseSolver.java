@@ -1,6 +1,6 @@
 package ktanesolver.module.modded.regular.catchphrase;import java.util.*;import org.springframework.stereotype.Service;import ktanesolver.annotation.ModuleInfo;import ktanesolver.dto.ModuleCatalogDto;import ktanesolver.entity.*;import ktanesolver.enums.ModuleType;import ktanesolver.logic.*;
 @Service@ModuleInfo(type=ModuleType.CATCHPHRASE,id="catchphrase",name="Catchphrase",category=ModuleCatalogDto.ModuleCategory.MODDED_REGULAR,description="Determine the timed panel order and multiply the five hidden numbers.",tags={"panels","colors","timer","numbers"})
 public class CatchphraseSolver extends AbstractModuleSolver<CatchphraseInput,CatchphraseOutput>{static final Set<String>COLORS=Set.of("RED","GREEN","BLUE","ORANGE","PURPLE","YELLOW");static final int[][]TIMES={{5,1,3,7},{2,8,6,4},{0,9,5,2},{9,3,4,8},{6,2,7,5},{1,5,2,9},{8,7,1,3},{4,0,8,6},{3,4,0,2},{7,6,9,1}};static final String[]POS={"TL","TR","BL","BR"};
-	@Override protected SolveResult<CatchphraseOutput>doSolve(RoundEntity round,BombEntity bomb,ModuleEntity module,CatchphraseInput input){if(input==null||input.panelColors()==null||input.panelColors().size()!=4||input.numbers()==null||input.numbers().size()!=5)return failure("Enter four panel colors and five numbers");List<String>colors=input.panelColors().stream().map(x->x==null?"":x.trim().toUpperCase(Locale.ROOT)).toList();if(colors.stream().anyMatch(x->!COLORS.contains(x)))return failure("Panel colors must be red, green, blue, orange, purple, or yellow");if(input.numbers().stream().anyMatch(x->x==null||x<2||x>9))return failure("Each hidden number must be from 2 to 9");String serial=bomb.getSerialNumber()==null?"":bomb.getSerialNumber().toUpperCase(Locale.ROOT);if(!serial.matches("[A-Z0-9]{6}"))return failure("Bomb serial must contain six letters/digits");int row=Math.floorMod(serial.chars().filter(Character::isLetter).map(c->(c-'A'+1)%10).sum()+(int)bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count(),10);List<Integer>order=panelOrder(colors,bomb);List<CatchphraseOutput.Press>presses=new ArrayList<>();for(int i=0;i<4;i++)presses.add(new CatchphraseOutput.Press(order.get(i)+1,TIMES[row][i]));int product=input.numbers().stream().reduce(1,(a,b)->a*b);storeState(module,"catchphrasePanelColors",colors.stream().map(CatchphraseSolver::title).toList());return success(new CatchphraseOutput(List.copyOf(presses),product,row));}
-	static List<Integer>panelOrder(List<String>colors,BombEntity bomb){List<Integer>left=new ArrayList<>(List.of(0,1,2,3)),order=new ArrayList<>();int first;if(new HashSet<>(colors).size()==4)first=find(left,colors,"RED",0);else if(bomb.getPortPlates().stream().anyMatch(p->p.getPorts().isEmpty()))first=find(left,colors,"BLUE",3);else if(colors.contains("GREEN"))first=find(left,colors,"PURPLE",2);else if(bomb.getBatteryCount()>4)first=find(left,colors,"GREEN",1);else{first=find(left,colors,"YELLOW",-1);if(first<0)first=find(left,colors,"ORANGE",0);}take(left,order,first);String firstColor=colors.get(first),firstPos=POS[first];int second;if(firstColor.equals("RED")||firstColor.equals("GREEN")){second=find(left,colors,"BLUE",1);if(second<0)second=left.contains(3)?3:-1;}else if(firstPos.equals("TL"))second=find(left,colors,"ORANGE",2);else if(firstColor.equals("PURPLE")||firstPos.equals("BR")){second=find(left,colors,"YELLOW",1);if(second<0)second=left.contains(0)?0:-1;}else{second=find(left,colors,"GREEN",-1);if(second<0)second=find(left,colors,"RED",-1);if(second<0)second=left.contains(3)?3:0;}take(left,order,second);int a=left.get(0),b=left.get(1),third;if(top(a)&&top(b)&&colors.get(a).equals(colors.get(b)))third=0;else if(left(a)&&left(b)&&!colors.get(a).equals(colors.get(b)))third=2;else if(bottom(a)&&bottom(b))third=3;else if(right(a)&&right(b))third=1;else third=priority(left,colors);take(left,order,third);order.add(left.getFirst());return List.copyOf(order);}
+	@Override protected SolveResult<CatchphraseOutput>doSolve(RoundEntity round,BombEntity bomb,ModuleEntity module,CatchphraseInput input){if(input==null||input.panelColors()==null||input.panelColors().size()!=4||input.numbers()==null||input.numbers().size()!=5)return failure("Enter four panel colors and five numbers");List<String>colors=input.panelColors().stream().map(x->x==null?"":x.trim().toUpperCase(Locale.ROOT)).toList();if(colors.stream().anyMatch(x->!COLORS.contains(x)))return failure("Panel colors must be red, green, blue, orange, purple, or yellow");if(input.numbers().stream().anyMatch(x->x==null||x<2||x>9))return failure("Each hidden number must be from 2 to 9");String serial=bomb.getSerialNumber()==null?"":bomb.getSerialNumber().toUpperCase(Locale.ROOT);if(!serial.matches("[A-Z0-9]{6}"))return failure("Bomb serial must contain six letters/digits");int row=Math.floorMod(serial.chars().filter(Character::isLetter).map(c->(c-'A'+1)%10).sum()+bomb.getEdgework().litIndicatorCount(),10);List<Integer>order=panelOrder(colors,bomb);List<CatchphraseOutput.Press>presses=new ArrayList<>();for(int i=0;i<4;i++)presses.add(new CatchphraseOutput.Press(order.get(i)+1,TIMES[row][i]));int product=input.numbers().stream().reduce(1,(a,b)->a*b);storeState(module,"catchphrasePanelColors",colors.stream().map(CatchphraseSolver::title).toList());return success(new CatchphraseOutput(List.copyOf(presses),product,row));}
+	static List<Integer>panelOrder(List<String>colors,BombEntity bomb){List<Integer>left=new ArrayList<>(List.of(0,1,2,3)),order=new ArrayList<>();int first;if(new HashSet<>(colors).size()==4)first=find(left,colors,"RED",0);else if(bomb.getEdgework().hasEmptyPortPlate())first=find(left,colors,"BLUE",3);else if(colors.contains("GREEN"))first=find(left,colors,"PURPLE",2);else if(bomb.getBatteryCount()>4)first=find(left,colors,"GREEN",1);else{first=find(left,colors,"YELLOW",-1);if(first<0)first=find(left,colors,"ORANGE",0);}take(left,order,first);String firstColor=colors.get(first),firstPos=POS[first];int second;if(firstColor.equals("RED")||firstColor.equals("GREEN")){second=find(left,colors,"BLUE",1);if(second<0)second=left.contains(3)?3:-1;}else if(firstPos.equals("TL"))second=find(left,colors,"ORANGE",2);else if(firstColor.equals("PURPLE")||firstPos.equals("BR")){second=find(left,colors,"YELLOW",1);if(second<0)second=left.contains(0)?0:-1;}else{second=find(left,colors,"GREEN",-1);if(second<0)second=find(left,colors,"RED",-1);if(second<0)second=left.contains(3)?3:0;}take(left,order,second);int a=left.get(0),b=left.get(1),third;if(top(a)&&top(b)&&colors.get(a).equals(colors.get(b)))third=0;else if(left(a)&&left(b)&&!colors.get(a).equals(colors.get(b)))third=2;else if(bottom(a)&&bottom(b))third=3;else if(right(a)&&right(b))third=1;else third=priority(left,colors);take(left,order,third);order.add(left.getFirst());return List.copyOf(order);}
 	private static int find(List<Integer>left,List<String>colors,String color,int fallback){for(int i:left)if(colors.get(i).equals(color))return i;return left.contains(fallback)?fallback:-1;}private static void take(List<Integer>left,List<Integer>order,int value){if(value<0||!left.remove(Integer.valueOf(value)))throw new IllegalStateException("No valid panel");order.add(value);}private static int priority(List<Integer>left,List<String>colors){for(Object target:List.of("RED",0,"BLUE",2,"GREEN",3,"ORANGE",1,"YELLOW","PURPLE"))for(int i:left)if(target instanceof String color?colors.get(i).equals(color):i==(int)target)return i;throw new IllegalStateException();}private static boolean top(int i){return i<2;}private static boolean bottom(int i){return i>1;}private static boolean left(int i){return i%2==0;}private static boolean right(int i){return i%2==1;}private static String title(String s){return s.charAt(0)+s.substring(1).toLowerCase(Locale.ROOT);}}
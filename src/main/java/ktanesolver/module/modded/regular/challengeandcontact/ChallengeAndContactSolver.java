@@ -69,10 +69,10 @@ public class ChallengeAndContactSolver extends AbstractModuleSolver<ChallengeAnd
             return failure("The saved streak does not match this stage; restart at stage 1 after a strike or reset");
         }
         displayed.add(shown);
-        boolean plain = Boolean.TRUE.equals(bomb.getIndicators().get("BOB"))
+        boolean plain = bomb.isIndicatorLit("BOB")
             && bomb.getAaBatteryCount() + bomb.getDBatteryCount() == 0;
-        int count = input.stage() == 1 ? bomb.getModules().size()
-            : (int) bomb.getModules().stream().filter(ModuleEntity::isSolved).count();
+        int count = input.stage() == 1 ? bomb.getStatistics().moduleCount()
+            : bomb.getStatistics().solvedCount();
         char decoded = plain ? shown.charAt(0) : count % 2 == 0 ? rot13(shown.charAt(0)) : atbash(shown.charAt(0));
         prefix += decoded;
         String finalPrefix = prefix;
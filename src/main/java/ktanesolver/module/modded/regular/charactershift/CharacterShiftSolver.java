@@ -61,34 +61,34 @@ public class CharacterShiftSolver extends AbstractModuleSolver<CharacterShiftInp
 	}
 
 	static char shift(BombEntity bomb, int digit, char letter) {
-		int portCount = bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum();
-		int lit = (int) bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
-		int unlit = bomb.getIndicators().size() - lit;
+		int portCount = bomb.getEdgework().totalPortCount();
+		int lit = bomb.getEdgework().litIndicatorCount();
+		int unlit = bomb.getEdgework().indicatorCount() - lit;
 		int delta = switch (digit) {
 			case 0 -> 3;
 			case 1 -> x(bomb);
 			case 2 -> -y(bomb);
-			case 3 -> y(bomb) - bomb.getPortPlates().size();
+			case 3 -> y(bomb) - bomb.getEdgework().portPlateCount();
 			case 4 -> bomb.getLastDigit();
 			case 5 -> -bomb.getBatteryHolders() + x(bomb) * 2;
 			case 6 -> lit + y(bomb) - unlit;
 			case 7 -> bomb.isIndicatorLit("SIG") ? x(bomb) : y(bomb);
-			case 8 -> x(bomb) + y(bomb) - bomb.getIndicators().size() + bomb.getDBatteryCount();
+			case 8 -> x(bomb) + y(bomb) - bomb.getEdgework().indicatorCount() + bomb.getDBatteryCount();
 			case 9 -> (bomb.getBatteryCount() > 3 ? x(bomb) : -x(bomb))
-				+ (bomb.getIndicators().size() > 3 ? y(bomb) : -y(bomb));
+				+ (bomb.getEdgework().indicatorCount() > 3 ? y(bomb) : -y(bomb));
 			default -> throw new IllegalArgumentException("Digit must be 0–9");
 		};
 		return (char) ('A' + Math.floorMod(letter - 'A' + delta, 26));
 	}
 
 	private static int x(BombEntity bomb) {
-		int ports = bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum();
+		int ports = bomb.getEdgework().totalPortCount();
 		long letters = bomb.getSerialNumber().chars().filter(Character::isLetter).count();
 		return ports + (int) letters;
 	}
 
 	private static int y(BombEntity bomb) {
 		long digits = bomb.getSerialNumber().chars().filter(Character::isDigit).count();
-		return bomb.getIndicators().size() + (int) digits;
+		return bomb.getEdgework().indicatorCount() + (int) digits;
 	}
 }
@@ -30,9 +30,9 @@ public class ChristmasPresentsSolver extends AbstractModuleSolver<ChristmasPrese
         if (java.util.Arrays.stream(counts).anyMatch(n -> n < 0) || java.util.Arrays.stream(counts).sum() != 13) {
             return failure("Gift counts must be non-negative and total exactly 13 presents");
         }
-        int x = Math.abs(counts[0] + counts[1] - counts[2]) + bomb.getIndicators().size();
+        int x = Math.abs(counts[0] + counts[1] - counts[2]) + bomb.getEdgework().indicatorCount();
         int difference = Math.abs(counts[3] - counts[4]);
-        int ports = bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum();
+        int ports = bomb.getEdgework().totalPortCount();
         int y = (difference == 0 ? 1 : difference) + ports;
         int z = x * y + bomb.getBatteryCount();
         return success(new ChristmasPresentsOutput(x, y, z, z % 14 + 7));
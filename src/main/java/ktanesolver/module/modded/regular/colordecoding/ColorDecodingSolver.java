@@ -123,11 +123,11 @@ public class ColorDecodingSolver extends AbstractModuleSolver<ColorDecodingInput
 	}
 
 	private static int portCount(BombEntity bomb) {
-		return bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum();
+		return bomb.getEdgework().totalPortCount();
 	}
 
 	private static long litIndicatorCount(BombEntity bomb) {
-		return bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
+		return bomb.getEdgework().litIndicatorCount();
 	}
 
 	private static List<List<Color>> lines(List<Color> display) {
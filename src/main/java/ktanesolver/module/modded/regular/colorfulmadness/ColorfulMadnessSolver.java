@@ -1,3 +1,3 @@
 package ktanesolver.module.modded.regular.colorfulmadness;import java.util.*;import org.springframework.stereotype.Service;import ktanesolver.annotation.ModuleInfo;import ktanesolver.dto.ModuleCatalogDto;import ktanesolver.entity.*;import ktanesolver.enums.ModuleType;import ktanesolver.logic.*;import ktanesolver.module.modded.regular.colorfulmadness.ColorfulMadnessInput.*;
 @Service @ModuleInfo(type=ModuleType.COLORFUL_MADNESS,id="ColorfulMadness",name="Colorful Madness",category=ModuleCatalogDto.ModuleCategory.MODDED_REGULAR,description="Derive three serial-number positions and their color-reversed counterparts.",tags={"colors","patterns","buttons","serial-number","rule-seed"})
-public class ColorfulMadnessSolver extends AbstractModuleSolver<ColorfulMadnessInput,ColorfulMadnessOutput>{@Override protected SolveResult<ColorfulMadnessOutput>doSolve(RoundEntity r,BombEntity b,ModuleEntity m,ColorfulMadnessInput i){if(i==null||i.topButtons()==null||i.topButtons().size()!=10||i.topButtons().stream().anyMatch(x->x==null||x.pattern()==null))return failure("Enter all ten top buttons");List<Integer>counterparts=i.topButtons().stream().map(Button::counterpart).toList();if(counterparts.stream().anyMatch(x->x<11||x>20)||new HashSet<>(counterparts).size()!=10)return failure("Counterparts must be a permutation of bottom positions 11 through 20");if(b.getSerialNumber()==null||!b.getSerialNumber().matches("[A-Z0-9]{6}"))return failure("The serial number must contain six letters or digits");int[]d={value(b.getSerialNumber().charAt(0)),value(b.getSerialNumber().charAt(2)),value(b.getSerialNumber().charAt(4))};if(i.topButtons().stream().anyMatch(Button::redYellow))for(int x=0;x<3;x++)d[x]+=b.getBatteryCount();long checkers=i.topButtons().stream().filter(x->x.pattern()==Pattern.CHECKERBOARD_4).count()*2;if(checkers>0){int delta=Math.abs((int)checkers-totalPorts(b));for(int x=0;x<3;x++)d[x]=Math.abs(d[x]-delta);}if(i.topButtons().stream().anyMatch(x->x.pattern()==Pattern.SQUARE_ON_SQUARE)){int factor=b.getBatteryHolders()+b.getPortPlates().size();for(int x=0;x<3;x++)d[x]*=factor;}for(int x=0;x<3;x++)d[x]%=10;while(d[0]==d[1]||d[0]==d[2])d[0]=(d[0]+1)%10;while(d[1]==d[0]||d[1]==d[2])d[1]=(d[1]+9)%10;List<Integer>main=Arrays.stream(d).map(x->x+1).boxed().toList();List<Integer>presses=new ArrayList<>(main);for(int x:d)presses.add(counterparts.get(x));return success(new ColorfulMadnessOutput(presses,main));}private static int value(char c){return Character.isDigit(c)?c-'0':c-'A';}private static int totalPorts(BombEntity b){return b.getPortPlates().stream().mapToInt(p->p.getPorts()==null?0:p.getPorts().size()).sum();}}
+public class ColorfulMadnessSolver extends AbstractModuleSolver<ColorfulMadnessInput,ColorfulMadnessOutput>{@Override protected SolveResult<ColorfulMadnessOutput>doSolve(RoundEntity r,BombEntity b,ModuleEntity m,ColorfulMadnessInput i){if(i==null||i.topButtons()==null||i.topButtons().size()!=10||i.topButtons().stream().anyMatch(x->x==null||x.pattern()==null))return failure("Enter all ten top buttons");List<Integer>counterparts=i.topButtons().stream().map(Button::counterpart).toList();if(counterparts.stream().anyMatch(x->x<11||x>20)||new HashSet<>(counterparts).size()!=10)return failure("Counterparts must be a permutation of bottom positions 11 through 20");if(b.getSerialNumber()==null||!b.getSerialNumber().matches("[A-Z0-9]{6}"))return failure("The serial number must contain six letters or digits");int[]d={value(b.getSerialNumber().charAt(0)),value(b.getSerialNumber().charAt(2)),value(b.getSerialNumber().charAt(4))};if(i.topButtons().stream().anyMatch(Button::redYellow))for(int x=0;x<3;x++)d[x]+=b.getBatteryCount();long checkers=i.topButtons().stream().filter(x->x.pattern()==Pattern.CHECKERBOARD_4).count()*2;if(checkers>0){int delta=Math.abs((int)checkers-totalPorts(b));for(int x=0;x<3;x++)d[x]=Math.abs(d[x]-delta);}if(i.topButtons().stream().anyMatch(x->x.pattern()==Pattern.SQUARE_ON_SQUARE)){int factor=b.getBatteryHolders()+b.getEdgework().portPlateCount();for(int x=0;x<3;x++)d[x]*=factor;}for(int x=0;x<3;x++)d[x]%=10;while(d[0]==d[1]||d[0]==d[2])d[0]=(d[0]+1)%10;while(d[1]==d[0]||d[1]==d[2])d[1]=(d[1]+9)%10;List<Integer>main=Arrays.stream(d).map(x->x+1).boxed().toList();List<Integer>presses=new ArrayList<>(main);for(int x:d)presses.add(counterparts.get(x));return success(new ColorfulMadnessOutput(presses,main));}private static int value(char c){return Character.isDigit(c)?c-'0':c-'A';}private static int totalPorts(BombEntity b){return b.getEdgework().totalPortCount();}}
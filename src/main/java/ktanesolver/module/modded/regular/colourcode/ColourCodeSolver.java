@@ -3,6 +3,6 @@ import java.util.*;import org.springframework.stereotype.Service;import ktanesol
 @Service @ModuleInfo(type=ModuleType.COLOUR_CODE,id="colourcode",name="Colour Code",category=ModuleCatalogDto.ModuleCategory.MODDED_REGULAR,description="Calculate four digits and three colors, then interleave them using the seven order conditions.",tags={"colors","code","edgework","timing"})
 public class ColourCodeSolver extends AbstractModuleSolver<ColourCodeInput,ColourCodeOutput>{
  private static final Set<String>BACKGROUNDS=Set.of("red","orange","yellow","green","blue","purple");
- @Override protected SolveResult<ColourCodeOutput>doSolve(RoundEntity round,BombEntity bomb,ModuleEntity module,ColourCodeInput input){String bg=input==null||input.backgroundColor()==null?"":input.backgroundColor().trim().toLowerCase(Locale.ROOT);if(!BACKGROUNDS.contains(bg)||input.currentMonth()<1||input.currentMonth()>12||input.currentHour()<0||input.currentHour()>23)return failure("Choose the background color and enter a valid local month and hour");String serial=bomb.getSerialNumber();if(serial==null||serial.chars().noneMatch(Character::isDigit))return failure("Enter the bomb serial number first");int batteries=bomb.getBatteryCount(),ports=bomb.getPortPlates().stream().mapToInt(p->p.getPorts().size()).sum(),lit=(int)bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count(),unlit=(int)bomb.getIndicators().values().stream().filter(Boolean.FALSE::equals).count(),solved=(int)bomb.getModules().stream().filter(ModuleEntity::isSolved).count(),total=bomb.getModules().size(),solvable=(int)bomb.getModules().stream().filter(m->m.getType()==null||!m.getType().isNeedy()).count(),unsolved=solvable-solved,cc=count(bomb,ModuleType.COLOUR_CODE),planets=count(bomb,ModuleType.PLANETS),ccSolved=countSolved(bomb,ModuleType.COLOUR_CODE),planetSolved=countSolved(bomb,ModuleType.PLANETS),digitSum=serial.chars().filter(Character::isDigit).map(c->c-'0').sum();int d1=batteries<=1?3:bomb.isIndicatorLit("FRK")?6:ports>batteries?7:lit>solved?9:lit+unlit+ports<cc?2:batteries<planets?5:unsolved>40?8:bomb.getAaBatteryCount()==2&&bomb.getDBatteryCount()==2?1:total/2<solved?4:0;int d2=switch(bg){case"red"->bomb.hasPort(PortType.PARALLEL)?5:3;case"orange"->batteries>lit+unlit-ports?9:4;case"green"->lit>planets?8:1;case"yellow"->cc-ccSolved+planets-planetSolved>ccSolved+planetSolved?7:2;case"blue"->unsolved==1?6:0;default->0;};int x=(batteries+2)*solved-(lit>unlit?15:0)+(bg.equals("red")?150:0);if(x%3==0)x/=3;x=Math.abs((x%10)*(d1==0?2:1)*(d2==0?4:1)%10);int d3=x,d4=Math.abs(100-d1-d2-d3-cc-unsolved+unlit)%10;String c1=bg.equals("red")&&ports==0&&lit+unlit==0&&solved==0?"red":bg.equals("orange")&&digitSum%10==batteries?"orange":bg.equals("green")&&ports>unlit?"green":bg.equals("yellow")&&unlit==1&&bomb.isLastDigitOdd()?"yellow":bg.equals("blue")&&batteries==solved?"blue":"purple";String c2=bomb.isLastDigitEven()?"blue":bomb.hasPort(PortType.PARALLEL)?"green":(batteries+digitSum)%10<=5?"orange":bomb.getDBatteryCount()==0&&batteries>0?"red":bg.equals("yellow")?"yellow":"purple";int cv=unsolved*solved;if(cv%3==0)cv/=3;cv%=10;if(c1.equals("purple"))cv*=2;if(c2.equals("purple"))cv*=4;cv=cv%10*batteries%6;String c3=List.of("orange","blue","red","purple","yellow","green").get(cv);List<Integer>digits=List.of(d1,d2,d3,d4);List<String>colors=List.of(c1,c2,c3);int product=digits.stream().mapToInt(n->n==0?1:n).reduce(1,(a,b)->a*b);boolean[]conditions={batteries>input.currentMonth(),product>total%10,cc==1,input.currentHour()>=3&&input.currentHour()<16,total==101||total==81,cc>Math.sqrt(total/2),serial.chars().filter(Character::isLetter).count()==3};List<String>types=new ArrayList<>();for(int i=0;i<7;i++)if(conditions[i])types.add(i%2==0?"digit":"color");for(int i=6;i>=0;i--)if(!conditions[i])types.add(i%2==0?"digit":"color");List<String>sequence=new ArrayList<>(),tokens=new ArrayList<>();int di=0,ci=0;for(String type:types)if(type.equals("digit")){int n=digits.get(di);sequence.add(String.valueOf(n));tokens.add(di==2?n+"s"+n:String.valueOf(n));di++;}else{String color=colors.get(ci++);sequence.add(color);tokens.add(color.substring(0,1));}boolean special=digits.stream().filter(n->n==0).count()==1&&colors.stream().filter("purple"::equals).count()==1;return success(new ColourCodeOutput(digits,colors,List.copyOf(sequence),"press "+String.join("|",tokens),special?"go 04":"go",special));}
- private static int count(BombEntity b,ModuleType t){return(int)b.getModules().stream().filter(m->m.getType()==t).count();}private static int countSolved(BombEntity b,ModuleType t){return(int)b.getModules().stream().filter(m->m.getType()==t&&m.isSolved()).count();}
+ @Override protected SolveResult<ColourCodeOutput>doSolve(RoundEntity round,BombEntity bomb,ModuleEntity module,ColourCodeInput input){String bg=input==null||input.backgroundColor()==null?"":input.backgroundColor().trim().toLowerCase(Locale.ROOT);if(!BACKGROUNDS.contains(bg)||input.currentMonth()<1||input.currentMonth()>12||input.currentHour()<0||input.currentHour()>23)return failure("Choose the background color and enter a valid local month and hour");String serial=bomb.getSerialNumber();if(serial==null||serial.chars().noneMatch(Character::isDigit))return failure("Enter the bomb serial number first");int batteries=bomb.getBatteryCount(),ports=bomb.getEdgework().totalPortCount(),lit=bomb.getEdgework().litIndicatorCount(),unlit=bomb.getEdgework().explicitlyUnlitIndicatorCount(),solved=bomb.getStatistics().solvedCount(),total=bomb.getStatistics().moduleCount(),solvable=bomb.getStatistics().regularCount(),unsolved=solvable-solved,cc=count(bomb,ModuleType.COLOUR_CODE),planets=count(bomb,ModuleType.PLANETS),ccSolved=countSolved(bomb,ModuleType.COLOUR_CODE),planetSolved=countSolved(bomb,ModuleType.PLANETS),digitSum=serial.chars().filter(Character::isDigit).map(c->c-'0').sum();int d1=batteries<=1?3:bomb.isIndicatorLit("FRK")?6:ports>batteries?7:lit>solved?9:lit+unlit+ports<cc?2:batteries<planets?5:unsolved>40?8:bomb.getAaBatteryCount()==2&&bomb.getDBatteryCount()==2?1:total/2<solved?4:0;int d2=switch(bg){case"red"->bomb.hasPort(PortType.PARALLEL)?5:3;case"orange"->batteries>lit+unlit-ports?9:4;case"green"->lit>planets?8:1;case"yellow"->cc-ccSolved+planets-planetSolved>ccSolved+planetSolved?7:2;case"blue"->unsolved==1?6:0;default->0;};int x=(batteries+2)*solved-(lit>unlit?15:0)+(bg.equals("red")?150:0);if(x%3==0)x/=3;x=Math.abs((x%10)*(d1==0?2:1)*(d2==0?4:1)%10);int d3=x,d4=Math.abs(100-d1-d2-d3-cc-unsolved+unlit)%10;String c1=bg.equals("red")&&ports==0&&lit+unlit==0&&solved==0?"red":bg.equals("orange")&&digitSum%10==batteries?"orange":bg.equals("green")&&ports>unlit?"green":bg.equals("yellow")&&unlit==1&&bomb.isLastDigitOdd()?"yellow":bg.equals("blue")&&batteries==solved?"blue":"purple";String c2=bomb.isLastDigitEven()?"blue":bomb.hasPort(PortType.PARALLEL)?"green":(batteries+digitSum)%10<=5?"orange":bomb.getDBatteryCount()==0&&batteries>0?"red":bg.equals("yellow")?"yellow":"purple";int cv=unsolved*solved;if(cv%3==0)cv/=3;cv%=10;if(c1.equals("purple"))cv*=2;if(c2.equals("purple"))cv*=4;cv=cv%10*batteries%6;String c3=List.of("orange","blue","red","purple","yellow","green").get(cv);List<Integer>digits=List.of(d1,d2,d3,d4);List<String>colors=List.of(c1,c2,c3);int product=digits.stream().mapToInt(n->n==0?1:n).reduce(1,(a,b)->a*b);boolean[]conditions={batteries>input.currentMonth(),product>total%10,cc==1,input.currentHour()>=3&&input.currentHour()<16,total==101||total==81,cc>Math.sqrt(total/2),serial.chars().filter(Character::isLetter).count()==3};List<String>types=new ArrayList<>();for(int i=0;i<7;i++)if(conditions[i])types.add(i%2==0?"digit":"color");for(int i=6;i>=0;i--)if(!conditions[i])types.add(i%2==0?"digit":"color");List<String>sequence=new ArrayList<>(),tokens=new ArrayList<>();int di=0,ci=0;for(String type:types)if(type.equals("digit")){int n=digits.get(di);sequence.add(String.valueOf(n));tokens.add(di==2?n+"s"+n:String.valueOf(n));di++;}else{String color=colors.get(ci++);sequence.add(color);tokens.add(color.substring(0,1));}boolean special=digits.stream().filter(n->n==0).count()==1&&colors.stream().filter("purple"::equals).count()==1;return success(new ColourCodeOutput(digits,colors,List.copyOf(sequence),"press "+String.join("|",tokens),special?"go 04":"go",special));}
+ private static int count(BombEntity b,ModuleType t){return b.getStatistics().count(t);}private static int countSolved(BombEntity b,ModuleType t){return b.getStatistics().solvedCount(t);}
 }
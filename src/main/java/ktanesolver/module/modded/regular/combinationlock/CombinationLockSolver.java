@@ -20,7 +20,7 @@ public class CombinationLockSolver extends AbstractModuleSolver<CombinationLockI
 	@Override
 	public SolveResult<CombinationLockOutput> doSolve(RoundEntity round, BombEntity bomb, ModuleEntity module, CombinationLockInput input) {
 		// Calculate solved modules count from bomb
-		int solvedModulesCount = (int)bomb.getModules().stream().filter(ModuleEntity::isSolved).count();
+		int solvedModulesCount = bomb.getStatistics().solvedCount();
 
 		try {
 			// Calculate first number (last digit of serial number + solved modules + batteries)
@@ -79,7 +79,7 @@ public class CombinationLockSolver extends AbstractModuleSolver<CombinationLockI
 		int sum = 0;
 
 		// Use number of modules on the bomb
-		sum += bomb.getModules().size();
+		sum += bomb.getStatistics().moduleCount();
 
 		// Add number of solved modules
 		sum += solvedModulesCount;
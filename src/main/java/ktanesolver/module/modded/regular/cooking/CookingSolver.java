@@ -55,9 +55,9 @@ public class CookingSolver extends AbstractModuleSolver<CookingInput, CookingOut
 		int litIndicators = Math.toIntExact(BombEdgeworkUtils.getLitIndicatorCount(bomb));
 		int unlitIndicators = Math.toIntExact(BombEdgeworkUtils.getUnlitIndicatorCount(bomb));
 		int mealIndex = Math.floorMod(
-			bomb.getBatteryHolders() - bomb.getIndicators().size()
+			bomb.getBatteryHolders() - bomb.getEdgework().indicatorCount()
 				+ bomb.getBatteryCount() * BombEdgeworkUtils.getTotalPortCount(bomb)
-				- bomb.getPortPlates().size() - 1,
+				- bomb.getEdgework().portPlateCount() - 1,
 			MEALS.length
 		);
 		int settingIndex = Math.floorMod(
@@ -15,9 +15,7 @@ import ktanesolver.annotation.ModuleInfo;
 import ktanesolver.dto.ModuleCatalogDto;
 import ktanesolver.entity.BombEntity;
 import ktanesolver.entity.ModuleEntity;
-import ktanesolver.entity.PortPlateEntity;
 import ktanesolver.entity.RoundEntity;
-import ktanesolver.enums.PortType;
 import ktanesolver.enums.ModuleType;
 import ktanesolver.logic.AbstractModuleSolver;
 import ktanesolver.logic.SolveResult;
@@ -138,8 +136,8 @@ public class CreationSolver extends AbstractModuleSolver<CreationInput, Creation
 	}
 
 	private static Element target(BombEntity bomb, int permutation) {
-		long lit = bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
-		long unlit = bomb.getIndicators().values().stream().filter(Boolean.FALSE::equals).count();
+		long lit = bomb.getEdgework().litIndicatorCount();
+		long unlit = bomb.getEdgework().explicitlyUnlitIndicatorCount();
 		if (bomb.getBatteryHolders() >= 3) {
 			int offset = lit > 0 ? (bomb.getDBatteryCount() == 0 ? 0 : 1)
 				: unlit > 0 ? (bomb.getAaBatteryCount() == 0 ? 2 : 3) : 4;
@@ -147,18 +145,13 @@ public class CreationSolver extends AbstractModuleSolver<CreationInput, Creation
 		}
 
 		List<Element> targets;
-		if (bomb.getPortPlates().size() > bomb.getBatteryHolders()) targets = List.of(GHOST, PLANKTON, SEEDS, MUSHROOM, GHOST);
-		else if (hasDuplicatePort(bomb.getPortPlates())) targets = List.of(PLANKTON, SEEDS, MUSHROOM, GHOST, PLANKTON);
+		if (bomb.getEdgework().portPlateCount() > bomb.getBatteryHolders()) targets = List.of(GHOST, PLANKTON, SEEDS, MUSHROOM, GHOST);
+		else if (bomb.getEdgework().hasDuplicatePorts()) targets = List.of(PLANKTON, SEEDS, MUSHROOM, GHOST, PLANKTON);
 		else if (unlit > lit) targets = List.of(SEEDS, MUSHROOM, GHOST, PLANKTON, SEEDS);
 		else targets = List.of(MUSHROOM, GHOST, PLANKTON, SEEDS, MUSHROOM);
 		return targets.get(permutation);
 	}
 
-	private static boolean hasDuplicatePort(List<PortPlateEntity> plates) {
-		Set<PortType> seen = new HashSet<>();
-		return plates.stream().flatMap(plate -> plate.getPorts().stream()).anyMatch(port -> !seen.add(port));
-	}
-
 	private static boolean validBases(List<Element> bases) {
 		return bases != null && bases.size() == 4 && new HashSet<>(bases).equals(BASES);
 	}
@@ -115,7 +115,7 @@ public class CruelPianoKeysSolver extends AbstractModuleSolver<CruelPianoKeysInp
 	private RuleMatch evaluateTable2(List<CruelPianoKeysSymbol> symbols, BombEntity bomb, int minutesRemaining) {
 		// 1. Breve AND T; 2+ indicators → left-most digit of serial → RI
 		if (symbols.contains(CruelPianoKeysSymbol.BREVE) && symbols.contains(CruelPianoKeysSymbol.T)
-			&& bomb.getIndicators().size() >= 2) {
+			&& bomb.getEdgework().indicatorCount() >= 2) {
 			return new RuleMatch(BombEdgeworkUtils.getFirstSerialDigit(bomb), Transformation.RI, 0);
 		}
 		// 2. # or double sharp; empty port plate → battery holders (mod 10) → P, transpose down by minutes remaining
@@ -127,12 +127,12 @@ public class CruelPianoKeysSolver extends AbstractModuleSolver<CruelPianoKeysInp
 		// 3. U or down bow; 2+ of a certain type of port → LSD of completed modules → I
 		if ((symbols.contains(CruelPianoKeysSymbol.U) || symbols.contains(CruelPianoKeysSymbol.DOWN_BOW))
 			&& BombEdgeworkUtils.hasTwoOrMoreOfAnyPortType(bomb)) {
-			long completed = bomb.getModules().stream().filter(ModuleEntity::isSolved).count();
+			long completed = bomb.getStatistics().solvedCount();
 			return new RuleMatch((int)(completed % 10), Transformation.I, 0);
 		}
 		// 4. B AND 16th rest; 2+ port plates → 9 minus unlit indicators (normalize 0-9) → R
 		if (symbols.contains(CruelPianoKeysSymbol.B) && symbols.contains(CruelPianoKeysSymbol.SIXTEENTH_REST)
-			&& bomb.getPortPlates().size() >= 2) {
+			&& bomb.getEdgework().portPlateCount() >= 2) {
 			long unlit = BombEdgeworkUtils.getUnlitIndicatorCount(bomb);
 			int idx = normalize0to9(9 - (int)unlit);
 			return new RuleMatch(idx, Transformation.R, 0);
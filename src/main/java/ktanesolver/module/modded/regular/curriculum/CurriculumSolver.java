@@ -121,7 +121,7 @@ public class CurriculumSolver extends AbstractModuleSolver<CurriculumInput, Curr
 		if(bomb.getLastDigit() == 0) return Condition.MATHLETE;
 		if(BombEdgeworkUtils.getTotalPortCount(bomb) >= 5) return Condition.PARTY_ANIMAL;
 		if(BombEdgeworkUtils.hasEmptyPortPlate(bomb)) return Condition.PART_TIMER;
-		if(bomb.getIndicators().isEmpty()) return Condition.SLEEPY_GARY;
+		if(bomb.getEdgework().indicatorCount() == 0) return Condition.SLEEPY_GARY;
 		if(bomb.getBatteryCount() >= 3) return Condition.BAND_PRACTICE;
 		return Condition.FRESHMAN_YEAR;
 	}
@@ -11,7 +11,7 @@ public class DividedSquaresSolver extends AbstractModuleSolver<DividedSquaresInp
 		int correct=0,pairs=0;if(n>1){correct=-1;for(int i=0;i<n*n;i++){int count=matchingPairs(input.grid(),i,serialValues);if(count>1){if(correct>=0)return failure("The grid has more than one square belonging to multiple serial-letter pairs");correct=i;pairs=count;}}if(correct<0)return failure("No square belongs to multiple serial-letter pairs");}
 		String square=""+(char)('A'+correct%n)+(correct/n+1);if(input.examinedColor()==null)return success(new DividedSquaresOutput(square,"examine",null,false,pairs),false);
 		DividedSquaresInput.Color a=input.grid().get(correct/n).get(correct%n),b=input.examinedColor();int value=TABLE[b.ordinal()][a.ordinal()];if(value<0)return failure("The examined color must differ from the visible color");int target=value+n*n-1;
-		long current=bomb.getModules().stream().filter(ModuleEntity::isSolved).count(),other=bomb.getModules().stream().filter(m->m.getType()==null||!IGNORED.contains(m.getType())).count();boolean any=target<current||target>other;
+		BombStatistics statistics=bomb.getStatistics();long current=statistics.solvedCount(),other=statistics.moduleCount()-IGNORED.stream().mapToInt(statistics::count).sum();boolean any=target<current||target>other;
 		storeState(module,"dividedSquaresColorB",label(b));storeState(module,"dividedSquaresSouvenirEligible",!any);storeState(module,"dividedSquaresCorrectSquare",square);storeState(module,"dividedSquaresSideLength",n);
 		return success(new DividedSquaresOutput(square,"submit",any?null:target,any,pairs));
 	}
@@ -17,9 +17,9 @@ public class DominoesSolver extends AbstractModuleSolver<DominoesInput, Dominoes
     @Override protected SolveResult<DominoesOutput> doSolve(RoundEntity round, BombEntity bomb, ModuleEntity module, DominoesInput input) {
         if (input == null || input.dominoes() == null || input.dominoes().size() != 4) return failure("Enter four top/bottom domino pairs");
         for (List<Integer> pair : input.dominoes()) if (pair == null || pair.size() != 2 || pair.stream().anyMatch(v -> v == null || v < 1 || v > 6)) return failure("Every domino value must be from 1 through 6");
-        int ports = bomb.getPortPlates().stream().mapToInt(p -> p.getPorts().size()).sum();
-        int lit = (int) bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
-        int unlit = (int) bomb.getIndicators().values().stream().filter(Boolean.FALSE::equals).count();
+        int ports = bomb.getEdgework().totalPortCount();
+        int lit = bomb.getEdgework().litIndicatorCount();
+        int unlit = bomb.getEdgework().explicitlyUnlitIndicatorCount();
         String operation = ports >= 3 ? "add" : bomb.getBatteryCount() >= 3 ? "subtract" : lit > 0 ? "multiply" : "divide";
         List<Integer> values = input.dominoes().stream().map(pair -> switch(operation) {
             case "add" -> pair.get(0) + pair.get(1); case "subtract" -> pair.get(0) - pair.get(1);
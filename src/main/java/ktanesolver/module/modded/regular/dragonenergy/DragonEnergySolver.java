@@ -72,7 +72,7 @@ public class DragonEnergySolver extends AbstractModuleSolver<DragonEnergyInput,
 		});
 		if (correct.isEmpty()) return failure("No safe word remains; check the displayed translations and edgework");
 
-		int relation = Integer.compare(bomb.getBatteryHolders(), bomb.getPortPlates().size());
+		int relation = Integer.compare(bomb.getBatteryHolders(), bomb.getEdgework().portPlateCount());
 		int relationIndex = relation == 0 ? 0 : relation > 0 ? 1 : 2;
 		List<Integer> safe = safeDigits(relationIndex, colorIndex, bomb.getStrikes());
 		storeState(module, "indicatorColor", title(color));
@@ -82,13 +82,13 @@ public class DragonEnergySolver extends AbstractModuleSolver<DragonEnergyInput,
 	static int scenario(BombEntity bomb) {
 		long vowels = bomb.getSerialNumber().toUpperCase(Locale.ROOT).chars().filter(value -> "AEIOU".indexOf(value) >= 0).count();
 		if (bomb.getBatteryCount() > 10 && (bomb.getLastDigit() == 5 || bomb.getLastDigit() == 7)) return 1;
-		if (bomb.getPortPlates().size() > bomb.getBatteryHolders() && bomb.getModules().stream()
+		if (bomb.getEdgework().portPlateCount() > bomb.getBatteryHolders() && bomb.getModules().stream()
 			.anyMatch(module -> module.getType() == ModuleType.MORSE_WAR || module.getType() == ModuleType.DOUBLE_COLOR)) return 2;
-		long unlit = bomb.getIndicators().values().stream().filter(Boolean.FALSE::equals).count();
+		long unlit = bomb.getEdgework().explicitlyUnlitIndicatorCount();
 		if ((bomb.isIndicatorLit("SIG") && bomb.isIndicatorLit("FRK")) || unlit == 3) return 3;
-		if (bomb.getModules().size() > 8) return 4;
+		if (bomb.getStatistics().moduleCount() > 8) return 4;
 		if (vowels >= 2) return 5;
-		if (bomb.getModules().stream().noneMatch(ModuleEntity::isSolved)) return 6;
+		if (bomb.getStatistics().solvedCount() == 0) return 6;
 		return 7;
 	}
 
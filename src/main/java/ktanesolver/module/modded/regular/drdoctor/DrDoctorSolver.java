@@ -85,10 +85,10 @@ public class DrDoctorSolver extends AbstractModuleSolver<DrDoctorInput, DrDoctor
 		int rule = 0;
 		if(bomb.isLastDigitEven()) rule += 8;
 		if(input.moreThanHalfTimeRemaining()) rule += 16;
-		if(bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count()
-			> bomb.getIndicators().values().stream().filter(Boolean.FALSE::equals).count()) rule += 2;
+		if(bomb.getEdgework().litIndicatorCount()
+			> bomb.getEdgework().explicitlyUnlitIndicatorCount()) rule += 2;
 		if(bomb.getBatteryCount() >= 2) rule += 4;
-		if(bomb.getModules().size() % 2 == 0) rule++;
+		if(bomb.getStatistics().moduleCount() % 2 == 0) rule++;
 
 		Disease[] diseases = Disease.values();
 		char key = RULES.charAt(rule);
@@ -117,19 +117,19 @@ public class DrDoctorSolver extends AbstractModuleSolver<DrDoctorInput, DrDoctor
 				case 2, 3, 5, 7 -> true;
 				default -> false;
 			}) return "2g";
-			int distinctPorts = (int) bomb.getPortPlates().stream().flatMap(plate -> plate.getPorts().stream()).distinct().count();
-			return milligrams(distinctPorts + bomb.getModules().size());
+			int distinctPorts = bomb.getEdgework().distinctPortTypeCount();
+			return milligrams(distinctPorts + bomb.getStatistics().moduleCount());
 		}
 		if(symptoms.contains(Symptom.FEVER)) {
-			long solved = bomb.getModules().stream().filter(candidate -> !candidate.getType().isNeedy() && candidate.isSolved()).count();
-			long unsolved = bomb.getModules().stream().filter(candidate -> !candidate.getType().isNeedy()).count() - solved;
+			long solved = bomb.getStatistics().solvedRegularCount();
+			long unsolved = bomb.getStatistics().regularCount() - solved;
 			return milligrams(Math.toIntExact(solved * unsolved));
 		}
 		if(hasModule(bomb, ModuleType.THE_IPHONE)) {
 			int[] digits = bomb.getSerialNumber().chars().filter(Character::isDigit).map(character -> character - '0').toArray();
 			return milligrams(digits[0] * digits[digits.length - 1]);
 		}
-		int indicatorSum = bomb.getIndicators().keySet().stream()
+		int indicatorSum = bomb.getEdgework().indicators().keySet().stream()
 			.flatMapToInt(label -> label.toUpperCase(Locale.ROOT).chars())
 			.filter(character -> character >= 'A' && character <= 'Z')
 			.map(character -> character - 'A' + 1)
@@ -138,7 +138,7 @@ public class DrDoctorSolver extends AbstractModuleSolver<DrDoctorInput, DrDoctor
 	}
 
 	private static boolean hasModule(BombEntity bomb, ModuleType type) {
-		return bomb.getModules().stream().anyMatch(module -> module.getType() == type);
+		return bomb.getStatistics().has(type);
 	}
 
 	private static String milligrams(int amount) {
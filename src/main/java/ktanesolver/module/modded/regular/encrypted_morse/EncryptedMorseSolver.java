@@ -2,4 +2,4 @@ package ktanesolver.module.modded.regular.encrypted_morse;import java.util.*;imp
 @Service@ModuleInfo(type=ModuleType.ENCRYPTED_MORSE,id="EncryptedMorse",name="Encrypted Morse",category=ModuleCatalogDto.ModuleCategory.MODDED_REGULAR,description="Decrypt the binary-modified Morse transmission and encode its response.",tags={"Morse","binary","encryption","serial-number"})
 public class EncryptedMorseSolver extends AbstractModuleSolver<EncryptedMorseInput,EncryptedMorseOutput>{static final Map<Character,String>MORSE=Map.ofEntries(Map.entry('A',".-"),Map.entry('B',"-..."),Map.entry('C',"-.-."),Map.entry('D',"-.."),Map.entry('E',"."),Map.entry('F',"..-."),Map.entry('G',"--."),Map.entry('H',"...."),Map.entry('I',".."),Map.entry('J',".---"),Map.entry('K',"-.-"),Map.entry('L',".-.."),Map.entry('M',"--"),Map.entry('N',"-."),Map.entry('O',"---"),Map.entry('P',".--."),Map.entry('Q',"--.-"),Map.entry('R',".-."),Map.entry('S',"..."),Map.entry('T',"-"),Map.entry('U',"..-"),Map.entry('V',"...-"),Map.entry('W',".--"),Map.entry('X',"-..-"),Map.entry('Y',"-.--"),Map.entry('Z',"--.."));static final Map<String,Character>DECODE;static final Map<String,String>RESPONSES=Map.of("DETONATE","PLEASENO","READYNOW","CHEESECAKE","WEREDEAD","SADFACE","SHESELLS","SEASHELLS","REMEMBER","SOUVENIR","GREATJOB","THANKYOU","SOLOTHIS","IDAREYOU","KEEPTALK","NOEXPLODE");static{Map<String,Character>decode=new HashMap<>();MORSE.forEach((letter,code)->decode.put(code,letter));DECODE=Map.copyOf(decode);}
 	@Override protected SolveResult<EncryptedMorseOutput>doSolve(RoundEntity round,BombEntity bomb,ModuleEntity module,EncryptedMorseInput input){if(input==null)return failure("Enter sequence A and both received transmissions");String serial=bomb.getSerialNumber()==null?"":bomb.getSerialNumber().toUpperCase(Locale.ROOT);if(!serial.matches("[A-Z0-9]{6}"))return failure("Bomb serial must contain six letters/digits");String a=input.binarySequence()==null?"":input.binarySequence().replaceAll("\\s+","");String message=letters(input.receivedMessage()),receivedKey=letters(input.receivedKey());if(!a.matches("[01]{42}"))return failure("Binary sequence A must contain exactly 42 bits");if(message.isEmpty()||!message.matches("[A-Z]+"))return failure("Received message must contain decoded A–Z Morse letters");if(!receivedKey.matches("[A-Z]{8}"))return failure("Received key must contain exactly eight letters");String received=encode(message,false),b=sequenceB(bomb);if(received.length()>42)return failure("Received message contains more than 42 Morse symbols");StringBuilder decryptedSymbols=new StringBuilder();for(int i=0;i<received.length();i++)decryptedSymbols.append(binaryDecrypt(a.charAt(i),b.charAt(i),received.charAt(i)));String[]codes=decryptedSymbols.toString().split(" ",-1);if(codes.length!=8||Arrays.stream(codes).anyMatch(code->!DECODE.containsKey(code)))return failure("The observations do not decrypt to eight valid Morse letters");String intermediate=Arrays.stream(codes).map(code->String.valueOf(DECODE.get(code))).reduce("",String::concat),workingMessage=intermediate,workingKey=receivedKey;boolean swapped=intermediate.chars().filter(c->"AEIOU".indexOf(c)>=0).count()>1;if(swapped){workingMessage=swap(workingMessage);workingKey=swap(workingKey);}StringBuilder call=new StringBuilder();for(int i=0;i<8;i++)call.append((char)('A'+Math.floorMod((workingMessage.charAt(i)-'A'+1)+(workingKey.charAt(i)-'A'+1)-1,26)));String response=RESPONSES.get(call.toString());if(response==null)return failure("The observations decrypt to an unknown message: "+call);storeState(module,"encryptedMorseKey",receivedKey);return success(new EncryptedMorseOutput(response,encode(response,false),intermediate,call.toString(),b,swapped));}
-	static String sequenceB(BombEntity bomb){String serial=bomb.getSerialNumber()==null?"":bomb.getSerialNumber().toUpperCase(Locale.ROOT);if(!serial.matches("[A-Z0-9]{6}"))throw new IllegalArgumentException("Bomb serial must contain six letters/digits");StringBuilder b=new StringBuilder();for(char c:serial.toCharArray())b.append(Character.isDigit(c)?String.format("%7s",Integer.toBinaryString(c-'0')).replace(' ','0'):"AEIOU".indexOf(c)>=0?"1011001":c<'O'?"1100010":"1000100");int ports=bomb.getPortPlates().stream().mapToInt(p->p.getPorts().size()).sum();if(bomb.getBatteryCount()==ports)b.replace(0,21,new StringBuilder(b.substring(0,21)).reverse().toString());return b.toString();}static String encode(String text,boolean spaces){StringJoiner joiner=new StringJoiner(spaces?" ":"");for(char c:text.toCharArray())joiner.add(MORSE.get(c));return joiner.toString();}private static char binaryDecrypt(char a,char b,char received){if(a=='0'&&b=='0')return received=='.'?' ':'-';if(a=='0'&&b=='1')return received=='.'?'-':'.';if(a=='1'&&b=='0')return received;return received=='.'?'.':' ';}private static String letters(String value){return value==null?"":value.replaceAll("\\s+","").toUpperCase(Locale.ROOT);}private static String swap(String value){char[]c=value.toCharArray();char t=c[0];c[0]=c[4];c[4]=t;t=c[1];c[1]=c[7];c[7]=t;return new String(c);}}
+	static String sequenceB(BombEntity bomb){String serial=bomb.getSerialNumber()==null?"":bomb.getSerialNumber().toUpperCase(Locale.ROOT);if(!serial.matches("[A-Z0-9]{6}"))throw new IllegalArgumentException("Bomb serial must contain six letters/digits");StringBuilder b=new StringBuilder();for(char c:serial.toCharArray())b.append(Character.isDigit(c)?String.format("%7s",Integer.toBinaryString(c-'0')).replace(' ','0'):"AEIOU".indexOf(c)>=0?"1011001":c<'O'?"1100010":"1000100");int ports=bomb.getEdgework().totalPortCount();if(bomb.getBatteryCount()==ports)b.replace(0,21,new StringBuilder(b.substring(0,21)).reverse().toString());return b.toString();}static String encode(String text,boolean spaces){StringJoiner joiner=new StringJoiner(spaces?" ":"");for(char c:text.toCharArray())joiner.add(MORSE.get(c));return joiner.toString();}private static char binaryDecrypt(char a,char b,char received){if(a=='0'&&b=='0')return received=='.'?' ':'-';if(a=='0'&&b=='1')return received=='.'?'-':'.';if(a=='1'&&b=='0')return received;return received=='.'?'.':' ';}private static String letters(String value){return value==null?"":value.replaceAll("\\s+","").toUpperCase(Locale.ROOT);}private static String swap(String value){char[]c=value.toCharArray();char t=c[0];c[0]=c[4];c[4]=t;t=c[1];c[1]=c[7];c[7]=t;return new String(c);}}
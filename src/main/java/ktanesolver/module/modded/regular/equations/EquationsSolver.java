@@ -46,8 +46,8 @@ public class EquationsSolver extends AbstractModuleSolver<EquationsInput, Equati
 		}
 
 		int litLeds = (int) input.leds().stream().filter(Boolean.TRUE::equals).count();
-		int litIndicators = (int) bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
-		int indicatorCount = bomb.getIndicators().size();
+		int litIndicators = bomb.getEdgework().litIndicatorCount();
+		int indicatorCount = bomb.getEdgework().indicatorCount();
 		int serialSum = bomb.getSerialNumber() == null ? 0
 			: bomb.getSerialNumber().chars().filter(Character::isDigit).map(ch -> ch - '0').sum();
 		int a = litIndicators % 3;
@@ -66,7 +66,7 @@ public class FestivePianoKeysSolver extends AbstractModuleSolver<FestivePianoKey
 			return notes(PianoKeysNote.D_SHARP, PianoKeysNote.D_SHARP, PianoKeysNote.C_SHARP, PianoKeysNote.G_SHARP,
 				PianoKeysNote.D_SHARP, PianoKeysNote.D_SHARP, PianoKeysNote.F, PianoKeysNote.C_SHARP);
 		}
-		if (symbols.contains(FestivePianoKeysSymbol.MARCATO) && bomb.getIndicators().entrySet().stream()
+		if (symbols.contains(FestivePianoKeysSymbol.MARCATO) && bomb.getEdgework().indicators().entrySet().stream()
 			.anyMatch(indicator -> Boolean.TRUE.equals(indicator.getValue()) && hasVowel(indicator.getKey()))) {
 			return notes(PianoKeysNote.B, PianoKeysNote.A, PianoKeysNote.G, PianoKeysNote.D_SHARP, PianoKeysNote.D,
 				PianoKeysNote.A, PianoKeysNote.B, PianoKeysNote.A, PianoKeysNote.G);
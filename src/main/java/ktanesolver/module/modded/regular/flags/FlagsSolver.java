@@ -66,7 +66,7 @@ public class FlagsSolver extends AbstractModuleSolver<FlagsInput, FlagsOutput> {
 		FlagsCountry main = input.mainCountry();
 		Comparator<FlagsCountry> order;
 		String appliedRule;
-		if (main.continent().equals("North America") && bomb.getIndicators().values().stream().noneMatch(Boolean.TRUE::equals)) {
+		if (main.continent().equals("North America") && bomb.getEdgework().litIndicatorCount() == 0) {
 			order = COUNTRY_NAME;
 			appliedRule = "1st Condition (Country Name)";
 		}
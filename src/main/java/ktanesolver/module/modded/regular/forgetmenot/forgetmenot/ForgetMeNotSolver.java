@@ -75,8 +75,8 @@ public class ForgetMeNotSolver extends AbstractModuleSolver<ForgetMeNotInput, Fo
 		}
 
 		// Count lit and unlit indicators
-		long litCount = bomb.getIndicators().values().stream().mapToLong(lit -> lit ? 1 : 0).sum();
-		long unlitCount = bomb.getIndicators().size() - litCount;
+		long litCount = bomb.getEdgework().litIndicatorCount();
+		long unlitCount = bomb.getEdgework().indicatorCount() - litCount;
 
 		// Otherwise, if the bomb has more unlit indicators than lit indicators, the number is 7
 		if(unlitCount > litCount) {
@@ -55,15 +55,15 @@ public class ForgetThemAllSolver extends AbstractModuleSolver<ForgetThemAllInput
         }
         String serial = bomb.getSerialNumber();
         if (serial == null || serial.isBlank()) return failure("Enter the bomb serial number first");
-        int portTypes = (int) bomb.getPortPlates().stream().flatMap(plate -> plate.getPorts().stream()).distinct().count();
-        int duplicatePortTypes = (int) bomb.getPortPlates().stream().flatMap(plate -> plate.getPorts().stream())
+        int portTypes = bomb.getEdgework().distinctPortTypeCount();
+        int duplicatePortTypes = (int) bomb.getEdgework().portPlates().stream().flatMap(Set::stream)
             .collect(java.util.stream.Collectors.groupingBy(port -> port, java.util.stream.Collectors.counting())).values().stream().filter(count -> count > 1).count();
-        int litIndicators = (int) bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
-        int unlitIndicators = (int) bomb.getIndicators().values().stream().filter(Boolean.FALSE::equals).count();
+        int litIndicators = bomb.getEdgework().litIndicatorCount();
+        int unlitIndicators = bomb.getEdgework().explicitlyUnlitIndicatorCount();
         int serialDigitTotal = serial.chars().filter(Character::isDigit).map(character -> character - '0').sum();
         int serialLetters = (int) serial.chars().filter(Character::isLetter).count();
-        int[] multipliers = {bomb.getAaBatteryCount(),bomb.getPortPlates().size(),input.startingBombMinutes(),duplicatePortTypes,
-            bomb.getModules().size(),bomb.getStrikes(),serialDigitTotal,serialLetters,portTypes,litIndicators,totals[10],unlitIndicators,bomb.getDBatteryCount()};
+        int[] multipliers = {bomb.getAaBatteryCount(),bomb.getEdgework().portPlateCount(),input.startingBombMinutes(),duplicatePortTypes,
+            bomb.getStatistics().moduleCount(),bomb.getStrikes(),serialDigitTotal,serialLetters,portTypes,litIndicators,totals[10],unlitIndicators,bomb.getDBatteryCount()};
         int value = 0;
         for (int color = 0; color < COLORS.size(); color++) value += totals[color] * multipliers[color];
         int keyStage = Math.floorMod(value - 1, input.stages().size()) + 1;
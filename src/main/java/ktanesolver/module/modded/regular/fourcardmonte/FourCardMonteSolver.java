@@ -3,9 +3,9 @@ import java.util.*;import org.springframework.stereotype.Service;import ktanesol
 @Service @ModuleInfo(type=ModuleType.FOUR_CARD_MONTE,id="Krit4CardMonte",name="Four-Card Monte",category=ModuleCatalogDto.ModuleCategory.MODDED_REGULAR,description="Choose the bet coin and shuffled card, then calculate the required payment.",tags={"cards","coins","flowcharts","money"})
 public class FourCardMonteSolver extends AbstractModuleSolver<FourCardMonteInput,FourCardMonteOutput>{
  private static final Set<String>RANKS=Set.of("ace","king","queen","jack"),SUITS=Set.of("spades","clubs","hearts","diamonds");private static final Map<String,Integer>COINS=Map.of("red",1,"blue",10,"green",100,"black",250);
- @Override protected SolveResult<FourCardMonteOutput>doSolve(RoundEntity round,BombEntity bomb,ModuleEntity module,FourCardMonteInput in){if(in==null||in.cards()==null||in.cards().size()!=4||in.coinColors()==null||in.coinColors().size()!=4||in.finalOrder()==null||in.finalOrder().size()!=4)return failure("Enter four cards, four coins, and the final order of the original cards");List<String>cards=in.cards().stream().map(FourCardMonteSolver::n).toList(),coins=in.coinColors().stream().map(FourCardMonteSolver::n).toList();if(cards.stream().anyMatch(x->!validCard(x))||new HashSet<>(cards).size()!=4)return failure("Cards must be four distinct rank-of-suit cards (Ace through Jack)");if(coins.stream().anyMatch(x->!COINS.containsKey(x)))return failure("Coin colors must be red, blue, green, or black");if(new HashSet<>(in.finalOrder()).size()!=4||in.finalOrder().stream().anyMatch(x->x<1||x>4))return failure("Final order must contain original positions 1, 2, 3, and 4 once each");if(in.initialSeconds()<=0||in.dealSeconds()<0||in.localHour()<0||in.localHour()>23||in.localDay()<1||in.localDay()>31)return failure("Enter valid initial/deal time and local date values");String serial=bomb.getSerialNumber()==null?"":bomb.getSerialNumber().toUpperCase(Locale.ROOT),digits=serial.replaceAll("\\D","");if(digits.isEmpty())return failure("Enter a serial number containing a digit");int coin=coin(cards,coins,bomb,serial),coinValue=COINS.get(coins.get(coin-1));String hand=hand(cards);int original=card(hand,cards,bomb,in,coinValue,serial),finalPos=in.finalOrder().indexOf(original)+1;String number=in.cardNumber()==null?"":in.cardNumber().trim();if(!number.matches("\\d{10}"))return failure("Enter the ten-digit card number shown after choosing the card");int batteries=Math.max(1,bomb.getBatteryCount()),indicators=Math.max(1,bomb.getIndicators().size()),ports=Math.max(1,bomb.getPortPlates().stream().mapToInt(p->p.getPorts().size()).sum()),dollars=(coinValue+batteries*indicators*ports)%1000,first=digits.charAt(0)-'0',last=digits.charAt(digits.length()-1)-'0';String payment=String.format(Locale.ROOT,"%03d.%c%c",dollars,number.charAt(first),number.charAt(last));List<String>commands=List.of("deal","coin "+coin,"card "+finalPos,"send "+payment);return success(new FourCardMonteOutput(hand,coin,coinValue,original,finalPos,payment,commands));}
+ @Override protected SolveResult<FourCardMonteOutput>doSolve(RoundEntity round,BombEntity bomb,ModuleEntity module,FourCardMonteInput in){if(in==null||in.cards()==null||in.cards().size()!=4||in.coinColors()==null||in.coinColors().size()!=4||in.finalOrder()==null||in.finalOrder().size()!=4)return failure("Enter four cards, four coins, and the final order of the original cards");List<String>cards=in.cards().stream().map(FourCardMonteSolver::n).toList(),coins=in.coinColors().stream().map(FourCardMonteSolver::n).toList();if(cards.stream().anyMatch(x->!validCard(x))||new HashSet<>(cards).size()!=4)return failure("Cards must be four distinct rank-of-suit cards (Ace through Jack)");if(coins.stream().anyMatch(x->!COINS.containsKey(x)))return failure("Coin colors must be red, blue, green, or black");if(new HashSet<>(in.finalOrder()).size()!=4||in.finalOrder().stream().anyMatch(x->x<1||x>4))return failure("Final order must contain original positions 1, 2, 3, and 4 once each");if(in.initialSeconds()<=0||in.dealSeconds()<0||in.localHour()<0||in.localHour()>23||in.localDay()<1||in.localDay()>31)return failure("Enter valid initial/deal time and local date values");String serial=bomb.getSerialNumber()==null?"":bomb.getSerialNumber().toUpperCase(Locale.ROOT),digits=serial.replaceAll("\\D","");if(digits.isEmpty())return failure("Enter a serial number containing a digit");int coin=coin(cards,coins,bomb,serial),coinValue=COINS.get(coins.get(coin-1));String hand=hand(cards);int original=card(hand,cards,bomb,in,coinValue,serial),finalPos=in.finalOrder().indexOf(original)+1;String number=in.cardNumber()==null?"":in.cardNumber().trim();if(!number.matches("\\d{10}"))return failure("Enter the ten-digit card number shown after choosing the card");int batteries=Math.max(1,bomb.getBatteryCount()),indicators=Math.max(1,bomb.getEdgework().indicatorCount()),ports=Math.max(1,bomb.getEdgework().totalPortCount()),dollars=(coinValue+batteries*indicators*ports)%1000,first=digits.charAt(0)-'0',last=digits.charAt(digits.length()-1)-'0';String payment=String.format(Locale.ROOT,"%03d.%c%c",dollars,number.charAt(first),number.charAt(last));List<String>commands=List.of("deal","coin "+coin,"card "+finalPos,"send "+payment);return success(new FourCardMonteOutput(hand,coin,coinValue,original,finalPos,payment,commands));}
  private static int coin(List<String>c,List<String>coins,BombEntity b,String serial){if(c.get(0).equals("ace of spades")&&b.isIndicatorLit("BOB"))return 1;if(c.get(3).equals("jack of clubs")&&Collections.frequency(coins,"red")>1)return 4;if(c.contains("queen of hearts")&&countRank(c,"king")>0)return 2;if(c.contains("ace of diamonds")&&new HashSet<>(coins).size()==4)return 3;if(SUITS.stream().allMatch(s->countSuit(c,s)>0))return 1;if(countSuit(c,"spades")==2&&countSuit(c,"clubs")==2)return 2;if(countSuit(c,"hearts")==2&&countSuit(c,"diamonds")==2)return 4;if((countSuit(c,"spades")==2&&countSuit(c,"hearts")==2)||(countSuit(c,"clubs")==2&&countSuit(c,"diamonds")==2)||(countSuit(c,"hearts")==2&&countSuit(c,"clubs")==2)||(countSuit(c,"spades")==2&&countSuit(c,"diamonds")==2))return 3;String ds=serial.replaceAll("\\D","");int d=(serial.chars().anyMatch(x->"AEIOU".indexOf(x)>=0)?ds.charAt(ds.length()-1):ds.charAt(0))-'0';return d==0?4:(d-1)%4+1;}
  private static String hand(List<String>c){if(SUITS.stream().anyMatch(s->countSuit(c,s)==4))return RANKS.stream().allMatch(r->countRank(c,r)==1)?"Four-Card Deluxe":"Four Flush";if(SUITS.stream().anyMatch(s->countSuit(c,s)==3))return"Three of a suit";if(countRank(c,"king")==1&&countRank(c,"jack")==2)return countRank(c,"queen")==1?"Kingdom Combo":"Royalty Rush";if(countRank(c,"ace")>1)return"Aces High";if(countRank(c,"queen")==1&&countRank(c,"ace")==1)return"Queen's Rule";if(c.stream().map(FourCardMonteSolver::suit).distinct().count()==2)return"Dual Pairs";if(countSuit(c,"hearts")==2)return"Lucky Love";return"Total Trash";}
- private static int card(String h,List<String>c,BombEntity b,FourCardMonteInput in,int coin,String serial){String indicators=String.join("",b.getIndicators().keySet()).toUpperCase(Locale.ROOT),ds=serial.replaceAll("\\D","");int ports=b.getPortPlates().stream().mapToInt(p->p.getPorts().size()).sum(),solved=(int)b.getModules().stream().filter(ModuleEntity::isSolved).count(),total=b.getModules().size();if(h.equals("Four-Card Deluxe")||h.equals("Three of a suit")){if(c.get(0).contains("spades"))return serial.chars().anyMatch(x->"AEIOU".indexOf(x)>=0)?(countSuit(c,"spades")>=2?1:2):(countSuit(c,"hearts")>=2?3:4);return indicators.chars().anyMatch(x->"AEIOU".indexOf(x)>=0)?(countSuit(c,"diamonds")>=2?1:2):(countSuit(c,"clubs")>=2?3:4);}if(h.equals("Four Flush")){if(ds.charAt(0)-'0'>5)return b.getIndicators().containsKey("BOB")?(b.getBatteryCount()>2?1:2):(ports>2?3:4);return b.getIndicators().containsKey("TRN")?(b.getIndicators().size()>2?1:2):(ds.charAt(ds.length()-1)-'0'<5?3:4);}if(h.equals("Kingdom Combo")||h.equals("Royalty Rush")){if(in.hasRoyalFlushModule())return in.hasPoker()?(in.hasModulo()?1:2):(in.hasBritishSlang()?3:4);return solved>7?(in.hasFlipTheCoin()?1:2):(in.hasBlackjack()?3:4);}if(h.equals("Aces High")||h.equals("Queen's Rule")){boolean allRanks=RANKS.stream().allMatch(r->countRank(c,r)==1);if(allRanks)return countSuit(c,"hearts")==2?(countRank(c,"queen")>0?1:2):(countRank(c,"jack")>0?3:4);return countSuit(c,"spades")==2?(countRank(c,"ace")>0?1:2):(countRank(c,"king")>0?3:4);}if(h.equals("Lucky Love")||h.equals("Dual Pairs")){if(solved>total/2)return in.dealSeconds()<in.initialSeconds()/2?(coin==1?1:2):(coin==10?3:4);return ports>total?(coin==100?1:2):(coin==250?3:4);}if(in.localHour()<12)return in.localDay()%2==1?(in.dealSeconds()>=in.initialSeconds()/2?1:2):(in.dealSeconds()<in.initialSeconds()/2?3:4);return in.localDay()%2==0?(in.dealSeconds()>=300?1:2):(in.dealSeconds()<300?3:4);}
+ private static int card(String h,List<String>c,BombEntity b,FourCardMonteInput in,int coin,String serial){String indicators=String.join("",b.getEdgework().indicators().keySet()).toUpperCase(Locale.ROOT),ds=serial.replaceAll("\\D","");int ports=b.getEdgework().totalPortCount(),solved=b.getStatistics().solvedCount(),total=b.getStatistics().moduleCount();if(h.equals("Four-Card Deluxe")||h.equals("Three of a suit")){if(c.get(0).contains("spades"))return serial.chars().anyMatch(x->"AEIOU".indexOf(x)>=0)?(countSuit(c,"spades")>=2?1:2):(countSuit(c,"hearts")>=2?3:4);return indicators.chars().anyMatch(x->"AEIOU".indexOf(x)>=0)?(countSuit(c,"diamonds")>=2?1:2):(countSuit(c,"clubs")>=2?3:4);}if(h.equals("Four Flush")){if(ds.charAt(0)-'0'>5)return b.hasIndicator("BOB")?(b.getBatteryCount()>2?1:2):(ports>2?3:4);return b.hasIndicator("TRN")?(b.getEdgework().indicatorCount()>2?1:2):(ds.charAt(ds.length()-1)-'0'<5?3:4);}if(h.equals("Kingdom Combo")||h.equals("Royalty Rush")){if(in.hasRoyalFlushModule())return in.hasPoker()?(in.hasModulo()?1:2):(in.hasBritishSlang()?3:4);return solved>7?(in.hasFlipTheCoin()?1:2):(in.hasBlackjack()?3:4);}if(h.equals("Aces High")||h.equals("Queen's Rule")){boolean allRanks=RANKS.stream().allMatch(r->countRank(c,r)==1);if(allRanks)return countSuit(c,"hearts")==2?(countRank(c,"queen")>0?1:2):(countRank(c,"jack")>0?3:4);return countSuit(c,"spades")==2?(countRank(c,"ace")>0?1:2):(countRank(c,"king")>0?3:4);}if(h.equals("Lucky Love")||h.equals("Dual Pairs")){if(solved>total/2)return in.dealSeconds()<in.initialSeconds()/2?(coin==1?1:2):(coin==10?3:4);return ports>total?(coin==100?1:2):(coin==250?3:4);}if(in.localHour()<12)return in.localDay()%2==1?(in.dealSeconds()>=in.initialSeconds()/2?1:2):(in.dealSeconds()<in.initialSeconds()/2?3:4);return in.localDay()%2==0?(in.dealSeconds()>=300?1:2):(in.dealSeconds()<300?3:4);}
  private static boolean validCard(String x){String[]p=x.split(" of ");return p.length==2&&RANKS.contains(p[0])&&SUITS.contains(p[1]);}private static long countRank(List<String>x,String r){return x.stream().filter(c->c.startsWith(r+" ")).count();}private static long countSuit(List<String>x,String s){return x.stream().filter(c->c.endsWith(" "+s)).count();}private static String suit(String c){return c.substring(c.lastIndexOf(' ')+1);}private static String n(String s){return s==null?"":s.trim().toLowerCase(Locale.ROOT);}
 }
@@ -118,7 +118,7 @@ public class FunctionsSolver extends AbstractModuleSolver<FunctionsInput, Functi
 			case 12 -> parse((a + b) + Long.toString(Math.abs(a - b)));
 			case 13 -> (larger / smaller) % 1000L;
 			case 14 -> digitalRoot(Math.abs(a - b));
-			case 15 -> 63L * bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
+			case 15 -> 63L * bomb.getEdgework().litIndicatorCount();
 			case 16 -> product;
 			case 17 -> product % 1000;
 			case 18 -> (long) digitSum(a) * digitSum(b);
@@ -158,9 +158,9 @@ public class FunctionsSolver extends AbstractModuleSolver<FunctionsInput, Functi
 
 	private static boolean condition(int index, BombEntity bomb) {
 		String serial = bomb.getSerialNumber().toUpperCase(Locale.ROOT);
-		int batteries = bomb.getBatteryCount(), indicators = bomb.getIndicators().size(), ports = portCount(bomb);
-		long lit = bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
-		long unlit = bomb.getIndicators().values().stream().filter(Boolean.FALSE::equals).count();
+		int batteries = bomb.getBatteryCount(), indicators = bomb.getEdgework().indicatorCount(), ports = portCount(bomb);
+		long lit = bomb.getEdgework().litIndicatorCount();
+		long unlit = bomb.getEdgework().explicitlyUnlitIndicatorCount();
 		return switch (index) {
 			case 0 -> containsAny(serial, "KBUM");
 			case 1 -> batteries == 2 || indicators == 2 || ports == 2;
@@ -169,7 +169,7 @@ public class FunctionsSolver extends AbstractModuleSolver<FunctionsInput, Functi
 			case 4 -> bomb.isIndicatorUnlit("BOB");
 			case 5 -> Character.isLetter(serial.charAt(0));
 			case 6 -> bomb.hasPort(PortType.PARALLEL) && !bomb.hasPort(PortType.SERIAL);
-			case 7 -> bomb.getPortPlates().stream().anyMatch(plate -> plate.getPorts().isEmpty());
+			case 7 -> bomb.getEdgework().hasEmptyPortPlate();
 			case 8 -> batteries == 0;
 			case 9 -> containsAny(serial, "AEIOU");
 			case 10 -> indicators > 3;
@@ -254,7 +254,7 @@ public class FunctionsSolver extends AbstractModuleSolver<FunctionsInput, Functi
 	}
 
 	private static int portCount(BombEntity bomb) {
-		return bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum();
+		return bomb.getEdgework().totalPortCount();
 	}
 
 	private static boolean containsAny(String value, String characters) {
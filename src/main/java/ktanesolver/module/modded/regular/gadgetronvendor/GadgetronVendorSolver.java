@@ -58,9 +58,9 @@ public class GadgetronVendorSolver extends AbstractModuleSolver<GadgetronVendorI
         Integer fixed = FIXED_AMMO_PRICES.get(weapon);
         if (fixed != null) return fixed;
         return switch (weapon) {
-            case "MORPH_O_RAY" -> bomb.getIndicators().size() + 1;
-            case "SUCK_CANNON" -> (bomb.getBatteryCount() + bomb.getPortPlates().size() + 1) * 2;
-            case "TAUNTER" -> bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum() + 1;
+            case "MORPH_O_RAY" -> bomb.getEdgework().indicatorCount() + 1;
+            case "SUCK_CANNON" -> (bomb.getBatteryCount() + bomb.getEdgework().portPlateCount() + 1) * 2;
+            case "TAUNTER" -> bomb.getEdgework().totalPortCount() + 1;
             case "WALLOPER" -> firstAndLastSerialDigits(bomb.getSerialNumber()) + 1;
             default -> throw new IllegalArgumentException("Unknown weapon");
         };
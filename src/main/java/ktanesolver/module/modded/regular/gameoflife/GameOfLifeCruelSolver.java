@@ -67,7 +67,7 @@ public class GameOfLifeCruelSolver extends AbstractModuleSolver<GameOfLifeInput,
 		rules[Color.BLUE.ordinal()] = bomb.getSerialNumber().toUpperCase().chars().anyMatch(c -> "SEAKY".indexOf(c) >= 0)
 			&& !bomb.hasIndicator("SND");
 		rules[Color.PURPLE.ordinal()] = unlit > lit && bomb.getBatteryCount() < 4;
-		rules[Color.BROWN.ordinal()] = BombEdgeworkUtils.getDistinctPortTypeCount(bomb) >= 3 && !bomb.getIndicators().isEmpty();
+		rules[Color.BROWN.ordinal()] = BombEdgeworkUtils.getDistinctPortTypeCount(bomb) >= 3 && bomb.getEdgework().indicatorCount() > 0;
 		return rules;
 	}
 
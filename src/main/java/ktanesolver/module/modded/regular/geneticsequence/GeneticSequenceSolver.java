@@ -51,7 +51,7 @@ public class GeneticSequenceSolver extends AbstractModuleSolver<GeneticSequenceI
         Set<String> usedLabels = new HashSet<>();
         boolean template = false;
         aminoAcids.add(startingAminoAcid(order));
-        Map<String, Boolean> indicators = bomb.getIndicators() == null ? Map.of() : bomb.getIndicators();
+        Map<String, Boolean> indicators = bomb.getEdgework().indicators();
 
         for (int step = 0; step < 3; step++) {
             List<Edge> available = GRAPH.get(aminoAcids.get(step)).stream().filter(edge -> !usedLabels.contains(edge.label())).toList();
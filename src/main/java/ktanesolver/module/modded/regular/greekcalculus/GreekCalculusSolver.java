@@ -84,10 +84,10 @@ public class GreekCalculusSolver extends AbstractModuleSolver<GreekCalculusInput
 
 	private static Map<Character, Long> greekValues(BombEntity bomb, List<DataPoint> points, List<Long> numericYValues) {
 		String serial = bomb.getSerialNumber() == null ? "" : bomb.getSerialNumber();
-		long litIndicators = bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
-		long unlitIndicators = bomb.getIndicators().values().stream().filter(Boolean.FALSE::equals).count();
-		long portCount = bomb.getPortPlates().stream().mapToLong(plate -> plate.getPorts().size()).sum();
-		long distinctPorts = bomb.getPortPlates().stream().flatMap(plate -> plate.getPorts().stream()).distinct().count();
+		long litIndicators = bomb.getEdgework().litIndicatorCount();
+		long unlitIndicators = bomb.getEdgework().explicitlyUnlitIndicatorCount();
+		long portCount = bomb.getEdgework().totalPortCount();
+		long distinctPorts = bomb.getEdgework().distinctPortTypeCount();
 
 		Map<Character, Long> values = new HashMap<>();
 		values.put('α', litIndicators);
@@ -106,14 +106,14 @@ public class GreekCalculusSolver extends AbstractModuleSolver<GreekCalculusInput
 		values.put('μ', (long)bomb.getBatteryHolders());
 		values.put('ν', (long)bomb.getDBatteryCount());
 		values.put('ξ', (long)points.getLast().x());
-		values.put('ο', (long)bomb.getPortPlates().size());
+		values.put('ο', (long)bomb.getEdgework().portPlateCount());
 		values.put('π', 3L);
 		values.put('ρ', distinctPorts);
 		values.put('σ', serial.chars().filter(Character::isDigit).map(character -> character - '0').asLongStream().sum());
 		values.put('τ', 6L);
 		values.put('υ', (long)bomb.getBatteryCount());
 		values.put('φ', 2L);
-		values.put('ψ', (long)bomb.getIndicators().size());
+		values.put('ψ', (long)bomb.getEdgework().indicatorCount());
 		values.put('ω', (long)serial.chars().filter(Character::isDigit).map(character -> character - '0').findFirst().orElse(0));
 		return values;
 	}
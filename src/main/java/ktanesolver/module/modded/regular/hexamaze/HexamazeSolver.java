@@ -1,6 +1,5 @@
 package ktanesolver.module.modded.regular.hexamaze;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Base64;
 import java.util.BitSet;
@@ -19,6 +18,7 @@ import ktanesolver.entity.RoundEntity;
 import ktanesolver.enums.ModuleType;
 import ktanesolver.logic.AbstractModuleSolver;
 import ktanesolver.logic.SolveResult;
+import ktanesolver.module.shared.graph.GraphSearch;
 
 @Service
 @ModuleInfo(
@@ -34,6 +34,7 @@ import ktanesolver.logic.SolveResult;
 public class HexamazeSolver extends AbstractModuleSolver<HexamazeInput, HexamazeOutput> {
 	private static final int SIZE = 12;
 	private static final int WIDTH = 25;
+	private static final int EXIT = 49;
 	private static final String[] COLORS = { "RED", "YELLOW", "GREEN", "CYAN", "BLUE", "PINK" };
 	private static final String[] DIRECTIONS = { "NW", "N", "NE", "SE", "S", "SW" };
 	private static final BitSet WALLS = BitSet.valueOf(Base64.getDecoder().decode(
@@ -117,40 +118,39 @@ public class HexamazeSolver extends AbstractModuleSolver<HexamazeInput, Hexamaze
 		return true;
 	}
 
+	/**
+	 * Searches the 37 cells of the submaze around {@code center}, held as {@link #state(Hex)} indices, plus one {@link #EXIT}
+	 * state reached by every move that leaves through an edge of the required colour.
+	 */
 	private static List<Integer> findPath(Hex start, Hex center, int exit) {
-		ArrayDeque<Hex> queue = new ArrayDeque<>();
-		Map<Hex, Hex> previous = new HashMap<>();
-		Map<Hex, Integer> direction = new HashMap<>();
-		queue.add(start);
-		previous.put(start, null);
-		while (!queue.isEmpty()) {
-			Hex current = queue.remove();
-			for (int dir = 0; dir < 6; dir++) {
-				if (hasWall(current, dir)) continue;
-				Hex next = current.neighbor(dir);
-				int distance = next.subtract(center).distance();
-				if (distance >= 4) {
-					if (edges(next.subtract(center), 4).contains(exit)) return reconstruct(current, previous, direction, dir);
-					continue;
-				}
-				if (!previous.containsKey(next)) {
-					previous.put(next, current);
-					direction.put(next, dir);
-					queue.add(next);
+		GraphSearch search = GraphSearch.acquire();
+		try {
+			int found = search.breadthFirst(EXIT + 1, state(start.subtract(center)), state -> state == EXIT, (state, moves) -> {
+				Hex current = hex(state).add(center);
+				for (int dir = 0; dir < 6; dir++) {
+					if (hasWall(current, dir)) continue;
+					Hex next = current.neighbor(dir).subtract(center);
+					if (next.distance() < 4) moves.accept(state(next), dir);
+					else if (edges(next, 4).contains(exit)) moves.accept(EXIT, dir);
 				}
-			}
+			});
+			if (found == GraphSearch.NONE) return null;
+			List<Integer> path = new ArrayList<>();
+			for (int dir : search.moves(found)) path.add(dir);
+			return path;
+		}
+		finally {
+			GraphSearch.release(search);
 		}
-		return null;
 	}
 
-	private static List<Integer> reconstruct(Hex current, Map<Hex, Hex> previous, Map<Hex, Integer> direction, int exitDirection) {
-		List<Integer> path = new ArrayList<>();
-		while (previous.get(current) != null) {
-			path.add(0, direction.get(current));
-			current = previous.get(current);
-		}
-		path.add(exitDirection);
-		return path;
+	/** A submaze cell relative to the centre, on a 7×7 grid of axial coordinates from -3 to 3. */
+	private static int state(Hex local) {
+		return (local.q() + 3) * 7 + local.r() + 3;
+	}
+
+	private static Hex hex(int state) {
+		return new Hex(state / 7 - 3, state % 7 - 3);
 	}
 
 	private static boolean hasWall(Hex hex, int dir) {
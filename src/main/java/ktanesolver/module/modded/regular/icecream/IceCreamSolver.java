@@ -99,10 +99,10 @@ public class IceCreamSolver extends AbstractModuleSolver<IceCreamInput, IceCream
 	}
 
 	private static int priorityIndex(BombEntity bomb) {
-		long lit = bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
-		long unlit = bomb.getIndicators().values().stream().filter(Boolean.FALSE::equals).count();
+		long lit = bomb.getEdgework().litIndicatorCount();
+		long unlit = bomb.getEdgework().explicitlyUnlitIndicatorCount();
 		if (lit > unlit) return 0;
-		if (bomb.getPortPlates().stream().anyMatch(plate -> plate.getPorts().isEmpty())) return 1;
+		if (bomb.getEdgework().hasEmptyPortPlate()) return 1;
 		return bomb.getBatteryCount() >= 3 ? 2 : 3;
 	}
 
@@ -1,5 +1,5 @@
 package ktanesolver.module.modded.regular.instructions;import java.util.*;import org.springframework.stereotype.Service;import ktanesolver.annotation.ModuleInfo;import ktanesolver.dto.ModuleCatalogDto;import ktanesolver.entity.*;import ktanesolver.enums.ModuleType;import ktanesolver.logic.*;
 @Service@ModuleInfo(type=ModuleType.INSTRUCTIONS,id="instructions",name="Instructions",category=ModuleCatalogDto.ModuleCategory.MODDED_REGULAR,description="Substitute five screen settings into the redacted button rules.",tags={"instructions","buttons","edgework","ordering"})
 public class InstructionsSolver extends AbstractModuleSolver<InstructionsInput,InstructionsOutput>{@Override protected SolveResult<InstructionsOutput>doSolve(RoundEntity round,BombEntity bomb,ModuleEntity module,InstructionsInput input){if(input==null||input.screen1()==null||input.screen2()==null||input.screen3()==null||input.screen4()==null||input.screen5()==null||input.buttons()==null||input.buttons().size()!=4)return failure("Enter all five screens and four buttons");if(input.twoFactorCount()<0)return failure("Two-factor count cannot be negative");if(input.buttons().stream().anyMatch(b->b==null||b.color()==null||b.label()==null||!b.label().toUpperCase(Locale.ROOT).matches("[A-D]")))return failure("Each button needs a color and label A–D");if(input.buttons().stream().map(InstructionsInput.Button::color).distinct().count()!=4||input.buttons().stream().map(b->b.label().toUpperCase(Locale.ROOT)).distinct().count()!=4)return failure("Button colors and labels must each be unique");int s1=edgework(bomb,input.screen1(),input.twoFactorCount()),s3=edgework(bomb,input.screen3(),input.twoFactorCount()),s2=position(input.screen2(),input.buttons()),s4=position(input.screen4(),input.buttons()),s5=position(input.screen5(),input.buttons()),answer,rule;if(s1==0){answer=s5>s2?s5:s5<s2?s2:s4;rule=1;}else if(s3>s1){answer=s2;rule=2;}else if(s2<s4){answer=s5;rule=3;}else if(s3>3){answer=s1%4;rule=4;}else if(s2!=s4&&s2!=s5&&s4!=s5){answer=0;while(answer==s2||answer==s4||answer==s5)answer++;rule=5;}else{answer=s4;rule=6;}InstructionsInput.Button button=input.buttons().get(answer);return success(new InstructionsOutput(answer+1,button.color().name(),button.label().toUpperCase(Locale.ROOT),rule,s1,s3));}
-	static int edgework(BombEntity b,InstructionsInput.Edgework e,int twoFactors){String serial=b.getSerialNumber()==null?"":b.getSerialNumber();return switch(e){case BATTERIES->b.getBatteryCount();case BATTERY_HOLDERS->b.getBatteryHolders();case INDICATORS->b.getIndicators().size();case LIT_INDICATORS->(int)b.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();case UNLIT_INDICATORS->(int)b.getIndicators().values().stream().filter(Boolean.FALSE::equals).count();case PORTS->b.getPortPlates().stream().mapToInt(p->p.getPorts().size()).sum();case PORT_PLATES->b.getPortPlates().size();case SERIAL_DIGITS->(int)serial.chars().filter(Character::isDigit).count();case SERIAL_LETTERS->(int)serial.chars().filter(Character::isLetter).count();case MODULES->b.getModules().size();case TWO_FACTORS->twoFactors;case SOLVED_MODULES->(int)b.getModules().stream().filter(ModuleEntity::isSolved).count();case PORT_TYPES->(int)b.getPortPlates().stream().flatMap(p->p.getPorts().stream()).distinct().count();case STRIKES->b.getStrikes();};}
+	static int edgework(BombEntity b,InstructionsInput.Edgework e,int twoFactors){String serial=b.getSerialNumber()==null?"":b.getSerialNumber();return switch(e){case BATTERIES->b.getBatteryCount();case BATTERY_HOLDERS->b.getBatteryHolders();case INDICATORS->b.getEdgework().indicatorCount();case LIT_INDICATORS->b.getEdgework().litIndicatorCount();case UNLIT_INDICATORS->b.getEdgework().explicitlyUnlitIndicatorCount();case PORTS->b.getEdgework().totalPortCount();case PORT_PLATES->b.getEdgework().portPlateCount();case SERIAL_DIGITS->(int)serial.chars().filter(Character::isDigit).count();case SERIAL_LETTERS->(int)serial.chars().filter(Character::isLetter).count();case MODULES->b.getStatistics().moduleCount();case TWO_FACTORS->twoFactors;case SOLVED_MODULES->b.getStatistics().solvedCount();case PORT_TYPES->b.getEdgework().distinctPortTypeCount();case STRIKES->b.getStrikes();};}
 	static int position(InstructionsInput.ButtonReference ref,List<InstructionsInput.Button>buttons){if(ref.ordinal()>=8)return ref.ordinal()-8;for(int i=0;i<4;i++){InstructionsInput.Button b=buttons.get(i);if(ref.ordinal()<4&&b.color().ordinal()==ref.ordinal())return i;if(ref.ordinal()>=4&&b.label().equalsIgnoreCase(String.valueOf((char)('A'+ref.ordinal()-4))))return i;}throw new IllegalArgumentException("Reference not present");}}
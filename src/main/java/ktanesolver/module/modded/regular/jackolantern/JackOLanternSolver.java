@@ -1 +1 @@
-package ktanesolver.module.modded.regular.jackolantern;import org.springframework.stereotype.Service;import ktanesolver.annotation.ModuleInfo;import ktanesolver.dto.ModuleCatalogDto;import ktanesolver.entity.*;import ktanesolver.enums.*;import ktanesolver.logic.*;@Service@ModuleInfo(type=ModuleType.THE_JACK_O_LANTERN,id="jackOLantern",name="The Jack-O'-Lantern",category=ModuleCatalogDto.ModuleCategory.MODDED_REGULAR,description="Choose Trick or Treat from the pumpkin features and edgework.",tags={"pumpkin","halloween","trick","treat"})public class JackOLanternSolver extends AbstractModuleSolver<JackOLanternInput,JackOLanternOutput>{@Override protected SolveResult<JackOLanternOutput>doSolve(RoundEntity round,BombEntity bomb,ModuleEntity module,JackOLanternInput input){if(input==null||input.eyePattern()<1||input.eyePattern()>3||input.mouthPattern()<1||input.mouthPattern()>4)return failure("Eye pattern must be 1–3 and mouth pattern 1–4");boolean match=condition(bomb,input.eyePattern(),input.mouthPattern());boolean trick=match^input.nosePresent();int solved=(int)bomb.getModules().stream().filter(ModuleEntity::isSolved).count();return success(new JackOLanternOutput(trick?"trick":"treat",match,solved));}static boolean condition(BombEntity b,int eye,int mouth){long lit=b.getIndicators().values().stream().filter(Boolean.TRUE::equals).count(),unlit=b.getIndicators().size()-lit;int ports=b.getPortPlates().stream().mapToInt(p->p.getPorts().size()).sum();return switch(eye){case 1->switch(mouth){case 1->unlit>lit;case 2->b.getBatteryCount()==0;case 3->b.getPortPlates().stream().allMatch(p->!p.getPorts().isEmpty());default->b.hasIndicator("CAR");};case 2->switch(mouth){case 1->b.getPortPlates().stream().anyMatch(p->p.getPorts().contains(PortType.SERIAL)&&p.getPorts().contains(PortType.PARALLEL));case 2->b.hasIndicator("SIG");case 3->b.getModules().stream().filter(ModuleEntity::isSolved).count()%2==0;default->lit>unlit;};default->switch(mouth){case 1->b.getBatteryCount()>ports;case 2->!b.hasPort(PortType.STEREO_RCA)&&!b.hasPort(PortType.RJ45);case 3->b.hasPort(PortType.PS2)&&b.hasPort(PortType.DVI);default->b.hasIndicator("TRN");};};}}
+package ktanesolver.module.modded.regular.jackolantern;import org.springframework.stereotype.Service;import ktanesolver.annotation.ModuleInfo;import ktanesolver.dto.ModuleCatalogDto;import ktanesolver.entity.*;import ktanesolver.enums.*;import ktanesolver.logic.*;@Service@ModuleInfo(type=ModuleType.THE_JACK_O_LANTERN,id="jackOLantern",name="The Jack-O'-Lantern",category=ModuleCatalogDto.ModuleCategory.MODDED_REGULAR,description="Choose Trick or Treat from the pumpkin features and edgework.",tags={"pumpkin","halloween","trick","treat"})public class JackOLanternSolver extends AbstractModuleSolver<JackOLanternInput,JackOLanternOutput>{@Override protected SolveResult<JackOLanternOutput>doSolve(RoundEntity round,BombEntity bomb,ModuleEntity module,JackOLanternInput input){if(input==null||input.eyePattern()<1||input.eyePattern()>3||input.mouthPattern()<1||input.mouthPattern()>4)return failure("Eye pattern must be 1–3 and mouth pattern 1–4");boolean match=condition(bomb,input.eyePattern(),input.mouthPattern());boolean trick=match^input.nosePresent();int solved=bomb.getStatistics().solvedCount();return success(new JackOLanternOutput(trick?"trick":"treat",match,solved));}static boolean condition(BombEntity b,int eye,int mouth){long lit=b.getEdgework().litIndicatorCount(),unlit=b.getEdgework().indicatorCount()-lit;int ports=b.getEdgework().totalPortCount();return switch(eye){case 1->switch(mouth){case 1->unlit>lit;case 2->b.getBatteryCount()==0;case 3->b.getEdgework().portPlates().stream().allMatch(p->!p.isEmpty());default->b.hasIndicator("CAR");};case 2->switch(mouth){case 1->b.getEdgework().portPlates().stream().anyMatch(p->p.contains(PortType.SERIAL)&&p.contains(PortType.PARALLEL));case 2->b.hasIndicator("SIG");case 3->b.getStatistics().solvedCount()%2==0;default->lit>unlit;};default->switch(mouth){case 1->b.getBatteryCount()>ports;case 2->!b.hasPort(PortType.STEREO_RCA)&&!b.hasPort(PortType.RJ45);case 3->b.hasPort(PortType.PS2)&&b.hasPort(PortType.DVI);default->b.hasIndicator("TRN");};};}}
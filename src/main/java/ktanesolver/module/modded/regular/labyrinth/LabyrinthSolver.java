@@ -1,13 +1,12 @@
 package ktanesolver.module.modded.regular.labyrinth;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.IntStream;
 import org.springframework.stereotype.Service;
 import ktanesolver.annotation.ModuleInfo;
 import ktanesolver.dto.ModuleCatalogDto;
@@ -17,6 +16,8 @@ import ktanesolver.entity.RoundEntity;
 import ktanesolver.enums.ModuleType;
 import ktanesolver.logic.AbstractModuleSolver;
 import ktanesolver.logic.SolveResult;
+import ktanesolver.module.shared.graph.AdjacencyGraph;
+import ktanesolver.module.shared.graph.GraphSearch;
 
 @Service
 @ModuleInfo(
@@ -45,6 +46,13 @@ public class LabyrinthSolver extends AbstractModuleSolver<LabyrinthInput, Labyri
 		maze("R DL R RDL L -", "D URD DL URD RDL L", "URD UL URD UL URD L", "URD DL URD L URD DL", "UD UR UDL RD UDL U", "URD L URD UL URD DL", "U R UL R UL U")
 	);
 	private static final Map<Character, String> DIRECTION_NAMES = Map.of('U', "UP", 'L', "LEFT", 'R', "RIGHT", 'D', "DOWN");
+	private static final String DIRECTIONS = "ULRD";
+	// indexed by state; null where the grid has no cell
+	private static final String[] COORDINATES = IntStream.range(0, 42)
+		.mapToObj(state -> String.valueOf((char) ('A' + state % 6)) + (state / 6 + 1))
+		.map(coordinate -> POSITIONS.contains(coordinate) ? coordinate : null)
+		.toArray(String[]::new);
+	private static final List<AdjacencyGraph> GRAPHS = MAZES.stream().map(LabyrinthSolver::graph).toList();
 
 	@Override
 	protected SolveResult<LabyrinthOutput> doSolve(
@@ -91,32 +99,35 @@ public class LabyrinthSolver extends AbstractModuleSolver<LabyrinthInput, Labyri
 	}
 
 	static List<String> route(int layer, String start, Set<String> targets) {
-		Map<String, String> maze = MAZES.get(layer - 1);
-		ArrayDeque<String> queue = new ArrayDeque<>(List.of(start));
-		Map<String, Previous> previous = new HashMap<>();
-		previous.put(start, null);
-		String destination = null;
-		while (!queue.isEmpty()) {
-			String current = queue.remove();
-			if (targets.contains(current)) { destination = current; break; }
-			for (char direction : "ULRD".toCharArray()) {
-				if (!maze.get(current).contains(String.valueOf(direction))) continue;
-				String next = move(current, direction);
-				if (next != null && !previous.containsKey(next)) {
-					previous.put(next, new Previous(current, direction));
-					queue.add(next);
-				}
-			}
+		GraphSearch search = GraphSearch.acquire();
+		try {
+			int destination = search.breadthFirst(COORDINATES.length, state(start), state -> targets.contains(COORDINATES[state]), GRAPHS.get(layer - 1));
+			if (destination == GraphSearch.NONE) return null;
+			ArrayList<String> directions = new ArrayList<>();
+			for (int direction : search.moves(destination)) directions.add(DIRECTION_NAMES.get(DIRECTIONS.charAt(direction)));
+			return directions;
 		}
-		if (destination == null) return null;
-		ArrayList<String> directions = new ArrayList<>();
-		for (String at = destination; !at.equals(start); ) {
-			Previous hop = previous.get(at);
-			directions.add(DIRECTION_NAMES.get(hop.direction()));
-			at = hop.coordinate();
+		finally {
+			GraphSearch.release(search);
 		}
-		java.util.Collections.reverse(directions);
-		return directions;
+	}
+
+	private static AdjacencyGraph graph(Map<String, String> maze) {
+		AdjacencyGraph.Builder graph = AdjacencyGraph.builder(COORDINATES.length);
+		for (String current : COORDINATES) {
+			if (current == null) continue;
+			for (int direction = 0; direction < DIRECTIONS.length(); direction++) {
+				if (maze.get(current).indexOf(DIRECTIONS.charAt(direction)) < 0) continue;
+				String next = move(current, DIRECTIONS.charAt(direction));
+				if (next != null) graph.edge(state(current), state(next), direction);
+			}
+		}
+		return graph.build();
+	}
+
+	/** Coordinates A1 to F7 as {@code (row - 1) * 6 + column}. */
+	private static int state(String coordinate) {
+		return (coordinate.charAt(1) - '1') * 6 + coordinate.charAt(0) - 'A';
 	}
 
 	static Set<String> positions() { return POSITIONS; }
@@ -169,5 +180,4 @@ public class LabyrinthSolver extends AbstractModuleSolver<LabyrinthInput, Labyri
 		return result;
 	}
 
-	private record Previous(String coordinate, char direction) {}
 }
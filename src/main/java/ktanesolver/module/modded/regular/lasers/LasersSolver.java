@@ -47,7 +47,7 @@ public class LasersSolver extends AbstractModuleSolver<LasersInput, LasersOutput
 		int timeRoot = input.startingTimeMinutes() % 9 + 1;
 		int[] rulePositions = {labels.indexOf(rowRoot), labels.indexOf(columnRoot), labels.indexOf(timeRoot)};
 		int[] path = new int[7];
-		if (!search(labels, rulePositions, bomb.getModules().size() % 2, path, new boolean[9], 0)) {
+		if (!search(labels, rulePositions, bomb.getStatistics().moduleCount() % 2, path, new boolean[9], 0)) {
 			return failure("No safe seven-stage path exists for these hatches");
 		}
 
@@ -27,7 +27,7 @@ public class LaundrySolver extends AbstractModuleSolver<LaundryInput, LaundryOut
 
     @Override
     protected SolveResult<LaundryOutput> doSolve(RoundEntity round, BombEntity bomb, ModuleEntity module, LaundryInput input) {
-        LaundryItem item = indexedValue(LaundryItem.values(), BombEdgeworkUtils.countUnsolvedRegularModules(bomb) + bomb.getIndicators().size());
+        LaundryItem item = indexedValue(LaundryItem.values(), BombEdgeworkUtils.countUnsolvedRegularModules(bomb) + bomb.getEdgework().indicatorCount());
         LaundryMaterial material = indexedValue(
             LaundryMaterial.values(),
             BombEdgeworkUtils.getTotalPortCount(bomb) + BombEdgeworkUtils.countSolvedModules(bomb) - bomb.getBatteryHolders()
@@ -37,7 +37,7 @@ public class LedMathSolver extends AbstractModuleSolver<LedMathInput, LedMathOut
 
         int batteries = bomb.getBatteryCount();
         int holders = bomb.getBatteryHolders();
-        int indicators = bomb.getIndicators().size();
+        int indicators = bomb.getEdgework().indicatorCount();
         int serialDigit = serial.chars().filter(Character::isDigit).reduce((first, last) -> last).orElseThrow() - '0';
         int valueA = switch (a) {
             case RED -> (batteries + indicators) * 2;
@@ -36,15 +36,15 @@ public class LeftAndRightSolver extends AbstractModuleSolver<LeftAndRightInput,
         String serial = bomb.getSerialNumber() == null ? "" : bomb.getSerialNumber().toUpperCase(Locale.ROOT);
         if (serial.chars().noneMatch(Character::isDigit)) return failure("The bomb serial number needs a digit");
 
-        int ports = bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum();
-        int plates = bomb.getPortPlates().size();
+        int ports = bomb.getEdgework().totalPortCount();
+        int plates = bomb.getEdgework().portPlateCount();
         int lastDigit = serial.chars().filter(Character::isDigit).map(character -> character - '0').reduce((a, b) -> b).orElse(0);
         StringBuilder number = new StringBuilder().append((lastDigit * lastDigit * lastDigit) % 8);
         if (ports != plates) number.append((int) (Math.pow(ports + plates, 4) % 4));
         else number.append(bomb.getDBatteryCount()).append(serial.chars().filter(Character::isLetter).count());
         int batteryCount = bomb.getBatteryCount(), holders = bomb.getBatteryHolders();
-        long lit = bomb.getIndicators().values().stream().filter(Boolean::booleanValue).count();
-        long unlit = bomb.getIndicators().size() - lit;
+        long lit = bomb.getEdgework().litIndicatorCount();
+        long unlit = bomb.getEdgework().indicatorCount() - lit;
         if (batteryCount == holders) number.append((int) (((lit - unlit) * (lit - unlit)) % 6));
         else number.append(batteryCount + holders);
         String binary = new BigInteger(number.toString()).toString(2);
@@ -65,8 +65,8 @@ public class LeftAndRightSolver extends AbstractModuleSolver<LeftAndRightInput,
         List<BooleanSupplier> conditions = List.of(
             () -> lit > unlit,
             () -> serial.chars().anyMatch(character -> "AEIOU".indexOf(character) >= 0),
-            () -> bomb.getBatteryHolders() + plates + bomb.getIndicators().size() <= 5,
-            () -> bomb.getModules().size() >= 5,
+            () -> bomb.getBatteryHolders() + plates + bomb.getEdgework().indicatorCount() <= 5,
+            () -> bomb.getStatistics().moduleCount() >= 5,
             () -> serial.chars().filter(Character::isDigit).count() == serial.chars().filter(Character::isLetter).count());
         int[] thresholds = {3, 2, 4, 1, 2};
         for (int index = 0; index < conditions.size() && values.size() < 2; index++) if (conditions.get(index).getAsBoolean()) values.add(thresholds[index]);
@@ -138,8 +138,8 @@ public class LightspeedSolver extends AbstractModuleSolver<LightspeedInput, Ligh
 	private static String encryption(int stardate, int sub, BombEntity bomb, Rank rank, String quadrant) {
 		int first = stardate / 10000;
 		int second = (stardate / 1000 + stardate / 100 % 10 + stardate / 10 % 10 + stardate % 10) % 10;
-		int third = (sub + bomb.getPortPlates().size()
-			+ (int) bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count()) % 10;
+		int third = (sub + bomb.getEdgework().portPlateCount()
+			+ bomb.getEdgework().litIndicatorCount()) % 10;
 		String fourth;
 		int batteries = bomb.getBatteryCount();
 		if (batteries <= 3) {
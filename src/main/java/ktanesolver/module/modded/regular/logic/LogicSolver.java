@@ -52,7 +52,7 @@ public class LogicSolver extends AbstractModuleSolver<LogicInput, LogicOutput> {
 
 	private boolean evaluateStatement(BombEntity bomb, char letter) {
 		return switch (Character.toUpperCase(letter)) {
-			case 'A' -> bomb.getBatteryCount() == bomb.getIndicators().size();
+			case 'A' -> bomb.getBatteryCount() == bomb.getEdgework().indicatorCount();
 			case 'B' -> BombEdgeworkUtils.serialHasMoreLettersThanDigits(bomb);
 			case 'C' -> bomb.hasIndicator("IND");
 			case 'D' -> bomb.hasIndicator("FRK");
@@ -63,7 +63,7 @@ public class LogicSolver extends AbstractModuleSolver<LogicInput, LogicOutput> {
 			case 'I' -> bomb.isLastDigitOdd();
 			case 'J' -> bomb.getBatteryCount() > 4;
 			case 'K' -> BombEdgeworkUtils.getLitIndicatorCount(bomb) == 1;
-			case 'L' -> bomb.getIndicators().size() > 2;
+			case 'L' -> bomb.getEdgework().indicatorCount() > 2;
 			case 'M' -> !BombEdgeworkUtils.hasDuplicatePorts(bomb);
 			case 'N' -> bomb.getBatteryHolders() > 2;
 			case 'O' -> BombEdgeworkUtils.hasBothLitAndUnlitIndicators(bomb);
@@ -74,8 +74,8 @@ public class LogicSolver extends AbstractModuleSolver<LogicInput, LogicOutput> {
 			case 'T' -> bomb.hasIndicator("MSA");
 			case 'U' -> bomb.getBatteryHolders() == 1;
 			case 'V' -> bomb.serialHasVowel();
-			case 'W' -> bomb.getIndicators().isEmpty();
-			case 'X' -> bomb.getIndicators().size() == 1;
+			case 'W' -> bomb.getEdgework().indicatorCount() == 0;
+			case 'X' -> bomb.getEdgework().indicatorCount() == 1;
 			case 'Y' -> BombEdgeworkUtils.getTotalPortCount(bomb) > 5;
 			case 'Z' -> BombEdgeworkUtils.getTotalPortCount(bomb) < 2;
 			default -> throw new IllegalArgumentException("Invalid statement letter: " + letter);
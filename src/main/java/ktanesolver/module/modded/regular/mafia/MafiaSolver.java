@@ -51,7 +51,7 @@ public class MafiaSolver extends AbstractModuleSolver<MafiaInput, MafiaOutput> {
 		Context context = new Context(bomb, input);
 		Suspect first = firstMatchingSuspect(bomb.getSerialNumber(), input.suspects());
 		List<Suspect> remaining = new ArrayList<>(input.suspects());
-		if(bomb.getIndicators().size() >= 2) Collections.reverse(remaining);
+		if(bomb.getEdgework().indicatorCount() >= 2) Collections.reverse(remaining);
 
 		List<Suspect> eliminated = new ArrayList<>();
 		int index = remaining.indexOf(first);
@@ -91,7 +91,7 @@ public class MafiaSolver extends AbstractModuleSolver<MafiaInput, MafiaOutput> {
 			case WILL -> (c.bomb.hasPort(PortType.PS2) || c.bomb.hasPort(PortType.DVI)) && c.serialDigits.stream().anyMatch(digit -> digit % 2 == 0) ? eliminated.get(4) : suspect;
 			case LACY -> c.hasAny("Boolean Venn Diagram", "Bitwise Operations") || c.contains("logic") ? sameSide : suspect;
 			case CLAIRE -> c.moduleCount < 20 ? eliminated.getLast() : suspect;
-			case KENNY -> c.bomb.getIndicators().containsValue(false) ? suspect : afterSkipping(players, eliminated.getFirst(), suspect);
+			case KENNY -> c.bomb.getEdgework().explicitlyUnlitIndicatorCount() > 0 ? suspect : afterSkipping(players, eliminated.getFirst(), suspect);
 			case RICK -> BombEdgeworkUtils.hasEmptyPortPlate(c.bomb) ? after(players, suspect, players.size() - 1) : suspect;
 			case WALTER -> c.serialHasAny("WALTER") ? eliminated.getFirst() : suspect;
 			case BONNIE -> firstAfter(players, suspect, player -> player.name().startsWith("B"));
@@ -103,7 +103,7 @@ public class MafiaSolver extends AbstractModuleSolver<MafiaInput, MafiaOutput> {
 			case KATE -> c.serialHasAny("LOST") || c.hasAny("The Swan") ? (players.contains(Suspect.JOHN) ? Suspect.JOHN : sameSide) : suspect;
 			case STACY -> c.moduleCount < c.input.startingTimeMinutes() ? eliminated.getFirst() : suspect;
 			case DIANE -> c.bomb.hasPort(PortType.USB) || c.input.hasVgaPort() || c.hasAny("The Screw") ? eliminated.getLast() : suspect;
-			case MAC -> c.bomb.getPortPlates().stream().anyMatch(plate -> plate.getPorts().containsAll(Set.of(PortType.PARALLEL, PortType.SERIAL))) ? eliminated.get(5) : suspect;
+			case MAC -> c.bomb.getEdgework().portPlates().stream().anyMatch(ports -> ports.containsAll(Set.of(PortType.PARALLEL, PortType.SERIAL))) ? eliminated.get(5) : suspect;
 			case JIM -> c.hasAny("Chord Qualities", "Rhythms") || c.contains("piano keys") || c.contains("jukebox") || c.contains("guitar chords") ? sameSide : suspect;
 			case CLYDE -> players.contains(Suspect.BONNIE) ? Suspect.BONNIE : suspect;
 			case TOMMY -> c.bomb.getBatteryCount() == 0 && c.portCount == 0 ? eliminated.get(3) : suspect;
@@ -125,7 +125,7 @@ public class MafiaSolver extends AbstractModuleSolver<MafiaInput, MafiaOutput> {
 			case ED -> c.countAnyOrContaining(Set.of("Gridlock", "Human Resources", "Lasers"), "double-oh") == 1 ? eliminated.get(1) : suspect;
 			case RONNY -> c.hasVanillaModule && c.portCount < 4 ? suspect : eliminated.getFirst();
 			case TERRY -> c.bomb.getBatteryCount() >= 3 ? eliminated.get(2) : suspect;
-			case CLAIRA -> c.bomb.getPortPlates().stream().filter(plate -> plate.getPorts().stream().anyMatch(Set.of(PortType.RJ45, PortType.STEREO_RCA, PortType.PS2)::contains)).count() >= 2 ? sameSide : suspect;
+			case CLAIRA -> c.bomb.getEdgework().portPlates().stream().filter(ports -> ports.stream().anyMatch(Set.of(PortType.RJ45, PortType.STEREO_RCA, PortType.PS2)::contains)).count() >= 2 ? sameSide : suspect;
 			case NICK -> c.hasAny("Zoo", "Nonogram", "Murder", "X01") ? suspect : eliminated.getFirst();
 			case COB -> c.hasDuplicateModules ? longestAfter(players, suspect) : suspect;
 			case ASH -> c.contains("monsplode") ? eliminated.getLast() : suspect;
@@ -209,10 +209,10 @@ public class MafiaSolver extends AbstractModuleSolver<MafiaInput, MafiaOutput> {
 			String serial = bomb.getSerialNumber().toUpperCase(Locale.ROOT);
 			this.serialDigits = serial.chars().filter(Character::isDigit).map(character -> character - '0').boxed().toList();
 			this.serialLetters = serial.chars().filter(Character::isLetter).collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append).toString();
-			this.indicatorLetters = bomb.getIndicators().keySet().stream().map(String::toUpperCase).reduce("", String::concat);
-			this.litIndicators = bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
-			this.unlitIndicators = bomb.getIndicators().size() - litIndicators;
-			this.hasNeedyModule = input.hasAdditionalNeedyModule() || bomb.getModules().stream().anyMatch(module -> module.getType().isNeedy());
+			this.indicatorLetters = bomb.getEdgework().indicators().keySet().stream().map(String::toUpperCase).reduce("", String::concat);
+			this.litIndicators = bomb.getEdgework().litIndicatorCount();
+			this.unlitIndicators = bomb.getEdgework().indicatorCount() - litIndicators;
+			this.hasNeedyModule = input.hasAdditionalNeedyModule() || bomb.getStatistics().hasNeedy();
 			this.hasVanillaModule = bomb.getModules().stream().anyMatch(module -> VANILLA.contains(module.getType()));
 			List<String> duplicateKeys = rawModuleNames.stream().map(MafiaSolver::compact).toList();
 			this.hasDuplicateModules = duplicateKeys.size() != new HashSet<>(duplicateKeys).size();
@@ -10,7 +10,6 @@ import ktanesolver.annotation.ModuleInfo;
 import ktanesolver.dto.ModuleCatalogDto;
 import ktanesolver.entity.BombEntity;
 import ktanesolver.entity.ModuleEntity;
-import ktanesolver.entity.PortPlateEntity;
 import ktanesolver.entity.RoundEntity;
 import ktanesolver.enums.ModuleType;
 import ktanesolver.enums.PortType;
@@ -110,7 +109,7 @@ public class ManometersSolver extends AbstractModuleSolver<ManometersInput, Mano
 
 	static int shift(int base, BombEntity bomb, ManometersInput input, boolean blueScreenSeen, boolean orangeScreenSeen) {
 		int aa = bomb.getAaBatteryCount(), d = bomb.getDBatteryCount(), batteries = bomb.getBatteryCount();
-		int indicators = bomb.getIndicators().size(), strikes = bomb.getStrikes();
+		int indicators = bomb.getEdgework().indicatorCount(), strikes = bomb.getStrikes();
 		return switch (base) {
 			case 10 -> batteries >= 2 ? 2 : bomb.hasPort(PortType.RJ45) ? -2 : input.month() == 8 ? 3 : -1;
 			case 17 -> portCount(bomb) >= 3 ? 5 : bomb.isIndicatorUnlit("FRQ") ? -4 : orangeScreenSeen ? 1 : 4;
@@ -122,7 +121,7 @@ public class ManometersSolver extends AbstractModuleSolver<ManometersInput, Mano
 			case 0 -> aa <= d ? 2 : bomb.isIndicatorLit("TRN") ? 1 : input.month() == 2 ? 4 : 2;
 			case 7 -> bomb.isIndicatorLit("MSA") ? 2 : bomb.hasPort(PortType.STEREO_RCA) ? -2 : batteries == 0 ? 3 : -3;
 			case 1 -> bomb.isIndicatorLit("CAR") ? 2 : bomb.isIndicatorUnlit("CLR") ? -5 : bomb.serialHasVowel() ? 1 : 5;
-			case 14 -> input.dayOfWeek() == 4 ? 5 : bomb.getPortPlates().size() > 2 ? -1 : portCount(bomb, PortType.RJ45) >= 2 ? -3 : -3;
+			case 14 -> input.dayOfWeek() == 4 ? 5 : bomb.getEdgework().portPlateCount() > 2 ? -1 : portCount(bomb, PortType.RJ45) >= 2 ? -3 : -3;
 			case 20 -> input.month() % 2 == 0 ? 1 : bomb.isIndicatorLit("IND") ? -8 : hasModule(bomb, ModuleType.DR_DOCTOR) ? 2 : -4;
 			case 6 -> d < aa ? 2 : indicators > 2 ? -1 : bomb.isLastDigitOdd() ? 1 : 4;
 			case 15 -> input.hour() >= 17 ? 2 : aa == indicators ? -2 : bomb.isIndicatorLit("FRQ") ? 3 : 5;
@@ -150,7 +149,7 @@ public class ManometersSolver extends AbstractModuleSolver<ManometersInput, Mano
 			if (COMBINATIONS[i][0] == bottomLeft && COMBINATIONS[i][1] == top && COMBINATIONS[i][2] == bottomRight) return i;
 		throw new IllegalArgumentException("Unknown color combination");
 	}
-	private static int portCount(BombEntity bomb) { return bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum(); }
-	private static int portCount(BombEntity bomb, PortType type) { return (int) bomb.getPortPlates().stream().map(PortPlateEntity::getPorts).filter(ports -> ports.contains(type)).count(); }
-	private static boolean hasModule(BombEntity bomb, ModuleType type) { return bomb.getModules().stream().anyMatch(module -> module.getType() == type); }
+	private static int portCount(BombEntity bomb) { return bomb.getEdgework().totalPortCount(); }
+	private static int portCount(BombEntity bomb, PortType type) { return bomb.getEdgework().portPlatesWith(type); }
+	private static boolean hasModule(BombEntity bomb, ModuleType type) { return bomb.getStatistics().has(type); }
 }
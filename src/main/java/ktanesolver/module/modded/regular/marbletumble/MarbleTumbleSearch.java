@@ -0,0 +1,183 @@
+package ktanesolver.module.modded.regular.marbletumble;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Breadth-first search over Marble Tumble's 600,000 states (the level the marble has fallen to, times the five gap
+ * positions as a decimal number) with buffers that are reused rather than allocated per solve. A state only records the
+ * timer digit and the level it was reached from: the cylinders' rotations are fixed per digit, so the gaps it came
+ * from follow by turning them back. States are marked reached by a generation stamp, so starting a search clears
+ * nothing, and the queue is an int ring that grows only when a frontier outgrows it.
+ * <p>
+ * Searches are borrowed from a pool of at most one per processor; a search finding the pool full is left to the
+ * garbage collector, so concurrent solves never hold more than that many sets of buffers between requests.
+ */
+final class MarbleTumbleSearch {
+	static final int POSITION_STATES = 100_000;
+	static final int STATE_COUNT = 6 * POSITION_STATES;
+
+	private static final int[][] ROTATIONS = {
+		{-1, 1, -2, 0, 2},
+		{-2, 1, 2, -1, 0},
+		{1, 0, 2, -2, -1},
+		{0, -1, -2, 1, 2},
+		{2, 0, 1, -1, -2},
+		{1, -2, -1, 2, 0},
+		{-2, 2, 0, 1, -1},
+		{0, -1, 1, 2, -2},
+		{-1, 2, 0, -2, 1},
+		{2, -2, -1, 0, 1}
+	};
+	private static final BlockingQueue<MarbleTumbleSearch> POOL =
+		new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+	private final byte[] stamp = new byte[STATE_COUNT];
+	private final byte[] via = new byte[STATE_COUNT];
+	private int[] queue = new int[1 << 14];
+	private int generation;
+
+	// per-search lookups: turns[digit * 5 + cylinder] and back[...] in 0..9, the traps as offsets from the safe gaps
+	private final int[] turns = new int[50];
+	private final int[] back = new int[50];
+	private final int[] trapOffsets = new int[5];
+	private final int[] gaps = new int[5];
+
+	MarbleTumbleSearch() {
+	}
+
+	static MarbleTumbleSearch acquire() {
+		MarbleTumbleSearch search = POOL.poll();
+		return search != null ? search : new MarbleTumbleSearch();
+	}
+
+	static void release(MarbleTumbleSearch search) {
+		POOL.offer(search);
+	}
+
+	/**
+	 * The shortest sequence of timer digits that drops the marble through all five cylinders without it landing on a
+	 * trap, or null when there is none. {@code colors} are the cylinders' color ordinals, outermost first.
+	 */
+	int[] findPath(int[] colors, int[] safeGaps, int[] trapPositions) {
+		for (int digit = 0; digit < 10; digit++) {
+			for (int i = 0; i < 5; i++) {
+				int turn = Math.floorMod(ROTATIONS[digit][colors[i]], 10);
+				turns[digit * 5 + i] = turn;
+				back[digit * 5 + i] = (10 - turn) % 10;
+			}
+		}
+		for (int i = 0; i < 5; i++) {
+			trapOffsets[i] = Math.floorMod(trapPositions[i] - safeGaps[i], 10);
+		}
+		begin();
+
+		int start = pack(safeGaps);
+		stamp[start] = (byte)generation;
+		int head = 0;
+		int size = 0;
+		int mask = queue.length - 1;
+		queue[0] = start;
+		size++;
+
+		while (size > 0) {
+			int state = queue[head];
+			head = (head + 1) & mask;
+			size--;
+			int level = state / POSITION_STATES;
+			unpack(state % POSITION_STATES, gaps);
+			for (int digit = 0; digit < 10; digit++) {
+				int positions = 0;
+				int position = 0;
+				int nextLevel = level;
+				boolean falling = true;
+				int trapped = -1;
+				for (int i = 0; i < 5; i++) {
+					int gap = gaps[i] + turns[digit * 5 + i];
+					if (gap >= 10) gap -= 10;
+					positions = positions * 10 + gap;
+					if (i == level - 1) position = gap;
+					if (i >= level && falling) {
+						if (gap == position) {
+							nextLevel++;
+						}
+						else {
+							falling = false;
+							trapped = (gap + trapOffsets[i]) % 10;
+						}
+					}
+				}
+				if (trapped == position) continue;
+
+				int nextState = nextLevel * POSITION_STATES + positions;
+				if (stamp[nextState] == (byte)generation) continue;
+				stamp[nextState] = (byte)generation;
+				via[nextState] = (byte)(level * 10 + digit);
+				if (nextLevel == 5) return reconstruct(start, nextState);
+				if (size == queue.length) {
+					queue = grow(head, size);
+					head = 0;
+					mask = queue.length - 1;
+				}
+				queue[(head + size) & mask] = nextState;
+				size++;
+			}
+		}
+		return null;
+	}
+
+	private int[] reconstruct(int start, int state) {
+		int length = 0;
+		for (int at = state; at != start; at = parent(at)) {
+			length++;
+		}
+		int[] digits = new int[length];
+		for (int at = state; at != start; at = parent(at)) {
+			digits[--length] = via[at] % 10;
+		}
+		return digits;
+	}
+
+	/** The state {@code state} was reached from: its recorded level, with every cylinder turned back by its digit. */
+	private int parent(int state) {
+		int level = via[state] / 10;
+		int digit = via[state] % 10;
+		unpack(state % POSITION_STATES, gaps);
+		int positions = 0;
+		for (int i = 0; i < 5; i++) {
+			int gap = gaps[i] + back[digit * 5 + i];
+			if (gap >= 10) gap -= 10;
+			positions = positions * 10 + gap;
+		}
+		return level * POSITION_STATES + positions;
+	}
+
+	private void begin() {
+		if (++generation == 256) {
+			Arrays.fill(stamp, (byte)0);
+			generation = 1;
+		}
+	}
+
+	private int[] grow(int head, int size) {
+		int[] grown = new int[queue.length * 2];
+		for (int i = 0; i < size; i++) {
+			grown[i] = queue[(head + i) & (queue.length - 1)];
+		}
+		return grown;
+	}
+
+	private static int pack(int[] positions) {
+		int packed = 0;
+		for (int position : positions) packed = packed * 10 + position;
+		return packed;
+	}
+
+	private static void unpack(int packed, int[] positions) {
+		for (int i = 4; i >= 0; i--) {
+			positions[i] = packed % 10;
+			packed /= 10;
+		}
+	}
+}
@@ -1,7 +1,5 @@
 package ktanesolver.module.modded.regular.marbletumble;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -28,21 +26,6 @@ import ktanesolver.module.modded.regular.marbletumble.MarbleTumbleInput.Cylinder
 	tags = {"timing", "colors", "pathfinding", "modded"}
 )
 public class MarbleTumbleSolver extends AbstractModuleSolver<MarbleTumbleInput, MarbleTumbleOutput> {
-	private static final int POSITION_STATES = 100_000;
-	private static final int STATE_COUNT = 6 * POSITION_STATES;
-	private static final int[][] ROTATIONS = {
-		{-1, 1, -2, 0, 2},
-		{-2, 1, 2, -1, 0},
-		{1, 0, 2, -2, -1},
-		{0, -1, -2, 1, 2},
-		{2, 0, 1, -1, -2},
-		{1, -2, -1, 2, 0},
-		{-2, 2, 0, 1, -1},
-		{0, -1, 1, 2, -2},
-		{-1, 2, 0, -2, 1},
-		{2, -2, -1, 0, 1}
-	};
-
 	@Override
 	protected SolveResult<MarbleTumbleOutput> doSolve(
 		RoundEntity round, BombEntity bomb, ModuleEntity module, MarbleTumbleInput input
@@ -81,75 +64,18 @@ public class MarbleTumbleSolver extends AbstractModuleSolver<MarbleTumbleInput,
 	private static List<Integer> findPath(
 		List<CylinderColor> colors, List<Integer> safeGaps, List<Integer> trapPositions
 	) {
-		int[] trapOffsets = new int[5];
-		for (int i = 0; i < 5; i++) {
-			trapOffsets[i] = Math.floorMod(trapPositions.get(i) - safeGaps.get(i), 10);
+		int[] colorOrdinals = colors.stream().mapToInt(CylinderColor::ordinal).toArray();
+		MarbleTumbleSearch search = MarbleTumbleSearch.acquire();
+		try {
+			int[] digits = search.findPath(colorOrdinals, toArray(safeGaps), toArray(trapPositions));
+			return digits == null ? null : Arrays.stream(digits).boxed().toList();
 		}
-
-		int start = pack(safeGaps);
-		int[] parent = new int[STATE_COUNT];
-		byte[] move = new byte[STATE_COUNT];
-		Arrays.fill(parent, -2);
-		parent[start] = -1;
-		ArrayDeque<Integer> queue = new ArrayDeque<>();
-		queue.add(start);
-
-		while (!queue.isEmpty()) {
-			int state = queue.remove();
-			int level = state / POSITION_STATES;
-			int[] gaps = unpack(state % POSITION_STATES);
-			for (int timerDigit = 0; timerDigit < 10; timerDigit++) {
-				int[] nextGaps = new int[5];
-				for (int i = 0; i < 5; i++) {
-					nextGaps[i] = Math.floorMod(gaps[i] + ROTATIONS[timerDigit][colors.get(i).ordinal()], 10);
-				}
-
-				int position = level == 0 ? 0 : nextGaps[level - 1];
-				int nextLevel = level;
-				while (nextLevel < 5 && nextGaps[nextLevel] == position) nextLevel++;
-				if (nextLevel < 5
-					&& Math.floorMod(nextGaps[nextLevel] + trapOffsets[nextLevel], 10) == position) {
-					continue;
-				}
-
-				int nextState = nextLevel * POSITION_STATES + pack(nextGaps);
-				if (parent[nextState] != -2) continue;
-				parent[nextState] = state;
-				move[nextState] = (byte)timerDigit;
-				if (nextLevel == 5) return reconstruct(parent, move, nextState);
-				queue.add(nextState);
-			}
+		finally {
+			MarbleTumbleSearch.release(search);
 		}
-		return null;
 	}
 
-	private static int pack(List<Integer> positions) {
-		int packed = 0;
-		for (int position : positions) packed = packed * 10 + position;
-		return packed;
-	}
-
-	private static int pack(int[] positions) {
-		int packed = 0;
-		for (int position : positions) packed = packed * 10 + position;
-		return packed;
-	}
-
-	private static int[] unpack(int packed) {
-		int[] positions = new int[5];
-		for (int i = 4; i >= 0; i--) {
-			positions[i] = packed % 10;
-			packed /= 10;
-		}
-		return positions;
-	}
-
-	private static List<Integer> reconstruct(int[] parent, byte[] move, int state) {
-		ArrayList<Integer> path = new ArrayList<>();
-		while (parent[state] != -1) {
-			path.addFirst((int)move[state]);
-			state = parent[state];
-		}
-		return path;
+	private static int[] toArray(List<Integer> values) {
+		return values.stream().mapToInt(Integer::intValue).toArray();
 	}
 }
@@ -1,7 +1,7 @@
 package ktanesolver.module.modded.regular.mastermindcruel;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
@@ -18,6 +18,7 @@ import ktanesolver.logic.AbstractModuleSolver;
 import ktanesolver.logic.SolveResult;
 import ktanesolver.module.modded.regular.mastermindcruel.MastermindCruelInput.Attempt;
 import ktanesolver.module.shared.edgework.BombEdgeworkUtils;
+import ktanesolver.module.shared.mastermind.MastermindEngine;
 
 @Service
 @ModuleInfo(
@@ -29,10 +30,8 @@ import ktanesolver.module.shared.edgework.BombEdgeworkUtils;
 	tags = {"colors", "code-breaking", "deduction", "queries", "edgework"}
 )
 public class MastermindCruelSolver extends AbstractModuleSolver<MastermindCruelInput, MastermindCruelOutput> {
-	private static final List<String> COLORS = List.of("WHITE", "MAGENTA", "YELLOW", "GREEN", "RED", "BLUE");
-	private static final Set<String> COLOR_SET = Set.copyOf(COLORS);
+	private static final Set<String> COLOR_SET = Set.copyOf(MastermindEngine.COLORS);
 	private static final List<String> FIRST_GUESS = List.of("WHITE", "WHITE", "MAGENTA", "MAGENTA", "YELLOW");
-	private static final List<List<String>> CODES = codes();
 
 	@Override
 	protected SolveResult<MastermindCruelOutput> doSolve(
@@ -40,7 +39,7 @@ public class MastermindCruelSolver extends AbstractModuleSolver<MastermindCruelI
 	) {
 		List<Attempt> attempts = input == null || input.attempts() == null ? List.of() : input.attempts();
 		List<Attempt> normalized = new ArrayList<>(attempts.size());
-		List<List<String>> remaining = CODES;
+		BitSet remaining = MastermindEngine.allCodes();
 		for (Attempt attempt : attempts) {
 			if (attempt == null || attempt.guess() == null || attempt.guess().size() != 5) {
 				return failure("Each query must contain exactly five colors");
@@ -62,18 +61,19 @@ public class MastermindCruelSolver extends AbstractModuleSolver<MastermindCruelI
 				|| feedback.exact() + feedback.misplaced() + feedback.absent() != 5) {
 				return failure("The display values do not decode to valid feedback; check both colors, numbers, and edgework");
 			}
-			remaining = remaining.stream().filter(code -> score(code, guess).equals(feedback)).toList();
+			MastermindEngine.filter(remaining, MastermindEngine.encode(guess),
+				MastermindEngine.response(feedback.exact(), feedback.misplaced()));
 			if (remaining.isEmpty()) return failure("Those query results contradict each other; check the displayed values");
 			normalized.add(new Attempt(guess, leftColor, attempt.leftNumber(), rightColor, attempt.rightNumber(),
 				attempt.solvedModules(), attempt.strikes()));
 		}
 
-		boolean submit = remaining.size() == 1;
-		// ponytail: candidate-only diversity heuristic; add minimax selection if query count becomes a problem.
-		List<String> nextGuess = attempts.isEmpty() ? FIRST_GUESS : remaining.stream()
-			.max(Comparator.comparingLong(code -> code.stream().distinct().count())).orElseThrow();
+		int remainingCandidates = remaining.cardinality();
+		boolean submit = remainingCandidates == 1;
+		List<String> nextGuess = attempts.isEmpty() ? FIRST_GUESS
+			: MastermindEngine.decode(MastermindEngine.nextGuess(remaining));
 		storeState(module, "attempts", List.copyOf(normalized));
-		return success(new MastermindCruelOutput(nextGuess, remaining.size(), submit), submit);
+		return success(new MastermindCruelOutput(nextGuess, remainingCandidates, submit), submit);
 	}
 
 	private static Feedback decode(Attempt attempt, String leftColor, String rightColor, BombEntity bomb) {
@@ -109,29 +109,6 @@ public class MastermindCruelSolver extends AbstractModuleSolver<MastermindCruelI
 		return color == null ? "" : color.trim().toUpperCase(Locale.ROOT);
 	}
 
-	private static Feedback score(List<String> code, List<String> guess) {
-		int exact = 0;
-		int[] codeCounts = new int[COLORS.size()];
-		int[] guessCounts = new int[COLORS.size()];
-		for (int i = 0; i < 5; i++) {
-			if (code.get(i).equals(guess.get(i))) exact++;
-			else {
-				codeCounts[COLORS.indexOf(code.get(i))]++;
-				guessCounts[COLORS.indexOf(guess.get(i))]++;
-			}
-		}
-		int misplaced = 0;
-		for (int i = 0; i < COLORS.size(); i++) misplaced += Math.min(codeCounts[i], guessCounts[i]);
-		return new Feedback(exact, misplaced, 5 - exact - misplaced);
-	}
-
-	private static List<List<String>> codes() {
-		List<List<String>> codes = new ArrayList<>(7776);
-		for (String a : COLORS) for (String b : COLORS) for (String c : COLORS)
-			for (String d : COLORS) for (String e : COLORS) codes.add(List.of(a, b, c, d, e));
-		return List.copyOf(codes);
-	}
-
 	private record Feedback(int exact, int misplaced, int absent) {
 	}
 }
@@ -7,7 +7,7 @@ public class Maze3Solver extends AbstractModuleSolver<Maze3Input,Maze3Output>{pr
 {-1,-1,2,28},{-1,-1,27,29},{11,32,28,53},{-1,-1,5,-1},{-1,-1,-1,32},{29,-1,31,50},{-1,38,8,-1},{-1,41,-1,-1},{-1,44,34,47},
 {6,-1,-1,-1},{7,40,-1,-1},{8,-1,-1,33},{-1,-1,25,-1},{37,-1,-1,41},{-1,-1,40,34},{-1,45,-1,43},{-1,46,42,44},{-1,47,43,-1},
 {42,-1,24,-1},{43,-1,-1,47},{44,-1,46,35},{-1,51,21,-1},{-1,52,-1,-1},{-1,-1,-1,32},{48,9,-1,-1},{49,10,-1,53},{-1,11,52,29}};
- @Override protected SolveResult<Maze3Output>doSolve(RoundEntity round,BombEntity bomb,ModuleEntity module,Maze3Input input){if(input==null||input.startingNode()<0||input.startingNode()>53||input.orientationDegrees()%90!=0)return failure("Enter a starting node from 0 through 53 and an orientation of 0, 90, 180, or 270 degrees");int orientation=Math.floorMod(input.orientationDegrees(),360);int ports=bomb.getPortPlates().stream().mapToInt(x->x.getPorts().size()).sum();int[]targets={bomb.getBatteryCount()<=1?40:bomb.getBatteryCount()>=5?13:49,bomb.getIndicators().size()<=1?4:bomb.getIndicators().size()>=5?31:22,ports<=1?13:ports>=5?49:40};State state=new State(input.startingNode(),orientation);List<String>commands=new ArrayList<>();for(int target:targets){Path path=find(state,target);if(path==null)return failure("No route was found from the supplied node and orientation; check the starting position");if(!path.moves.isEmpty())commands.add(path.moves);commands.add("enter");state=path.end;}String starting=F[input.startingNode()/9];storeState(module,"maze3StartingFace",starting);return success(new Maze3Output(starting,Arrays.stream(targets).mapToObj(x->F[x/9]).toList(),List.copyOf(commands),state.node,state.orientation));}
+ @Override protected SolveResult<Maze3Output>doSolve(RoundEntity round,BombEntity bomb,ModuleEntity module,Maze3Input input){if(input==null||input.startingNode()<0||input.startingNode()>53||input.orientationDegrees()%90!=0)return failure("Enter a starting node from 0 through 53 and an orientation of 0, 90, 180, or 270 degrees");int orientation=Math.floorMod(input.orientationDegrees(),360);int ports=bomb.getEdgework().totalPortCount();int[]targets={bomb.getBatteryCount()<=1?40:bomb.getBatteryCount()>=5?13:49,bomb.getEdgework().indicatorCount()<=1?4:bomb.getEdgework().indicatorCount()>=5?31:22,ports<=1?13:ports>=5?49:40};State state=new State(input.startingNode(),orientation);List<String>commands=new ArrayList<>();for(int target:targets){Path path=find(state,target);if(path==null)return failure("No route was found from the supplied node and orientation; check the starting position");if(!path.moves.isEmpty())commands.add(path.moves);commands.add("enter");state=path.end;}String starting=F[input.startingNode()/9];storeState(module,"maze3StartingFace",starting);return success(new Maze3Output(starting,Arrays.stream(targets).mapToObj(x->F[x/9]).toList(),List.copyOf(commands),state.node,state.orientation));}
  private static Path find(State start,int target){ArrayDeque<State>q=new ArrayDeque<>();Map<State,String>seen=new HashMap<>();q.add(start);seen.put(start,"");while(!q.isEmpty()){State s=q.remove();String path=seen.get(s);if(s.node==target)return new Path(path,s);for(int a=0;a<4;a++){int dir=ABS[s.orientation/90][a],next=P[s.node][dir];if(next<0)continue;int o=s.orientation;if(s.node/9!=next/9)o=turn(o,s.node/9,dir);State n=new State(next,o);if(!seen.containsKey(n)){seen.put(n,path+BUTTON[a]);q.add(n);}}}return null;}
  private static int turn(int o,int color,int dir){int add=0;if(dir==0)add=color==2?270:color==3?90:0;else if(dir==1)add=color==2?90:color==3?270:0;else if(dir==2)add=color==4?270:(color==2||color==5)?180:color==1?90:0;else add=color==1?270:(color==3||color==5)?180:color==4?90:0;return(o+add)%360;}private record State(int node,int orientation){}private record Path(String moves,State end){}
 }
@@ -36,11 +36,11 @@ public class MegaMan2Solver extends AbstractModuleSolver<MegaMan2Input, MegaMan2
         int eTanks = Math.floorMod(digitSum - 1, 5) + 1;
         int firstDigit = serial.chars().filter(Character::isDigit).map(c -> c - '0').findFirst().orElse(0);
         boolean[] alive = {
-            bomb.getBatteryHolders() >= bomb.getIndicators().size(),
+            bomb.getBatteryHolders() >= bomb.getEdgework().indicatorCount(),
             eTanks != 2,
             bomb.hasIndicator("CAR"),
             bomb.getLastDigit() <= 5,
-            bomb.getModules().size() >= 11,
+            bomb.getStatistics().moduleCount() >= 11,
             bomb.getBatteryCount() == firstDigit,
             bomb.hasPort(PortType.RJ45),
             input.startingMinutes() >= 40
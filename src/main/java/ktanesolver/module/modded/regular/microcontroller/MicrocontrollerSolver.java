@@ -139,7 +139,7 @@ public class MicrocontrollerSolver extends AbstractModuleSolver<MicrocontrollerI
 	}
 
 	private static boolean hasLitSigIndicator(BombEntity bomb) {
-		return bomb.getIndicators().entrySet().stream()
+		return bomb.getEdgework().indicators().entrySet().stream()
 			.anyMatch(entry -> "SIG".equalsIgnoreCase(entry.getKey()) && Boolean.TRUE.equals(entry.getValue()));
 	}
 
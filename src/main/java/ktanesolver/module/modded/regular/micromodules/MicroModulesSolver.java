@@ -62,7 +62,7 @@ public class MicroModulesSolver extends AbstractModuleSolver<MicroModulesInput,
         String op1 = input.firstOperator(), op2 = input.secondOperator();
         if (!letters.matches("[A-Z]{3}") || !OPERATORS.contains(op1) || !OPERATORS.contains(op2)) return failure("Enter the three Math Code letters and both operators");
 
-        long litIndicators = bomb.getIndicators() == null ? 0 : bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
+        long litIndicators = bomb.getEdgework().litIndicatorCount();
         int batteries = bomb.getAaBatteryCount() + bomb.getDBatteryCount();
         Set<String> microLabels = input.microIndicators().stream().map(MicroIndicator::label).map(MicroModulesSolver::upper).collect(java.util.stream.Collectors.toSet());
         boolean specialOrder = (input.codeMorseId() == 1 && moduleNameCount(bomb, "MORSE") > 0)
@@ -101,7 +101,7 @@ public class MicroModulesSolver extends AbstractModuleSolver<MicroModulesInput,
     }
 
     private static boolean anyOrder(BombEntity bomb, List<MicroIndicator> indicators) {
-        boolean regularBob = bomb.getIndicators() != null && Boolean.TRUE.equals(bomb.getIndicators().get("BOB"));
+        boolean regularBob = bomb.isIndicatorLit("BOB");
         return regularBob || indicators.stream().anyMatch(value -> upper(value.label()).equals("BOMB") && value.lit());
     }
 
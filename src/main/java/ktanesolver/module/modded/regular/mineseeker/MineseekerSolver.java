@@ -94,8 +94,8 @@ public class MineseekerSolver extends AbstractModuleSolver<MineseekerInput, Mine
 			.filter(Character::isDigit).map(character -> character - '0').boxed().toList();
 		if (serialDigits.isEmpty()) return failure("Bomb serial number must contain a digit");
 
-		int calculated = bomb.getBatteryHolders() + bomb.getPortPlates().size();
-		for (String indicator : bomb.getIndicators().keySet()) {
+		int calculated = bomb.getBatteryHolders() + bomb.getEdgework().portPlateCount();
+		for (String indicator : bomb.getEdgework().indicators().keySet()) {
 			for (char character : indicator.toUpperCase(Locale.ROOT).toCharArray()) {
 				if (Character.isLetter(character)) calculated += "AEIOU".indexOf(character) >= 0 ? -1 : 1;
 			}
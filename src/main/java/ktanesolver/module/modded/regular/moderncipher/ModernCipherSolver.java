@@ -34,7 +34,7 @@ public class ModernCipherSolver extends AbstractModuleSolver<ModernCipherInput,
 		String ciphertext = input.ciphertext().trim().toUpperCase(Locale.ROOT);
 		if (!ciphertext.matches("[A-Z]{4,8}")) return failure("Ciphertext must be 4 to 8 letters");
 		if (input.strikesAtGeneration() < 0 || input.solvedModulesAtGeneration() < 0
-			|| input.solvedModulesAtGeneration() > bomb.getModules().size()) {
+			|| input.solvedModulesAtGeneration() > bomb.getStatistics().moduleCount()) {
 			return failure("Generation-time strikes and solved-module count must match the bomb");
 		}
 
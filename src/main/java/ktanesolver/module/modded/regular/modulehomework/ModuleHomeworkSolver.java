@@ -25,7 +25,7 @@ public class ModuleHomeworkSolver extends AbstractModuleSolver<ModuleHomeworkInp
 		String key=normalize(input.subject()); Map.Entry<String,Answer> entry=ANSWERS.entrySet().stream().filter(e->normalize(e.getKey()).equals(key)).findFirst().orElse(null);
 		if(entry==null)return failure("Unknown Module Homework subject");
 		String serial=bomb.getSerialNumber()==null?"":bomb.getSerialNumber().toUpperCase(Locale.ROOT); int base=serial.chars().filter(Character::isDigit).map(c->c-'0').findFirst().orElse(0);
-		String labels=String.join("",bomb.getIndicators().keySet()).toUpperCase(Locale.ROOT);
+		String labels=String.join("",bomb.getEdgework().indicators().keySet()).toUpperCase(Locale.ROOT);
 		if(serial.chars().anyMatch(c->"SCHOOL".indexOf(c)>=0))base+=3;
 		if(labels.chars().anyMatch(c->"STUDENT".indexOf(c)>=0))base+=2;
 		if(bomb.hasPort(PortType.PARALLEL))base+=2;
@@ -1,8 +1,5 @@
 package ktanesolver.module.modded.regular.modulemaze;
 
-import java.util.ArrayDeque;
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
 import org.springframework.stereotype.Service;
@@ -14,6 +11,8 @@ import ktanesolver.entity.RoundEntity;
 import ktanesolver.enums.ModuleType;
 import ktanesolver.logic.AbstractModuleSolver;
 import ktanesolver.logic.SolveResult;
+import ktanesolver.module.shared.graph.AdjacencyGraph;
+import ktanesolver.module.shared.graph.RouteTable;
 
 @Service
 @ModuleInfo(
@@ -436,6 +435,7 @@ public class ModuleMazeSolver extends AbstractModuleSolver<ModuleMazeInput, Modu
         "1121132123331031231213031012122111121120121131131222310232301131132232231102211211011010011111111010";
     private static final char[] DIRECTIONS = {'U', 'R', 'D', 'L'};
     private static final int[] DELTAS = {-20, 1, 20, -1};
+    private static final RouteTable ROUTES = RouteTable.of("Module Maze", graph());
 
     @Override
     protected SolveResult<ModuleMazeOutput> doSolve(
@@ -455,30 +455,20 @@ public class ModuleMazeSolver extends AbstractModuleSolver<ModuleMazeInput, Modu
     }
 
     private static String shortestRoute(int start, int destination) {
-        int[] previous = new int[ICONS.size()];
-        char[] moves = new char[ICONS.size()];
-        Arrays.fill(previous, -1);
-        ArrayDeque<Integer> queue = new ArrayDeque<>();
-        previous[start] = start;
-        queue.add(start);
+        int[] directions = ROUTES.moves(start, destination);
+        StringBuilder route = new StringBuilder(directions.length);
+        for (int direction : directions) route.append(DIRECTIONS[direction]);
+        return route.toString();
+    }
 
-        while (!queue.isEmpty() && previous[destination] < 0) {
-            int current = queue.removeFirst();
+    private static AdjacencyGraph graph() {
+        AdjacencyGraph.Builder graph = AdjacencyGraph.builder(ICONS.size());
+        for (int cell = 0; cell < ICONS.size(); cell++) {
             for (int direction = 0; direction < DIRECTIONS.length; direction++) {
-                if (!connected(current, direction)) continue;
-                int next = current + DELTAS[direction];
-                if (previous[next] >= 0) continue;
-                previous[next] = current;
-                moves[next] = DIRECTIONS[direction];
-                queue.addLast(next);
+                if (connected(cell, direction)) graph.edge(cell, cell + DELTAS[direction], direction);
             }
         }
-
-        List<Character> reversed = new ArrayList<>();
-        for (int current = destination; current != start; current = previous[current]) reversed.add(moves[current]);
-        StringBuilder route = new StringBuilder(reversed.size());
-        for (int i = reversed.size() - 1; i >= 0; i--) route.append(reversed.get(i));
-        return route.toString();
+        return graph.build();
     }
 
     private static boolean connected(int cell, int direction) {
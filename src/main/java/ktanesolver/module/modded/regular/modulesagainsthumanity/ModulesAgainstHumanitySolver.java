@@ -35,10 +35,10 @@ public class ModulesAgainstHumanitySolver extends AbstractModuleSolver<ModulesAg
 			return failure("Select whether both secondary cards refer to modules on the bomb");
 		}
 
-		int ports = bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum();
-		long litIndicators = bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
+		int ports = bomb.getEdgework().totalPortCount();
+		long litIndicators = bomb.getEdgework().litIndicatorCount();
 		int secondaryBlack = spellsPoop(input.initialBlackText())
-			? 2 : position((int) (bomb.getIndicators().size() - litIndicators) + ports);
+			? 2 : position((int) (bomb.getEdgework().indicatorCount() - litIndicators) + ports);
 		int secondaryWhite = spellsPoop(input.initialWhiteText())
 			? 2 : position((int) litIndicators + bomb.getBatteryCount());
 
@@ -62,11 +62,10 @@ public class ModulesAgainstHumanitySolver extends AbstractModuleSolver<ModulesAg
 			finalBlack = position(finalBlack - 2);
 			finalWhite = position(finalWhite - 2);
 		} else if (input.blackOnLeft()) {
-			finalBlack = position((int) bomb.getPortPlates().stream()
-				.flatMap(plate -> plate.getPorts().stream()).distinct().count());
-			finalWhite = position(bomb.getIndicators().size());
+			finalBlack = position(bomb.getEdgework().distinctPortTypeCount());
+			finalWhite = position(bomb.getEdgework().indicatorCount());
 		} else {
-			finalBlack = position((int) bomb.getModules().stream().map(ModuleEntity::getType).distinct().count());
+			finalBlack = position(bomb.getStatistics().distinctTypeCount());
 		}
 
 		return success(new ModulesAgainstHumanityOutput(
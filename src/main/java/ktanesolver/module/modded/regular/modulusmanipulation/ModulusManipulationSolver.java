@@ -32,7 +32,7 @@ public class ModulusManipulationSolver extends AbstractModuleSolver<ModulusManip
 		if (serial == null || serial.length() < 3) return failure("A serial number with at least three characters is required");
 		int starting = 0;
 		for (int i = 0; i < 3; i++) starting = starting * 10 + characterDigit(serial.charAt(i));
-		int other = (int) bomb.getModules().stream().filter(candidate -> candidate != module && !candidate.isSolved() && candidate.getType() != null && !candidate.getType().isNeedy()).count();
+		int other = bomb.getStatistics().unsolvedRegularCount() - (module.isSolved() ? 0 : 1);
 		int answer = starting;
 		int batteries = bomb.getBatteryCount();
 		long lit = BombEdgeworkUtils.getLitIndicatorCount(bomb), unlit = BombEdgeworkUtils.getUnlitIndicatorCount(bomb);
@@ -144,7 +144,7 @@ public class MonsplodeFightSolver extends AbstractModuleSolver<MonsplodeFightInp
 		return switch(move.name()) {
 			case "Appearify" -> opponentType(opponent, bomb) == Type.DARK ? 10 : 4;
 			case "Battery Power" -> bomb.getBatteryCount() * 2;
-			case "Bedrock" -> bomb.getModules().size();
+			case "Bedrock" -> bomb.getStatistics().moduleCount();
 			case "Boo" -> (int)bomb.getSerialNumber().toUpperCase(Locale.ROOT).chars().filter(c -> c == '0' || c == 'O').count() * 3;
 			case "Bug Spray" -> opponent.name().equals("Melbor") || opponent.name().equals("Zenlad") ? 10 : 2;
 			case "Countdown" -> minutesRemaining;
@@ -171,7 +171,7 @@ public class MonsplodeFightSolver extends AbstractModuleSolver<MonsplodeFightInp
 			case "Asteran" -> bomb.hasIndicator("CAR") ? Type.WATER : opponent.type();
 			case "Violan" -> bomb.hasIndicator("CLR") ? Type.WATER : opponent.type();
 			case "Zapra" -> bomb.getBatteryCount() < 3 ? Type.NORMAL : opponent.type();
-			case "Myrchat" -> bomb.getIndicators().values().stream().noneMatch(Boolean.TRUE::equals) ? Type.DARK : opponent.type();
+			case "Myrchat" -> bomb.getEdgework().litIndicatorCount() == 0 ? Type.DARK : opponent.type();
 			default -> opponent.type();
 		};
 	}
@@ -185,7 +185,7 @@ public class MonsplodeFightSolver extends AbstractModuleSolver<MonsplodeFightInp
 	}
 
 	private static int portCount(BombEntity bomb) {
-		return bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum();
+		return bomb.getEdgework().totalPortCount();
 	}
 
 	private static boolean sharesSerialLetter(String name, BombEntity bomb) {
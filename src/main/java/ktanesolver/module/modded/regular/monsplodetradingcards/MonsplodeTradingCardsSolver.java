@@ -87,7 +87,7 @@ public class MonsplodeTradingCardsSolver extends AbstractModuleSolver<MonsplodeT
 		if (letter - 'A' + 1 == digit) return 0;
 
 		int value = INITIAL_VALUES.get(normalize(card.name()))[serialCategory(bomb.getSerialNumber())];
-		for (Map.Entry<String, Boolean> indicator : bomb.getIndicators().entrySet()) {
+		for (Map.Entry<String, Boolean> indicator : bomb.getEdgework().indicators().entrySet()) {
 			if (normalize(indicator.getKey()).indexOf(letter) >= 0) value += Boolean.TRUE.equals(indicator.getValue()) ? 1 : -1;
 		}
 		int batteries = bomb.getBatteryCount();
@@ -1,14 +1,12 @@
 package ktanesolver.module.modded.regular.morseamaze;
 
 import java.time.ZoneId;
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Queue;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.springframework.stereotype.Service;
 
@@ -21,6 +19,8 @@ import ktanesolver.enums.ModuleType;
 import ktanesolver.logic.AbstractModuleSolver;
 import ktanesolver.logic.SolveResult;
 import ktanesolver.module.shared.edgework.BombEdgeworkUtils;
+import ktanesolver.module.shared.graph.AdjacencyGraph;
+import ktanesolver.module.shared.graph.RouteTable;
 import ktanesolver.module.shared.grid.Cell;
 import ktanesolver.module.vanilla.regular.maze.Move;
 
@@ -64,6 +64,11 @@ public class MorseAMazeSolver extends AbstractModuleSolver<MorseAMazeInput, Mors
 		{"00000", "10001", "10011", "01011", "01010", "00000"}, {"00000", "10011", "01110", "10111", "11101", "01000"},
 		{"00010", "01101", "00100", "10110", "11111", "01000"}, {"01010", "10101", "01000", "10101", "01011", "10010"}
 	};
+	private static final int SIZE = 6;
+	private static final Move[] MOVES = Move.values();
+	private static final RouteTable[] ROUTES = IntStream.range(0, MAZE_WORDS.size())
+		.mapToObj(maze -> RouteTable.of("Morse-A-Maze", graph(maze)))
+		.toArray(RouteTable[]::new);
 
 	@Override
 	protected SolveResult<MorseAMazeOutput> doSolve(RoundEntity round, BombEntity bomb, ModuleEntity module, MorseAMazeInput input) {
@@ -108,9 +113,9 @@ public class MorseAMazeSolver extends AbstractModuleSolver<MorseAMazeInput, Mors
 			case 4 -> BombEdgeworkUtils.getTotalPortCount(bomb);
 			case 5 -> (int) BombEdgeworkUtils.getLitIndicatorCount(bomb);
 			case 6 -> (int) BombEdgeworkUtils.getUnlitIndicatorCount(bomb);
-			case 7 -> bomb.getIndicators().size();
+			case 7 -> bomb.getEdgework().indicatorCount();
 			case 8 -> BombEdgeworkUtils.countUnsolvedRegularModules(bomb);
-			case 9 -> bomb.getPortPlates().size();
+			case 9 -> bomb.getEdgework().portPlateCount();
 			case 10 -> bomb.getLastDigit();
 			case 11 -> BombEdgeworkUtils.getSerialDigitSum(bomb);
 			case 12 -> bomb.getStrikes();
@@ -118,7 +123,7 @@ public class MorseAMazeSolver extends AbstractModuleSolver<MorseAMazeInput, Mors
 			case 14 -> null;
 			case 15 -> round.getStartTime() == null ? null
 				: round.getStartTime().atZone(ZoneId.systemDefault()).getDayOfWeek().getValue() % 7;
-			case 16 -> (int) bomb.getPortPlates().stream().filter(plate -> plate.getPorts().isEmpty()).count();
+			case 16 -> (int) bomb.getEdgework().portPlates().stream().filter(Set::isEmpty).count();
 			case 17 -> firstSerialLetterIndex(bomb.getSerialNumber());
 			default -> throw new IllegalArgumentException("Unknown Morse-A-Maze rule");
 		};
@@ -130,31 +135,32 @@ public class MorseAMazeSolver extends AbstractModuleSolver<MorseAMazeInput, Mors
 	}
 
 	private static List<Move> findPath(int maze, Cell start, Cell target) {
-		Queue<Cell> queue = new ArrayDeque<>();
-		Map<Cell, Cell> previous = new HashMap<>();
-		Map<Cell, Move> moveUsed = new HashMap<>();
-		queue.add(start);
-		previous.put(start, null);
-
-		while (!queue.isEmpty()) {
-			Cell current = queue.remove();
-			if (current.equals(target)) break;
-			for (Move move : Move.values()) {
-				Cell next = move(current, move);
-				if (next == null || previous.containsKey(next) || !canMove(maze, current, move)) continue;
-				previous.put(next, current);
-				moveUsed.put(next, move);
-				queue.add(next);
-			}
-		}
-		if (!previous.containsKey(target)) return null;
+		int[] moves = ROUTES[maze].moves(state(start), state(target));
+		if (moves == null) return null;
 
 		List<Move> path = new ArrayList<>();
-		for (Cell current = target; !current.equals(start); current = previous.get(current)) path.add(moveUsed.get(current));
-		Collections.reverse(path);
+		for (int move : moves) path.add(MOVES[move]);
 		return path;
 	}
 
+	private static AdjacencyGraph graph(int maze) {
+		AdjacencyGraph.Builder graph = AdjacencyGraph.builder(SIZE * SIZE);
+		for (int row = 1; row <= SIZE; row++) {
+			for (int col = 1; col <= SIZE; col++) {
+				Cell cell = new Cell(row, col);
+				for (Move move : MOVES) {
+					Cell next = move(cell, move);
+					if (next != null && canMove(maze, cell, move)) graph.edge(state(cell), state(next), move.ordinal());
+				}
+			}
+		}
+		return graph.build();
+	}
+
+	private static int state(Cell cell) {
+		return (cell.row() - 1) * SIZE + cell.col() - 1;
+	}
+
 	private static boolean canMove(int maze, Cell cell, Move move) {
 		int row = cell.row() - 1;
 		int col = cell.col() - 1;
@@ -45,7 +45,7 @@ public class MorsematicsSolver extends AbstractModuleSolver<MorsematicsInput, Mo
 		int secondValue = charToValue(secondChar);
 
 		// Step 1: For each indicator that has a matching letter in the received letters
-		for(Map.Entry<String, Boolean> entry: bomb.getIndicators().entrySet()) {
+		for(Map.Entry<String, Boolean> entry: bomb.getEdgework().indicators().entrySet()) {
 			if(letters.chars().anyMatch(letter -> entry.getKey().indexOf(letter) >= 0)) {
 				if(entry.getValue()) {
 					firstValue = wrapValue(firstValue + 1);
@@ -82,7 +82,7 @@ public class MortalKombatSolver extends AbstractModuleSolver<MortalKombatInput,
 
 	private static int fatalityIndex(String player, boolean firstGroup, BombEntity bomb) {
 		int batteries = bomb.getBatteryCount();
-		int indicators = bomb.getIndicators().size();
+		int indicators = bomb.getEdgework().indicatorCount();
 		int ports = BombEdgeworkUtils.getTotalPortCount(bomb);
 		return switch (player) {
 			case "JOHNNY CAGE" -> firstGroup
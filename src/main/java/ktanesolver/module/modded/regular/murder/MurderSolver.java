@@ -78,13 +78,13 @@ public class MurderSolver extends AbstractModuleSolver<MurderInput, MurderOutput
 		if(bomb.hasPort(PortType.SERIAL)) return 8;
 		if(body == Location.BILLIARD_ROOM) return 3;
 		if(bomb.getBatteryCount() == 0) return 5;
-		if(bomb.getIndicators().values().stream().noneMatch(Boolean.TRUE::equals)) return 4;
+		if(bomb.getEdgework().litIndicatorCount() == 0) return 4;
 		if(body == Location.HALL) return 6;
 		if(rcaPortCount(bomb) >= 2) return 1;
 		return 7;
 	}
 
 	private static long rcaPortCount(BombEntity bomb) {
-		return bomb.getPortPlates().stream().filter(plate -> plate.getPorts().contains(PortType.STEREO_RCA)).count();
+		return bomb.getEdgework().portPlatesWith(PortType.STEREO_RCA);
 	}
 }
@@ -74,8 +74,8 @@ public class NeutralizationSolver extends AbstractModuleSolver<NeutralizationInp
 	private static int chooseBase(BombEntity bomb, Acid acid) {
 		if (bomb.hasIndicator("NSA") && bomb.getBatteryCount() == 3) return 0;
 		if (Set.of("CAR", "FRQ", "IND").stream().anyMatch(bomb::isIndicatorLit)) return 3;
-		if (bomb.getPortPlates().stream().allMatch(plate -> plate.getPorts().isEmpty()) && bomb.serialHasVowel()) return 1;
-		String indicators = String.join("", bomb.getIndicators().keySet()).toUpperCase(Locale.ROOT);
+		if (bomb.getEdgework().totalPortCount() == 0 && bomb.serialHasVowel()) return 1;
+		String indicators = String.join("", bomb.getEdgework().indicators().keySet()).toUpperCase(Locale.ROOT);
 		if (acid.formula().toUpperCase(Locale.ROOT).chars().anyMatch(character -> indicators.indexOf(character) >= 0)) return 3;
 		if (bomb.getDBatteryCount() > bomb.getAaBatteryCount()) return 0;
 		return acid.atomicNumber() < 20 ? 2 : 1;
@@ -93,8 +93,8 @@ public class NeutralizationSolver extends AbstractModuleSolver<NeutralizationInp
 		if ((acid.formula().equals("HI") && base.formula().equals("KOH"))
 			|| (acid.formula().equals("HCl") && base.formula().equals("NH3"))) return 20;
 		int holders = bomb.getBatteryHolders();
-		long portTypes = bomb.getPortPlates().stream().flatMap(plate -> plate.getPorts().stream()).distinct().count();
-		int indicators = bomb.getIndicators().size();
+		long portTypes = bomb.getEdgework().distinctPortTypeCount();
+		int indicators = bomb.getEdgework().indicatorCount();
 		if (holders > portTypes && holders > indicators) return 5;
 		if (portTypes > holders && portTypes > indicators) return 10;
 		if (indicators > holders && indicators > portTypes) return 20;
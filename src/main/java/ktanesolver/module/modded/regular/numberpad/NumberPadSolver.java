@@ -172,7 +172,7 @@ public class NumberPadSolver extends AbstractModuleSolver<NumberPadInput, Number
             int whiteCount = count(buttonColors, NumberPadColor.WHITE);
             int blueCount = count(buttonColors, NumberPadColor.BLUE);
             int greenCount = count(buttonColors, NumberPadColor.GREEN);
-            int portCount = bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum();
+            int portCount = bomb.getEdgework().totalPortCount();
 
             return new NumberPadStats(
                 yellowCount,
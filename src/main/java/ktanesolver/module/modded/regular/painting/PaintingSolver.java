@@ -77,12 +77,12 @@ public class PaintingSolver extends AbstractModuleSolver<PaintingInput, Painting
 	}
 
 	private static String determineRuleset(BombEntity bomb) {
-		int total = bomb.getBatteryCount() + bomb.getIndicators().size()
-			+ bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum() + 2;
+		int total = bomb.getBatteryCount() + bomb.getEdgework().indicatorCount()
+			+ bomb.getEdgework().totalPortCount() + 2;
 		for(String name : RULESETS.keySet()) if(name.length() == total) return name;
 
 		Set<Integer> indicatorCharacters = new LinkedHashSet<>();
-		bomb.getIndicators().keySet().stream()
+		bomb.getEdgework().indicators().keySet().stream()
 			.flatMapToInt(label -> label.toUpperCase(Locale.ROOT).chars())
 			.forEach(indicatorCharacters::add);
 		String winner = null;
@@ -101,7 +101,7 @@ public class PaintingSolver extends AbstractModuleSolver<PaintingInput, Painting
 	}
 
 	private static int countPorts(BombEntity bomb, PortType type) {
-		return (int) bomb.getPortPlates().stream().filter(plate -> plate.getPorts().contains(type)).count();
+		return bomb.getEdgework().portPlatesWith(type);
 	}
 
 	private static String normalizeColor(String color) {
@@ -86,7 +86,7 @@ public class PassportControlSolver extends AbstractModuleSolver<PassportControlI
     }
 
     private static String requiredFlight(BombEntity bomb) {
-        boolean combinedPlate = bomb.getPortPlates().stream().anyMatch(plate -> plate.getPorts().contains(PortType.PARALLEL) && plate.getPorts().contains(PortType.SERIAL));
+        boolean combinedPlate = bomb.getEdgework().portPlates().stream().anyMatch(ports -> ports.contains(PortType.PARALLEL) && ports.contains(PortType.SERIAL));
         if (bomb.getBatteryCount() >= 3 && combinedPlate) return "ARRIVAL";
         if (bomb.getBatteryCount() <= 2 && bomb.isIndicatorLit("SND")) return "DEPARTURE";
         return null;
@@ -46,11 +46,11 @@ public class PeriodicTableSolver extends AbstractModuleSolver<PeriodicTableInput
 			return failure("Atomic numbers must be from 1 through 118; starred empty squares do not count");
 		}
 		if (bomb == null || bomb.getSerialNumber() == null) return failure("Enter the bomb serial number");
-		int ports = bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum();
+		int ports = bomb.getEdgework().totalPortCount();
 		int serialDigits = bomb.getSerialNumber().chars().filter(Character::isDigit).map(character -> character - '0').sum();
 		int elementTerm = (element + bomb.getBatteryCount()) * multiplier(input.elementColor());
 		int symbolTerm = (symbol + ports) * multiplier(input.symbolColor());
-		int numberTerm = (input.displayedNumber() + bomb.getIndicators().size()) * multiplier(input.numberColor());
+		int numberTerm = (input.displayedNumber() + bomb.getEdgework().indicatorCount()) * multiplier(input.numberColor());
 		int buttonTerm = (input.coloredButtonNumber() + serialDigits) * multiplier(input.buttonColor());
 		int total = elementTerm + symbolTerm + numberTerm + buttonTerm;
 		int answer = Math.floorMod(total - 1, 118) + 1;
@@ -95,7 +95,7 @@ public class PerplexingWiresSolver extends AbstractModuleSolver<PerplexingWiresI
 			case 'H' -> input.wires().stream().filter(other -> other.topConnector() == wire.topConnector()).count() > 1;
 			case 'P' -> position == BombEdgeworkUtils.getTotalPortCount(bomb);
 			case 'B' -> position == bomb.getBatteryCount();
-			case 'I' -> position == bomb.getIndicators().size();
+			case 'I' -> position == bomb.getEdgework().indicatorCount();
 			case 'Q' -> input.wires().stream().filter(other -> other.color() == wire.color()).count() == 1;
 			case 'J' -> adjacentOrangeOrPurple(input.wires(), index - 1) || adjacentOrangeOrPurple(input.wires(), index + 1);
 			case 'V' -> bomb.serialHasVowel() || bomb.hasPort(PortType.USB);
@@ -41,9 +41,9 @@ public class PlanetsSolver extends AbstractModuleSolver<PlanetsInput, PlanetsOut
         }
         if (input.productFactorOne() < 1 || input.productFactorTwo() < 1) return failure("The two rule-seed factors must be positive");
 
-        int solved = (int) bomb.getModules().stream().filter(ModuleEntity::isSolved).count();
-        int ports = bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum();
-        int lit = (int) bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
+        int solved = bomb.getStatistics().solvedCount();
+        int ports = bomb.getEdgework().totalPortCount();
+        int lit = bomb.getEdgework().litIndicatorCount();
         int numberA = (planetIndex + 1) * 123 + solved * 10;
         int numberB = bomb.getBatteryCount() * 5 + lit * 6;
         int numberC = (numberA + numberB + 4 * ports + input.productFactorOne() * input.productFactorTwo()) % 1000;
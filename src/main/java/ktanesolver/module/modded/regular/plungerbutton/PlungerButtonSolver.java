@@ -1,4 +1,4 @@
 package ktanesolver.module.modded.regular.plungerbutton;
 import org.springframework.stereotype.Service;import ktanesolver.annotation.ModuleInfo;import ktanesolver.dto.ModuleCatalogDto;import ktanesolver.entity.*;import ktanesolver.enums.ModuleType;import ktanesolver.logic.*;
 @Service@ModuleInfo(type=ModuleType.THE_PLUNGER_BUTTON,id="plungerButton",name="The Plunger Button",category=ModuleCatalogDto.ModuleCategory.MODDED_REGULAR,description="Hold and release the plunger on timer digits derived from solved modules and indicators.",tags={"button","timer","hold","indicators"})
-public class PlungerButtonSolver extends AbstractModuleSolver<PlungerButtonInput,PlungerButtonOutput>{private static final int[]PRESS_LIT={5,1,3,8,0,4,2,7,6,9},PRESS_OTHER={2,6,9,4,3,1,5,8,0,7},RELEASE_UNLIT={8,4,6,7,1,2,0,3,9,5},RELEASE_OTHER={3,2,1,0,9,8,7,6,5,4};@Override protected SolveResult<PlungerButtonOutput>doSolve(RoundEntity round,BombEntity bomb,ModuleEntity module,PlungerButtonInput input){int solved=(int)(bomb.getModules()==null?0:bomb.getModules().stream().filter(ModuleEntity::isSolved).count())%10;long lit=bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count(),unlit=bomb.getIndicators().size()-lit;return success(new PlungerButtonOutput(solved,(lit>unlit?PRESS_LIT:PRESS_OTHER)[solved],(unlit>lit?RELEASE_UNLIT:RELEASE_OTHER)[solved]));}}
+public class PlungerButtonSolver extends AbstractModuleSolver<PlungerButtonInput,PlungerButtonOutput>{private static final int[]PRESS_LIT={5,1,3,8,0,4,2,7,6,9},PRESS_OTHER={2,6,9,4,3,1,5,8,0,7},RELEASE_UNLIT={8,4,6,7,1,2,0,3,9,5},RELEASE_OTHER={3,2,1,0,9,8,7,6,5,4};@Override protected SolveResult<PlungerButtonOutput>doSolve(RoundEntity round,BombEntity bomb,ModuleEntity module,PlungerButtonInput input){int solved=(int)bomb.getStatistics().solvedCount()%10;long lit=bomb.getEdgework().litIndicatorCount(),unlit=bomb.getEdgework().indicatorCount()-lit;return success(new PlungerButtonOutput(solved,(lit>unlit?PRESS_LIT:PRESS_OTHER)[solved],(unlit>lit?RELEASE_UNLIT:RELEASE_OTHER)[solved]));}}
@@ -280,9 +280,9 @@ public class PokerSolver extends AbstractModuleSolver<PokerInput, PokerOutput> {
 		int digitSum = serial.chars().filter(Character::isDigit).map(character -> character - '0').sum();
 		int lastDigit = serial.chars().filter(Character::isDigit).map(character -> character - '0').reduce((a, b) -> b).orElseThrow();
 		String letters = serial.replaceAll("[^A-Z]", "");
-		int ports = bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts() == null ? 0 : plate.getPorts().size()).sum();
-		long lit = bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
-		long unlit = bomb.getIndicators().values().stream().filter(Boolean.FALSE::equals).count();
+		int ports = bomb.getEdgework().totalPortCount();
+		long lit = bomb.getEdgework().litIndicatorCount();
+		long unlit = bomb.getEdgework().explicitlyUnlitIndicatorCount();
 		return new Facts(
 			bomb, digitSum, lastDigit, letters.length(), "AEIOU".indexOf(letters.charAt(letters.length() - 1)) >= 0,
 			letters.chars().anyMatch(character -> "AEIOU".indexOf(character) >= 0), ports, (int)lit, (int)unlit
@@ -9,6 +9,9 @@ import java.util.HexFormat;
 import java.util.Map;
 import java.util.Set;
 
+import ktanesolver.module.shared.graph.AdjacencyGraph;
+import ktanesolver.module.shared.graph.RouteTable;
+
 final class PolyhedralMazeDefinitions {
 	static final Set<Integer> START_FACES = Set.of(0, 13, 15, 29, 31, 35);
 
@@ -70,7 +73,15 @@ final class PolyhedralMazeDefinitions {
 			for (int edge = 0; edge < degree; edge++) neighbors[face][edge] = Byte.toUnsignedInt(flat[offset++]);
 		}
 		if (offset != flat.length) throw new IllegalArgumentException("Invalid Polyhedral Maze topology data");
-		return new Solid(neighbors, BitSet.valueOf(Base64.getDecoder().decode(openData)));
+		BitSet openEdges = BitSet.valueOf(Base64.getDecoder().decode(openData));
+		// open edges are numbered in the same face-then-edge order as the flattened neighbor data
+		AdjacencyGraph.Builder maze = AdjacencyGraph.builder(neighbors.length);
+		for (int face = 0, bit = 0; face < neighbors.length; face++) {
+			for (int edge = 0; edge < neighbors[face].length; edge++, bit++) {
+				if (openEdges.get(bit)) maze.edge(face, neighbors[face][edge], edge);
+			}
+		}
+		return new Solid(neighbors, openEdges, RouteTable.of("Polyhedral Maze", maze.build()));
 	}
 
 	static String topologyHash() {
@@ -92,11 +103,7 @@ final class PolyhedralMazeDefinitions {
 		}
 	}
 
-	record Solid(int[][] neighbors, BitSet openEdges) {
-		boolean isOpen(int face, int edge) {
-			int bit = edge;
-			for (int previous = 0; previous < face; previous++) bit += neighbors[previous].length;
-			return openEdges.get(bit);
-		}
+	/** {@code routes} covers the open edges of {@code neighbors}, each labelled with its edge index on the face it leaves. */
+	record Solid(int[][] neighbors, BitSet openEdges, RouteTable routes) {
 	}
 }
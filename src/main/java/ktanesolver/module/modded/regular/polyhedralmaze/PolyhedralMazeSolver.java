@@ -1,9 +1,6 @@
 package ktanesolver.module.modded.regular.polyhedralmaze;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
@@ -64,25 +61,10 @@ public class PolyhedralMazeSolver extends AbstractModuleSolver<PolyhedralMazeInp
 	}
 
 	private static List<Integer> findRoute(PolyhedralMazeDefinitions.Solid solid, int start, int destination) {
-		int[] parent = new int[solid.neighbors().length];
-		Arrays.fill(parent, -2);
-		parent[start] = -1;
-		ArrayDeque<Integer> queue = new ArrayDeque<>();
-		queue.add(start);
-		while (!queue.isEmpty() && parent[destination] == -2) {
-			int face = queue.remove();
-			for (int edge = 0; edge < solid.neighbors()[face].length; edge++) {
-				int neighbor = solid.neighbors()[face][edge];
-				if (solid.isOpen(face, edge) && parent[neighbor] == -2) {
-					parent[neighbor] = face;
-					queue.add(neighbor);
-				}
-			}
-		}
-		if (parent[destination] == -2) return null;
+		int[] faces = solid.routes().states(start, destination);
+		if (faces == null) return null;
 		List<Integer> route = new ArrayList<>();
-		for (int face = destination; face >= 0; face = parent[face]) route.add(face);
-		Collections.reverse(route);
+		for (int face : faces) route.add(face);
 		return route;
 	}
 
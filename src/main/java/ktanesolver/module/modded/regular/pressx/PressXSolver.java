@@ -44,10 +44,10 @@ public class PressXSolver extends AbstractModuleSolver<PressXInput, PressXOutput
 			.orElse(-1);
 		if (firstSerialDigit < 0) return failure("Serial number must contain a digit");
 
-		long lit = bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
-		long unlit = bomb.getIndicators().size() - lit;
+		long lit = bomb.getEdgework().litIndicatorCount();
+		long unlit = bomb.getEdgework().indicatorCount() - lit;
 		int column = unlit > lit ? 0 : lit > unlit ? 1 : 2;
-		int solved = (int) bomb.getModules().stream().filter(ModuleEntity::isSolved).count();
+		int solved = bomb.getStatistics().solvedCount();
 		String button = BUTTONS[solved % 4][column];
 
 		if ("X".equals(button) && bomb.isIndicatorLit("CAR") && bomb.getBatteryCount() < 2) {
@@ -38,7 +38,7 @@ public class PurgatorySolver extends AbstractModuleSolver<PurgatoryInput, Purgat
             case "RED" -> out(bomb.getBatteryCount() >= 2 ? Destination.HELL : Destination.HEAVEN);
             case "BLUE" -> flicker ? new PurgatoryOutput(Destination.HELL, Timing.AT_END, 1)
                 : out(bomb.getBatteryCount() < 4 ? Destination.HEAVEN : Destination.HELL);
-            case "GREEN" -> bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count() == 2 ? out(Destination.HELL)
+            case "GREEN" -> bomb.getEdgework().litIndicatorCount() == 2 ? out(Destination.HELL)
                 : name.length() <= 5 ? new PurgatoryOutput(Destination.HEAVEN, Timing.ON_TWO, 1) : out(Destination.HELL);
             default -> throw new IllegalStateException();
         };
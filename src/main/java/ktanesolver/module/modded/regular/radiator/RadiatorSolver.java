@@ -42,7 +42,7 @@ public class RadiatorSolver extends AbstractModuleSolver<RadiatorInput, Radiator
 
 		int water = temperature / 3;
 		if (bomb.hasPort(PortType.RJ45)) water += 50;
-		if (bomb.getIndicators().containsValue(true)) water += 20;
+		if (bomb.getEdgework().litIndicatorCount() > 0) water += 20;
 		if (bomb.isIndicatorUnlit("BOB")) water += 40;
 		if (bomb.isIndicatorUnlit("NSA")) water -= 10;
 		if (bomb.isIndicatorUnlit("FRQ")) water += 2;
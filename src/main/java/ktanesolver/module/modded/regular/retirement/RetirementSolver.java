@@ -53,8 +53,8 @@ public class RetirementSolver extends AbstractModuleSolver<RetirementInput, Reti
 		}
 
 		String wife = WIVES.get(Math.floorMod(bomb.getBatteryCount(), 5));
-		int ports = bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum();
-		String child = CHILDREN.get(Math.floorMod(ports + bomb.getIndicators().size(), 10));
+		int ports = bomb.getEdgework().totalPortCount();
+		String child = CHILDREN.get(Math.floorMod(ports + bomb.getEdgework().indicatorCount(), 10));
 		String sibling = sibling(bomb.getSerialNumber().toUpperCase(Locale.ROOT));
 		List<RetirementOutput.HomeScore> scores = homes.stream()
 			.map(home -> score(home, wife, child, sibling)).toList();
@@ -58,7 +58,7 @@ public class RhythmsSolver extends AbstractModuleSolver<RhythmsInput, RhythmsOut
 		int second = input.rhythm() == 6 && bomb.getBatteryCount() > 1
 			? first : SECOND[input.rhythm()][colorIndex];
 		int extraBeeps = colorIndex == 3
-			? (int) bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count()
+			? bomb.getEdgework().litIndicatorCount()
 			: 0;
 		return success(new RhythmsOutput(false, List.of(action(first, extraBeeps), action(second, extraBeeps))));
 	}
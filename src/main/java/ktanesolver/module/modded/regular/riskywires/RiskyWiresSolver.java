@@ -1,10 +1,8 @@
 package ktanesolver.module.modded.regular.riskywires;
 
 import java.util.ArrayList;
-import java.util.EnumMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 
 import org.springframework.stereotype.Service;
 
@@ -76,7 +74,7 @@ public class RiskyWiresSolver extends AbstractModuleSolver<RiskyWiresInput, Risk
 			case 8 -> (input.topLed() == LedColor.GREEN || input.bottomLed() == LedColor.GREEN) && (serial.indexOf('3') >= 0 || java.util.Arrays.stream(id).anyMatch(n -> n == 3));
 			default -> false;
 		}; }
-		boolean fourth() { long lit = bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count(), unlit = bomb.getIndicators().size() - lit; return switch (count) {
+		boolean fourth() { long lit = bomb.getEdgework().litIndicatorCount(), unlit = bomb.getEdgework().indicatorCount() - lit; return switch (count) {
 			case 4 -> serial.chars().filter(Character::isLetter).count() >= 4; case 5 -> unlit > lit;
 			case 6 -> bomb.isIndicatorLit("FRK") || bomb.isIndicatorLit("BOB") || wires.stream().filter(WireColor.PURPLE::equals).count() >= 3;
 			case 8 -> bomb.isIndicatorUnlit("SND") || bomb.isIndicatorUnlit("NSA") || input.topLed() == LedColor.OFF; default -> false;
@@ -92,6 +90,6 @@ public class RiskyWiresSolver extends AbstractModuleSolver<RiskyWiresInput, Risk
 		}
 		boolean seventh() { return count == 8 && (bomb.hasPort(PortType.PS2) || bomb.hasPort(PortType.STEREO_RCA) || bomb.hasPort(PortType.RJ45)); }
 		boolean eighth() { int wire = shiftEight ? 0 : 7; return count == 8 && wires.get(wire) != WireColor.RED && input.topLed() != LedColor.RED && input.bottomLed() != LedColor.RED; }
-		boolean duplicatePort() { Map<PortType, Integer> counts = new EnumMap<>(PortType.class); bomb.getPortPlates().forEach(plate -> plate.getPorts().forEach(port -> counts.merge(port, 1, Integer::sum))); return counts.values().stream().anyMatch(n -> n > 1); }
+		boolean duplicatePort() { return bomb.getEdgework().hasDuplicatePorts(); }
 	}
 }
@@ -100,7 +100,7 @@ public class RockPaperScissorsLizardSpockSolver extends AbstractModuleSolver<Roc
 	}
 
 	private static int countPorts(BombEntity bomb, PortType port) {
-		return (int)bomb.getPortPlates().stream().filter(plate -> plate.getPorts().contains(port)).count();
+		return bomb.getEdgework().portPlatesWith(port);
 	}
 
 	private static int countIndicators(BombEntity bomb, boolean lit, List<String> labels) {
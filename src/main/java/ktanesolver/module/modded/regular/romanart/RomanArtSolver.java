@@ -2,6 +2,6 @@ package ktanesolver.module.modded.regular.romanart;import java.util.*;import org
 @Service @ModuleInfo(type=ModuleType.ROMAN_ART,id="romanArtModule",name="Roman Art",category=ModuleCatalogDto.ModuleCategory.MODDED_REGULAR,description="Convert the selected art and broken numeral into the required piece press order.",tags={"roman numerals","art","images","ordered presses"})
 public class RomanArtSolver extends AbstractModuleSolver<RomanArtInput,RomanArtOutput>{private static final int[]NUMBERS={76,125,23,59,7,231,556,82,203},ROW={27,20,21,4,13,2,9,6,10,11,8,29,12,7,5,23,28,14,17,16,15,18,22,0,1,19,24,26,25,3};private static final Map<Integer,String>DIGITS=Map.of(76,"1515842182619633476393890484631",125,"0627762819917061397541033028092",23,"2125994833779236406903596704632",59,"8083230284164597755691883036168",7,"0216130608478421567439081531011",231,"7765690177490262088473839139706",556,"3563173647009421073142824697246",82,"0705742103950154615140943509350",203,"9332999228796085567265886808143");private static final String MAP="37078625196141745319541636";
  @Override protected SolveResult<RomanArtOutput>doSolve(RoundEntity round,BombEntity bomb,ModuleEntity module,RomanArtInput in){if(in==null||in.artPieceIndices()==null||in.artPieceIndices().size()!=6||new HashSet<>(in.artPieceIndices()).size()!=6||in.artPieceIndices().stream().anyMatch(x->x<0||x>30)||Arrays.stream(NUMBERS).noneMatch(x->x==in.brokenNumeralValue()))return failure("Enter six distinct art indices from 0 through 30 and one of the nine displayed numeral values");Set<Integer>selected=new HashSet<>(in.artPieceIndices());String digits=DIGITS.get(in.brokenNumeralValue()),step1="";for(int idx:ROW)if(selected.contains(idx)||(idx==2&&selected.contains(30)))step1+=digits.charAt(idx);if(step1.length()!=6)return failure("The selected art indices do not map to exactly six manual rows; use index 30 only for the uncensored alternative to index 2");String serial=bomb.getSerialNumber()==null?"":bomb.getSerialNumber().toUpperCase(Locale.ROOT);if(serial.length()!=6)return failure("Roman Art requires a six-character serial number");StringBuilder modified=new StringBuilder();for(char c:serial.toCharArray())modified.append(Character.isDigit(c)?c:MAP.charAt(c-'A'));StringBuilder step2s=new StringBuilder();for(int i=0;i<6;i++)step2s.append(((modified.charAt(i)-'0')+(step1.charAt(i)-'0'))%10);int step2=Integer.parseInt(step2s.toString());String numeral=roman(step2);List<Integer>order=order(step2,numeral,in.artPieceIndices(),selected,bomb,serial,in.censoredMode());return success(new RomanArtOutput(step1,step2,numeral,List.copyOf(order),"press "+String.join(" ",order.stream().map(String::valueOf).toList())));}
- private static List<Integer>order(int n,String roman,List<Integer>pieces,Set<Integer>s,BombEntity b,String serial,boolean censored){int ports=b.getPortPlates().stream().mapToInt(x->x.getPorts().size()).sum();if(n<500000&&b.getIndicators().containsKey("SND")&&!s.contains(29))return List.of(2,5,pos(pieces,17,4));if(roman.chars().filter(x->x=='X').count()<2&&serial.matches(".*[13579].*"))return List.of(5,6,1,3);if(n>600000&&s.contains(24))return List.of(6,pos(pieces,15,1));if(roman.chars().filter(x->x=='I').count()>=3&&b.getBatteryCount()==0)return List.of(4,2,1);if(symbolCount(n)<=8&&!s.contains(28))return List.of(3,2,5,2);if(s.contains(4)&&s.contains(5))return List.of(1,3);if(roman.contains("XXV")&&b.hasPort(PortType.DVI))return List.of(3,6,5);if(n%5==0&&b.getIndicators().containsKey("FRK"))return List.of(2,6,pos(pieces,26,2));if(n>500000&&n<600000&&b.hasPort(PortType.PARALLEL))return List.of(5,6,1);if(roman.contains("III")&&!s.contains(censored?2:30))return List.of(4,6,1,3);if(roman.contains("IIII")||roman.contains("VIIII"))return List.of(1,2,5);if(!roman.contains("X")||has(b,ModuleType.FORGET_ME_NOT))return List.of(3,2,pos(pieces,1,1));if(s.contains(18)&&roman.endsWith("I"))return List.of(4,4,2,3);if(roman.endsWith("I")&&!roman.contains("IIII")&&!roman.contains("VIIII")&&b.getIndicators().values().stream().anyMatch(Boolean.TRUE::equals))return List.of(1,4,5,3,2,3);if(n%5==0)return List.of(6,5,pos(pieces,6,2));if(ports<=3&&(serial.contains("L")||serial.contains("3")))return List.of(5,1,3);if(!has(b,ModuleType.EQUATIONS_X)&&!has(b,ModuleType.EQUATIONS)&&!has(b,ModuleType.BRAILLE))return List.of(6,6,4,4);return List.of(4,1,5,3);}
- private static int pos(List<Integer>x,int art,int fallback){int p=x.indexOf(art);return p<0?fallback:p+1;}private static boolean has(BombEntity b,ModuleType t){return b.getModules().stream().anyMatch(m->m.getType()==t);}private static String roman(int n){int[]v={500000,100000,50000,10000,5000,1000,500,100,50,10,5,1};String[]r={"D(bar)","C(bar)","L(bar)","X(bar)","V(bar)","M","D","C","L","X","V","I"};StringBuilder s=new StringBuilder();for(int i=0;i<v.length;i++)while(n>=v[i]){n-=v[i];s.append(r[i]);}return s.toString();}private static int symbolCount(int n){int c=0;for(int v:new int[]{500000,100000,50000,10000,5000,1000,500,100,50,10,5,1}){c+=n/v;n%=v;}return c;}
+ private static List<Integer>order(int n,String roman,List<Integer>pieces,Set<Integer>s,BombEntity b,String serial,boolean censored){int ports=b.getEdgework().totalPortCount();if(n<500000&&b.hasIndicator("SND")&&!s.contains(29))return List.of(2,5,pos(pieces,17,4));if(roman.chars().filter(x->x=='X').count()<2&&serial.matches(".*[13579].*"))return List.of(5,6,1,3);if(n>600000&&s.contains(24))return List.of(6,pos(pieces,15,1));if(roman.chars().filter(x->x=='I').count()>=3&&b.getBatteryCount()==0)return List.of(4,2,1);if(symbolCount(n)<=8&&!s.contains(28))return List.of(3,2,5,2);if(s.contains(4)&&s.contains(5))return List.of(1,3);if(roman.contains("XXV")&&b.hasPort(PortType.DVI))return List.of(3,6,5);if(n%5==0&&b.hasIndicator("FRK"))return List.of(2,6,pos(pieces,26,2));if(n>500000&&n<600000&&b.hasPort(PortType.PARALLEL))return List.of(5,6,1);if(roman.contains("III")&&!s.contains(censored?2:30))return List.of(4,6,1,3);if(roman.contains("IIII")||roman.contains("VIIII"))return List.of(1,2,5);if(!roman.contains("X")||has(b,ModuleType.FORGET_ME_NOT))return List.of(3,2,pos(pieces,1,1));if(s.contains(18)&&roman.endsWith("I"))return List.of(4,4,2,3);if(roman.endsWith("I")&&!roman.contains("IIII")&&!roman.contains("VIIII")&&b.getEdgework().litIndicatorCount()>0)return List.of(1,4,5,3,2,3);if(n%5==0)return List.of(6,5,pos(pieces,6,2));if(ports<=3&&(serial.contains("L")||serial.contains("3")))return List.of(5,1,3);if(!has(b,ModuleType.EQUATIONS_X)&&!has(b,ModuleType.EQUATIONS)&&!has(b,ModuleType.BRAILLE))return List.of(6,6,4,4);return List.of(4,1,5,3);}
+ private static int pos(List<Integer>x,int art,int fallback){int p=x.indexOf(art);return p<0?fallback:p+1;}private static boolean has(BombEntity b,ModuleType t){return b.getStatistics().has(t);}private static String roman(int n){int[]v={500000,100000,50000,10000,5000,1000,500,100,50,10,5,1};String[]r={"D(bar)","C(bar)","L(bar)","X(bar)","V(bar)","M","D","C","L","X","V","I"};StringBuilder s=new StringBuilder();for(int i=0;i<v.length;i++)while(n>=v[i]){n-=v[i];s.append(r[i]);}return s.toString();}private static int symbolCount(int n){int c=0;for(int v:new int[]{500000,100000,50000,10000,5000,1000,500,100,50,10,5,1}){c+=n/v;n%=v;}return c;}
 }
@@ -115,14 +115,14 @@ public class RubiksClockSolver extends AbstractModuleSolver<RubiksClockInput, Ru
 	}
 
 	private static int amount(int row, BombEntity bomb) {
-		int lit = (int) bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
+		int lit = bomb.getEdgework().litIndicatorCount();
 		return switch (row % 6) {
 			case 0 -> bomb.getAaBatteryCount() + 1;
 			case 1 -> lit + 1;
 			case 2 -> bomb.getBatteryCount() + 1;
-			case 3 -> bomb.getIndicators().size() - lit + 1;
+			case 3 -> bomb.getEdgework().indicatorCount() - lit + 1;
 			case 4 -> bomb.getDBatteryCount() + 1;
-			default -> bomb.getIndicators().size() + 1;
+			default -> bomb.getEdgework().indicatorCount() + 1;
 		};
 	}
 }
@@ -114,7 +114,7 @@ public class SafetySafeSolver extends AbstractModuleSolver<SafetySafeInput, Safe
 
 	private static int countLitIndicatorsMatchingSerial(BombEntity bomb, String serial) {
 		int count = 0;
-		for (var e : bomb.getIndicators().entrySet()) {
+		for (var e : bomb.getEdgework().indicators().entrySet()) {
 			if (Boolean.TRUE.equals(e.getValue()) && indicatorMatchesSerial(e.getKey(), serial)) count++;
 		}
 		return count;
@@ -122,7 +122,7 @@ public class SafetySafeSolver extends AbstractModuleSolver<SafetySafeInput, Safe
 
 	private static int countUnlitIndicatorsMatchingSerial(BombEntity bomb, String serial) {
 		int count = 0;
-		for (var e : bomb.getIndicators().entrySet()) {
+		for (var e : bomb.getEdgework().indicators().entrySet()) {
 			if (Boolean.FALSE.equals(e.getValue()) && indicatorMatchesSerial(e.getKey(), serial)) count++;
 		}
 		return count;
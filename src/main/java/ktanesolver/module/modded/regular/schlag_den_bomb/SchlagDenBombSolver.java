@@ -77,8 +77,8 @@ public class SchlagDenBombSolver extends AbstractModuleSolver<SchlagDenBombInput
 		int first = serial[0] == 0 ? 15 : serial[0] > 15 ? serial[0] - 15 : serial[0];
 		int current = first - 1; types[current]="O"; oddballs.add(current);
 		for (int i=1;i<6;i++) { current=next(types,current,serial[i]==0?1:serial[i]); types[current]="O"; oddballs.add(current); }
-		int ports=Math.min(6,bomb.getPortPlates().stream().mapToInt(plate->plate.getPorts().size()).sum());
-		int batteries=Math.min(5,bomb.getBatteryCount()), indicators=Math.min(3,bomb.getIndicators().size());
+		int ports=Math.min(6,bomb.getEdgework().totalPortCount());
+		int batteries=Math.min(5,bomb.getBatteryCount()), indicators=Math.min(3,bomb.getEdgework().indicatorCount());
 		current=assignCategory(types,fixedWins,current,PORT_STEPS[ports],"P",profile.physical());
 		current=assignCategory(types,fixedWins,current,BATTERY_STEPS[batteries],"M",profile.mental());
 		assignCategory(types,fixedWins,current,INDICATOR_STEPS[indicators],"Q",profile.quiz());
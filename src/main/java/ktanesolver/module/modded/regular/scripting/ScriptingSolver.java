@@ -38,8 +38,8 @@ public class ScriptingSolver extends AbstractModuleSolver<ScriptingInput, Script
             return failure("Enter values from the module's variable cycle");
         }
 
-        int lit = (int) bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
-        int unlit = (int) bomb.getIndicators().values().stream().filter(Boolean.FALSE::equals).count();
+        int lit = bomb.getEdgework().litIndicatorCount();
+        int unlit = bomb.getEdgework().explicitlyUnlitIndicatorCount();
         boolean blue = lit > unlit;
         boolean red = bomb.hasIndicator("SND") || bomb.hasIndicator("TRN") || bomb.hasIndicator("CLR");
         boolean green = bomb.isIndicatorLit("FRQ") || bomb.isIndicatorLit("SIG") || bomb.isIndicatorLit("BOB");
@@ -47,7 +47,7 @@ public class ScriptingSolver extends AbstractModuleSolver<ScriptingInput, Script
         if (blue && red && green) necessary = List.of(false,false,false);
         else if (blue && red) necessary = bomb.getBatteryCount() % 2 == 0 ? List.of(false,false,true) : List.of(true,true,true);
         else if (blue && green) necessary = bomb.getLastDigit() >= 5 ? List.of(true,true,false) : List.of(true,true,true);
-        else if (red && green) necessary = bomb.getIndicators().size() > bomb.getLastDigit() ? List.of(true,false,false) : List.of(true,true,true);
+        else if (red && green) necessary = bomb.getEdgework().indicatorCount() > bomb.getLastDigit() ? List.of(true,false,false) : List.of(true,true,true);
         else if (blue) necessary = List.of(false,true,true);
         else if (red) necessary = List.of(true,false,true);
         else if (green) necessary = List.of(true,true,false);
@@ -56,7 +56,7 @@ public class ScriptingSolver extends AbstractModuleSolver<ScriptingInput, Script
         String variableType = input.intValue() < bomb.getLastDigit() ? "INT"
             : input.floatValue() < bomb.getBatteryCount() ? "FLOAT"
             : !input.boolValue() ? "BOOL" : "CHAR";
-        long solved = bomb.getModules().stream().filter(ModuleEntity::isSolved).count();
+        long solved = bomb.getStatistics().solvedCount();
         String methodType = solved % 2 == 0 ? "VOID" : "BOOL";
         String serial = bomb.getSerialNumber() == null ? "" : bomb.getSerialNumber().toUpperCase(Locale.ROOT);
         boolean hasKtaneLetter = serial.chars().anyMatch(c -> "KTANE".indexOf(c) >= 0);
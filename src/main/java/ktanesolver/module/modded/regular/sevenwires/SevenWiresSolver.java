@@ -32,7 +32,7 @@ public class SevenWiresSolver extends AbstractModuleSolver<SevenWiresInput,Seven
   if(Set.of(4,8,15,16,23,42).contains(input.displayedNumber())){SevenWiresOutput o=available(wires,cut,4,5);if(o!=null)return success(o);previous=true;}
   if(input.displayedNumber()==0){SevenWiresOutput o=available(wires,cut,6,6);if(o!=null)return success(o);previous=true;}
   if(input.allModulesByTimwi()){SevenWiresOutput o=available(wires,cut,cut.contains(4)?7:4,7);if(o!=null)return success(o);previous=true;}
-  long solved=bomb.getModules().stream().filter(ModuleEntity::isSolved).count();if(solved>=2&&solved%6==0){SevenWiresOutput o=available(wires,cut,1,8);if(o!=null)return success(o);previous=true;}
+  long solved=bomb.getStatistics().solvedCount();if(solved>=2&&solved%6==0){SevenWiresOutput o=available(wires,cut,1,8);if(o!=null)return success(o);previous=true;}
   if(input.laundryUnicorn()){return success(any(wires,cut,9));}
   if(bomb.getBatteryCount()>5){SevenWiresOutput o=available(wires,cut,5,10);if(o!=null)return success(o);previous=true;}
   if(wires.stream().allMatch(x->x.equals("yellow")||x.equals("blue"))){SevenWiresOutput o=available(wires,cut,5,12);if(o!=null)return success(o);previous=true;}
@@ -47,7 +47,7 @@ public class SevenWiresSolver extends AbstractModuleSolver<SevenWiresInput,Seven
   SevenWiresOutput fallback=available(wires,cut,bomb.isLastDigitEven()?3:4,27);if(fallback!=null)return success(fallback);
   return failure("The required wire is already cut and no later applicable rule has an available wire");
  }
- private static boolean solved(BombEntity b,ModuleType type){return b.getModules().stream().anyMatch(m->m.getType()==type&&m.isSolved());}
+ private static boolean solved(BombEntity b,ModuleType type){return b.getStatistics().solvedCount(type) > 0;}
  private static SevenWiresOutput available(List<String>w,Set<Integer>cut,int position,int rule){return cut.contains(position)?null:new SevenWiresOutput(position,w.get(position-1),rule);}
  private static SevenWiresOutput any(List<String>w,Set<Integer>cut,int rule){for(int p=1;p<=7;p++)if(!cut.contains(p))return new SevenWiresOutput(p,w.get(p-1),rule);throw new IllegalArgumentException("All seven wires are already cut");}
 }
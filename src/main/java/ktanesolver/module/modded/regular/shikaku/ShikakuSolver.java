@@ -1,12 +1,13 @@
 package ktanesolver.module.modded.regular.shikaku;
 
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashSet;
+import java.util.Arrays;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
 
 import org.springframework.stereotype.Service;
 
@@ -20,6 +21,7 @@ import ktanesolver.logic.AbstractModuleSolver;
 import ktanesolver.logic.SolveResult;
 import ktanesolver.module.modded.regular.shikaku.ShikakuInput.Clue;
 import ktanesolver.module.modded.regular.shikaku.ShikakuOutput.Region;
+import ktanesolver.module.shared.cover.ExactCover;
 
 @Service
 @ModuleInfo(type = ModuleType.SHIKAKU, id = "shikaku", name = "Shikaku",
@@ -29,13 +31,18 @@ import ktanesolver.module.modded.regular.shikaku.ShikakuOutput.Region;
 public class ShikakuSolver extends AbstractModuleSolver<ShikakuInput, ShikakuOutput> {
 	private static final String MANUAL = "GWEKTYAIOUSDMQHJRLBXCVZNF";
 	private static final int[][] DIR = {{0,-1},{1,0},{0,1},{-1,0}};
+	private static final long BOARD = (1L << 36) - 1;
+	// region library, generated once per symbol letter and per (clue cell, number) on first use
+	private static final AtomicReferenceArray<long[]> SYMBOL_LIBRARY = new AtomicReferenceArray<>(26);
+	private static final AtomicReferenceArray<long[]> NUMBER_LIBRARY = new AtomicReferenceArray<>(36 * 8);
 
 	@Override protected SolveResult<ShikakuOutput> doSolve(RoundEntity round, BombEntity bomb, ModuleEntity module, ShikakuInput input) {
 		if (input == null || input.clues() == null || input.clues().isEmpty()) return failure("Enter every numbered or symbol clue");
-		List<Parsed> clues = new ArrayList<>(); Set<Integer> clueCells = new HashSet<>(); int numberSum = 0;
+		List<Parsed> clues = new ArrayList<>(); long clueCells = 0; int numberSum = 0;
 		for (Clue raw : input.clues()) {
 			if (raw == null || raw.cell() == null || raw.shown() == null) return failure("Every clue needs a cell and displayed value");
-			int cell = cell(raw.cell()); if (cell < 0 || !clueCells.add(cell)) return failure("Clue cells must be unique A1 through F6");
+			int cell = cell(raw.cell()); if (cell < 0 || (clueCells & 1L << cell) != 0) return failure("Clue cells must be unique A1 through F6");
+			clueCells |= 1L << cell;
 			String shown = raw.shown().trim().toUpperCase(Locale.ROOT), alternate = raw.alternate() == null ? "" : raw.alternate().trim().toUpperCase(Locale.ROOT);
 			if (shown.matches("[2-7]")) { if (!alternate.isEmpty()) return failure("Number clues do not have an alternate symbol"); numberSum += Integer.parseInt(shown); clues.add(new Parsed(cell, shown, shown, true)); }
 			else {
@@ -45,23 +52,24 @@ public class ShikakuSolver extends AbstractModuleSolver<ShikakuInput, ShikakuOut
 			}
 		}
 		int selector = (numberSum - 1) % 4 + 1;
-		List<List<Long>> options = new ArrayList<>();
-		for (Parsed clue : clues) {
+		long[][] options = new long[clues.size()][];
+		for (int i = 0; i < clues.size(); i++) {
+			Parsed clue = clues.get(i);
 			String correct = clue.number() ? clue.shown() : correctHint(clue.shown(), clue.alternate(), selector);
 			clue.correct = correct;
-			Set<Long> generated = clue.number() ? numberRegions(clue.cell(), Integer.parseInt(correct)) : symbolRegions(correct.charAt(0));
-			long own = 1L << clue.cell();
-			List<Long> valid = generated.stream().filter(mask -> (mask & own) != 0 && clueCells.stream().allMatch(other -> other == clue.cell() || (mask & (1L << other)) == 0)).toList();
-			if (valid.isEmpty()) return failure("No valid region can contain clue " + coordinate(clue.cell()));
-			options.add(valid);
+			long[] generated = clue.number() ? numberRegions(clue.cell(), Integer.parseInt(correct)) : symbolRegions(correct.charAt(0));
+			long own = 1L << clue.cell(), others = clueCells & ~own;
+			long[] valid = Arrays.stream(generated).filter(mask -> (mask & own) != 0 && (mask & others) == 0).toArray();
+			if (valid.length == 0) return failure("No valid region can contain clue " + coordinate(clue.cell()));
+			options[i] = valid;
 		}
-		long[] chosen = new long[clues.size()];
-		if (!cover(clues, options, chosen, 0L, 0)) return failure("The observations do not produce a complete valid partition");
+		int[] chosen = ExactCover.solve(options, BOARD);
+		if (chosen == null) return failure("The observations do not produce a complete valid partition");
 		List<Region> regions = new ArrayList<>(); List<String> presses = new ArrayList<>();
 		for (int i = 0; i < clues.size(); i++) {
 			Parsed clue = clues.get(i); String clueCell = coordinate(clue.cell()); presses.add(clueCell);
 			if (!clue.number() && !clue.shown().equals(clue.correct)) presses.add(clueCell);
-			List<String> cells = cells(chosen[i]); cells.stream().filter(value -> !value.equals(clueCell)).forEach(presses::add);
+			List<String> cells = cells(options[i][chosen[i]]); cells.stream().filter(value -> !value.equals(clueCell)).forEach(presses::add);
 			regions.add(new Region(clueCell, clue.correct, cells));
 		}
 		return success(new ShikakuOutput(regions, presses));
@@ -74,19 +82,9 @@ public class ShikakuSolver extends AbstractModuleSolver<ShikakuInput, ShikakuOut
 		return (adjacent ? da >= db : da <= db) ? first : second;
 	}
 
-	private static boolean cover(List<Parsed> clues, List<List<Long>> options, long[] chosen, long occupied, int count) {
-		if (count == clues.size()) return occupied == (1L << 36) - 1;
-		int best = -1; List<Long> candidates = null;
-		for (int i = 0; i < clues.size(); i++) if (chosen[i] == 0) {
-			List<Long> available = options.get(i).stream().filter(mask -> (mask & occupied) == 0).toList();
-			if (available.isEmpty()) return false;
-			if (candidates == null || available.size() < candidates.size()) { best = i; candidates = available; }
-		}
-		for (long mask : candidates) { chosen[best] = mask; if (cover(clues, options, chosen, occupied | mask, count + 1)) return true; chosen[best] = 0; }
-		return false;
-	}
+	static long[] symbolRegions(char hint) { return library(SYMBOL_LIBRARY, hint - 'A', () -> generateSymbolRegions(hint)); }
 
-	static Set<Long> symbolRegions(char hint) {
+	private static Set<Long> generateSymbolRegions(char hint) {
 		String chars; Shape shape;
 		if ((chars="ABAB").indexOf(hint)>=0) shape=Shape.LINE; else if ((chars="CDEF").indexOf(hint)>=0) shape=Shape.L;
 		else if ((chars="GHIJ").indexOf(hint)>=0) shape=Shape.T; else if ((chars="KLMN").indexOf(hint)>=0) shape=Shape.U;
@@ -109,7 +107,13 @@ public class ShikakuSolver extends AbstractModuleSolver<ShikakuInput, ShikakuOut
 		return out;
 	}
 
-	private static Set<Long> numberRegions(int clue, int size) { Set<Long> out=new LinkedHashSet<>(); grow(1L<<clue,size,out); return out; }
+	private static long[] numberRegions(int clue, int size) { return library(NUMBER_LIBRARY, clue * 8 + size, () -> { Set<Long> out=new LinkedHashSet<>(); grow(1L<<clue,size,out); return out; }); }
+	private static long[] library(AtomicReferenceArray<long[]> library, int index, Supplier<Set<Long>> generate) {
+		long[] regions = library.get(index);
+		if (regions != null) return regions;
+		regions = generate.get().stream().mapToLong(Long::longValue).toArray();
+		return library.compareAndSet(index, null, regions) ? regions : library.get(index);
+	}
 	private static void grow(long mask,int size,Set<Long> out) { if(Long.bitCount(mask)==size){out.add(mask);return;} long edge=0; for(int i=0;i<36;i++) if((mask&(1L<<i))!=0) for(int d=0;d<4;d++){int n=move(i,d,1);if(n>=0)edge|=1L<<n;} edge&=~mask; while(edge!=0){long bit=Long.lowestOneBit(edge);edge-=bit;grow(mask|bit,size,out);} }
 	private static long line(int p,int d,int length) { long mask=0; for(int i=0;i<length;i++){int n=move(p,d,i);if(n<0)return -1;mask|=1L<<n;} return mask; }
 	private static void add(Set<Long> out,long... masks){long result=0;for(long mask:masks){if(mask<0)return;result|=mask;}out.add(result);}
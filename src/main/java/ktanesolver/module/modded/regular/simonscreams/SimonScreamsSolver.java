@@ -135,9 +135,9 @@ public class SimonScreamsSolver extends AbstractModuleSolver<SimonScreamsInput,
 
 	private static boolean[] applicableEdgeworkRows(BombEntity bomb) {
 		String serial = bomb.getSerialNumber() == null ? "" : bomb.getSerialNumber();
-		int portCount = bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum();
+		int portCount = bomb.getEdgework().totalPortCount();
 		return new boolean[] {
-			bomb.getIndicators().size() >= 3,
+			bomb.getEdgework().indicatorCount() >= 3,
 			portCount >= 3,
 			serial.chars().filter(Character::isDigit).count() >= 3,
 			serial.chars().filter(Character::isLetter).count() >= 3,
@@ -89,15 +89,15 @@ public class SimonSingsSolver extends AbstractModuleSolver<SimonSingsInput, Simo
 			case "C" -> position == 1 || position == 4;
 			case "C♯" -> position == 2 || position == 3;
 			case "D" -> index == 0 ? bomb.isLastDigitOdd() : bits.get(index - 1) == 0;
-			case "D♯" -> position == bomb.getPortPlates().size();
-			case "E" -> bomb.getPortPlates().isEmpty()
+			case "D♯" -> position == bomb.getEdgework().portPlateCount();
+			case "E" -> bomb.getEdgework().portPlateCount() == 0
 				? bomb.getBatteryCount() % 2 == 1
-				: position == bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).max().orElse(0);
+				: position == bomb.getEdgework().maxPortsOnPlate();
 			case "F" -> stage == 3;
 			case "F♯" -> stage == bomb.getSerialNumber().chars().filter(Character::isLetter).count() - 1;
-			case "G" -> position == 1 ? bomb.getIndicators().size() % 2 == 1 : SHARPS.contains(flashes.get(index / 4 * 4));
+			case "G" -> position == 1 ? bomb.getEdgework().indicatorCount() % 2 == 1 : SHARPS.contains(flashes.get(index / 4 * 4));
 			case "G♯" -> stage == 1 ? portCount(bomb) % 2 == 1 : consecutiveSharps(state.flashHistory().get(stage - 2));
-			case "A" -> stage == 1 ? bomb.getIndicators().size() % 2 == 0
+			case "A" -> stage == 1 ? bomb.getEdgework().indicatorCount() % 2 == 0
 				: state.numberHistory().get(stage - 2).stream().anyMatch(value -> value < 5);
 			case "A♯" -> flashes.subList(index / 4 * 4, index / 4 * 4 + 4).stream().anyMatch(value -> value.equals("F") || value.equals("F♯"));
 			default -> false;
@@ -105,7 +105,7 @@ public class SimonSingsSolver extends AbstractModuleSolver<SimonSingsInput, Simo
 	}
 
 	private static int portCount(BombEntity bomb) {
-		return bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum();
+		return bomb.getEdgework().totalPortCount();
 	}
 
 	private static boolean consecutiveSharps(List<String> flashes) {
@@ -75,22 +75,22 @@ public class SimonSoundsSolver extends AbstractModuleSolver<SimonSoundsInput, Si
     }
 
     static int sampleCondition(BombEntity bomb) {
-        if (bomb.getPortPlates().size() > 3) return 0;
+        if (bomb.getEdgework().portPlateCount() > 3) return 0;
         if (bomb.getAaBatteryCount() > bomb.getDBatteryCount()) return 1;
         String serial = bomb.getSerialNumber().toUpperCase(Locale.ROOT);
         if (serial.chars().anyMatch(c -> "AEIOU".indexOf(c) >= 0) && serial.chars().anyMatch(c -> Character.isDigit(c) && (c - '0') % 2 == 0)) return 2;
-        int lit = (int) bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
-        int ports = bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum();
+        int lit = bomb.getEdgework().litIndicatorCount();
+        int ports = bomb.getEdgework().totalPortCount();
         return lit == ports ? 3 : 4;
     }
 
     static int inputCondition(BombEntity bomb) {
-        long solved = bomb.getModules().stream().filter(ModuleEntity::isSolved).count();
-        if (solved > bomb.getModules().size() - solved) return 0;
+        long solved = bomb.getStatistics().solvedCount();
+        if (solved > bomb.getStatistics().moduleCount() - solved) return 0;
         int lastDigit = bomb.getSerialNumber().chars().filter(Character::isDigit).reduce((first, last) -> last).orElseThrow() - '0';
-        if (bomb.getBatteryHolders() + bomb.getPortPlates().size() + lastDigit < 10) return 1;
+        if (bomb.getBatteryHolders() + bomb.getEdgework().portPlateCount() + lastDigit < 10) return 1;
         if (bomb.hasPort(PortType.SERIAL) && bomb.hasPort(PortType.PARALLEL)) return 2;
-        if (Boolean.TRUE.equals(bomb.getIndicators().get("BOB")) || Boolean.FALSE.equals(bomb.getIndicators().get("NSA"))) return 3;
+        if (bomb.isIndicatorLit("BOB") || bomb.isIndicatorUnlit("NSA")) return 3;
         return 4;
     }
 
@@ -58,8 +58,8 @@ public class SimonStopsSolver extends AbstractModuleSolver<SimonStopsInput, Simo
 	private static Color control(int stage, Color previous, BombEntity bomb) {
 		int value = bomb.getLastDigit();
 		if (stage == 1) value += (int) bomb.getSerialNumber().toUpperCase().chars().filter(Character::isLetter).filter(c -> "AEIOU".indexOf(c) < 0).count() * bomb.getBatteryCount();
-		else if (stage == 2) value += bomb.getPortPlates().stream().mapToInt(p -> p.getPorts().size()).sum() * 2 + bomb.getBatteryHolders();
-		else value += 2 + (int) bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count() * 3 + (int) bomb.getIndicators().values().stream().filter(Boolean.FALSE::equals).count();
+		else if (stage == 2) value += bomb.getEdgework().totalPortCount() * 2 + bomb.getBatteryHolders();
+		else value += 2 + bomb.getEdgework().litIndicatorCount() * 3 + bomb.getEdgework().explicitlyUnlitIndicatorCount();
 		String rule = switch (stage) {
 			case 1 -> List.of("SC", "N1", "PS", "P1", "N2", "OP", "NS", "P2", "PP", "NP").get(value % 10);
 			case 2 -> List.of("P1", "NP", "PP", "SC", "OP", "PS", "P2", "N1", "NS", "N2").get(value % 10);
@@ -0,0 +1,52 @@
+package ktanesolver.module.modded.regular.souvenir;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import ktanesolver.entity.BombEntity;
+import ktanesolver.entity.ModuleEntity;
+
+/**
+ * Per-bomb {@link SouvenirFactIndex} of every source module Souvenir has been asked about. An index is keyed by the
+ * module's optimistic-lock version, which every write of its state, solution or solved flag increments, so it is
+ * rebuilt once after the module changes and reused for every question in between. Modules that were never written
+ * (version 0, as in solver tests) are indexed on every call.
+ */
+final class SouvenirFactCache {
+
+	private static final int MAX_BOMBS = 128;
+
+	private final Map<UUID, Map<UUID, Entry>> bombs = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<UUID, Map<UUID, Entry>> eldest) {
+			return size() > MAX_BOMBS;
+		}
+	};
+
+	private record Entry(long version, SouvenirFactIndex index) {
+	}
+
+	SouvenirFactIndex facts(BombEntity bomb, ModuleEntity source) {
+		if (bomb.getId() == null || source.getId() == null || source.getVersion() == 0) {
+			return SouvenirFactIndex.of(source);
+		}
+		synchronized (bombs) {
+			Entry entry = bombs.getOrDefault(bomb.getId(), Map.of()).get(source.getId());
+			if (entry != null && entry.version() == source.getVersion()) {
+				return entry.index();
+			}
+		}
+		SouvenirFactIndex index = SouvenirFactIndex.of(source);
+		synchronized (bombs) {
+			Map<UUID, Entry> modules = bombs.computeIfAbsent(bomb.getId(), id -> new HashMap<>());
+			Entry current = modules.get(source.getId());
+			// a concurrent question may already have indexed a newer version
+			if (current == null || current.version() < source.getVersion()) {
+				modules.put(source.getId(), new Entry(source.getVersion(), index));
+			}
+		}
+		return index;
+	}
+}
@@ -0,0 +1,79 @@
+package ktanesolver.module.modded.regular.souvenir;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import ktanesolver.entity.ModuleEntity;
+import ktanesolver.utils.Json;
+
+/**
+ * Every value recorded in a module's state and solution, flattened once into facts that carry their normalized value,
+ * the words of their path and their position in the enclosing list. Answers are looked up by normalized value instead
+ * of rescanning the module for every question.
+ */
+final class SouvenirFactIndex {
+
+	private final List<Fact> recorded;
+	private final Map<String, List<Fact>> byValue = new HashMap<>();
+
+	private SouvenirFactIndex(List<Fact> facts) {
+		this.recorded = facts.stream().filter(fact -> fact.raw() != null).toList();
+		for (Fact fact : facts) byValue.computeIfAbsent(fact.value(), value -> new ArrayList<>()).add(fact);
+	}
+
+	static SouvenirFactIndex of(ModuleEntity source) {
+		List<Fact> facts = new ArrayList<>();
+		collect(Json.mapper().convertValue(source.getState(), Object.class), "state", -1, false, facts);
+		collect(Json.mapper().convertValue(source.getSolution(), Object.class), "solution", -1, false, facts);
+		return new SouvenirFactIndex(facts);
+	}
+
+	/** Facts whose normalized value equals the given, already normalized, answer. */
+	List<Fact> matching(String normalizedValue) {
+		return byValue.getOrDefault(normalizedValue, List.of());
+	}
+
+	/** Facts that hold an actual recorded value, as opposed to the yes/no spelling of a boolean. */
+	List<Fact> recorded() {
+		return recorded;
+	}
+
+	private static void collect(Object value, String path, int index, boolean last, List<Fact> facts) {
+		if (value == null) return;
+		if (value instanceof Map<?, ?> map) {
+			map.forEach((key, child) -> collect(child, path + "." + key, index, last, facts));
+			facts.add(Fact.of(path, SouvenirSolver.normalize(map), map, index, last));
+			return;
+		}
+		if (value instanceof Collection<?> collection) {
+			List<?> values = collection instanceof List<?> list ? list : new ArrayList<>(collection);
+			for (int i = 0; i < values.size(); i++) collect(values.get(i), path + "[" + i + "]", i, i == values.size() - 1, facts);
+			facts.add(Fact.of(path, SouvenirSolver.normalize(values), values, -1, false));
+			return;
+		}
+		if (value.getClass().isArray()) {
+			int length = Array.getLength(value);
+			for (int i = 0; i < length; i++) collect(Array.get(value, i), path + "[" + i + "]", i, i == length - 1, facts);
+			return;
+		}
+		facts.add(Fact.of(path, SouvenirSolver.normalize(value), value, index, last));
+		if (value instanceof Boolean bool) facts.add(Fact.of(path, bool ? "yes" : "no", null, index, last));
+	}
+
+	record Fact(String path, String value, Object raw, int index, boolean last, Set<String> pathWords, boolean initial) {
+		static Fact of(String path, String value, Object raw, int index, boolean last) {
+			return new Fact(path, value, raw, index, last, Set.copyOf(SouvenirSolver.words(path)),
+				path.toLowerCase(Locale.ROOT).contains("initial"));
+		}
+
+		String name() {
+			return path.substring(path.lastIndexOf('.') + 1);
+		}
+	}
+}
@@ -1,6 +1,5 @@
 package ktanesolver.module.modded.regular.souvenir;
 
-import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -23,8 +22,8 @@ import ktanesolver.enums.ModuleType;
 import ktanesolver.logic.AbstractModuleSolver;
 import ktanesolver.logic.SolveResult;
 import ktanesolver.module.modded.regular.murder.MurderInput;
+import ktanesolver.module.modded.regular.souvenir.SouvenirFactIndex.Fact;
 import ktanesolver.module.modded.regular.thirdbase.ThirdBaseSolver;
-import ktanesolver.utils.Json;
 
 @Service
 @ModuleInfo(
@@ -47,6 +46,8 @@ public class SouvenirSolver extends AbstractModuleSolver<SouvenirInput, Souvenir
 		"red-white", "yellow-black", "green", "gray", "yellow-red", "red-blue"
 	);
 
+	private final SouvenirFactCache factCache = new SouvenirFactCache();
+
 	@Override
 	protected SolveResult<SouvenirOutput> doSolve(
 		RoundEntity round, BombEntity bomb, ModuleEntity module, SouvenirInput input
@@ -75,7 +76,7 @@ public class SouvenirSolver extends AbstractModuleSolver<SouvenirInput, Souvenir
 		}
 		if(source.getType()==ModuleType.DIVIDED_SQUARES&&Boolean.FALSE.equals(source.getState().get("dividedSquaresSouvenirEligible")))return failure("Souvenir asks no question when Divided Squares is solvable at any solve count");
 		if (directAnswer) {
-			Object recorded = resolveRecordedAnswer(source, input.question().trim());
+			Object recorded = resolveRecordedAnswer(bomb, source, input.question().trim());
 			if (recorded == null) return failure("No recorded answer is available for this question");
 			String answer = displayAnswer(recorded);
 			if (answer.isBlank()) return failure("No recorded answer is available for this question");
@@ -91,7 +92,7 @@ public class SouvenirSolver extends AbstractModuleSolver<SouvenirInput, Souvenir
 		}
 
 		Integer special = resolveSpecial(source, input.question(), input.answers());
-		int answerIndex = special == null ? resolveFromRecordedFacts(source, input.question(), input.answers()) : special;
+		int answerIndex = special == null ? resolveFromRecordedFacts(factCache.facts(bomb, source), input.question(), input.answers()) : special;
 		if (answerIndex < 0) return failure("The recorded module state does not distinguish one of these answers");
 
 		String answer = input.answers().get(answerIndex);
@@ -335,7 +336,7 @@ public class SouvenirSolver extends AbstractModuleSolver<SouvenirInput, Souvenir
 		};
 	}
 
-	private static Object resolveRecordedAnswer(ModuleEntity source, String question) {
+	private Object resolveRecordedAnswer(BombEntity bomb, ModuleEntity source, String question) {
 		Map<String, Object> state = source.getState();
 		return switch (source.getType()) {
 			case ALGEBRA -> algebraEquation(state, question);
@@ -568,7 +569,7 @@ public class SouvenirSolver extends AbstractModuleSolver<SouvenirInput, Souvenir
 			case DETONATO -> nested(state, "detonatoWords", ordinal(normalize(question)));
 			case SYNC_125_3 -> nested(state, "sync1253Displays", ordinal(normalize(question)));
 			default -> "recordedFacts".equals(question)
-				? (state.isEmpty() ? source.getSolution() : state) : resolveRecordedFact(source, question);
+				? (state.isEmpty() ? source.getSolution() : state) : resolveRecordedFact(factCache.facts(bomb, source), question);
 		};
 	}
 
@@ -1197,11 +1198,12 @@ public class SouvenirSolver extends AbstractModuleSolver<SouvenirInput, Souvenir
 	private static Object discoloredPosition(Map<String, Object> state, String question) {
 		Object remembered = state.get("discoloredRemembered");
 		if (!(remembered instanceof Collection<?> entries)) return null;
+		// normalized text is single-space separated words, so a padded substring match is a whole-word match
+		String padded = " " + normalize(question) + " ";
 		for (Object entry : entries) {
 			String fact = String.valueOf(entry);
 			int separator = fact.indexOf(':');
-			if (separator > 0 && Pattern.compile("\\b" + Pattern.quote(normalize(fact.substring(0, separator))) + "\\b")
-				.matcher(normalize(question)).find()) {
+			if (separator > 0 && padded.contains(" " + normalize(fact.substring(0, separator)) + " ")) {
 				return fact.substring(separator + 1);
 			}
 		}
@@ -1258,10 +1260,7 @@ public class SouvenirSolver extends AbstractModuleSolver<SouvenirInput, Souvenir
 		return result;
 	}
 
-	private int resolveFromRecordedFacts(ModuleEntity source, String question, List<String> answers) {
-		List<Fact> facts = new ArrayList<>();
-		collect(Json.mapper().convertValue(source.getState(), Object.class), "state", -1, false, facts);
-		collect(Json.mapper().convertValue(source.getSolution(), Object.class), "solution", -1, false, facts);
+	private static int resolveFromRecordedFacts(SouvenirFactIndex facts, String question, List<String> answers) {
 		String q = normalize(question);
 		boolean inverse = q.contains("not present") || q.contains("was not selectable") || q.contains("wasn't selectable");
 		int ordinal = ordinal(q);
@@ -1272,8 +1271,7 @@ public class SouvenirSolver extends AbstractModuleSolver<SouvenirInput, Souvenir
 
 		for (int i = 0; i < answers.size(); i++) {
 			String answer = normalize(answers.get(i));
-			int score = facts.stream()
-				.filter(fact -> fact.value().equals(answer))
+			int score = facts.matching(answer).stream()
 				.mapToInt(fact -> score(fact, questionWords, ordinal, q.contains("last")))
 				.max().orElse(Integer.MIN_VALUE);
 			if (inverse) score = score == Integer.MIN_VALUE ? 1 : Integer.MIN_VALUE;
@@ -1288,25 +1286,29 @@ public class SouvenirSolver extends AbstractModuleSolver<SouvenirInput, Souvenir
 		return bestScore == Integer.MIN_VALUE || tied ? -1 : bestIndex;
 	}
 
-	private static Object resolveRecordedFact(ModuleEntity source, String question) {
-		List<Fact> facts = new ArrayList<>();
-		collect(Json.mapper().convertValue(source.getState(), Object.class), "state", -1, false, facts);
-		collect(Json.mapper().convertValue(source.getSolution(), Object.class), "solution", -1, false, facts);
+	private static Object resolveRecordedFact(SouvenirFactIndex facts, String question) {
 		Set<String> questionWords = words(question);
 		int ordinal = ordinal(normalize(question));
-		int bestScore = facts.stream().filter(fact -> fact.raw() != null)
-			.mapToInt(fact -> directScore(fact, questionWords, ordinal)).max().orElse(0);
-		if (bestScore == 0) return null;
-		List<Fact> matches = facts.stream().filter(fact -> fact.raw() != null)
-			.filter(fact -> directScore(fact, questionWords, ordinal) == bestScore).toList();
-		if (matches.stream().map(fact -> normalize(fact.raw())).distinct().count() == 1) return matches.getFirst().raw();
-		return matches.stream().map(fact -> fact.path().replaceFirst("^.*\\.", "") + ": " + displayAnswer(fact.raw())).toList();
+		List<Fact> matches = new ArrayList<>();
+		int bestScore = 0;
+		for (Fact fact : facts.recorded()) {
+			int score = directScore(fact, questionWords, ordinal);
+			if (score == 0 || score < bestScore) continue;
+			if (score > bestScore) {
+				bestScore = score;
+				matches.clear();
+			}
+			matches.add(fact);
+		}
+		if (matches.isEmpty()) return null;
+		if (matches.stream().map(Fact::value).distinct().count() == 1) return matches.getFirst().raw();
+		return matches.stream().map(fact -> fact.name() + ": " + displayAnswer(fact.raw())).toList();
 	}
 
 	private static int directScore(Fact fact, Set<String> questionWords, int ordinal) {
 		int score = 0;
 		if (ordinal >= 0 && fact.index() == ordinal) score += 100;
-		for (String word : words(fact.path())) if (matchingWord(questionWords, word)) score += 5;
+		for (String word : fact.pathWords()) if (matchingWord(questionWords, word)) score += 5;
 		if (score > 0 && ordinal < 0 && (fact.raw() instanceof Map<?, ?> || fact.raw() instanceof Collection<?>)) score++;
 		return score;
 	}
@@ -1321,33 +1323,11 @@ public class SouvenirSolver extends AbstractModuleSolver<SouvenirInput, Souvenir
 		int score = 1;
 		if (ordinal >= 0 && fact.index() == ordinal) score += 100;
 		if (last && fact.last()) score += 100;
-		for (String word : words(fact.path())) if (questionWords.contains(word)) score += 5;
-		if (questionWords.contains("initial") && fact.path().toLowerCase(Locale.ROOT).contains("initial")) score += 30;
+		for (String word : fact.pathWords()) if (questionWords.contains(word)) score += 5;
+		if (questionWords.contains("initial") && fact.initial()) score += 30;
 		return score;
 	}
 
-	private static void collect(Object value, String path, int index, boolean last, List<Fact> facts) {
-		if (value == null) return;
-		if (value instanceof Map<?, ?> map) {
-			map.forEach((key, child) -> collect(child, path + "." + key, index, last, facts));
-			facts.add(new Fact(path, normalize(map), map, index, last));
-			return;
-		}
-		if (value instanceof Collection<?> collection) {
-			List<?> values = collection instanceof List<?> list ? list : new ArrayList<>(collection);
-			for (int i = 0; i < values.size(); i++) collect(values.get(i), path + "[" + i + "]", i, i == values.size() - 1, facts);
-			facts.add(new Fact(path, normalize(values), values, -1, false));
-			return;
-		}
-		if (value.getClass().isArray()) {
-			int length = Array.getLength(value);
-			for (int i = 0; i < length; i++) collect(Array.get(value, i), path + "[" + i + "]", i, i == length - 1, facts);
-			return;
-		}
-		facts.add(new Fact(path, normalize(value), value, index, last));
-		if (value instanceof Boolean bool) facts.add(new Fact(path, bool ? "yes" : "no", null, index, last));
-	}
-
 	private static Object bitmapAnswer(Map<String, Object> state, String question) {
 		Object raw = state.get("whiteCounts");
 		if (!(raw instanceof List<?> counts) || counts.size() != 4) return null;
@@ -1485,7 +1465,7 @@ public class SouvenirSolver extends AbstractModuleSolver<SouvenirInput, Souvenir
 		return values;
 	}
 
-	private static Set<String> words(String value) {
+	static Set<String> words(String value) {
 		Set<String> words = new HashSet<>(List.of(normalize(value.replaceAll("([a-z])([A-Z])", "$1 $2")).split(" ")));
 		words.removeAll(IGNORED_WORDS);
 		return words;
@@ -1506,7 +1486,7 @@ public class SouvenirSolver extends AbstractModuleSolver<SouvenirInput, Souvenir
 		return null;
 	}
 
-	private static String normalize(Object value) {
+	static String normalize(Object value) {
 		if (value instanceof Collection<?> collection) value = collection.stream().map(String::valueOf).toList();
 		return String.valueOf(value).replaceAll("([a-z])([A-Z])", "$1 $2")
 			.replaceAll("[^\\p{L}\\p{N}]+", " ").trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
@@ -1556,6 +1536,4 @@ public class SouvenirSolver extends AbstractModuleSolver<SouvenirInput, Souvenir
 		Object value = module.getState().get("history");
 		return value instanceof List<?> list ? new ArrayList<>((List<Map<String, Object>>) list) : new ArrayList<>();
 	}
-
-	private record Fact(String path, String value, Object raw, int index, boolean last) {}
 }
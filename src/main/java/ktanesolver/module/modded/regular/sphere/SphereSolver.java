@@ -3,13 +3,11 @@ package ktanesolver.module.modded.regular.sphere;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import org.springframework.stereotype.Service;
 import ktanesolver.annotation.ModuleInfo;
 import ktanesolver.dto.ModuleCatalogDto;
 import ktanesolver.entity.BombEntity;
 import ktanesolver.entity.ModuleEntity;
-import ktanesolver.entity.PortPlateEntity;
 import ktanesolver.entity.RoundEntity;
 import ktanesolver.enums.ModuleType;
 import ktanesolver.enums.PortType;
@@ -57,7 +55,7 @@ public class SphereSolver extends AbstractModuleSolver<SphereInput, SphereOutput
 	}
 
 	static int holdTime(Color color, BombEntity bomb, int[] serial) {
-		int batteries = bomb.getBatteryCount(), lit = lit(bomb), unlit = unlit(bomb), plates = bomb.getPortPlates().size(), holders = bomb.getBatteryHolders(), ports = totalPorts(bomb);
+		int batteries = bomb.getBatteryCount(), lit = lit(bomb), unlit = unlit(bomb), plates = bomb.getEdgework().portPlateCount(), holders = bomb.getBatteryHolders(), ports = totalPorts(bomb);
 		return switch (color) {
 			case RED -> square(portCount(bomb, PortType.DVI) + unlit) % 10 + 1;
 			case BLUE -> digitOr(portCount(bomb, PortType.PARALLEL) + batteries + lit, 3, 10, 5);
@@ -71,16 +69,16 @@ public class SphereSolver extends AbstractModuleSolver<SphereInput, SphereOutput
 	}
 
 	static int order(BombEntity bomb) {
-		if (bomb.getAaBatteryCount() == 2 && portCount(bomb, PortType.SERIAL) == 1 && bomb.isIndicatorUnlit("FRQ") && bomb.getPortPlates().size() == 3) return 10;
+		if (bomb.getAaBatteryCount() == 2 && portCount(bomb, PortType.SERIAL) == 1 && bomb.isIndicatorUnlit("FRQ") && bomb.getEdgework().portPlateCount() == 3) return 10;
 		int first = lit(bomb) + bomb.getBatteryHolders() + portCount(bomb, PortType.SERIAL) + portCount(bomb, PortType.RJ45);
-		int second = unlit(bomb) + bomb.getPortPlates().size() + bomb.getDBatteryCount() + portCount(bomb, PortType.STEREO_RCA);
+		int second = unlit(bomb) + bomb.getEdgework().portPlateCount() + bomb.getDBatteryCount() + portCount(bomb, PortType.STEREO_RCA);
 		return first * second % 10;
 	}
 
-	private static int lit(BombEntity bomb) { return (int) bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count(); }
-	private static int unlit(BombEntity bomb) { return (int) bomb.getIndicators().values().stream().filter(Boolean.FALSE::equals).count(); }
-	private static int portCount(BombEntity bomb, PortType type) { return (int) bomb.getPortPlates().stream().map(PortPlateEntity::getPorts).filter(Set.class::isInstance).filter(ports -> ports.contains(type)).count(); }
-	private static int totalPorts(BombEntity bomb) { return bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts() == null ? 0 : plate.getPorts().size()).sum(); }
+	private static int lit(BombEntity bomb) { return bomb.getEdgework().litIndicatorCount(); }
+	private static int unlit(BombEntity bomb) { return bomb.getEdgework().explicitlyUnlitIndicatorCount(); }
+	private static int portCount(BombEntity bomb, PortType type) { return bomb.getEdgework().portPlatesWith(type); }
+	private static int totalPorts(BombEntity bomb) { return bomb.getEdgework().totalPortCount(); }
 	private static int square(int value) { return value * value; }
 	private static int digitalRoot(int value) { return value == 0 ? 0 : (value - 1) % 9 + 1; }
 	private static int rootOr(int value, int fallback) { int root = digitalRoot(value); return root == 0 ? fallback : root; }
@@ -53,9 +53,9 @@ public class SquareButtonSolver extends AbstractModuleSolver<SquareButtonInput,
 			return "Press and immediately release";
 		if ((color.equals("YELLOW") || color.equals("BLUE")) && Set.of("PURPLE", "JADE", "MAROON", "INDIGO").contains(label)) return null;
 		if (label.isEmpty()) return "Press and immediately release when the two seconds digits match";
-		long litIndicators = bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
+		long litIndicators = bomb.getEdgework().litIndicatorCount();
 		if (!color.equals("DARK_GREY") && label.length() > litIndicators) return "Press and immediately release";
-		long unlitIndicators = bomb.getIndicators().values().stream().filter(Boolean.FALSE::equals).count();
+		long unlitIndicators = bomb.getEdgework().explicitlyUnlitIndicatorCount();
 		if (unlitIndicators >= 2 && bomb.serialHasVowel()) return "Press and immediately release";
 		return null;
 	}
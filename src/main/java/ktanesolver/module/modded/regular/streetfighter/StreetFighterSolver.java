@@ -37,12 +37,12 @@ public class StreetFighterSolver extends AbstractModuleSolver<StreetFighterInput
         int mask = (bomb.getAaBatteryCount() >= 2 ? 1 : 0)
             | (bomb.serialHasVowel() ? 2 : 0)
             | (bomb.hasPort(PortType.RJ45) && bomb.hasPort(PortType.SERIAL) ? 4 : 0)
-            | (bomb.getIndicators().values().stream().anyMatch(Boolean.TRUE::equals) ? 8 : 0);
+            | (bomb.getEdgework().litIndicatorCount() > 0 ? 8 : 0);
         char required = LETTERS_BY_MASK.charAt(mask);
         List<Fighter> eligible = FIGHTERS.stream().filter(fighter -> fighter.key().indexOf(required) >= 0).toList();
         Fighter fighter = eligible.getFirst();
         long countryMatches = FIGHTERS.stream().filter(candidate -> sharesLetter(candidate.key(), fighter.country())).count();
-        int opponentIndex = (int) ((countryMatches + fighter.key().length() + bomb.getModules().size()) % FIGHTERS.size());
+        int opponentIndex = (int) ((countryMatches + fighter.key().length() + bomb.getStatistics().moduleCount()) % FIGHTERS.size());
         Fighter opponent = FIGHTERS.get(opponentIndex);
         return success(new StreetFighterOutput(
             String.valueOf(required).toUpperCase(Locale.ROOT), fighter.name(), opponent.name(), eligible.stream().map(Fighter::name).toList()));
@@ -39,7 +39,7 @@ public class SubscribeToPewdiepieSolver extends AbstractModuleSolver<SubscribeTo
             if (candidate.getType() == ModuleType.T_WORDS) tSeries += 500;
             if (candidate.getType() == ModuleType.PIE) pewdiepie += 500;
         }
-        pewdiepie += bomb.getModules().size() * 10;
+        pewdiepie += bomb.getStatistics().moduleCount() * 10;
 
         if (hasModule(bomb, ModuleType.ONE_HUNDRED_AND_ONE_DALMATIANS) && hasModule(bomb, ModuleType.COOKING)) {
             tSeries -= Math.abs(pewdiepie - tSeries);
@@ -62,6 +62,6 @@ public class SubscribeToPewdiepieSolver extends AbstractModuleSolver<SubscribeTo
 
     private static boolean eightDigits(int value) { return value >= 10_000_000 && value <= 99_999_999; }
     private static boolean hasModule(BombEntity bomb, ModuleType type) {
-        return bomb.getModules().stream().anyMatch(candidate -> candidate.getType() == type);
+        return bomb.getStatistics().has(type);
     }
 }
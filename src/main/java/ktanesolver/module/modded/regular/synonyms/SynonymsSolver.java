@@ -69,7 +69,7 @@ public class SynonymsSolver extends AbstractModuleSolver<SynonymsInput, Synonyms
 		}
 
 		boolean swapRows = bomb.isIndicatorLit("IND") && bomb.getLastDigit() == 5;
-		boolean doubleSend = bomb.getPortPlates().stream().filter(plate -> plate.getPorts().isEmpty()).count() == 2;
+		boolean doubleSend = bomb.getEdgework().portPlates().stream().filter(Set::isEmpty).count() == 2;
 		List<Integer> matches = new ArrayList<>();
 		for(int index = 0; index < pairs.size(); index++) {
 			WordPair pair = pairs.get(index);
@@ -42,7 +42,7 @@ public class TheBlockSolver extends AbstractModuleSolver<TheBlockInput, TheBlock
 		if (yellow == 0) return answer(6, "1", "2", "3", "4", "5", "6");
 		if (colors.get(1).equals("YELLOW") && colors.get(2).equals("BLUE")) return answer(7, "BLOCK");
 		if (BombEdgeworkUtils.getLitIndicatorCount(bomb) == 0 && colors.get(1).equals("BLUE") && colors.get(3).equals("BLUE")) return answer(8, String.valueOf(last(colors, "BLUE")));
-		if (bomb.getPortPlates().size() == 2 && BombEdgeworkUtils.hasEmptyPortPlate(bomb)) return answer(9, "2", "4", "6");
+		if (bomb.getEdgework().portPlateCount() == 2 && BombEdgeworkUtils.hasEmptyPortPlate(bomb)) return answer(9, "2", "4", "6");
 		if (colors.get(4).equals("BLUE") && colors.get(0).equals("GREEN")) return answer(10, "5", "3", "1");
 		if (bomb.getBatteryCount() == 0 && colors.get(2).equals("BLUE")) return answer(11, String.valueOf(first(colors, "BLUE")));
 		if (bomb.hasPort(PortType.DVI) && bomb.getBatteryCount() == 1) return answer(12, "BLOCK");
@@ -134,7 +134,7 @@ public class TheCubeSolver extends AbstractModuleSolver<TheCubeInput, TheCubeOut
 			case GREEN -> (count(buttons, Color.BLUE) + 7) % 10;
 			case ORANGE -> (count(buttons, Color.GREEN) + 3) % 10;
 			case PURPLE -> faces.stream().mapToInt(Integer::intValue).sum() % 10;
-			case RED -> (bomb.getModules().size() + 7) % 10;
+			case RED -> (bomb.getStatistics().moduleCount() + 7) % 10;
 			case WHITE -> 6;
 		};
 	}
@@ -1 +1 @@
-package ktanesolver.module.modded.regular.thedigit;import java.util.*;import org.springframework.stereotype.Service;import ktanesolver.annotation.ModuleInfo;import ktanesolver.dto.ModuleCatalogDto;import ktanesolver.entity.*;import ktanesolver.enums.*;import ktanesolver.logic.*;@Service@ModuleInfo(type=ModuleType.THE_DIGIT,id="TheDigitModule",name="The Digit",category=ModuleCatalogDto.ModuleCategory.MODDED_REGULAR,description="Calculate a single digit from the bomb edgework.",tags={"digit","arrows","edgework","math"})public class TheDigitSolver extends AbstractModuleSolver<TheDigitInput,TheDigitOutput>{@Override protected SolveResult<TheDigitOutput>doSolve(RoundEntity round,BombEntity bomb,ModuleEntity module,TheDigitInput input){String serial=bomb.getSerialNumber();if(serial==null||serial.chars().noneMatch(Character::isDigit))return failure("A serial number containing a digit is required");List<Integer>steps=new ArrayList<>();int n=serial.chars().filter(Character::isDigit).map(c->c-'0').reduce((a,b)->b).orElseThrow()+bomb.getBatteryCount();steps.add(n);if(bomb.hasPort(PortType.RJ45)||bomb.hasPort(PortType.DVI))n+=(int)serial.chars().filter(Character::isLetter).count();steps.add(n);n=n%2==0?n/2:n*2;steps.add(n);n-=bomb.getPortPlates().size();steps.add(n);if(bomb.getBatteryCount()*bomb.getBatteryHolders()>6)n+=5;steps.add(n);n-=3;steps.add(n);int ports=bomb.getPortPlates().stream().mapToInt(p->p.getPorts().size()).sum();if(ports>0)n*=ports;steps.add(n);n+=(int)bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();steps.add(n);n=Math.abs(n);steps.add(n);return success(new TheDigitOutput(n%10,List.copyOf(steps)));}}
+package ktanesolver.module.modded.regular.thedigit;import java.util.*;import org.springframework.stereotype.Service;import ktanesolver.annotation.ModuleInfo;import ktanesolver.dto.ModuleCatalogDto;import ktanesolver.entity.*;import ktanesolver.enums.*;import ktanesolver.logic.*;@Service@ModuleInfo(type=ModuleType.THE_DIGIT,id="TheDigitModule",name="The Digit",category=ModuleCatalogDto.ModuleCategory.MODDED_REGULAR,description="Calculate a single digit from the bomb edgework.",tags={"digit","arrows","edgework","math"})public class TheDigitSolver extends AbstractModuleSolver<TheDigitInput,TheDigitOutput>{@Override protected SolveResult<TheDigitOutput>doSolve(RoundEntity round,BombEntity bomb,ModuleEntity module,TheDigitInput input){String serial=bomb.getSerialNumber();if(serial==null||serial.chars().noneMatch(Character::isDigit))return failure("A serial number containing a digit is required");List<Integer>steps=new ArrayList<>();int n=serial.chars().filter(Character::isDigit).map(c->c-'0').reduce((a,b)->b).orElseThrow()+bomb.getBatteryCount();steps.add(n);if(bomb.hasPort(PortType.RJ45)||bomb.hasPort(PortType.DVI))n+=(int)serial.chars().filter(Character::isLetter).count();steps.add(n);n=n%2==0?n/2:n*2;steps.add(n);n-=bomb.getEdgework().portPlateCount();steps.add(n);if(bomb.getBatteryCount()*bomb.getBatteryHolders()>6)n+=5;steps.add(n);n-=3;steps.add(n);int ports=bomb.getEdgework().totalPortCount();if(ports>0)n*=ports;steps.add(n);n+=bomb.getEdgework().litIndicatorCount();steps.add(n);n=Math.abs(n);steps.add(n);return success(new TheDigitOutput(n%10,List.copyOf(steps)));}}
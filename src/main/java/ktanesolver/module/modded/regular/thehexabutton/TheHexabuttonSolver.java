@@ -73,7 +73,7 @@ public class TheHexabuttonSolver extends AbstractModuleSolver<TheHexabuttonInput
                 : new TapRule("Tap when total seconds are a multiple of " + divisor + ".", latestMultiple(divisor));
         }
         if (color.equals("YELLOW") || label.equals("JUMP")) return null;
-        if (bomb.getIndicators().size() > 4) return new TapRule("Tap while the remaining minutes are even and nonzero.", "8:00");
+        if (bomb.getEdgework().indicatorCount() > 4) return new TapRule("Tap while the remaining minutes are even and nonzero.", "8:00");
         return null;
     }
 
@@ -81,15 +81,15 @@ public class TheHexabuttonSolver extends AbstractModuleSolver<TheHexabuttonInput
         if (type.equals("SOLID")) return switch (color) {
             case "PURPLE" -> new ReleaseRule("Release when the seconds digits show 00.", "9:00");
             case "CYAN" -> new ReleaseRule("Release when total seconds are a multiple of 4.", "9:56");
-            case "GRAY" -> bomb.getModules().size() > 101
+            case "GRAY" -> bomb.getStatistics().moduleCount() > 101
                 ? new ReleaseRule("There are over 101 modules; release at any time.", "9:59")
-                : new ReleaseRule("Release when total seconds are a multiple of the module count (" + bomb.getModules().size() + ").", latestMultiple(Math.max(1, bomb.getModules().size())));
+                : new ReleaseRule("Release when total seconds are a multiple of the module count (" + bomb.getStatistics().moduleCount() + ").", latestMultiple(Math.max(1, bomb.getStatistics().moduleCount())));
             default -> new ReleaseRule("Release when total seconds modulo 300 are within 5 of a prime.", "9:57");
         };
         if (color.equals("GREEN")) return new ReleaseRule("Release while the remaining minutes are odd or zero.", "9:59");
         if (color.equals("CYAN")) return new ReleaseRule("Release when total seconds are a multiple of 7.", "9:55");
         if (color.equals("MAGENTA")) return new ReleaseRule("Release when the timer contains both a 5 and a 0.", "5:50");
-        long unsolved = bomb.getModules().stream().filter(candidate -> !candidate.isSolved()).count();
+        long unsolved = bomb.getStatistics().unsolvedCount();
         return unsolved <= 1 ? new ReleaseRule("This is the last unsolved module; release at any time.", "9:59")
             : new ReleaseRule("Release when the seconds digits equal unsolved modules modulo 60 (" + unsolved % 60 + ").", time((int) (unsolved % 60)));
     }
@@ -100,7 +100,7 @@ public class TheHexabuttonSolver extends AbstractModuleSolver<TheHexabuttonInput
         if (bomb.getBatteryCount() > 0) value += 19;
         if (bomb.hasPort(PortType.USB) || bomb.hasPort(PortType.SERIAL)) value += 3;
         if (bomb.serialHasVowel()) value += 20;
-        if (bomb.getIndicators().values().stream().noneMatch(lit -> !lit)) value += 39;
+        if (bomb.getEdgework().explicitlyUnlitIndicatorCount() == 0) value += 39;
         if (bomb.isIndicatorLit("FRK")) value += 32;
         if (bomb.getModules().stream().anyMatch(candidate -> candidate.getType() == ModuleType.FORGET_ME_NOT || candidate.getType() == ModuleType.FORGET_EVERYTHING)) value += 50;
         if (value == original) value++;
@@ -68,7 +68,7 @@ public class TheIPhoneSolver extends AbstractModuleSolver<TheIPhoneInput, TheIPh
 				if (input.characters() == null || input.characters().size() != 4 || !CHARACTERS.containsAll(input.characters())) {
 					return failure("Select all four Angry Birds characters in position order");
 				}
-				press = angryBirdsPress(input.characters(), bomb.getBatteryCount(), bomb.getIndicators().size());
+				press = angryBirdsPress(input.characters(), bomb.getBatteryCount(), bomb.getEdgework().indicatorCount());
 				instruction = "Press " + press.replace('_', ' ').toLowerCase() + ", then record the digit in the center star";
 			}
 			case MESSAGES -> {
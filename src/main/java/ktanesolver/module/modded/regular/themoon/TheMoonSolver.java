@@ -46,10 +46,10 @@ public class TheMoonSolver extends AbstractModuleSolver<TheMoonInput, TheMoonOut
 			(int)serial.chars().filter(Character::isLetter).filter(c -> "AEIOU".indexOf(c) < 0).count(),
 			(int)serial.chars().filter(Character::isDigit).count(),
 			bomb.getAaBatteryCount(),
-			bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum(),
-			bomb.getIndicators().size(),
-			bomb.getModules().size(),
-			bomb.getPortPlates().size()
+			bomb.getEdgework().totalPortCount(),
+			bomb.getEdgework().indicatorCount(),
+			bomb.getStatistics().moduleCount(),
+			bomb.getEdgework().portPlateCount()
 		};
 
 		String[] buttonBySet = new String[8];
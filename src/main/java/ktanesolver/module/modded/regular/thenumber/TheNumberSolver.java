@@ -118,7 +118,7 @@ public class TheNumberSolver extends AbstractModuleSolver<TheNumberInput, TheNum
 		if(startDay == DayOfWeek.MONDAY || startDay == DayOfWeek.WEDNESDAY || startDay == DayOfWeek.FRIDAY) return 1;
 		if(currentHour >= 12 && currentHour < 17) return 0;
 		if(first % 2 == 1 && third % 2 == 1) return 8;
-		if(bomb.getModules().stream().anyMatch(candidate -> candidate.getType() == ModuleType.FORGET_ME_NOT)) return 9;
+		if(bomb.getStatistics().has(ModuleType.FORGET_ME_NOT)) return 9;
 		if(Arrays.stream(PortType.values()).anyMatch(type -> BombEdgeworkUtils.countPortPlatesWithPortType(bomb, type) >= 3)) return 7;
 		if(first * second * third > 100) return 5;
 		if(first + second + third > 19) return 3;
@@ -85,8 +85,8 @@ public class TheScrewSolver extends AbstractModuleSolver<TheScrewInput, TheScrew
 			if (sameRow(hole, positionOf(colors, "RED"))) return 2;
 			return positionOf(buttons, "A");
 		}
-		if (rowPosition == bomb.getPortPlates().size()) return 2;
-		if (rowPosition == bomb.getIndicators().size()) return positionOf(buttons, "A");
+		if (rowPosition == bomb.getEdgework().portPlateCount()) return 2;
+		if (rowPosition == bomb.getEdgework().indicatorCount()) return positionOf(buttons, "A");
 		if (horizontallyAdjacent(hole, positionOf(colors, "YELLOW"))) return positionOf(buttons, "C");
 		if (!verticallyOpposite(hole, positionOf(colors, "GREEN"))) return positionOf(buttons, "D");
 		return 4;
@@ -41,16 +41,16 @@ public class TheSunSolver extends AbstractModuleSolver<TheSunInput, TheSunOutput
 		}
 		serial = serial.toUpperCase(Locale.ROOT);
 
-		int moduleCount = bomb.getModules().size();
+		int moduleCount = bomb.getStatistics().moduleCount();
 		int[] values = {
-			bomb.getIndicators().size(),
+			bomb.getEdgework().indicatorCount(),
 			(int)serial.chars().filter(Character::isLetter).filter(c -> "AEIOU".indexOf(c) < 0).count(),
 			bomb.getBatteryCount(),
 			(int)serial.chars().filter(Character::isDigit).count(),
-			bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum(),
+			bomb.getEdgework().totalPortCount(),
 			moduleCount,
 			bomb.getBatteryHolders(),
-			bomb.getPortPlates().size()
+			bomb.getEdgework().portPlateCount()
 		};
 
 		String[] buttonBySet = new String[8];
@@ -8,6 +8,7 @@ import ktanesolver.entity.ModuleEntity;
 import ktanesolver.entity.RoundEntity;
 import ktanesolver.enums.ModuleType;
 import ktanesolver.logic.AbstractModuleSolver;
+import ktanesolver.logic.BombStatistics;
 import ktanesolver.logic.SolveResult;
 
 @Service
@@ -20,16 +21,13 @@ import ktanesolver.logic.SolveResult;
 public class TheTrollSolver extends AbstractModuleSolver<TheTrollInput, TheTrollOutput> {
     @Override
     protected SolveResult<TheTrollOutput> doSolve(RoundEntity round, BombEntity bomb, ModuleEntity module, TheTrollInput input) {
-        long total = bomb.getModules().stream().filter(TheTrollSolver::isNonTrollSolvable).count();
-        long solved = bomb.getModules().stream().filter(TheTrollSolver::isNonTrollSolvable).filter(ModuleEntity::isSolved).count();
+        BombStatistics statistics = bomb.getStatistics();
+        long total = statistics.regularCount() - statistics.count(ModuleType.THE_TROLL);
+        long solved = statistics.solvedRegularCount() - statistics.solvedCount(ModuleType.THE_TROLL);
         int prep = (int) (total % 13 + solved % 7 + 1);
         int remaining = (int) Math.max(0, total - solved);
         int additionalSolves = remaining <= 1 ? 0 : 2;
         int timerDigit = Math.floorMod(bomb.getBatteryCount(), 10);
         return success(new TheTrollOutput(prep, additionalSolves, timerDigit, "press " + prep, "press at " + timerDigit));
     }
-
-    private static boolean isNonTrollSolvable(ModuleEntity candidate) {
-        return candidate.getType() != null && candidate.getType() != ModuleType.THE_TROLL && !candidate.getType().isNeedy();
-    }
 }
@@ -116,14 +116,14 @@ public class TheWireSolver extends AbstractModuleSolver<TheWireInput, TheWireOut
 	private static int cutSecond(BombEntity bomb, TheWireInput input, List<WireColor> dials) {
 		int a = input.displayedNumber();
 		int b = input.initiationCount();
-		int c = bomb.getIndicators().size() * 2;
-		int d = bomb.getPortPlates().size() * 4;
+		int c = bomb.getEdgework().indicatorCount() * 2;
+		int d = bomb.getEdgework().portPlateCount() * 4;
 		int e = a % 3;
-		int f = (int) bomb.getIndicators().values().stream().filter(Boolean.FALSE::equals).count();
+		int f = bomb.getEdgework().explicitlyUnlitIndicatorCount();
 		int g = specialPortCount(bomb);
-		int h = bomb.getModules().size();
+		int h = bomb.getStatistics().moduleCount();
 		int i = a * 6;
-		int j = (int) bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
+		int j = bomb.getEdgework().litIndicatorCount();
 		boolean one = Set.of(WireColor.BLUE, WireColor.GREEN, WireColor.RED).contains(dials.get(0));
 		boolean two = Set.of(WireColor.ORANGE, WireColor.GREY, WireColor.BLUE).contains(dials.get(1));
 		boolean three = Set.of(WireColor.PURPLE, WireColor.RED, WireColor.ORANGE).contains(dials.get(2));
@@ -156,12 +156,12 @@ public class TheWireSolver extends AbstractModuleSolver<TheWireInput, TheWireOut
 	}
 
 	private static int portCount(BombEntity bomb) {
-		return bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum();
+		return bomb.getEdgework().totalPortCount();
 	}
 
 	private static int specialPortCount(BombEntity bomb) {
-		return bomb.getPortPlates().stream()
-			.mapToInt(plate -> (int) plate.getPorts().stream().filter(COUNTED_PORTS::contains).count())
+		return bomb.getEdgework().portPlates().stream()
+			.mapToInt(ports -> (int) ports.stream().filter(COUNTED_PORTS::contains).count())
 			.sum();
 	}
 }
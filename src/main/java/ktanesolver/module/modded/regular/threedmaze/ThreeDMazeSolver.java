@@ -1,12 +1,7 @@
 package ktanesolver.module.modded.regular.threedmaze;
 
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.PriorityQueue;
 
 import org.springframework.stereotype.Service;
 
@@ -18,6 +13,7 @@ import ktanesolver.entity.RoundEntity;
 import ktanesolver.enums.ModuleType;
 import ktanesolver.logic.AbstractModuleSolver;
 import ktanesolver.logic.SolveResult;
+import ktanesolver.module.shared.graph.GraphSearch;
 
 @Service
 @ModuleInfo(
@@ -35,6 +31,10 @@ public class ThreeDMazeSolver extends AbstractModuleSolver<ThreeDMazeInput, Thre
 	private static final String MAZE_GAMER = "MAZE GAMER";
 	private static final String HELP_IM_LOST = "HELP IM LOST";
 	private static final int SIZE = 8;
+	private static final String FACINGS = "NESW";
+	private static final int[] ROW_STEP = { -1, 0, 1, 0 };
+	private static final int[] COL_STEP = { 0, 1, 0, -1 };
+	private static final ThreeDMazeMove[] MOVES = ThreeDMazeMove.values();
 
 	@Override
 	protected SolveResult<ThreeDMazeOutput> doSolve(RoundEntity round, BombEntity bomb, ModuleEntity module, ThreeDMazeInput input) {
@@ -172,73 +172,36 @@ public class ThreeDMazeSolver extends AbstractModuleSolver<ThreeDMazeInput, Thre
 		return best;
 	}
 
-	/** A* from (startRow, startCol, startFacing) to (goalRow, goalCol, goalFacing). Cyclic 8×8. */
+	/**
+	 * A* from (startRow, startCol, startFacing) to (goalRow, goalCol, goalFacing). Cyclic 8×8. States are
+	 * {@code (row * 8 + col) * 4 + facing} with facings indexed in {@link #FACINGS} order, so turning right adds one.
+	 */
 	private List<ThreeDMazeMove> findPath(ThreeDMazeMaze maze, int startRow, int startCol, String startFacing,
 			int goalRow, int goalCol, String goalFacing) {
-		record State(int r, int c, String dir) {}
-		record ScoredState(int cost, State state) {}
-		Map<State, Integer> bestCost = new HashMap<>();
-		Map<State, State> prev = new HashMap<>();
-		Map<State, ThreeDMazeMove> moveToReach = new HashMap<>();
-		PriorityQueue<ScoredState> queue = new PriorityQueue<>(
-			Comparator.comparingInt(sc -> sc.cost() + manhattanCyclic(sc.state().r(), sc.state().c(), goalRow, goalCol)));
-
-		State initial = new State(startRow, startCol, startFacing);
-		bestCost.put(initial, 0);
-		prev.put(initial, null);
-		moveToReach.put(initial, null);
-		queue.add(new ScoredState(0, initial));
-
-		while (!queue.isEmpty()) {
-			ScoredState scored = queue.poll();
-			int cost = scored.cost();
-			State s = scored.state();
-			if (cost > bestCost.getOrDefault(s, Integer.MAX_VALUE)) continue;
-			if (s.r() == goalRow && s.c() == goalCol && (goalFacing == null || s.dir().equals(goalFacing))) {
-				List<ThreeDMazeMove> path = new ArrayList<>();
-				State cur = s;
-				while (true) {
-					ThreeDMazeMove m = moveToReach.get(cur);
-					if (m == null) break;
-					path.add(0, m);
-					cur = prev.get(cur);
-					Objects.requireNonNull(cur);
-				}
-				return path;
-			}
-
-			// FORWARD
-			int[] nextF = step(s.r(), s.c(), s.dir());
-			if (nextF != null && canGo(maze, s.r(), s.c(), s.dir())) {
-				State fState = new State(nextF[0], nextF[1], s.dir());
-				int newCost = cost + 1;
-				if (newCost < bestCost.getOrDefault(fState, Integer.MAX_VALUE)) {
-					bestCost.put(fState, newCost);
-					prev.put(fState, s);
-					moveToReach.put(fState, ThreeDMazeMove.FORWARD);
-					queue.add(new ScoredState(newCost, fState));
-				}
-			}
-			// TURN_LEFT
-			String left = turnLeft(s.dir());
-			State leftState = new State(s.r(), s.c(), left);
-			if (cost + 1 < bestCost.getOrDefault(leftState, Integer.MAX_VALUE)) {
-				bestCost.put(leftState, cost + 1);
-				prev.put(leftState, s);
-				moveToReach.put(leftState, ThreeDMazeMove.TURN_LEFT);
-				queue.add(new ScoredState(cost + 1, leftState));
-			}
-			// TURN_RIGHT
-			String right = turnRight(s.dir());
-			State rightState = new State(s.r(), s.c(), right);
-			if (cost + 1 < bestCost.getOrDefault(rightState, Integer.MAX_VALUE)) {
-				bestCost.put(rightState, cost + 1);
-				prev.put(rightState, s);
-				moveToReach.put(rightState, ThreeDMazeMove.TURN_RIGHT);
-				queue.add(new ScoredState(cost + 1, rightState));
-			}
+		int goalCell = goalRow * SIZE + goalCol;
+		int goalDir = goalFacing == null ? -1 : FACINGS.indexOf(goalFacing);
+		GraphSearch search = GraphSearch.acquire();
+		try {
+			int found = search.aStar(SIZE * SIZE * 4, (startRow * SIZE + startCol) * 4 + FACINGS.indexOf(startFacing),
+				s -> s >> 2 == goalCell && (goalDir < 0 || (s & 3) == goalDir),
+				(s, moves) -> {
+					int r = (s >> 2) / SIZE, c = (s >> 2) % SIZE, dir = s & 3;
+					if (canGo(maze, r, c, dir)) {
+						int next = Math.floorMod(r + ROW_STEP[dir], SIZE) * SIZE + Math.floorMod(c + COL_STEP[dir], SIZE);
+						moves.accept(next * 4 + dir, ThreeDMazeMove.FORWARD.ordinal());
+					}
+					moves.accept((s & ~3) | (dir + 3) & 3, ThreeDMazeMove.TURN_LEFT.ordinal());
+					moves.accept((s & ~3) | (dir + 1) & 3, ThreeDMazeMove.TURN_RIGHT.ordinal());
+				},
+				s -> manhattanCyclic((s >> 2) / SIZE, (s >> 2) % SIZE, goalRow, goalCol));
+			if (found == GraphSearch.NONE) return null;
+			List<ThreeDMazeMove> path = new ArrayList<>();
+			for (int move : search.moves(found)) path.add(MOVES[move]);
+			return path;
+		}
+		finally {
+			GraphSearch.release(search);
 		}
-		return null;
 	}
 
 	private static int manhattanCyclic(int r1, int c1, int r2, int c2) {
@@ -247,26 +210,6 @@ public class ThreeDMazeSolver extends AbstractModuleSolver<ThreeDMazeInput, Thre
 		return dr + dc;
 	}
 
-	private static String turnLeft(String d) {
-		return switch (d) {
-			case "N" -> "W";
-			case "W" -> "S";
-			case "S" -> "E";
-			case "E" -> "N";
-			default -> d;
-		};
-	}
-
-	private static String turnRight(String d) {
-		return switch (d) {
-			case "N" -> "E";
-			case "E" -> "S";
-			case "S" -> "W";
-			case "W" -> "N";
-			default -> d;
-		};
-	}
-
 	private static GoalWall findGoalWall(ThreeDMazeMaze maze, int row, int col, String direction) {
 		for (int i = 0; i < SIZE; i++) {
 			if (!canGo(maze, row, col, direction)) return new GoalWall(row, col);
@@ -291,13 +234,17 @@ public class ThreeDMazeSolver extends AbstractModuleSolver<ThreeDMazeInput, Thre
 	}
 
 	private static boolean canGo(ThreeDMazeMaze maze, int r, int c, String dir) {
+		return canGo(maze, r, c, FACINGS.indexOf(dir));
+	}
+
+	private static boolean canGo(ThreeDMazeMaze maze, int r, int c, int dir) {
 		boolean[][] h = maze.horizontalWalls();
 		boolean[][] v = maze.verticalWalls();
 		return switch (dir) {
-			case "N" -> !h[(r - 1 + SIZE) % SIZE][c];
-			case "S" -> !h[r][c];
-			case "W" -> !v[r][(c - 1 + SIZE) % SIZE];
-			case "E" -> !v[r][c];
+			case 0 -> !h[(r - 1 + SIZE) % SIZE][c];
+			case 2 -> !h[r][c];
+			case 3 -> !v[r][(c - 1 + SIZE) % SIZE];
+			case 1 -> !v[r][c];
 			default -> false;
 		};
 	}
@@ -335,7 +282,7 @@ public class ThreeDMazeSolver extends AbstractModuleSolver<ThreeDMazeInput, Thre
 	private int computeRow(BombEntity bomb) {
 		int row = firstNumericDigit(bomb.getSerialNumber());
 		if (row < 0) return -1;
-		for (var e : bomb.getIndicators().entrySet()) {
+		for (var e : bomb.getEdgework().indicators().entrySet()) {
 			if (Boolean.FALSE.equals(e.getValue()) && hasLetterFrom(e.getKey(), MAZE_GAMER)) {
 				row++;
 			}
@@ -346,7 +293,7 @@ public class ThreeDMazeSolver extends AbstractModuleSolver<ThreeDMazeInput, Thre
 	private int computeColumn(BombEntity bomb) {
 		int col = lastNumericDigit(bomb.getSerialNumber());
 		if (col < 0) return -1;
-		for (var e : bomb.getIndicators().entrySet()) {
+		for (var e : bomb.getEdgework().indicators().entrySet()) {
 			if (Boolean.TRUE.equals(e.getValue()) && hasLetterFrom(e.getKey(), HELP_IM_LOST)) {
 				col++;
 			}
@@ -97,8 +97,8 @@ public class TicTacToeSolver extends AbstractModuleSolver<TicTacToeInput, TicTac
 		int[] candidates = bomb.isLastDigitEven()
 			? (bomb.hasPort(PortType.PARALLEL) ? new int[]{6, 8} : new int[]{5, 7, 9})
 			: (bomb.hasPort(PortType.PARALLEL) ? new int[]{2, 4} : new int[]{1, 3});
-		long lit = bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();
-		long unlit = bomb.getIndicators().size() - lit;
+		long lit = bomb.getEdgework().litIndicatorCount();
+		long unlit = bomb.getEdgework().indicatorCount() - lit;
 		return unlit > lit ? candidates[0] : lit > unlit ? candidates[candidates.length - 1] : (candidates[0] + candidates[candidates.length - 1]) / 2;
 	}
 
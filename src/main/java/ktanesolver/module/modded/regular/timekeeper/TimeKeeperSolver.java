@@ -54,13 +54,13 @@ public class TimeKeeperSolver extends AbstractModuleSolver<TimeKeeperInput, Time
 		}
 		if (leds.get(0) == Color.WHITE) value += 14;
 		value += leds.get(1) == input.displayedColor() ? 22 : 13;
-		value += 2 * bomb.getPortPlates().size();
+		value += 2 * bomb.getEdgework().portPlateCount();
 		if (bomb.hasPort(PortType.DVI)) value -= 9;
 
 		int correctLed = leds.get(0) == leds.get(1) && leds.get(0) == leds.get(2) ? 0 : -1;
 		if (EnumSet.of(Color.RED, Color.GREEN, Color.BLUE).contains(input.displayedColor())
 			&& !leds.contains(Color.YELLOW)) value += input.displayedNumber();
-		long solvableModules = bomb.getModules().stream().filter(candidate -> !candidate.getType().isNeedy()).count();
+		long solvableModules = bomb.getStatistics().regularCount();
 		if (solvableModules > bomb.getBatteryCount() + bomb.getBatteryHolders()) value -= 18;
 		if (value > 72 && value % 2 == 0) value /= 2;
 
@@ -69,14 +69,13 @@ public class TimeKeeperSolver extends AbstractModuleSolver<TimeKeeperInput, Time
 			correctLed = 1;
 			ruleNineApplied = true;
 		}
-		int portCount = bomb.getPortPlates().stream().mapToInt(plate -> plate.getPorts().size()).sum();
+		int portCount = bomb.getEdgework().totalPortCount();
 		if (Math.floorMod(value, 23) < 2 * portCount) return finish(bomb, input, value, correctLed);
 
 		value += input.activationMonth();
 		value = input.displayedNumber() > 23 ? value + bomb.getBatteryHolders() : value * bomb.getBatteryHolders();
-		Map<String, Boolean> indicators = bomb.getIndicators();
-		value += 2 * indicators.values().stream().filter(Boolean.TRUE::equals).count();
-		value -= 3 * indicators.values().stream().filter(Boolean.FALSE::equals).count();
+		value += 2 * bomb.getEdgework().litIndicatorCount();
+		value -= 3 * bomb.getEdgework().explicitlyUnlitIndicatorCount();
 		if (leds.get(2) == leds.get(0) && leds.get(0) == input.displayedColor() && leds.get(1) != leds.get(0)) {
 			if (correctLed < 0) correctLed = 2;
 			return finish(bomb, input, value, correctLed);
@@ -88,7 +87,7 @@ public class TimeKeeperSolver extends AbstractModuleSolver<TimeKeeperInput, Time
 		if (leds.stream().mapToInt(color -> color.name().length()).sum() > 13) {
 			value += input.displayedColor().name().length();
 		}
-		if (bomb.getPortPlates().isEmpty()) return finish(bomb, input, value, correctLed);
+		if (bomb.getEdgework().portPlateCount() == 0) return finish(bomb, input, value, correctLed);
 
 		if (!bomb.hasIndicator("FRK") && correctLed < 0) {
 			int first = leds.get(0).name().length();
@@ -98,7 +97,7 @@ public class TimeKeeperSolver extends AbstractModuleSolver<TimeKeeperInput, Time
 			else if (second > first && second > third) correctLed = 1;
 			else if (third > first && third > second) correctLed = 2;
 		}
-		List<String> unlit = indicators.entrySet().stream()
+		List<String> unlit = bomb.getEdgework().indicators().entrySet().stream()
 			.filter(entry -> Boolean.FALSE.equals(entry.getValue()))
 			.map(Map.Entry::getKey).filter(label -> label != null && !label.isEmpty()).toList();
 		if (unlit.isEmpty()) value *= 3;
@@ -14,19 +14,28 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import org.springframework.stereotype.Service;
 
 import ktanesolver.annotation.ModuleInfo;
+import ktanesolver.annotation.RefreshOn;
 import ktanesolver.dto.ModuleCatalogDto;
 import ktanesolver.entity.BombEntity;
 import ktanesolver.entity.ModuleEntity;
 import ktanesolver.entity.RoundEntity;
 import ktanesolver.enums.ModuleType;
 import ktanesolver.logic.AbstractModuleSolver;
+import ktanesolver.logic.RefreshableSolver;
 import ktanesolver.logic.SolveResult;
 import ktanesolver.utils.Json;
 
 @Service
 @ModuleInfo(type = ModuleType.TURN_THE_KEYS, id = "turnthekeys", name = "Turn The Keys", category = ModuleCatalogDto.ModuleCategory.MODDED_REGULAR, description = "Two keys and a priority display; turn each key in the correct order relative to other modules and other Turn The Keys.", tags = {
 	"order", "keys" })
-public class TurnTheKeysSolver extends AbstractModuleSolver<TurnTheKeysInput, TurnTheKeysOutput> {
+// every type in the four solve-order sets below, plus other Turn The Keys for their priorities and keys
+@RefreshOn (modules = {
+	ModuleType.TURN_THE_KEYS,
+	ModuleType.MORSE_CODE, ModuleType.WIRES, ModuleType.TWO_BITS, ModuleType.BUTTON, ModuleType.COLOR_FLASH, ModuleType.ROUND_KEYPAD,
+	ModuleType.SEMAPHORE, ModuleType.COMBINATION_LOCK, ModuleType.SIMON_SAYS, ModuleType.ASTROLOGY, ModuleType.SWITCHES, ModuleType.PLUMBING,
+	ModuleType.PASSWORDS, ModuleType.WHOS_ON_FIRST, ModuleType.CRAZY_TALK, ModuleType.KEYPADS, ModuleType.LISTENING, ModuleType.ORIENTATION_CUBE,
+	ModuleType.MAZES, ModuleType.MEMORY, ModuleType.COMPLICATED_WIRES, ModuleType.WIRE_SEQUENCES, ModuleType.CRYPTOGRAPHY })
+public class TurnTheKeysSolver extends AbstractModuleSolver<TurnTheKeysInput, TurnTheKeysOutput> implements RefreshableSolver {
 
 	private static final Set<ModuleType> RIGHT_AFTER_SOLVED = EnumSet.of(
 		ModuleType.MORSE_CODE, ModuleType.WIRES, ModuleType.TWO_BITS, ModuleType.BUTTON,
@@ -63,8 +72,9 @@ public class TurnTheKeysSolver extends AbstractModuleSolver<TurnTheKeysInput, Tu
 
 	/**
 	 * Recomputes Turn The Keys output from current bomb and module state without persisting any state.
-	 * Used by the event listener to refresh solution when other modules are solved or strike is added.
+	 * Used by the refresh listener when a module named in {@link RefreshOn} changes.
 	 */
+	@Override
 	public void refreshSolution(RoundEntity round, BombEntity bomb, ModuleEntity module) {
 		int currentPriority = getPriority(module);
 		if (currentPriority < 0) {
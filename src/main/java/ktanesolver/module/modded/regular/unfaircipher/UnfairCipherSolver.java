@@ -3,7 +3,6 @@ package ktanesolver.module.modded.regular.unfaircipher;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.ArrayList;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
@@ -84,7 +83,7 @@ public class UnfairCipherSolver extends AbstractModuleSolver<UnfairCipherInput,
         if ("AEIOU".indexOf(originalSerial.charAt(3)) >= 0 || "AEIOU".indexOf(originalSerial.charAt(4)) >= 0) value /= 10;
         StringBuilder key = new StringBuilder(hexToLetters(Integer.toHexString(value).toUpperCase(Locale.ROOT)));
         appendWrappedLetter(key, moduleId);
-        appendWrappedLetter(key, bomb.getPortPlates().size());
+        appendWrappedLetter(key, bomb.getEdgework().portPlateCount());
         appendWrappedLetter(key, bomb.getBatteryHolders());
         return key.toString();
     }
@@ -95,22 +94,17 @@ public class UnfairCipherSolver extends AbstractModuleSolver<UnfairCipherInput,
     }
 
     static int calculateOffset(BombEntity bomb) {
-        Set<Object> portTypes = new LinkedHashSet<>();
-        int portCount = 0;
-        for (var plate : bomb.getPortPlates()) {
-            portTypes.addAll(plate.getPorts());
-            portCount += plate.getPorts().size();
-        }
-        int offset = -2 * portTypes.size() + bomb.getPortPlates().size();
+        int portCount = bomb.getEdgework().totalPortCount();
+        int offset = -2 * bomb.getEdgework().distinctPortTypeCount() + bomb.getEdgework().portPlateCount();
         for (char character : normalize(bomb.getSerialNumber()).toCharArray()) {
             if (!Character.isLetter(character)) continue;
             offset += "AEIOU".indexOf(character) >= 0 ? -2 : 1;
         }
-        for (boolean lit : bomb.getIndicators().values()) offset += lit ? 2 : -2;
+        offset += 2 * bomb.getEdgework().litIndicatorCount() - 2 * bomb.getEdgework().explicitlyUnlitIndicatorCount();
         offset -= bomb.getBatteryCount();
         if (bomb.getBatteryCount() == 0) offset += 10;
         if (portCount == 0) offset *= 2;
-        if (bomb.getModules().size() > 30) offset /= 2;
+        if (bomb.getStatistics().moduleCount() > 30) offset /= 2;
         return offset;
     }
 
@@ -129,7 +123,7 @@ public class UnfairCipherSolver extends AbstractModuleSolver<UnfairCipherInput,
     static List<UnfairCipherAction> planActions(BombEntity bomb, int moduleId, int strikes, List<String> instructions) {
         List<UnfairCipherAction> actions = new ArrayList<>();
         int colorPresses = 0;
-        boolean bobUnicorn = bomb.isIndicatorLit("BOB") && bomb.getIndicators().size() == 1 && bomb.getBatteryCount() == 2;
+        boolean bobUnicorn = bomb.isIndicatorLit("BOB") && bomb.getEdgework().indicatorCount() == 1 && bomb.getBatteryCount() == 2;
         for (int index = 0; index < instructions.size(); index++) {
             String instruction = instructions.get(index);
             int stage = index + 1;
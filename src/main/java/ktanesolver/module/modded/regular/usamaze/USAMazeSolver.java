@@ -1,12 +1,10 @@
 package ktanesolver.module.modded.regular.usamaze;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import org.springframework.stereotype.Service;
 
@@ -18,6 +16,8 @@ import ktanesolver.entity.RoundEntity;
 import ktanesolver.enums.ModuleType;
 import ktanesolver.logic.AbstractModuleSolver;
 import ktanesolver.logic.SolveResult;
+import ktanesolver.module.shared.graph.AdjacencyGraph;
+import ktanesolver.module.shared.graph.RouteTable;
 
 @Service
 @ModuleInfo(
@@ -67,6 +67,9 @@ public class USAMazeSolver extends AbstractModuleSolver<USAMazeInput, USAMazeOut
 	private static final List<String> DAYS = List.of("SUNDAY", "MONDAY", "TUESDAY", "WEDNESDAY", "THURSDAY", "FRIDAY", "SATURDAY");
 	private static final List<String> ALASKA_FLIGHTS = List.of("Circle", "Square", "Trapezoid", "Parallelogram", "Diamond", "Triangle", "Heart");
 	private static final List<String> HAWAII_FLIGHTS = List.of("Square", "Circle", "Triangle", "Diamond", "Parallelogram", "Trapezoid", "Star");
+	private static final List<String> SHAPES = List.of("Circle", "Square", "Trapezoid", "Parallelogram", "Diamond", "Triangle", "Heart", "Star");
+	private static final List<String> CODES = STATES.keySet().stream().sorted().toList();
+	private static final List<RouteTable> ROUTES = IntStream.range(0, DAYS.size()).mapToObj(day -> RouteTable.of("USA Maze", graph(day))).toList();
 
 	@Override
 	protected SolveResult<USAMazeOutput> doSolve(
@@ -93,50 +96,40 @@ public class USAMazeSolver extends AbstractModuleSolver<USAMazeInput, USAMazeOut
 	}
 
 	private static USAMazeOutput shortestPath(String start, String destination, int dayIndex) {
-		Map<String, List<Move>> graph = new HashMap<>();
-		STATES.keySet().forEach(state -> graph.put(state, new ArrayList<>()));
-		LAND.forEach((border, shape) -> {
-			String[] states = border.split("-");
-			connect(graph, states[0], states[1], shape);
+		RouteTable routes = ROUTES.get(dayIndex);
+		int from = CODES.indexOf(start);
+		int to = CODES.indexOf(destination);
+		int[] states = routes.states(from, to);
+		if (states == null) return null;
+
+		List<String> route = new ArrayList<>();
+		for (int state : states) route.add(CODES.get(state));
+		List<String> presses = new ArrayList<>();
+		for (int shape : routes.moves(from, to)) presses.add(SHAPES.get(shape));
+		return new USAMazeOutput(List.copyOf(route), List.copyOf(presses));
+	}
+
+	/** The land borders, in abbreviation order so ties between shortest routes always resolve the same way, then the day's flights. */
+	private static AdjacencyGraph graph(int dayIndex) {
+		AdjacencyGraph.Builder graph = AdjacencyGraph.builder(CODES.size());
+		LAND.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(border -> {
+			String[] states = border.getKey().split("-");
+			connect(graph, states[0], states[1], border.getValue());
 		});
 		connectFlight(graph, "AK", ALASKA_FLIGHTS.get(dayIndex));
 		connectFlight(graph, "HI", HAWAII_FLIGHTS.get(dayIndex));
-
-		ArrayDeque<String> queue = new ArrayDeque<>();
-		Map<String, Step> previous = new HashMap<>();
-		queue.add(start);
-		previous.put(start, new Step(null, null));
-		while (!queue.isEmpty() && !previous.containsKey(destination)) {
-			String state = queue.removeFirst();
-			for (Move move : graph.get(state)) {
-				if (previous.containsKey(move.state())) continue;
-				previous.put(move.state(), new Step(state, move.shape()));
-				queue.addLast(move.state());
-			}
-		}
-		if (!previous.containsKey(destination)) return null;
-
-		LinkedList<String> route = new LinkedList<>();
-		LinkedList<String> presses = new LinkedList<>();
-		for (String state = destination; state != null; state = previous.get(state).state()) {
-			route.addFirst(state);
-			String shape = previous.get(state).shape();
-			if (shape != null) presses.addFirst(shape);
-		}
-		return new USAMazeOutput(List.copyOf(route), List.copyOf(presses));
+		return graph.build();
 	}
 
-	private static void connectFlight(Map<String, List<Move>> graph, String outlying, String shape) {
+	private static void connectFlight(AdjacencyGraph.Builder graph, String outlying, String shape) {
 		connect(graph, outlying, FLIGHT_GATEWAYS.get(shape), shape);
 	}
 
-	private static void connect(Map<String, List<Move>> graph, String first, String second, String shape) {
-		graph.get(first).add(new Move(second, shape));
-		graph.get(second).add(new Move(first, shape));
+	private static void connect(AdjacencyGraph.Builder graph, String first, String second, String shape) {
+		graph.edge(CODES.indexOf(first), CODES.indexOf(second), SHAPES.indexOf(shape));
+		graph.edge(CODES.indexOf(second), CODES.indexOf(first), SHAPES.indexOf(shape));
 	}
 
 	private static Map.Entry<String, String> state(String abbreviation, String name) { return Map.entry(abbreviation, name); }
 	private static Map.Entry<String, String> edge(String states, String shape) { return Map.entry(states, shape); }
-	private record Move(String state, String shape) {}
-	private record Step(String state, String shape) {}
 }
@@ -59,7 +59,7 @@ public class WasteManagementSolver extends AbstractModuleSolver<WasteManagementI
 		if(bomb.hasIndicator("SND")) amount += 15;
 		if(bomb.hasPort(PortType.PARALLEL)) amount -= 44;
 		if(timerBand != TimerBand.MORE_THAN_HALF && moduleNames.stream().anyMatch(name -> name.contains("morse") || name.equals("simon sends"))) amount -= 26;
-		if(bomb.getBatteryCount() == 0 && bomb.getIndicators().size() < 3) amount += 154;
+		if(bomb.getBatteryCount() == 0 && bomb.getEdgework().indicatorCount() < 3) amount += 154;
 
 		String serial = bomb.getSerialNumber().toUpperCase(Locale.ROOT);
 		long consonants = serial.chars().filter(character -> "BCDFGHJKLMNPQRSTVWXYZ".indexOf(character) >= 0).count();
@@ -32,10 +32,10 @@ public class WavetappingSolver extends AbstractModuleSolver<WavetappingInput,Wav
         List<String> rows=new ArrayList<>();for(int row=1;row<=9;row++)rows.add(pattern.substring(row*11+1,row*11+10));return success(new WavetappingOutput(input.stage(),color,index+1,List.copyOf(rows),command(rows)),input.stage()==3);
     }
     private static int patternIndex(String color,int stage,List<String> unavailable,List<String> prevColors,List<Integer> prevNumbers,BombEntity bomb,String serial){int length=WavetappingPatterns.ALL.get(color).size();List<Integer>digits=serial.chars().filter(Character::isDigit).map(c->c-'0').boxed().toList();int first=digits.get(0),last=digits.get(digits.size()-1);return switch(color){
-        case"Red"->range(Math.max(1,bomb.getBatteryCount())*Math.max(1,bomb.getIndicators().size()),length);case"Orange"->range((stage+1)*Math.max(1,last),length);case"Orange-Yellow"->digits.stream().mapToInt(Integer::intValue).sum()%2==0?2-stage:stage;
-        case"Chartreuse"->{long left=unavailable.stream().filter(x->COLORS.indexOf(x)%4<2).count(),right=8-left;yield left==right?(bomb.getPortPlates().size()%2==0?0:1):(left<right?1:0);}case"Lime"->{int d=bomb.getDBatteryCount(),aa=bomb.getAaBatteryCount();if(d==aa)yield first%2==0?1:0;if(stage>0&&WavetappingPatterns.ALL.get(prevColors.get(stage-1)).size()<=3)yield d>aa?1:0;yield d<aa?1:0;}
-        case"Green"->{int pixels;if(stage>0)pixels=active(WavetappingPatterns.ALL.get(prevColors.get(stage-1)).get(prevNumbers.get(stage-1)-1));else pixels=active(WavetappingPatterns.ALL.get(unavailable.stream().min(java.util.Comparator.comparingInt(COLORS::indexOf)).orElseThrow()).get(0));yield range(pixels,length);}case"Seafoam Green"->{long top=unavailable.stream().filter(x->COLORS.indexOf(x)/4<2).count(),bottom=8-top;long lit=bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count();yield top==bottom?(lit%2==0?0:1):(top<bottom?1:0);}case"Cyan-Green"->last%2==0?1:0;
-        case"Turquoise"->{int weighted=bomb.getIndicators().entrySet().stream().mapToInt(e->e.getKey().equals("BOB")?5:Boolean.TRUE.equals(e.getValue())?2:1).sum();yield range(Math.max(1,bomb.getPortPlates().size())*Math.max(1,weighted),length);}case"Dark Blue"->range((int)bomb.getModules().stream().filter(m->m.getType()==ModuleType.WAVETAPPING).count(),length);case"Indigo"->range((stage==0?digits.stream().mapToInt(Integer::intValue).sum():prevNumbers.stream().mapToInt(Integer::intValue).sum())*bomb.getModules().size(),length);
+        case"Red"->range(Math.max(1,bomb.getBatteryCount())*Math.max(1,bomb.getEdgework().indicatorCount()),length);case"Orange"->range((stage+1)*Math.max(1,last),length);case"Orange-Yellow"->digits.stream().mapToInt(Integer::intValue).sum()%2==0?2-stage:stage;
+        case"Chartreuse"->{long left=unavailable.stream().filter(x->COLORS.indexOf(x)%4<2).count(),right=8-left;yield left==right?(bomb.getEdgework().portPlateCount()%2==0?0:1):(left<right?1:0);}case"Lime"->{int d=bomb.getDBatteryCount(),aa=bomb.getAaBatteryCount();if(d==aa)yield first%2==0?1:0;if(stage>0&&WavetappingPatterns.ALL.get(prevColors.get(stage-1)).size()<=3)yield d>aa?1:0;yield d<aa?1:0;}
+        case"Green"->{int pixels;if(stage>0)pixels=active(WavetappingPatterns.ALL.get(prevColors.get(stage-1)).get(prevNumbers.get(stage-1)-1));else pixels=active(WavetappingPatterns.ALL.get(unavailable.stream().min(java.util.Comparator.comparingInt(COLORS::indexOf)).orElseThrow()).get(0));yield range(pixels,length);}case"Seafoam Green"->{long top=unavailable.stream().filter(x->COLORS.indexOf(x)/4<2).count(),bottom=8-top;long lit=bomb.getEdgework().litIndicatorCount();yield top==bottom?(lit%2==0?0:1):(top<bottom?1:0);}case"Cyan-Green"->last%2==0?1:0;
+        case"Turquoise"->{int weighted=bomb.getEdgework().indicators().entrySet().stream().mapToInt(e->e.getKey().equals("BOB")?5:Boolean.TRUE.equals(e.getValue())?2:1).sum();yield range(Math.max(1,bomb.getEdgework().portPlateCount())*Math.max(1,weighted),length);}case"Dark Blue"->range(bomb.getStatistics().count(ModuleType.WAVETAPPING),length);case"Indigo"->range((stage==0?digits.stream().mapToInt(Integer::intValue).sum():prevNumbers.stream().mapToInt(Integer::intValue).sum())*bomb.getStatistics().moduleCount(),length);
         case"Purple"->PURPLE[range(sum(serial)*(bomb.getBatteryCount()==0?13:bomb.getBatteryCount()),95)]-1;case"Purple-Magenta"->{if(stage==0)yield 0;boolean easy=List.of("Red","Orange","Orange-Yellow","Chartreuse","Lime","Green","Seafoam Green","Cyan-Green","Dark Blue","Purple-Magenta").contains(prevColors.get(stage-1));boolean low=prevNumbers.get(stage-1)<=Math.ceil(WavetappingPatterns.ALL.get(prevColors.get(stage-1)).size()/2.0);yield easy?(low?0:2):(low?1:3);}case"Magenta"->{int product=sum(serial.substring(0,Math.min(3,serial.length())))*sum(serial.substring(Math.min(3,serial.length())));yield range(product==0?8:product,length);}case"Pink"->{String ds=digits.stream().map(String::valueOf).collect(java.util.stream.Collectors.joining());long n=Long.parseLong(ds);if(n==0)n=stage==0?serial.chars().filter(Character::isLetter).map(c->c-'A'+1).findFirst().orElse(1):prevNumbers.get(stage-1);yield range(n,length);}case"Grey"->range(unavailable.stream().mapToInt(x->WavetappingPatterns.ALL.get(x).size()).sum(),length);default->0;};}
     private static int range(long value,int length){return value==0?0:(int)Math.floorMod(value-1,length);}private static int active(String p){return(int)p.chars().filter(c->c=='O').count();}private static int sum(String s){return s.chars().map(c->Character.isDigit(c)?c-'0':c-'A'+1).sum();}
     private static String transpose(String p){StringBuilder b=new StringBuilder(121);for(int col=0;col<11;col++)for(int row=0;row<11;row++)b.append(p.charAt(row*11+col));return b.toString();}
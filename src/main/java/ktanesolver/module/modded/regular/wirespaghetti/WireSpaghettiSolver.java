@@ -29,11 +29,11 @@ public class WireSpaghettiSolver extends AbstractModuleSolver<WireSpaghettiInput
 		Map<String,Long> c=BASE.stream().collect(java.util.stream.Collectors.toMap(v->v,v->wires.stream().filter(v::equals).count()));
 		List<String> order=new ArrayList<>(BASE);
 		swap(order,0,6,()->sum(c,"DARK GREY","LIGHT GREY","BLACK","WHITE")<5);
-		swap(order,2,5,()->c.get("AQUA")==0); swap(order,4,13,()->bomb.getPortPlates().size()>sum(c,"YELLOW","DARK RED","ORANGE"));
+		swap(order,2,5,()->c.get("AQUA")==0); swap(order,4,13,()->bomb.getEdgework().portPlateCount()>sum(c,"YELLOW","DARK RED","ORANGE"));
 		swap(order,6,10,()->sum(c,"LIME","PINK")>sum(c,"GREEN","PURPLE"));
 		swap(order,13,14,()->c.get("LIGHT RED")<c.get("BROWN")&&c.get("BLACK")>c.get("BLUE"));
 		swap(order,1,12,()->wires.size()>13); swap(order,4,9,()->List.of(2L,3L,5L,7L,11L,13L,17L,19L).contains(sum(c,"DARK RED","PINK","AQUA")));
-		long lit=bomb.getIndicators().values().stream().filter(Boolean.TRUE::equals).count(); swap(order,7,10,()->lit<sum(c,"BLACK","BROWN"));
+		long lit=bomb.getEdgework().litIndicatorCount(); swap(order,7,10,()->lit<sum(c,"BLACK","BROWN"));
 		swap(order,2,7,()->sum(c,"GREEN","DARK GREY")>c.get("PINK")*2); swap(order,8,11,()->c.get("WHITE")>=3);
 		swap(order,3,13,()->bomb.getBatteryCount()==sum(c,"YELLOW","ORANGE")); swap(order,0,1,()->c.get("BROWN")==sum(c,"LIGHT GREY","LIME"));
 		List<String> result=wires.stream().sorted(Comparator.comparingInt(order::indexOf)).toList();
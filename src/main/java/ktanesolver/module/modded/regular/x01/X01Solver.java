@@ -59,10 +59,7 @@ public class X01Solver extends AbstractModuleSolver<X01Input, X01Output> {
 	private static int targetScore(BombEntity bomb, List<Integer> values) {
 		String serial = Objects.toString(bomb.getSerialNumber(), "");
 		int aaAndDigits = bomb.getAaBatteryCount() + (int)serial.chars().filter(Character::isDigit).count();
-		int indicatorsAndPorts = bomb.getIndicators().size() + bomb.getPortPlates().stream()
-			.filter(Objects::nonNull)
-			.mapToInt(plate -> plate.getPorts() == null ? 0 : plate.getPorts().size())
-			.sum();
+		int indicatorsAndPorts = bomb.getEdgework().indicatorCount() + bomb.getEdgework().totalPortCount();
 		int row = aaAndDigits <= 2 ? 0 : aaAndDigits <= 4 ? 1 : aaAndDigits == 5 ? 2 : aaAndDigits <= 7 ? 3 : 4;
 		int column = indicatorsAndPorts <= 2 ? 0 : indicatorsAndPorts <= 5 ? 1 : 2;
 		int redBlack = 0;
@@ -101,7 +101,7 @@ public class YahtzeeSolver extends AbstractModuleSolver<YahtzeeInput, YahtzeeOut
 				return keptValue != null && !keptValue.equals(previousValue);
 			}
 			if (keep.isEmpty()) return true;
-			if (keep.size() == bomb.getPortPlates().size() && keep.size() > 2) return false;
+			if (keep.size() == bomb.getEdgework().portPlateCount() && keep.size() > 2) return false;
 			if (keep.size() == 1) return keep.getFirst() != color("BLACK");
 			if (keep.size() == 2) return !keep.contains(color("BLUE"));
 			if (keep.size() == 3) return unkept.stream().noneMatch(value -> serialDigits(bomb).contains(value));
@@ -54,7 +54,7 @@ public class ZooSolver extends AbstractModuleSolver<ZooInput, ZooOutput> {
 		Hex start = new Hex(q, r);
 		if (!CELLS.contains(start)) return failure("Choose one animal from each axis that points to a cell in the grid");
 
-		for (int count = bomb.getPortPlates().size(); count >= 0; count--) {
+		for (int count = bomb.getEdgework().portPlateCount(); count >= 0; count--) {
 			int candidate = -1;
 			for (int direction = 0; direction < DIRECTIONS.length; direction++) {
 				if (canFormLine(start, direction, 1) && portCount(bomb, PORT_TYPES[direction]) == count)
@@ -74,7 +74,7 @@ public class ZooSolver extends AbstractModuleSolver<ZooInput, ZooOutput> {
 	}
 
 	private static int portCount(BombEntity bomb, PortType type) {
-		return (int) bomb.getPortPlates().stream().filter(plate -> plate.getPorts().contains(type)).count();
+		return bomb.getEdgework().portPlatesWith(type);
 	}
 
 	private static boolean canFormLine(Hex start, int direction, int step) {
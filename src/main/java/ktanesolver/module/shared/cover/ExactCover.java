@@ -0,0 +1,114 @@
+package ktanesolver.module.shared.cover;
+
+import java.util.Arrays;
+
+/**
+ * Exact cover of a board of up to 64 cells held as bitboards: every group (a clue, a piece) places exactly one of its
+ * option masks, the masks may not overlap and together they fill the board. Each step branches on the unplaced group
+ * with the fewest options still fitting, trying them in the order given (ties go to the lower group). As in dancing
+ * links, cells count as constraints too: a branch ends as soon as some group has no option left, some empty cell is in
+ * no remaining option or the remaining options cannot add up to the empty area, and an empty cell only one remaining
+ * option covers places that option without branching.
+ * Which cells are covered once or more than once comes from OR-ing the fitting masks, so the search keeps nothing but
+ * the chosen option per group and allocates nothing after the result array.
+ */
+public final class ExactCover {
+
+	private ExactCover() {
+	}
+
+	/**
+	 * @param options the option masks of each group
+	 * @param board the cells that must be covered
+	 * @return the index of the option chosen for each group, or null when the groups cannot cover the board
+	 */
+	public static int[] solve(long[][] options, long board) {
+		int[] chosen = new int[options.length];
+		Arrays.fill(chosen, -1);
+		return search(options, board, chosen, 0L, 0) ? chosen : null;
+	}
+
+	private static boolean search(long[][] options, long board, int[] chosen, long occupied, int placed) {
+		if (placed == options.length) {
+			return occupied == board;
+		}
+		int best = -1;
+		int bestCount = Integer.MAX_VALUE;
+		// cells covered by at least one and by at least two of the options still fitting
+		long once = 0;
+		long twice = 0;
+		// the fewest and most cells the unplaced groups can still cover between them
+		int minArea = 0;
+		int maxArea = 0;
+		for (int group = 0; group < options.length; group++) {
+			if (chosen[group] >= 0) {
+				continue;
+			}
+			int count = 0;
+			int min = Integer.MAX_VALUE;
+			int max = 0;
+			for (long mask : options[group]) {
+				if ((mask & occupied) == 0) {
+					count++;
+					twice |= once & mask;
+					once |= mask;
+					int area = Long.bitCount(mask);
+					min = Math.min(min, area);
+					max = Math.max(max, area);
+				}
+			}
+			if (count == 0) {
+				return false;
+			}
+			minArea += min;
+			maxArea += max;
+			if (count < bestCount) {
+				best = group;
+				bestCount = count;
+			}
+		}
+		long empty = board & ~occupied;
+		int emptyCells = Long.bitCount(empty);
+		if ((empty & ~once) != 0 || emptyCells < minArea || emptyCells > maxArea) {
+			return false;
+		}
+		long forced = empty & ~twice;
+		if (forced != 0 && bestCount > 1) {
+			return place(options, board, chosen, occupied, placed, Long.lowestOneBit(forced));
+		}
+		long[] candidates = options[best];
+		for (int option = 0; option < candidates.length; option++) {
+			long mask = candidates[option];
+			if ((mask & occupied) != 0) {
+				continue;
+			}
+			chosen[best] = option;
+			if (search(options, board, chosen, occupied | mask, placed + 1)) {
+				return true;
+			}
+		}
+		chosen[best] = -1;
+		return false;
+	}
+
+	/** Places the only option still fitting that covers {@code cell}. */
+	private static boolean place(long[][] options, long board, int[] chosen, long occupied, int placed, long cell) {
+		for (int group = 0; group < options.length; group++) {
+			if (chosen[group] >= 0) {
+				continue;
+			}
+			for (int option = 0; option < options[group].length; option++) {
+				long mask = options[group][option];
+				if ((mask & cell) != 0 && (mask & occupied) == 0) {
+					chosen[group] = option;
+					if (search(options, board, chosen, occupied | mask, placed + 1)) {
+						return true;
+					}
+					chosen[group] = -1;
+					return false;
+				}
+			}
+		}
+		throw new IllegalStateException("No option covers a cell counted as covered once");
+	}
+}
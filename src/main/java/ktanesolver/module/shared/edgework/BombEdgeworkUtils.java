@@ -1,120 +1,76 @@
 package ktanesolver.module.shared.edgework;
 
-import java.util.Set;
-
 import ktanesolver.entity.BombEntity;
-import ktanesolver.entity.ModuleEntity;
 import ktanesolver.enums.PortType;
 
+/** Edgework questions answered from the bomb's {@link EdgeworkSnapshot}. */
 public final class BombEdgeworkUtils {
 
 	private BombEdgeworkUtils() {
 	}
 
 	public static boolean serialContains(BombEntity bomb, char character) {
-		String serial = bomb.getSerialNumber();
-		return serial != null && serial.toUpperCase().indexOf(Character.toUpperCase(character)) >= 0;
+		return bomb.getEdgework().serialContainsIgnoreCase(character);
 	}
 
 	public static int countSerialDigits(BombEntity bomb) {
-		String serial = bomb.getSerialNumber();
-		return serial == null ? 0 : (int) serial.chars().filter(Character::isDigit).count();
+		return bomb.getEdgework().serialDigitCount();
 	}
 
 	public static int getFirstSerialDigit(BombEntity bomb) {
-		String serial = bomb.getSerialNumber();
-		if (serial == null) {
-			return 0;
-		}
-		return serial.chars()
-			.filter(Character::isDigit)
-			.map(c -> c - '0')
-			.findFirst()
-			.orElse(0);
+		return bomb.getEdgework().firstSerialDigit();
 	}
 
 	public static int getSerialDigitSum(BombEntity bomb) {
-		String serial = bomb.getSerialNumber();
-		if (serial == null) {
-			return 0;
-		}
-		return serial.chars()
-			.filter(Character::isDigit)
-			.map(c -> c - '0')
-			.sum();
+		return bomb.getEdgework().serialDigitSum();
 	}
 
 	public static boolean serialHasMoreLettersThanDigits(BombEntity bomb) {
-		String serial = bomb.getSerialNumber();
-		if (serial == null) {
-			return false;
-		}
-		long letters = serial.chars().filter(Character::isLetter).count();
-		long digits = serial.chars().filter(Character::isDigit).count();
-		return letters > digits;
+		EdgeworkSnapshot edgework = bomb.getEdgework();
+		return edgework.serialLetters().length() > edgework.serialDigitCount();
 	}
 
 	public static boolean hasDuplicateSerialCharacters(BombEntity bomb) {
-		String serial = bomb.getSerialNumber();
-		if (serial == null || serial.isEmpty()) {
-			return false;
-		}
-		Set<Integer> seen = serial.toUpperCase().chars().boxed().collect(java.util.stream.Collectors.toSet());
-		return serial.length() != seen.size();
+		return bomb.getEdgework().serialHasDuplicateCharacters();
 	}
 
 	public static long getLitIndicatorCount(BombEntity bomb) {
-		return bomb.getIndicators().values().stream()
-			.filter(Boolean::booleanValue)
-			.count();
+		return bomb.getEdgework().litIndicatorCount();
 	}
 
 	public static long getUnlitIndicatorCount(BombEntity bomb) {
-		return bomb.getIndicators().values().stream()
-			.filter(value -> !Boolean.TRUE.equals(value))
-			.count();
+		return bomb.getEdgework().unlitIndicatorCount();
 	}
 
 	public static boolean hasBothLitAndUnlitIndicators(BombEntity bomb) {
-		boolean hasLit = bomb.getIndicators().values().stream().anyMatch(Boolean::booleanValue);
-		boolean hasUnlit = bomb.getIndicators().values().stream().anyMatch(value -> !Boolean.TRUE.equals(value));
-		return hasLit && hasUnlit;
+		EdgeworkSnapshot edgework = bomb.getEdgework();
+		return edgework.litIndicatorCount() > 0 && edgework.unlitIndicatorCount() > 0;
 	}
 
 	public static boolean hasIndicatorWithNoVowels(BombEntity bomb) {
-		return bomb.getIndicators().keySet().stream()
-			.anyMatch(label -> label.chars().noneMatch(c -> "AEIOU".indexOf(Character.toUpperCase(c)) >= 0));
+		return bomb.getEdgework().hasIndicatorWithNoVowels();
 	}
 
 	public static int getTotalPortCount(BombEntity bomb) {
-		return bomb.getPortPlates().stream()
-			.mapToInt(plate -> plate.getPorts().size())
-			.sum();
+		return bomb.getEdgework().totalPortCount();
 	}
 
 	public static int getDistinctPortTypeCount(BombEntity bomb) {
-		return (int) bomb.getPortPlates().stream()
-			.flatMap(plate -> plate.getPorts().stream())
-			.distinct()
-			.count();
+		return bomb.getEdgework().distinctPortTypeCount();
 	}
 
 	public static boolean hasDuplicatePorts(BombEntity bomb) {
-		long totalPorts = bomb.getPortPlates().stream()
-			.flatMap(plate -> plate.getPorts().stream())
-			.count();
-		return totalPorts != getDistinctPortTypeCount(bomb);
+		return bomb.getEdgework().hasDuplicatePorts();
 	}
 
 	public static long countPortPlatesWithPortType(BombEntity bomb, PortType portType) {
-		return bomb.getPortPlates().stream()
-			.filter(plate -> plate.getPorts().contains(portType))
-			.count();
+		return bomb.getEdgework().portPlatesWith(portType);
 	}
 
 	public static boolean hasTwoOrMoreOfAnyPortType(BombEntity bomb) {
+		EdgeworkSnapshot edgework = bomb.getEdgework();
 		for (PortType type : PortType.values()) {
-			if (countPortPlatesWithPortType(bomb, type) >= 2) {
+			if (edgework.portPlatesWith(type) >= 2) {
 				return true;
 			}
 		}
@@ -122,19 +78,14 @@ public final class BombEdgeworkUtils {
 	}
 
 	public static boolean hasEmptyPortPlate(BombEntity bomb) {
-		return bomb.getPortPlates().stream().anyMatch(plate -> plate.getPorts().isEmpty());
+		return bomb.getEdgework().hasEmptyPortPlate();
 	}
 
 	public static int countSolvedModules(BombEntity bomb) {
-		return (int) bomb.getModules().stream()
-			.filter(ModuleEntity::isSolved)
-			.count();
+		return bomb.getStatistics().solvedCount();
 	}
 
 	public static int countUnsolvedRegularModules(BombEntity bomb) {
-		return (int) bomb.getModules().stream()
-			.filter(module -> !module.isSolved())
-			.filter(module -> !module.getType().isNeedy())
-			.count();
+		return bomb.getStatistics().unsolvedRegularCount();
 	}
 }
@@ -0,0 +1,269 @@
+package ktanesolver.module.shared.edgework;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import ktanesolver.entity.BombEntity;
+import ktanesolver.entity.PortPlateEntity;
+import ktanesolver.enums.PortType;
+
+/**
+ * Immutable, pre-parsed view of a bomb's serial number, indicators and port plates. Everything solvers ask about that
+ * edgework is derived in one pass when the snapshot is built: serial digits and letters are split out, indicator
+ * labels are kept with lit/unlit bitsets over their positions, and ports are packed into a presence mask plus a count of
+ * plates per {@link PortType}. Rules the precomputed answers do not cover read {@link #indicators()} and
+ * {@link #portPlates()}, read-only copies in the bomb's order. Battery counts are plain fields on the bomb and are not
+ * repeated here.
+ */
+public final class EdgeworkSnapshot {
+
+	private static final String VOWELS = "AEIOU";
+
+	private final String serial;
+	private final int[] serialDigits;
+	private final String serialLetters;
+	private final int serialDigitSum;
+	private final boolean serialHasVowel;
+	private final boolean serialHasDuplicateCharacters;
+
+	private final String[] indicatorLabels;
+	private final BitSet litIndicators;
+	private final BitSet unlitIndicators;
+	private final boolean indicatorWithNoVowels;
+	private final Map<String, Boolean> indicators;
+
+	private final int portPlateCount;
+	private final int portMask;
+	private final int[] platesWithPort;
+	private final int totalPortCount;
+	private final int maxPortsOnPlate;
+	private final boolean emptyPortPlate;
+	private final List<Set<PortType>> plates;
+
+	private EdgeworkSnapshot(String serial, Map<String, Boolean> indicators, List<PortPlateEntity> portPlates) {
+		this.serial = serial == null ? "" : serial;
+		int[] digits = new int[this.serial.length()];
+		int digitCount = 0;
+		int digitSum = 0;
+		StringBuilder letters = new StringBuilder();
+		boolean vowel = false;
+		BitSet seen = new BitSet();
+		boolean duplicate = false;
+		for (int i = 0; i < this.serial.length(); i++) {
+			char c = this.serial.charAt(i);
+			if (Character.isDigit(c)) {
+				digits[digitCount++] = c - '0';
+				digitSum += c - '0';
+			}
+			else if (Character.isLetter(c)) {
+				letters.append(c);
+			}
+			vowel |= VOWELS.indexOf(c) >= 0;
+			int upper = Character.toUpperCase(c);
+			duplicate |= seen.get(upper);
+			seen.set(upper);
+		}
+		this.serialDigits = Arrays.copyOf(digits, digitCount);
+		this.serialLetters = letters.toString();
+		this.serialDigitSum = digitSum;
+		this.serialHasVowel = vowel;
+		this.serialHasDuplicateCharacters = duplicate;
+
+		Map<String, Boolean> labels = indicators == null ? Map.of() : indicators;
+		this.indicatorLabels = new String[labels.size()];
+		this.litIndicators = new BitSet(labels.size());
+		this.unlitIndicators = new BitSet(labels.size());
+		boolean noVowels = false;
+		int index = 0;
+		for (Map.Entry<String, Boolean> indicator : labels.entrySet()) {
+			String label = indicator.getKey();
+			indicatorLabels[index] = label;
+			if (Boolean.TRUE.equals(indicator.getValue())) {
+				litIndicators.set(index);
+			}
+			else if (Boolean.FALSE.equals(indicator.getValue())) {
+				unlitIndicators.set(index);
+			}
+			noVowels |= label.chars().noneMatch(c -> VOWELS.indexOf(Character.toUpperCase(c)) >= 0);
+			index++;
+		}
+		this.indicatorWithNoVowels = noVowels;
+		this.indicators = Collections.unmodifiableMap(new LinkedHashMap<>(labels));
+
+		List<PortPlateEntity> plates = portPlates == null ? List.of() : portPlates;
+		int mask = 0;
+		int total = 0;
+		int max = 0;
+		boolean empty = false;
+		int[] counts = new int[PortType.values().length];
+		List<Set<PortType>> copies = new ArrayList<>(plates.size());
+		for (PortPlateEntity plate : plates) {
+			Set<PortType> ports = plate.getPorts();
+			copies.add(ports == null ? Set.of() : Collections.unmodifiableSet(new LinkedHashSet<>(ports)));
+			int size = ports == null ? 0 : ports.size();
+			if (size == 0) {
+				empty = true;
+				continue;
+			}
+			for (PortType port : ports) {
+				mask |= 1 << port.ordinal();
+				counts[port.ordinal()]++;
+			}
+			total += size;
+			max = Math.max(max, size);
+		}
+		this.portPlateCount = plates.size();
+		this.portMask = mask;
+		this.platesWithPort = counts;
+		this.totalPortCount = total;
+		this.maxPortsOnPlate = max;
+		this.emptyPortPlate = empty;
+		this.plates = Collections.unmodifiableList(copies);
+	}
+
+	public static EdgeworkSnapshot of(BombEntity bomb) {
+		return new EdgeworkSnapshot(bomb.getSerialNumber(), bomb.getIndicators(), bomb.getPortPlates());
+	}
+
+	/** The serial number, or an empty string when none has been entered. */
+	public String serial() {
+		return serial;
+	}
+
+	public int serialDigitCount() {
+		return serialDigits.length;
+	}
+
+	/** The {@code index}-th digit of the serial number, counting digits only. */
+	public int serialDigit(int index) {
+		return serialDigits[index];
+	}
+
+	public int firstSerialDigit() {
+		return serialDigits.length == 0 ? 0 : serialDigits[0];
+	}
+
+	public int lastSerialDigit() {
+		return serialDigits.length == 0 ? 0 : serialDigits[serialDigits.length - 1];
+	}
+
+	public int serialDigitSum() {
+		return serialDigitSum;
+	}
+
+	/** The letters of the serial number in order, as entered. */
+	public String serialLetters() {
+		return serialLetters;
+	}
+
+	public boolean serialHasVowel() {
+		return serialHasVowel;
+	}
+
+	public boolean serialHasCharacter(char character) {
+		return serial.indexOf(character) >= 0;
+	}
+
+	public boolean serialContainsIgnoreCase(char character) {
+		return serial.toUpperCase().indexOf(Character.toUpperCase(character)) >= 0;
+	}
+
+	public boolean serialHasDuplicateCharacters() {
+		return serialHasDuplicateCharacters;
+	}
+
+	public int indicatorCount() {
+		return indicatorLabels.length;
+	}
+
+	public boolean hasIndicator(String label) {
+		return indexOf(label) >= 0;
+	}
+
+	public boolean isIndicatorLit(String label) {
+		int index = indexOf(label);
+		return index >= 0 && litIndicators.get(index);
+	}
+
+	public boolean isIndicatorUnlit(String label) {
+		int index = indexOf(label);
+		return index >= 0 && unlitIndicators.get(index);
+	}
+
+	public int litIndicatorCount() {
+		return litIndicators.cardinality();
+	}
+
+	/** Indicators that are not lit, including any whose state was left unset. */
+	public int unlitIndicatorCount() {
+		return indicatorLabels.length - litIndicators.cardinality();
+	}
+
+	/** Indicators marked unlit, leaving out any whose state was left unset. */
+	public int explicitlyUnlitIndicatorCount() {
+		return unlitIndicators.cardinality();
+	}
+
+	/** Every indicator label with its lit state ({@code null} when unset), in the bomb's order. */
+	public Map<String, Boolean> indicators() {
+		return indicators;
+	}
+
+	public boolean hasIndicatorWithNoVowels() {
+		return indicatorWithNoVowels;
+	}
+
+	public int portPlateCount() {
+		return portPlateCount;
+	}
+
+	public boolean hasPort(PortType port) {
+		return (portMask & 1 << port.ordinal()) != 0;
+	}
+
+	/** Number of plates carrying the given port; a plate holds each port type at most once. */
+	public int portPlatesWith(PortType port) {
+		return platesWithPort[port.ordinal()];
+	}
+
+	public int totalPortCount() {
+		return totalPortCount;
+	}
+
+	public int distinctPortTypeCount() {
+		return Integer.bitCount(portMask);
+	}
+
+	public boolean hasDuplicatePorts() {
+		return totalPortCount != distinctPortTypeCount();
+	}
+
+	public int maxPortsOnPlate() {
+		return maxPortsOnPlate;
+	}
+
+	public boolean hasEmptyPortPlate() {
+		return emptyPortPlate;
+	}
+
+	/** The ports of each plate, in the bomb's plate order; a plate without ports is an empty set. */
+	public List<Set<PortType>> portPlates() {
+		return plates;
+	}
+
+	private int indexOf(String label) {
+		for (int i = 0; i < indicatorLabels.length; i++) {
+			if (indicatorLabels[i].equals(label)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
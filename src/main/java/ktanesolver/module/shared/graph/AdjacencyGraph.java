@@ -0,0 +1,112 @@
+package ktanesolver.module.shared.graph;
+
+import java.util.Arrays;
+
+/**
+ * A fixed graph stored as flat arrays: the moves out of state {@code s} are entries {@code offsets[s]} to
+ * {@code offsets[s + 1] - 1} of {@code targets} and {@code moves}, in the order they were added. Mazes whose walls
+ * never change are built into one of these once, so a search over them reads two arrays per move.
+ */
+public final class AdjacencyGraph implements Neighbors {
+
+	private final int[] offsets;
+	private final int[] targets;
+	private final int[] moves;
+
+	private AdjacencyGraph(int[] offsets, int[] targets, int[] moves) {
+		this.offsets = offsets;
+		this.targets = targets;
+		this.moves = moves;
+	}
+
+	public static Builder builder(int stateCount) {
+		return new Builder(stateCount);
+	}
+
+	public int stateCount() {
+		return offsets.length - 1;
+	}
+
+	/** The moves into each state, as a graph of the reversed edges keeping their move labels. */
+	AdjacencyGraph reversed() {
+		Builder reversed = builder(stateCount());
+		for (int state = 0; state < stateCount(); state++) {
+			for (int edge = offsets[state]; edge < offsets[state + 1]; edge++) {
+				reversed.edge(targets[edge], state, moves[edge]);
+			}
+		}
+		return reversed.build();
+	}
+
+	int firstEdge(int state) {
+		return offsets[state];
+	}
+
+	int endEdge(int state) {
+		return offsets[state + 1];
+	}
+
+	int target(int edge) {
+		return targets[edge];
+	}
+
+	int move(int edge) {
+		return moves[edge];
+	}
+
+	@Override
+	public void forEach(int state, Edges edges) {
+		for (int edge = offsets[state], end = offsets[state + 1]; edge < end; edge++) {
+			edges.accept(targets[edge], moves[edge]);
+		}
+	}
+
+	public static final class Builder {
+
+		private final int stateCount;
+		private int[] from = new int[16];
+		private int[] to = new int[16];
+		private int[] move = new int[16];
+		private int size;
+
+		private Builder(int stateCount) {
+			this.stateCount = stateCount;
+		}
+
+		/** Adds a move from {@code from} to {@code to}; moves out of one state are tried in the order they are added. */
+		public Builder edge(int from, int to, int move) {
+			if (from < 0 || from >= stateCount || to < 0 || to >= stateCount) {
+				throw new IllegalArgumentException("Edge " + from + " -> " + to + " is outside a graph of " + stateCount + " states");
+			}
+			if (size == this.from.length) {
+				this.from = Arrays.copyOf(this.from, size * 2);
+				this.to = Arrays.copyOf(this.to, size * 2);
+				this.move = Arrays.copyOf(this.move, size * 2);
+			}
+			this.from[size] = from;
+			this.to[size] = to;
+			this.move[size] = move;
+			size++;
+			return this;
+		}
+
+		public AdjacencyGraph build() {
+			int[] offsets = new int[stateCount + 1];
+			for (int edge = 0; edge < size; edge++) {
+				offsets[from[edge] + 1]++;
+			}
+			for (int state = 0; state < stateCount; state++) {
+				offsets[state + 1] += offsets[state];
+			}
+			int[] next = Arrays.copyOf(offsets, stateCount);
+			int[] targets = new int[size];
+			int[] moves = new int[size];
+			for (int edge = 0; edge < size; edge++) {
+				int slot = next[from[edge]]++;
+				targets[slot] = to[edge];
+				moves[slot] = move[edge];
+			}
+			return new AdjacencyGraph(offsets, targets, moves);
+		}
+	}
+}
@@ -0,0 +1,9 @@
+package ktanesolver.module.shared.graph;
+
+/** Receives the moves out of the state a {@link GraphSearch} is expanding. */
+@FunctionalInterface
+public interface Edges {
+
+	/** One move, labelled {@code move}, leading to {@code next}. */
+	void accept(int next, int move);
+}
@@ -0,0 +1,281 @@
+package ktanesolver.module.shared.graph;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Shortest-path searches over int-encoded states, with every move costing one. The parent, move and cost of each
+ * reached state live in int arrays indexed by state, and a state counts as reached only when its stamp equals the
+ * current search's generation, so starting a search clears nothing. The arrays, the breadth-first queue and the A*
+ * heap only grow, so once an instance has searched a graph of a given size its later searches allocate nothing but the
+ * path they return.
+ * <p>
+ * Instances are borrowed with {@link #acquire()} and handed back with {@link #release(GraphSearch)} from a pool of at
+ * most one per processor, not kept per thread, so virtual threads that solve once and exit still reuse warm buffers
+ * and concurrent solves never hold more than that many sets between requests. The results of a search
+ * ({@link #moves}, {@link #states}, {@link #cost}) stay readable until the instance starts its next search or is
+ * released.
+ */
+public final class GraphSearch {
+
+	public static final int NONE = -1;
+
+	private static final BlockingQueue<GraphSearch> POOL = new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+
+	private int[] stamp = new int[0];
+	private int[] parent = new int[0];
+	private int[] move = new int[0];
+	private int[] cost = new int[0];
+	private int generation;
+
+	// breadth-first FIFO, or the A* binary heap of (state, cost, priority) entries
+	private int[] queue = new int[0];
+	private int[] queueCost = new int[0];
+	private int[] queuePriority = new int[0];
+	private int size;
+
+	// the state being expanded and what the search is looking for
+	private int expanding;
+	private int expandingCost;
+	private IntPredicate goal;
+	private IntUnaryOperator heuristic;
+	private int found;
+
+	private final Edges breadthFirstEdges = this::reachBreadthFirst;
+	private final Edges aStarEdges = this::reachAStar;
+
+	GraphSearch() {
+	}
+
+	/** Pooled search buffers, or new ones when every pooled instance is in use; pass them to {@link #release} after use. */
+	public static GraphSearch acquire() {
+		GraphSearch search = POOL.poll();
+		return search != null ? search : new GraphSearch();
+	}
+
+	/** Returns buffers to the pool, or leaves them to the garbage collector when it is full. */
+	public static void release(GraphSearch search) {
+		POOL.offer(search);
+	}
+
+	/**
+	 * Breadth-first search from {@code start} that stops at the first state satisfying {@code goal}, which is tested
+	 * as soon as a state is reached. A state's parent is fixed when it is first reached, so the path found is the one
+	 * a queue-based search expanding states in the same order and moves in the {@code neighbors} order would find.
+	 *
+	 * @return the goal state reached, or {@link #NONE}
+	 */
+	public int breadthFirst(int stateCount, int start, IntPredicate goal, Neighbors neighbors) {
+		begin(stateCount);
+		reach(start, NONE, NONE, 0);
+		if (goal.test(start)) {
+			return start;
+		}
+		this.goal = goal;
+		this.found = NONE;
+		int head = 0;
+		size = 0;
+		queue[size++] = start;
+		try {
+			while (head < size && found == NONE) {
+				expanding = queue[head++];
+				expandingCost = cost[expanding];
+				neighbors.forEach(expanding, breadthFirstEdges);
+			}
+			return found;
+		}
+		finally {
+			this.goal = null;
+		}
+	}
+
+	/**
+	 * A* search from {@code start} to the first state satisfying {@code goal} taken off the open set, which is ordered
+	 * by cost plus {@code heuristic}. The heap breaks ties exactly as {@link java.util.PriorityQueue} does, so a search
+	 * ported from one returns the same path.
+	 *
+	 * @return the goal state reached, or {@link #NONE}
+	 */
+	public int aStar(int stateCount, int start, IntPredicate goal, Neighbors neighbors, IntUnaryOperator heuristic) {
+		begin(stateCount);
+		reach(start, NONE, NONE, 0);
+		this.heuristic = heuristic;
+		size = 0;
+		try {
+			push(start, 0);
+			while (size > 0) {
+				int state = queue[0];
+				int stateCost = queueCost[0];
+				pop();
+				if (stateCost > cost[state]) {
+					continue;
+				}
+				if (goal.test(state)) {
+					return state;
+				}
+				expanding = state;
+				expandingCost = stateCost;
+				neighbors.forEach(state, aStarEdges);
+			}
+			return NONE;
+		}
+		finally {
+			this.heuristic = null;
+		}
+	}
+
+	/** Whether the last search reached {@code state}; the accessors below are only meaningful for reached states. */
+	public boolean reached(int state) {
+		return stamp[state] == generation;
+	}
+
+	/** The state {@code state} was reached from, or {@link #NONE} for the start. */
+	public int parent(int state) {
+		return parent[state];
+	}
+
+	/** The move {@code state} was reached by, or {@link #NONE} for the start. */
+	public int move(int state) {
+		return move[state];
+	}
+
+	/** The cost of the path the last search recorded to {@code state}. */
+	public int cost(int state) {
+		return cost[state];
+	}
+
+	/** The moves from the start to {@code state}, in order. */
+	public int[] moves(int state) {
+		int[] path = new int[length(state)];
+		for (int at = state, i = path.length; i > 0; at = parent[at]) {
+			path[--i] = move[at];
+		}
+		return path;
+	}
+
+	/** The states from the start to {@code state}, both included. */
+	public int[] states(int state) {
+		int[] path = new int[length(state) + 1];
+		for (int at = state, i = path.length; i > 0; at = parent[at]) {
+			path[--i] = at;
+		}
+		return path;
+	}
+
+	private int length(int state) {
+		int length = 0;
+		for (int at = state; parent[at] != NONE; at = parent[at]) {
+			length++;
+		}
+		return length;
+	}
+
+	private void reachBreadthFirst(int next, int via) {
+		if (found != NONE || stamp[next] == generation) {
+			return;
+		}
+		reach(next, expanding, via, expandingCost + 1);
+		if (goal.test(next)) {
+			found = next;
+		}
+		else {
+			queue[size++] = next;
+		}
+	}
+
+	private void reachAStar(int next, int via) {
+		int nextCost = expandingCost + 1;
+		if (stamp[next] == generation && nextCost >= cost[next]) {
+			return;
+		}
+		reach(next, expanding, via, nextCost);
+		push(next, nextCost);
+	}
+
+	private void reach(int state, int from, int via, int stateCost) {
+		stamp[state] = generation;
+		parent[state] = from;
+		move[state] = via;
+		cost[state] = stateCost;
+	}
+
+	private void begin(int stateCount) {
+		if (stamp.length < stateCount) {
+			stamp = new int[stateCount];
+			parent = new int[stateCount];
+			move = new int[stateCount];
+			cost = new int[stateCount];
+			generation = 0;
+		}
+		if (queue.length < stateCount) {
+			grow(stateCount);
+		}
+		if (++generation == Integer.MAX_VALUE) {
+			Arrays.fill(stamp, 0);
+			generation = 1;
+		}
+	}
+
+	private void grow(int capacity) {
+		queue = Arrays.copyOf(queue, capacity);
+		queueCost = Arrays.copyOf(queueCost, capacity);
+		queuePriority = Arrays.copyOf(queuePriority, capacity);
+	}
+
+	// siftUp and siftDown follow java.util.PriorityQueue's comparator variants, comparing priorities only
+
+	private void push(int state, int stateCost) {
+		if (size == queue.length) {
+			grow(Math.max(16, size * 2));
+		}
+		int priority = stateCost + heuristic.applyAsInt(state);
+		int k = size++;
+		while (k > 0) {
+			int parentSlot = (k - 1) >>> 1;
+			if (priority >= queuePriority[parentSlot]) {
+				break;
+			}
+			set(k, parentSlot);
+			k = parentSlot;
+		}
+		queue[k] = state;
+		queueCost[k] = stateCost;
+		queuePriority[k] = priority;
+	}
+
+	private void pop() {
+		int n = --size;
+		if (n == 0) {
+			return;
+		}
+		int state = queue[n];
+		int stateCost = queueCost[n];
+		int priority = queuePriority[n];
+		int k = 0;
+		int half = n >>> 1;
+		while (k < half) {
+			int child = (k << 1) + 1;
+			int right = child + 1;
+			if (right < n && queuePriority[child] > queuePriority[right]) {
+				child = right;
+			}
+			if (priority <= queuePriority[child]) {
+				break;
+			}
+			set(k, child);
+			k = child;
+		}
+		queue[k] = state;
+		queueCost[k] = stateCost;
+		queuePriority[k] = priority;
+	}
+
+	private void set(int slot, int from) {
+		queue[slot] = queue[from];
+		queueCost[slot] = queueCost[from];
+		queuePriority[slot] = queuePriority[from];
+	}
+}
@@ -0,0 +1,11 @@
+package ktanesolver.module.shared.graph;
+
+/**
+ * The moves out of each state of a graph whose states are the ints {@code 0} to {@code stateCount - 1}. A search tries
+ * the moves in the order they are reported, so that order decides which of several shortest paths is returned.
+ */
+@FunctionalInterface
+public interface Neighbors {
+
+	void forEach(int state, Edges edges);
+}
@@ -0,0 +1,197 @@
+package ktanesolver.module.shared.graph;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * All shortest routes of a fixed maze graph, so a solve walks a table instead of searching. Built on first use, the
+ * table holds one byte per (start, state) pair: which of the state's incoming moves the breadth-first search from that
+ * start reached it by, as an index into the reversed graph. Walking those bytes back from the goal gives exactly the
+ * path {@link GraphSearch#breadthFirst} would return, at {@code stateCount²} bytes per graph.
+ * <p>
+ * With the {@link #ENABLED_PROPERTY} system property set to {@code false} no table is built and every route is searched.
+ */
+@Slf4j
+public final class RouteTable {
+
+	/** System property that turns the tables off ({@code false}), e.g. to trade the memory back for a search per solve. */
+	public static final String ENABLED_PROPERTY = "ktanesolver.route-tables.enabled";
+
+	private static final boolean ENABLED = !"false".equals(System.getProperty(ENABLED_PROPERTY));
+	private static final List<RouteTable> TABLES = new CopyOnWriteArrayList<>();
+
+	private final String family;
+	private final AdjacencyGraph graph;
+	private final int stateCount;
+	private volatile AdjacencyGraph incoming;
+	private volatile byte[] table;
+
+	private RouteTable(String family, AdjacencyGraph graph) {
+		this.family = family;
+		this.graph = graph;
+		this.stateCount = graph.stateCount();
+	}
+
+	/** A route table over {@code graph}, reported under {@code family} (usually the module's name) in {@link #families()}. */
+	public static RouteTable of(String family, AdjacencyGraph graph) {
+		RouteTable routes = new RouteTable(family, graph);
+		TABLES.add(routes);
+		return routes;
+	}
+
+	public AdjacencyGraph graph() {
+		return graph;
+	}
+
+	/** The moves of the shortest route from {@code from} to {@code to}, or null when {@code to} cannot be reached. */
+	public int[] moves(int from, int to) {
+		byte[] routes = table();
+		if (routes == null) {
+			GraphSearch search = GraphSearch.acquire();
+			try {
+				int found = search.breadthFirst(stateCount, from, state -> state == to, graph);
+				return found == GraphSearch.NONE ? null : search.moves(found);
+			}
+			finally {
+				GraphSearch.release(search);
+			}
+		}
+		int length = length(routes, from, to);
+		if (length < 0) {
+			return null;
+		}
+		int[] path = new int[length];
+		for (int at = to, i = length; i > 0; ) {
+			int edge = incomingEdge(routes, from, at);
+			path[--i] = incoming.move(edge);
+			at = incoming.target(edge);
+		}
+		return path;
+	}
+
+	/** The states of the shortest route from {@code from} to {@code to}, both included, or null when it cannot be reached. */
+	public int[] states(int from, int to) {
+		byte[] routes = table();
+		if (routes == null) {
+			GraphSearch search = GraphSearch.acquire();
+			try {
+				int found = search.breadthFirst(stateCount, from, state -> state == to, graph);
+				return found == GraphSearch.NONE ? null : search.states(found);
+			}
+			finally {
+				GraphSearch.release(search);
+			}
+		}
+		int length = length(routes, from, to);
+		if (length < 0) {
+			return null;
+		}
+		int[] path = new int[length + 1];
+		path[length] = to;
+		for (int at = to, i = length; i > 0; ) {
+			at = incoming.target(incomingEdge(routes, from, at));
+			path[--i] = at;
+		}
+		return path;
+	}
+
+	/** Table memory per family: built tables count their bytes, tables not used yet only towards {@code fullBytes}. */
+	public static List<Family> families() {
+		Map<String, long[]> totals = new TreeMap<>();
+		for (RouteTable routes : TABLES) {
+			long[] total = totals.computeIfAbsent(routes.family, family -> new long[4]);
+			long bytes = (long)routes.stateCount * routes.stateCount;
+			total[0]++;
+			if (routes.table != null) {
+				total[1]++;
+				total[2] += bytes;
+			}
+			total[3] += bytes;
+		}
+		List<Family> families = new ArrayList<>();
+		totals.forEach((family, total) -> families.add(new Family(family, (int)total[0], (int)total[1], total[2], total[3])));
+		return families;
+	}
+
+	public static boolean enabled() {
+		return ENABLED;
+	}
+
+	public record Family(String name, int tables, int builtTables, long bytes, long fullBytes) {
+	}
+
+	private int length(byte[] routes, int from, int to) {
+		int length = 0;
+		for (int at = to; at != from; at = incoming.target(incomingEdge(routes, from, at))) {
+			if (routes[from * stateCount + at] == 0) {
+				return -1;
+			}
+			length++;
+		}
+		return length;
+	}
+
+	private int incomingEdge(byte[] routes, int from, int at) {
+		return incoming.firstEdge(at) + (routes[from * stateCount + at] & 0xFF) - 1;
+	}
+
+	private byte[] table() {
+		if (!ENABLED) {
+			return null;
+		}
+		byte[] routes = table;
+		if (routes == null) {
+			synchronized (this) {
+				routes = table;
+				if (routes == null) {
+					routes = build();
+					table = routes;
+				}
+			}
+		}
+		return routes;
+	}
+
+	/** One full breadth-first search per start; 0 marks the start itself and unreachable states. */
+	private byte[] build() {
+		long startedAt = System.nanoTime();
+		AdjacencyGraph reversed = graph.reversed();
+		byte[] routes = new byte[stateCount * stateCount];
+		GraphSearch search = GraphSearch.acquire();
+		try {
+			for (int from = 0; from < stateCount; from++) {
+				search.breadthFirst(stateCount, from, state -> false, graph);
+				for (int state = 0; state < stateCount; state++) {
+					if (state == from || !search.reached(state)) {
+						continue;
+					}
+					int index = indexOf(reversed, state, search.parent(state), search.move(state));
+					if (index > 0xFE) {
+						throw new IllegalStateException(family + " state " + state + " has more than 255 incoming moves");
+					}
+					routes[from * stateCount + state] = (byte)(index + 1);
+				}
+			}
+		}
+		finally {
+			GraphSearch.release(search);
+		}
+		incoming = reversed;
+		log.debug("Built a {} route table over {} states ({} bytes) in {} µs", family, stateCount, routes.length, (System.nanoTime() - startedAt) / 1_000);
+		return routes;
+	}
+
+	private static int indexOf(AdjacencyGraph reversed, int state, int parent, int move) {
+		for (int edge = reversed.firstEdge(state); edge < reversed.endEdge(state); edge++) {
+			if (reversed.target(edge) == parent && reversed.move(edge) == move) {
+				return edge - reversed.firstEdge(state);
+			}
+		}
+		throw new IllegalStateException("Move " + move + " into state " + state + " is missing from the reversed graph");
+	}
+}
@@ -0,0 +1,168 @@
+package ktanesolver.module.shared.mastermind;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Five-position, six-color Mastermind over int-encoded codes. A code is its colors as a base-6 number, first position
+ * most significant, so codes 0 to 7775 run in the order the nested color loops of the old solvers produced them. The
+ * response to a guess is {@code exact * 6 + misplaced}.
+ * <p>
+ * Scoring reads three small tables instead of a 7776 x 7776 one: exact matches are split into the first two positions
+ * and the last three ({@code 36²} and {@code 216²} entries), and exact plus misplaced only depends on the two codes'
+ * color multisets, of which there are 252. Together they take about 110 KB and are built when the class loads.
+ */
+public final class MastermindEngine {
+
+	public static final List<String> COLORS = List.of("WHITE", "MAGENTA", "YELLOW", "GREEN", "RED", "BLUE");
+	public static final int CODE_COUNT = 7776;
+	public static final int SOLVED = response(5, 0);
+
+	private static final int HIGH = 36;
+	private static final int LOW = 216;
+	private static final int MULTISETS = 252;
+	private static final int RESPONSES = SOLVED + 1;
+	/** Below this many candidates a guess is ranked on the calling thread only. */
+	private static final int PARALLEL_CANDIDATES = 64;
+
+	private static final byte[] EXACT_HIGH = exactMatches(2);
+	private static final byte[] EXACT_LOW = exactMatches(3);
+	private static final short[] MULTISET = new short[CODE_COUNT];
+	private static final byte[] COMMON = common();
+	private static final ThreadLocal<int[]> PARTITION = ThreadLocal.withInitial(() -> new int[RESPONSES]);
+
+	private MastermindEngine() {
+	}
+
+	/** The code for five colors from {@link #COLORS}. */
+	public static int encode(List<String> colors) {
+		int code = 0;
+		for (String color : colors) {
+			int digit = COLORS.indexOf(color);
+			if (digit < 0) {
+				throw new IllegalArgumentException("Unknown Mastermind color " + color);
+			}
+			code = code * 6 + digit;
+		}
+		return code;
+	}
+
+	public static List<String> decode(int code) {
+		String[] colors = new String[5];
+		for (int i = 4; i >= 0; i--) {
+			colors[i] = COLORS.get(code % 6);
+			code /= 6;
+		}
+		return List.of(colors);
+	}
+
+	public static int response(int exact, int misplaced) {
+		return exact * 6 + misplaced;
+	}
+
+	/** The response a module with secret {@code code} gives to {@code guess}. */
+	public static int score(int code, int guess) {
+		int exact = EXACT_HIGH[code / LOW * HIGH + guess / LOW] + EXACT_LOW[code % LOW * LOW + guess % LOW];
+		return exact * 5 + COMMON[MULTISET[code] * MULTISETS + MULTISET[guess]];
+	}
+
+	/** Every code, as the candidate set before any query. */
+	public static BitSet allCodes() {
+		BitSet codes = new BitSet(CODE_COUNT);
+		codes.set(0, CODE_COUNT);
+		return codes;
+	}
+
+	/** Clears every candidate that would not have given {@code response} to {@code guess}. */
+	public static void filter(BitSet candidates, int guess, int response) {
+		for (int code = candidates.nextSetBit(0); code >= 0; code = candidates.nextSetBit(code + 1)) {
+			if (score(code, guess) != response) {
+				candidates.clear(code);
+			}
+		}
+	}
+
+	/**
+	 * The guess whose worst response leaves the fewest candidates, over all 7776 codes. Ties go to the smaller expected
+	 * number of candidates left, then to a guess that may itself be the code, then to the lowest code, so the choice
+	 * does not depend on how the parallel ranking was split.
+	 */
+	public static int nextGuess(BitSet candidates) {
+		int[] codes = candidates.stream().toArray();
+		if (codes.length <= 2) {
+			return codes[0];
+		}
+		IntStream guesses = IntStream.range(0, CODE_COUNT);
+		if (codes.length >= PARALLEL_CANDIDATES) {
+			guesses = guesses.parallel();
+		}
+		long best = guesses.mapToLong(guess -> rank(guess, codes, candidates.get(guess))).min().orElseThrow();
+		return (int)(best & 0x1FFF);
+	}
+
+	/** Worst partition, then sum of squared partitions, then whether it is no candidate, then the guess itself. */
+	private static long rank(int guess, int[] codes, boolean candidate) {
+		int[] partition = PARTITION.get();
+		Arrays.fill(partition, 0);
+		for (int code : codes) {
+			partition[score(code, guess)]++;
+		}
+		long worst = 0;
+		long squares = 0;
+		for (int size : partition) {
+			worst = Math.max(worst, size);
+			squares += (long)size * size;
+		}
+		return worst << 41 | squares << 14 | (candidate ? 0L : 1L) << 13 | guess;
+	}
+
+	/** Matching positions between every pair of {@code positions}-long codes. */
+	private static byte[] exactMatches(int positions) {
+		int count = (int)Math.pow(6, positions);
+		byte[] exact = new byte[count * count];
+		for (int a = 0; a < count; a++) {
+			for (int b = 0; b < count; b++) {
+				int matches = 0;
+				for (int i = 0, x = a, y = b; i < positions; i++, x /= 6, y /= 6) {
+					if (x % 6 == y % 6) matches++;
+				}
+				exact[a * count + b] = (byte)matches;
+			}
+		}
+		return exact;
+	}
+
+	/** Numbers every color multiset into {@link #MULTISET} and counts the colors each pair of multisets shares. */
+	private static byte[] common() {
+		List<int[]> multisets = new ArrayList<>(MULTISETS);
+		int[] index = new int[6 * 6 * 6 * 6 * 6 * 6];
+		Arrays.fill(index, -1);
+		for (int code = 0; code < CODE_COUNT; code++) {
+			int[] counts = new int[6];
+			for (int i = 0, x = code; i < 5; i++, x /= 6) {
+				counts[x % 6]++;
+			}
+			int key = 0;
+			for (int count : counts) key = key * 6 + count;
+			if (index[key] < 0) {
+				index[key] = multisets.size();
+				multisets.add(counts);
+			}
+			MULTISET[code] = (short)index[key];
+		}
+		byte[] common = new byte[MULTISETS * MULTISETS];
+		for (int a = 0; a < MULTISETS; a++) {
+			for (int b = 0; b < MULTISETS; b++) {
+				int shared = 0;
+				for (int color = 0; color < 6; color++) {
+					shared += Math.min(multisets.get(a)[color], multisets.get(b)[color]);
+				}
+				common[a * MULTISETS + b] = (byte)shared;
+			}
+		}
+		return common;
+	}
+}
@@ -12,6 +12,8 @@ import ktanesolver.entity.ModuleEntity;
 import ktanesolver.entity.RoundEntity;
 import ktanesolver.enums.ModuleType;
 import ktanesolver.dto.ModuleCatalogDto;
+import ktanesolver.module.shared.graph.AdjacencyGraph;
+import ktanesolver.module.shared.graph.RouteTable;
 import ktanesolver.module.shared.grid.Cell;
 
 @Service
@@ -32,48 +34,40 @@ public class MazesSolver extends AbstractModuleSolver<MazesInput, MazesOutput> {
 		return success(new MazesOutput(path));
 	}
 
+	private static final int SIZE = 6;
+	private static final Move[] MOVES = Move.values();
+	private static final List<RouteTable> ROUTES = MazeRegistry.MAZES.stream().map(maze -> RouteTable.of("Maze", graph(maze))).toList();
+
 	private List<Move> solveMaze(Maze maze, Cell start, Cell target) {
-		Queue<Cell> queue = new ArrayDeque<>();
-		Map<Cell, Cell> prev = new HashMap<>();
-		Map<Cell, Move> moveUsed = new HashMap<>();
-
-		queue.add(start);
-		prev.put(start, null);
-
-		while( !queue.isEmpty()) {
-			Cell cur = queue.poll();
-			if(cur.equals(target))
-				break;
-
-			for(Move m: Move.values()) {
-				Cell next = move(cur, m);
-				if(next == null)
-					continue;
-				if(prev.containsKey(next))
-					continue;
-				if( !canMove(maze, cur, m))
-					continue;
-
-				prev.put(next, cur);
-				moveUsed.put(next, m);
-				queue.add(next);
-			}
-		}
+		int[] moves = ROUTES.get(MazeRegistry.MAZES.indexOf(maze)).moves(state(start), state(target));
+		if(moves == null)
+			throw new IllegalStateException("No path through the maze");
 
-		// Reconstruct path
 		List<Move> path = new ArrayList<>();
-		Cell cur = target;
-		while( !cur.equals(start)) {
-			Move m = moveUsed.get(cur);
-			path.add(m);
-			cur = prev.get(cur);
+		for(int move: moves)
+			path.add(MOVES[move]);
+		return path;
+	}
+
+	private static AdjacencyGraph graph(Maze maze) {
+		AdjacencyGraph.Builder graph = AdjacencyGraph.builder(SIZE * SIZE);
+		for(int r = 0; r < SIZE; r++) {
+			for(int col = 0; col < SIZE; col++) {
+				Cell cell = new Cell(r + 1, col + 1);
+				for(Move m: MOVES) {
+					if(canMove(maze, cell, m))
+						graph.edge(state(cell), state(move(cell, m)), m.ordinal());
+				}
+			}
 		}
+		return graph.build();
+	}
 
-		Collections.reverse(path);
-		return path;
+	private static int state(Cell c) {
+		return (c.row() - 1) * SIZE + c.col() - 1;
 	}
 
-	private boolean canMove(Maze maze, Cell c, Move m) {
+	private static boolean canMove(Maze maze, Cell c, Move m) {
 		int r = c.row() - 1;
 		int col = c.col() - 1;
 
@@ -85,12 +79,12 @@ public class MazesSolver extends AbstractModuleSolver<MazesInput, MazesOutput> {
 		};
 	}
 
-	private Cell move(Cell c, Move m) {
+	private static Cell move(Cell c, Move m) {
 		return switch(m) {
-			case UP -> c.row() > 1 ? new Cell(c.row() - 1, c.col()) : null;
-			case DOWN -> c.row() < 6 ? new Cell(c.row() + 1, c.col()) : null;
-			case LEFT -> c.col() > 1 ? new Cell(c.row(), c.col() - 1) : null;
-			case RIGHT -> c.col() < 6 ? new Cell(c.row(), c.col() + 1) : null;
+			case UP -> new Cell(c.row() - 1, c.col());
+			case DOWN -> new Cell(c.row() + 1, c.col());
+			case LEFT -> new Cell(c.row(), c.col() - 1);
+			case RIGHT -> new Cell(c.row(), c.col() + 1);
 		};
 	}
 
@@ -0,0 +1,228 @@
+package ktanesolver.registry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import ktanesolver.dto.ModuleCatalogDto;
+
+/**
+ * Case-insensitive substring search over the module catalog, built once from the registry's catalog entries. Every
+ * substring of one to three characters of a module's lower-cased name, tags and description is a key in a sorted gram
+ * table pointing at a bitset of the modules containing it, next to one bitset per category. A query of up to three
+ * characters is a single lookup; a longer one intersects the bitsets of its trigrams and then confirms and ranks each
+ * remaining module against the lower-cased fields, comparing characters in place so no string is built per request.
+ */
+public final class ModuleCatalogIndex {
+
+	private static final int GRAM = 3;
+
+	// match ranks, best first
+	private static final int NAME_PREFIX = 0;
+	private static final int NAME_WORD = 1;
+	private static final int NAME = 2;
+	private static final int TAG = 3;
+	private static final int DESCRIPTION = 4;
+	private static final int NO_MATCH = -1;
+
+	// module positions are packed below the rank when sorting matches
+	private static final int RANK_SHIFT = 20;
+
+	private final List<ModuleCatalogDto> modules;
+	private final List<List<ModuleCatalogDto>> modulesByCategory;
+	private final String[] names;
+	private final String[][] tags;
+	private final String[] descriptions;
+	private final long[] allModules;
+	private final long[][] categories;
+	private final long[] gramKeys;
+	private final long[][] gramModules;
+
+	private ModuleCatalogIndex(List<ModuleCatalogDto> modules) {
+		if (modules.size() >= 1 << RANK_SHIFT) {
+			throw new IllegalArgumentException("Too many catalog entries to index: " + modules.size());
+		}
+		int count = modules.size();
+		int words = (count + 63) >>> 6;
+		ModuleCatalogDto.ModuleCategory[] categoryValues = ModuleCatalogDto.ModuleCategory.values();
+		this.modules = modules;
+		this.names = new String[count];
+		this.tags = new String[count][];
+		this.descriptions = new String[count];
+		this.allModules = new long[words];
+		this.categories = new long[categoryValues.length][words];
+		Map<Long, long[]> grams = new HashMap<>();
+		for (int i = 0; i < count; i++) {
+			ModuleCatalogDto module = modules.get(i);
+			names[i] = lower(module.name());
+			descriptions[i] = lower(module.description());
+			tags[i] = module.tags() == null ? new String[0] : module.tags().stream().map(ModuleCatalogIndex::lower).toArray(String[]::new);
+			set(allModules, i);
+			set(categories[module.category().ordinal()], i);
+			addGrams(grams, names[i], i, words);
+			addGrams(grams, descriptions[i], i, words);
+			for (String tag : tags[i]) {
+				addGrams(grams, tag, i, words);
+			}
+		}
+		this.gramKeys = grams.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+		this.gramModules = new long[gramKeys.length][];
+		for (int k = 0; k < gramKeys.length; k++) {
+			gramModules[k] = grams.get(gramKeys[k]);
+		}
+		List<List<ModuleCatalogDto>> byCategory = new ArrayList<>();
+		for (long[] category : categories) {
+			byCategory.add(collect(category));
+		}
+		this.modulesByCategory = List.copyOf(byCategory);
+	}
+
+	public static ModuleCatalogIndex of(List<ModuleCatalogDto> modules) {
+		return new ModuleCatalogIndex(List.copyOf(modules));
+	}
+
+	/**
+	 * Modules in {@code category} (any when null) whose name, a tag or the description contains {@code query}, ignoring
+	 * case. Results are ordered by where the query matched: the start of the name, the start of a word in the name,
+	 * elsewhere in the name, a tag, then the description; equal matches keep catalog order. Without a query the
+	 * category is returned in catalog order.
+	 */
+	public List<ModuleCatalogDto> search(ModuleCatalogDto.ModuleCategory category, String query) {
+		if (query == null || query.isEmpty()) {
+			return category == null ? modules : modulesByCategory.get(category.ordinal());
+		}
+		long[] matches = (category == null ? allModules : categories[category.ordinal()]).clone();
+		if (query.length() <= GRAM) {
+			intersect(matches, postings(query, 0, query.length()));
+		}
+		else {
+			for (int start = 0; start + GRAM <= query.length() && !isEmpty(matches); start++) {
+				intersect(matches, postings(query, start, GRAM));
+			}
+		}
+		int found = 0;
+		int[] ranked = new int[cardinality(matches)];
+		for (int word = 0; word < matches.length; word++) {
+			for (long bits = matches[word]; bits != 0; bits &= bits - 1) {
+				int module = (word << 6) + Long.numberOfTrailingZeros(bits);
+				int rank = rank(module, query);
+				if (rank != NO_MATCH) {
+					ranked[found++] = rank << RANK_SHIFT | module;
+				}
+			}
+		}
+		Arrays.sort(ranked, 0, found);
+		List<ModuleCatalogDto> results = new ArrayList<>(found);
+		for (int i = 0; i < found; i++) {
+			results.add(modules.get(ranked[i] & (1 << RANK_SHIFT) - 1));
+		}
+		return results;
+	}
+
+	private int rank(int module, String query) {
+		String name = names[module];
+		int at = indexOf(name, query, 0);
+		if (at == 0) {
+			return NAME_PREFIX;
+		}
+		if (at > 0) {
+			for (; at >= 0; at = indexOf(name, query, at + 1)) {
+				if (!Character.isLetterOrDigit(name.charAt(at - 1))) {
+					return NAME_WORD;
+				}
+			}
+			return NAME;
+		}
+		for (String tag : tags[module]) {
+			if (indexOf(tag, query, 0) >= 0) {
+				return TAG;
+			}
+		}
+		return indexOf(descriptions[module], query, 0) >= 0 ? DESCRIPTION : NO_MATCH;
+	}
+
+	private long[] postings(String query, int start, int length) {
+		int found = Arrays.binarySearch(gramKeys, key(query, start, length));
+		return found < 0 ? null : gramModules[found];
+	}
+
+	private List<ModuleCatalogDto> collect(long[] bits) {
+		List<ModuleCatalogDto> collected = new ArrayList<>();
+		for (int word = 0; word < bits.length; word++) {
+			for (long remaining = bits[word]; remaining != 0; remaining &= remaining - 1) {
+				collected.add(modules.get((word << 6) + Long.numberOfTrailingZeros(remaining)));
+			}
+		}
+		return List.copyOf(collected);
+	}
+
+	/** First position at or after {@code from} where the lower-cased {@code field} contains {@code query}, ignoring its case. */
+	private static int indexOf(String field, String query, int from) {
+		for (int at = from; at <= field.length() - query.length(); at++) {
+			if (matchesAt(field, query, at)) {
+				return at;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean matchesAt(String field, String query, int at) {
+		for (int i = 0; i < query.length(); i++) {
+			if (field.charAt(at + i) != Character.toLowerCase(query.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void addGrams(Map<Long, long[]> grams, String field, int module, int words) {
+		for (int start = 0; start < field.length(); start++) {
+			for (int length = 1; length <= GRAM && start + length <= field.length(); length++) {
+				set(grams.computeIfAbsent(key(field, start, length), key -> new long[words]), module);
+			}
+		}
+	}
+
+	/** The gram's lower-cased characters, 16 bits each, under its length, so grams of different lengths never collide. */
+	private static long key(String value, int start, int length) {
+		long key = length;
+		for (int i = start; i < start + length; i++) {
+			key = key << 16 | Character.toLowerCase(value.charAt(i));
+		}
+		return key;
+	}
+
+	private static String lower(String value) {
+		return value == null ? "" : value.toLowerCase(Locale.ROOT);
+	}
+
+	private static void set(long[] bits, int index) {
+		bits[index >>> 6] |= 1L << index;
+	}
+
+	private static void intersect(long[] bits, long[] other) {
+		for (int word = 0; word < bits.length; word++) {
+			bits[word] &= other == null ? 0 : other[word];
+		}
+	}
+
+	private static boolean isEmpty(long[] bits) {
+		for (long word : bits) {
+			if (word != 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int cardinality(long[] bits) {
+		int count = 0;
+		for (long word : bits) {
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+}
@@ -1,40 +1,194 @@
-
 package ktanesolver.registry;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.Supplier;
 
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
+import ktanesolver.annotation.ModuleInfo;
+import ktanesolver.annotation.RefreshOn;
+import ktanesolver.configuration.SolverRegistryProperties;
 import ktanesolver.enums.ModuleType;
 import ktanesolver.dto.ModuleCatalogDto;
 import ktanesolver.logic.ModuleInput;
 import ktanesolver.logic.ModuleOutput;
 import ktanesolver.logic.ModuleSolver;
+import ktanesolver.logic.RefreshableSolver;
+import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Solvers by module type. The type, catalog entry and {@link RefreshOn} rule of every solver bean are read from its
+ * class (or the {@link SolverIndex}) without creating it. Unless {@code ktanesolver.solvers.lazy} is set, every solver
+ * is then created with the registry; in lazy mode a solver bean, and with it its class and static tables, is only
+ * created the first time its type is looked up.
+ */
+@Slf4j
 @Component
 public class ModuleSolverRegistry {
 
-	private final Map<ModuleType, ModuleSolver<?, ?>> solvers;
+	private final Map<ModuleType, Slot> solvers = new EnumMap<>(ModuleType.class);
+	private final Map<ModuleType, RefreshOn> refreshRules = new EnumMap<>(ModuleType.class);
+	private final ModuleCatalogIndex catalogIndex;
 	private static Map<ModuleType, ModuleCatalogDto> catalog = Map.of();
 
 	public ModuleSolverRegistry(List<ModuleSolver<?, ?>> solverList) {
-		this.solvers = solverList.stream().collect(Collectors.toMap(ModuleSolver::getType, s -> s));
-		catalog = solverList.stream().collect(Collectors.toUnmodifiableMap(ModuleSolver::getType, ModuleSolver::getCatalogInfo));
+		this(solverList.stream().map(Slot::of).toList());
+	}
+
+	@Autowired
+	public ModuleSolverRegistry(ListableBeanFactory beanFactory, SolverRegistryProperties properties) {
+		this(beanSlots(beanFactory, properties.coldStartBudget()));
+		if (!properties.lazy()) {
+			solvers.values().forEach(Slot::get);
+		}
+	}
+
+	private ModuleSolverRegistry(Collection<Slot> slots) {
+		Map<ModuleType, ModuleCatalogDto> entries = new EnumMap<>(ModuleType.class);
+		for (Slot slot : slots) {
+			if (solvers.putIfAbsent(slot.type, slot) != null) {
+				throw new IllegalStateException("Duplicate solver for " + slot.type + ": " + slot.solverClass.getName());
+			}
+			entries.put(slot.type, slot.catalogInfo);
+			RefreshOn rule = slot.solverClass.getAnnotation(RefreshOn.class);
+			if (rule != null && RefreshableSolver.class.isAssignableFrom(slot.solverClass)) {
+				refreshRules.put(slot.type, rule);
+			}
+		}
+		catalog = Map.copyOf(entries);
+		catalogIndex = ModuleCatalogIndex.of(List.copyOf(entries.values()));
+	}
+
+	private static List<Slot> beanSlots(ListableBeanFactory beanFactory, Duration coldStartBudget) {
+		List<Slot> slots = new ArrayList<>();
+		for (String name : beanFactory.getBeanNamesForType(ModuleSolver.class, true, false)) {
+			Class<?> beanType = beanFactory.getType(name, false);
+			if (beanType == null) {
+				throw new IllegalStateException("Cannot determine the solver class of bean " + name);
+			}
+			Class<?> solverClass = ClassUtils.getUserClass(beanType);
+			SolverIndex.Entry entry = SolverIndex.forClass(solverClass);
+			ModuleInfo info = solverClass.getAnnotation(ModuleInfo.class);
+			if (entry == null && info == null) {
+				throw new IllegalStateException("ModuleSolver must be annotated with @ModuleInfo: " + solverClass.getName());
+			}
+			ModuleType type = entry != null ? entry.type() : info.type();
+			ModuleCatalogDto catalogInfo = entry != null ? entry.catalog() : ModuleCatalogDto.of(info);
+			slots.add(new Slot(type, solverClass, catalogInfo, () -> beanFactory.getBean(name, ModuleSolver.class), coldStartBudget));
+		}
+		return slots;
 	}
 
 	@SuppressWarnings ("unchecked")
 	public <I extends ModuleInput, O extends ModuleOutput> ModuleSolver<I, O> get(ModuleType type) {
-		return (ModuleSolver<I, O>)solvers.get(type);
+		Slot slot = solvers.get(type);
+		return slot == null ? null : (ModuleSolver<I, O>)slot.get();
 	}
 
+	/** Every solver, creating those not created yet; use {@link #catalog()} or {@link #types()} for metadata alone. */
 	public Collection<ModuleSolver<?, ?>> getAllSolvers() {
-		return solvers.values();
+		return solvers.values().stream().map(Slot::get).toList();
+	}
+
+	/** Module types with a solver, whether or not it has been created. */
+	public Set<ModuleType> types() {
+		return solvers.keySet();
+	}
+
+	/** Catalog entries of every solver in module type order, without creating any solver. */
+	public List<ModuleCatalogDto> catalog() {
+		return solvers.values().stream().map(slot -> slot.catalogInfo).toList();
+	}
+
+	/** Search index over {@link #catalog()}, built with the registry. */
+	public ModuleCatalogIndex catalogIndex() {
+		return catalogIndex;
+	}
+
+	public boolean isCreated(ModuleType type) {
+		Slot slot = solvers.get(type);
+		return slot != null && slot.solver != null;
+	}
+
+	/** Module types whose solutions depend on other modules on the bomb, per {@link RefreshOn}. */
+	public Set<ModuleType> refreshableTypes() {
+		return refreshRules.keySet();
+	}
+
+	public RefreshableSolver refreshable(ModuleType type) {
+		return refreshRules.containsKey(type) ? (RefreshableSolver)get(type) : null;
+	}
+
+	/** Whether a change to a module of {@code changedType} (null when unknown) must refresh modules of {@code dependentType}. */
+	public boolean refreshesOnModuleChange(ModuleType dependentType, ModuleType changedType) {
+		RefreshOn rule = refreshRules.get(dependentType);
+		if (rule == null) {
+			return false;
+		}
+		return rule.anyModule() || changedType == null || Arrays.asList(rule.modules()).contains(changedType);
+	}
+
+	public boolean refreshesOnStrike(ModuleType dependentType) {
+		RefreshOn rule = refreshRules.get(dependentType);
+		return rule != null && rule.strikes();
 	}
 
 	public static ModuleCatalogDto catalogInfo(ModuleType type) {
 		return catalog.get(type);
 	}
+
+	/** A solver's metadata and, once created, the solver itself. */
+	private static final class Slot {
+
+		private final ModuleType type;
+		private final Class<?> solverClass;
+		private final ModuleCatalogDto catalogInfo;
+		private final Supplier<ModuleSolver<?, ?>> factory;
+		private final Duration coldStartBudget;
+		private volatile ModuleSolver<?, ?> solver;
+
+		private Slot(ModuleType type, Class<?> solverClass, ModuleCatalogDto catalogInfo, Supplier<ModuleSolver<?, ?>> factory,
+			Duration coldStartBudget) {
+			this.type = type;
+			this.solverClass = solverClass;
+			this.catalogInfo = catalogInfo;
+			this.factory = factory;
+			this.coldStartBudget = coldStartBudget;
+		}
+
+		private static Slot of(ModuleSolver<?, ?> solver) {
+			Slot slot = new Slot(solver.getType(), AopUtils.getTargetClass(solver), solver.getCatalogInfo(), () -> solver, Duration.ZERO);
+			slot.solver = solver;
+			return slot;
+		}
+
+		private ModuleSolver<?, ?> get() {
+			ModuleSolver<?, ?> created = solver;
+			if (created != null) {
+				return created;
+			}
+			synchronized (this) {
+				if (solver == null) {
+					long startedAt = System.nanoTime();
+					solver = factory.get();
+					Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+					if (!coldStartBudget.isZero() && elapsed.compareTo(coldStartBudget) > 0) {
+						log.warn("Creating the {} solver took {} ms, over the {} ms cold-start budget", type, elapsed.toMillis(), coldStartBudget.toMillis());
+					}
+				}
+				return solver;
+			}
+		}
+	}
 }
@@ -0,0 +1,77 @@
+package ktanesolver.registry;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import ktanesolver.dto.ModuleCatalogDto;
+import ktanesolver.enums.ModuleType;
+import ktanesolver.logic.ModuleInput;
+import ktanesolver.logic.ModuleSolver;
+
+/**
+ * Solvers listed at build time by the {@code solver-index-processor} annotation processor, which writes
+ * {@code GeneratedSolverIndex} from every public {@code @ModuleInfo} class. Each entry carries a constructor reference,
+ * the input record and the catalog entry, so solver beans are registered and solves bind input without classpath
+ * scanning or generic-type reflection. When the generated class is missing (e.g. an IDE build without annotation
+ * processing) or {@link #ENABLED_PROPERTY} is {@code false}, the index is empty and everything falls back to scanning
+ * and reflection.
+ */
+public final class SolverIndex {
+
+	static final String GENERATED_CLASS = "ktanesolver.registry.GeneratedSolverIndex";
+	/** System property that turns the index off ({@code false}), e.g. to compare startup with and without it. */
+	public static final String ENABLED_PROPERTY = "ktanesolver.solver-index.enabled";
+
+	private static final Map<Class<?>, Entry> ENTRIES = load();
+	private static final Set<String> CLASS_NAMES = ENTRIES.keySet().stream().map(Class::getName).collect(Collectors.toUnmodifiableSet());
+
+	private SolverIndex() {
+	}
+
+	/** One indexed solver; {@code inputType} is null when the processor could not name the input record. */
+	public record Entry(
+		ModuleType type,
+		Class<?> solverClass,
+		Supplier<? extends ModuleSolver<?, ?>> factory,
+		Class<? extends ModuleInput> inputType,
+		ModuleCatalogDto catalog
+	) {
+	}
+
+	public static Collection<Entry> entries() {
+		return ENTRIES.values();
+	}
+
+	/** The entry for exactly this class, or null for unindexed solvers and subclasses such as proxies. */
+	public static Entry forClass(Class<?> solverClass) {
+		return ENTRIES.get(solverClass);
+	}
+
+	static boolean isIndexed(String className) {
+		return CLASS_NAMES.contains(className);
+	}
+
+	@SuppressWarnings ("unchecked")
+	private static Map<Class<?>, Entry> load() {
+		if ("false".equals(System.getProperty(ENABLED_PROPERTY))) {
+			return Map.of();
+		}
+		List<Entry> entries;
+		try {
+			// the only reflective step: the generated class does not exist until the processor has run
+			entries = ((Supplier<List<Entry>>)Class.forName(GENERATED_CLASS).getDeclaredConstructor().newInstance()).get();
+		}
+		catch(ClassNotFoundException exception) {
+			return Map.of();
+		}
+		catch(ReflectiveOperationException exception) {
+			throw new IllegalStateException("Cannot load " + GENERATED_CLASS, exception);
+		}
+		return entries.stream().collect(Collectors.toUnmodifiableMap(Entry::solverClass, Function.identity()));
+	}
+}
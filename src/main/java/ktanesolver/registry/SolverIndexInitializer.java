@@ -0,0 +1,65 @@
+package ktanesolver.registry;
+
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.context.ApplicationContextInitializer;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Registers every {@link SolverIndex} entry as a bean created through its constructor reference, and keeps component
+ * scanning from registering the same classes again. Registered through {@code META-INF/spring.factories} so the
+ * exclude filter is in place before {@code @SpringBootApplication} scans. Unindexed solvers are still scanned.
+ */
+public class SolverIndexInitializer implements ApplicationContextInitializer<ConfigurableApplicationContext> {
+
+	@Override
+	public void initialize(ConfigurableApplicationContext context) {
+		if (SolverIndex.entries().isEmpty()) {
+			return;
+		}
+		context.getBeanFactory().registerSingleton(IndexedSolverExcludeFilter.class.getName(), new IndexedSolverExcludeFilter());
+		context.addBeanFactoryPostProcessor(new IndexedSolverRegistrar());
+	}
+
+	static final class IndexedSolverExcludeFilter extends TypeExcludeFilter {
+
+		@Override
+		public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+			return SolverIndex.isIndexed(metadataReader.getClassMetadata().getClassName());
+		}
+
+		@Override
+		public boolean equals(Object other) {
+			return other != null && other.getClass() == getClass();
+		}
+
+		@Override
+		public int hashCode() {
+			return getClass().hashCode();
+		}
+	}
+
+	static final class IndexedSolverRegistrar implements BeanDefinitionRegistryPostProcessor {
+
+		@Override
+		public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) {
+			for (SolverIndex.Entry entry : SolverIndex.entries()) {
+				RootBeanDefinition definition = new RootBeanDefinition(entry.solverClass());
+				definition.setInstanceSupplier(entry.factory());
+				// the name component scanning would have given the bean
+				registry.registerBeanDefinition(StringUtils.uncapitalizeAsProperty(ClassUtils.getShortName(entry.solverClass())), definition);
+			}
+		}
+
+		@Override
+		public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package ktanesolver.registry;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import ktanesolver.configuration.SolverRegistryProperties;
+import ktanesolver.dto.ModuleCatalogDto;
+import ktanesolver.enums.ModuleType;
+import ktanesolver.enums.RoundStatus;
+import ktanesolver.repository.ModuleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * With a lazy registry, creates the solvers a restarted instance is most likely to be asked for first on a background
+ * thread once the application is ready: those of module types already on {@code ACTIVE} rounds, then the vanilla
+ * modules. Requests never wait for the warm-up; one that arrives first for a type simply creates that solver itself.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SolverWarmUp {
+
+	private final ModuleSolverRegistry registry;
+	private final ModuleRepository moduleRepo;
+	private final SolverRegistryProperties properties;
+
+	@EventListener (ApplicationReadyEvent.class)
+	public void onReady() {
+		if (properties.lazy() && properties.warmUp()) {
+			Thread.ofPlatform().name("solver-warm-up").daemon().start(this::warmUp);
+		}
+	}
+
+	void warmUp() {
+		long startedAt = System.nanoTime();
+		int created = 0;
+		for (ModuleType type : typesToWarm()) {
+			if (registry.isCreated(type)) {
+				continue;
+			}
+			try {
+				registry.get(type);
+				created++;
+			}
+			catch(RuntimeException exception) {
+				log.warn("Could not warm up the {} solver", type, exception);
+			}
+		}
+		log.info("Warmed up {} solvers in {} ms", created, (System.nanoTime() - startedAt) / 1_000_000);
+	}
+
+	Set<ModuleType> typesToWarm() {
+		Set<ModuleType> types = new LinkedHashSet<>();
+		try {
+			types.addAll(moduleRepo.findTypesInRoundsWithStatus(RoundStatus.ACTIVE));
+		}
+		catch(RuntimeException exception) {
+			log.warn("Could not read the module types of active rounds; warming up the vanilla modules only", exception);
+		}
+		for (ModuleType type : registry.types()) {
+			if (isVanilla(ModuleSolverRegistry.catalogInfo(type).category())) {
+				types.add(type);
+			}
+		}
+		types.retainAll(registry.types());
+		return types;
+	}
+
+	private static boolean isVanilla(ModuleCatalogDto.ModuleCategory category) {
+		return category == ModuleCatalogDto.ModuleCategory.VANILLA_REGULAR || category == ModuleCatalogDto.ModuleCategory.VANILLA_NEEDY;
+	}
+}
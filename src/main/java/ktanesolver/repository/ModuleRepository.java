@@ -1,6 +1,8 @@
 
 package ktanesolver.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -9,6 +11,11 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import ktanesolver.entity.ModuleEntity;
+import ktanesolver.enums.ModuleType;
+import ktanesolver.enums.RoundStatus;
+import ktanesolver.logic.ModuleRef;
+import ktanesolver.logic.ModuleTypeCount;
+import ktanesolver.state.DependentModule;
 
 public interface ModuleRepository extends JpaRepository<ModuleEntity, UUID> {
 
@@ -24,4 +31,21 @@ public interface ModuleRepository extends JpaRepository<ModuleEntity, UUID> {
             WHERE m.id = :id
             """)
     Optional<ModuleEntity> findByIdWithBombAndRound(@Param("id") UUID id);
+
+    @Query("SELECT new ktanesolver.state.DependentModule(m.id, m.type) FROM ModuleEntity m WHERE m.bomb.id = :bombId AND m.type IN :types")
+    List<DependentModule> findDependentsByBombId(@Param("bombId") UUID bombId, @Param("types") Collection<ModuleType> types);
+
+    @Query("SELECT new ktanesolver.logic.ModuleRef(m.id, m.type) FROM ModuleEntity m WHERE m.bomb.id = :bombId AND m.bomb.round.id = :roundId")
+    List<ModuleRef> findRefsByBombIdAndRoundId(@Param("bombId") UUID bombId, @Param("roundId") UUID roundId);
+
+    @Query("SELECT DISTINCT m.type FROM ModuleEntity m WHERE m.bomb.round.status = :status")
+    List<ModuleType> findTypesInRoundsWithStatus(@Param("status") RoundStatus status);
+
+    @Query("""
+            SELECT new ktanesolver.logic.ModuleTypeCount(m.type, COUNT(m), SUM(CASE WHEN m.solved = true THEN 1L ELSE 0L END))
+            FROM ModuleEntity m
+            WHERE m.bomb.id = :bombId
+            GROUP BY m.type
+            """)
+    List<ModuleTypeCount> countByTypeForBomb(@Param("bombId") UUID bombId);
 }
@@ -1,6 +1,7 @@
 
 package ktanesolver.service;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -13,15 +14,20 @@ import org.springframework.web.server.ResponseStatusException;
 
 import ktanesolver.dto.BombConfig;
 import ktanesolver.dto.CreateBombRequest;
+import ktanesolver.dto.RoundChangeDto;
 import ktanesolver.entity.BombEntity;
 import ktanesolver.entity.ModuleEntity;
 import ktanesolver.entity.RoundEntity;
 import ktanesolver.enums.BombStatus;
 import ktanesolver.enums.ModuleType;
+import ktanesolver.event.RoundDeltaEvent;
 import ktanesolver.event.RoundStateChangedEvent;
 import ktanesolver.event.StrikeAddedEvent;
 import ktanesolver.repository.BombRepository;
 import ktanesolver.repository.RoundRepository;
+import ktanesolver.state.BombEdgeworkCache;
+import ktanesolver.state.ModuleStateStore;
+import ktanesolver.state.RoundAggregateCache;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -31,6 +37,9 @@ public class BombService {
     private final BombRepository bombRepo;
     private final RoundRepository roundRepo;
     private final ApplicationEventPublisher eventPublisher;
+    private final ModuleStateStore moduleStateStore;
+    private final RoundAggregateCache roundCache;
+    private final BombEdgeworkCache edgeworkCache;
 
     @Transactional
     public BombEntity createBomb(UUID roundId, CreateBombRequest req) {
@@ -46,6 +55,8 @@ public class BombService {
         bomb.setStatus(BombStatus.ACTIVE);
         appendInitialModules(bomb, req.modules());
         bomb = bombRepo.save(bomb);
+        bomb.setEdgework(edgeworkCache.update(bomb));
+        roundCache.invalidate(roundId);
         eventPublisher.publishEvent(new RoundStateChangedEvent(this, roundId));
         return initializeCollections(bomb);
     }
@@ -62,6 +73,8 @@ public class BombService {
         if (config.portPlates() != null) bomb.replacePortPlates(config.portPlates());
 
         bomb = bombRepo.save(bomb);
+        bomb.setEdgework(edgeworkCache.update(bomb));
+        roundCache.invalidate(bomb.getRound().getId());
         eventPublisher.publishEvent(new RoundStateChangedEvent(this, bomb.getRound().getId()));
         return initializeCollections(bomb);
     }
@@ -72,6 +85,8 @@ public class BombService {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Bomb not found"));
         bomb.setStrikes(bomb.getStrikes() + 1);
         bomb = bombRepo.save(bomb);
+        roundCache.updateStrikes(bomb.getRound().getId(), bombId, bomb.getStrikes());
+        eventPublisher.publishEvent(new RoundDeltaEvent(this, bomb.getRound().getId(), List.of(RoundChangeDto.strikes(bombId, bomb.getStrikes()))));
         eventPublisher.publishEvent(new StrikeAddedEvent(this, bomb.getId(), bomb.getRound().getId(), bomb.getStrikes()));
         return initializeCollections(bomb);
     }
@@ -81,6 +96,9 @@ public class BombService {
         BombEntity bomb = bombRepo.findById(bombId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Bomb not found"));
         UUID roundId = bomb.getRound().getId();
+        moduleStateStore.evictBomb(bombId);
+        edgeworkCache.evict(bombId);
+        roundCache.invalidate(roundId);
         bombRepo.delete(bomb);
         eventPublisher.publishEvent(new RoundStateChangedEvent(this, roundId));
     }
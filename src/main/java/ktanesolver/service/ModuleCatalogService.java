@@ -1,10 +1,12 @@
-
 package ktanesolver.service;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import ktanesolver.dto.ModuleCatalogDto;
-import ktanesolver.logic.ModuleSolver;
+import ktanesolver.module.modded.regular.crazytalk.CrazyTalkSolver;
+import ktanesolver.registry.ModuleCatalogIndex;
 import ktanesolver.registry.ModuleSolverRegistry;
+import ktanesolver.utils.PrecompressedJson;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -12,39 +14,51 @@ import java.util.List;
 @Service
 public class ModuleCatalogService {
 
+    private static final ModuleCatalogDto.ModuleCategory[] CATEGORIES = ModuleCatalogDto.ModuleCategory.values();
+
     private final ModuleSolverRegistry solverRegistry;
-    private List<ModuleCatalogDto> cachedModules;
+    private final CrazyTalkSolver crazyTalkSolver;
+    private final ObjectMapper objectMapper;
+    private ModuleCatalogIndex catalogIndex;
+    private PrecompressedJson catalogBody;
+    private PrecompressedJson crazyTalkDisplaysBody;
 
-    public ModuleCatalogService(ModuleSolverRegistry solverRegistry) {
+    public ModuleCatalogService(ModuleSolverRegistry solverRegistry, CrazyTalkSolver crazyTalkSolver, ObjectMapper objectMapper) {
         this.solverRegistry = solverRegistry;
+        this.crazyTalkSolver = crazyTalkSolver;
+        this.objectMapper = objectMapper;
     }
 
     @PostConstruct
     private void init() {
-        this.cachedModules = solverRegistry.getAllSolvers().stream()
-                .map(ModuleSolver::getCatalogInfo)
-                .toList();
+        this.catalogIndex = solverRegistry.catalogIndex();
+        this.catalogBody = PrecompressedJson.of(objectMapper, catalogIndex.search(null, null));
+        this.crazyTalkDisplaysBody = PrecompressedJson.of(objectMapper, crazyTalkSolver.displays());
     }
 
-    public List<ModuleCatalogDto> getAllModules(String categoryFilter, String searchTerm) {
-        List<ModuleCatalogDto> filtered = cachedModules;
+    /** The full catalog, serialized and compressed once; it only changes with a deployment. */
+    public PrecompressedJson catalogBody() {
+        return catalogBody;
+    }
 
+    public PrecompressedJson crazyTalkDisplaysBody() {
+        return crazyTalkDisplaysBody;
+    }
+
+    public List<ModuleCatalogDto> getAllModules(String categoryFilter, String searchTerm) {
+        ModuleCatalogDto.ModuleCategory category = null;
         if (categoryFilter != null && !categoryFilter.isEmpty()) {
-            ModuleCatalogDto.ModuleCategory category = ModuleCatalogDto.ModuleCategory.valueOf(categoryFilter.toUpperCase());
-            filtered = filtered.stream()
-                    .filter(m -> m.category() == category)
-                    .toList();
+            category = category(categoryFilter);
         }
+        return catalogIndex.search(category, searchTerm);
+    }
 
-        if (searchTerm != null && !searchTerm.isEmpty()) {
-            String searchLower = searchTerm.toLowerCase();
-            filtered = filtered.stream()
-                    .filter(m -> m.name().toLowerCase().contains(searchLower)
-                            || m.description().toLowerCase().contains(searchLower)
-                            || m.tags().stream().anyMatch(t -> t.toLowerCase().contains(searchLower)))
-                    .toList();
+    private static ModuleCatalogDto.ModuleCategory category(String filter) {
+        for (ModuleCatalogDto.ModuleCategory category : CATEGORIES) {
+            if (category.name().equalsIgnoreCase(filter)) {
+                return category;
+            }
         }
-
-        return filtered;
+        throw new IllegalArgumentException("Unknown module category: " + filter);
     }
 }
@@ -2,10 +2,13 @@
 package ktanesolver.service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
@@ -15,19 +18,32 @@ import org.springframework.web.server.ResponseStatusException;
 
 import ktanesolver.dto.AddModulesRequest;
 import ktanesolver.dto.CompleteModuleRequest;
+import ktanesolver.dto.RoundChangeDto;
+import ktanesolver.dto.SolveBatchItem;
 import ktanesolver.dto.UpdateTwitchCodeRequest;
 import ktanesolver.entity.BombEntity;
 import ktanesolver.entity.ModuleEntity;
 import ktanesolver.entity.RoundEntity;
+import ktanesolver.enums.ModuleType;
 import ktanesolver.event.BombModuleUpdatedEvent;
+import ktanesolver.event.BombModulesUpdatedEvent;
+import ktanesolver.event.RoundDeltaEvent;
 import ktanesolver.event.RoundStateChangedEvent;
 import ktanesolver.logic.ModuleInput;
 import ktanesolver.logic.ModuleOutput;
+import ktanesolver.logic.ModuleRef;
 import ktanesolver.logic.ModuleSolver;
 import ktanesolver.logic.SolveResult;
+import ktanesolver.metrics.SolvePhase;
+import ktanesolver.metrics.SolveTrace;
+import ktanesolver.metrics.SolverMetrics;
 import ktanesolver.registry.ModuleSolverRegistry;
 import ktanesolver.repository.BombRepository;
 import ktanesolver.repository.ModuleRepository;
+import ktanesolver.state.BombEdgeworkCache;
+import ktanesolver.state.BombStatisticsCache;
+import ktanesolver.state.ModuleStateStore;
+import ktanesolver.state.RoundAggregateCache;
 import ktanesolver.utils.Json;
 import lombok.RequiredArgsConstructor;
 
@@ -35,10 +51,17 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ModuleService {
 
+    private static final int MAX_BATCH_ITEMS = 200;
+
     private final BombRepository bombRepo;
     private final ModuleRepository moduleRepo;
     private final ModuleSolverRegistry registry;
     private final ApplicationEventPublisher eventPublisher;
+    private final SolverMetrics solverMetrics;
+    private final ModuleStateStore moduleStateStore;
+    private final RoundAggregateCache roundCache;
+    private final BombStatisticsCache bombStatistics;
+    private final BombEdgeworkCache edgeworkCache;
 
     @Transactional
     public List<ModuleEntity> addModules(UUID bombId, AddModulesRequest req) {
@@ -53,12 +76,20 @@ public class ModuleService {
             modules.add(m);
         }
         modules = moduleRepo.saveAll(modules);
+        roundCache.invalidate(bomb.getRound().getId());
         eventPublisher.publishEvent(new RoundStateChangedEvent(this, bomb.getRound().getId()));
         return modules;
     }
 
+    @Transactional(readOnly = true)
+    public ModuleEntity getModule(UUID bombId, UUID moduleId) {
+        moduleStateStore.flushModule(moduleId);
+        return findModule(bombId, moduleId);
+    }
+
     @Transactional
     public void removeModule(UUID bombId, UUID moduleId) {
+        moduleStateStore.evict(moduleId);
         ModuleEntity module = moduleRepo.findByIdWithBomb(moduleId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Module not found"));
         BombEntity bomb = module.getBomb();
@@ -67,11 +98,13 @@ public class ModuleService {
         }
 
         moduleRepo.delete(module);
+        roundCache.invalidate(bomb.getRound().getId());
         eventPublisher.publishEvent(new RoundStateChangedEvent(this, bomb.getRound().getId()));
     }
 
     @Transactional
     public void resetModule(UUID bombId, UUID moduleId) {
+        moduleStateStore.evict(moduleId);
         ModuleEntity module = moduleRepo.findByIdWithBomb(moduleId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Module not found"));
         BombEntity bomb = module.getBomb();
@@ -83,6 +116,7 @@ public class ModuleService {
         module.getState().clear();
         module.getSolution().clear();
         moduleRepo.save(module);
+        roundCache.invalidate(bomb.getRound().getId());
         eventPublisher.publishEvent(new RoundStateChangedEvent(this, bomb.getRound().getId()));
     }
 
@@ -101,6 +135,13 @@ public class ModuleService {
         return module;
     }
 
+    /** Loads a module for a JPA mutation after writing back and dropping any write-behind state it has. */
+    private ModuleEntity findPersistedModule(UUID bombId, UUID moduleId) {
+        moduleStateStore.flushModule(moduleId);
+        moduleStateStore.evict(moduleId);
+        return findModule(bombId, moduleId);
+    }
+
     private static void ensureVersion(ModuleEntity module, long version) {
         if (module.getVersion() != version) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "Module changed; refresh and try again");
@@ -109,19 +150,22 @@ public class ModuleService {
 
     @Transactional
     public ModuleEntity completeModule(UUID bombId, UUID moduleId, CompleteModuleRequest req) {
-        ModuleEntity module = findModule(bombId, moduleId);
+        ModuleEntity module = findPersistedModule(bombId, moduleId);
         if (module.isSolved()) return module;
         ensureVersion(module, req.version());
         module.setSolved(true);
         module = moduleRepo.saveAndFlush(module);
         BombEntity bomb = module.getBomb();
+        roundCache.updateModule(bomb.getRound().getId(), module);
+        bombStatistics.solvedChanged(bombId, module.getType(), true);
+        publishModuleDelta(bomb.getRound().getId(), bombId, module);
         eventPublisher.publishEvent(new BombModuleUpdatedEvent(this, bomb.getRound().getId(), bombId, moduleId, module.getType(), true));
         return module;
     }
 
     @Transactional
     public ModuleEntity updateTwitchCode(UUID bombId, UUID moduleId, UpdateTwitchCodeRequest req) {
-        ModuleEntity module = findModule(bombId, moduleId);
+        ModuleEntity module = findPersistedModule(bombId, moduleId);
         ensureVersion(module, req.version());
         String twitchCode = req.twitchCode() == null || req.twitchCode().isBlank()
                 ? null
@@ -131,38 +175,162 @@ public class ModuleService {
         }
         module.setTwitchCode(twitchCode);
         module = moduleRepo.saveAndFlush(module);
-        eventPublisher.publishEvent(new RoundStateChangedEvent(this, module.getBomb().getRound().getId()));
+        roundCache.updateModule(module.getBomb().getRound().getId(), module);
+        publishModuleDelta(module.getBomb().getRound().getId(), bombId, module);
         return module;
     }
 
     @Transactional
     public SolveResult<?> solveModule(UUID roundId, UUID bombId, UUID moduleId, Map<String, Object> rawInput) {
+        SolveTrace trace = SolveTrace.start();
+        try {
+            return solveModule(trace, roundId, bombId, moduleId, rawInput);
+        } finally {
+            solverMetrics.record(trace, trace.finish());
+        }
+    }
+
+    private SolveResult<?> solveModule(SolveTrace trace, UUID roundId, UUID bombId, UUID moduleId, Map<String, Object> rawInput) {
         ModuleEntity module = moduleRepo.findByIdWithBombAndRound(moduleId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Module not found"));
         BombEntity bomb = module.getBomb();
         RoundEntity round = bomb.getRound();
         ensureModuleInBombAndRound(module, bombId, roundId);
-        ModuleSolver<?, ?> solver = registry.get(module.getType());
+        // solvers count modules through the maintained statistics instead of loading bomb.getModules()
+        bomb.setStatistics(bombStatistics.get(roundId, bombId));
+        // and read edgework from the shared snapshot instead of the lazy indicator and port plate collections
+        bomb.setEdgework(edgeworkCache.get(bomb));
+        SolveTrace.mark(SolvePhase.LOAD);
+        ModuleSolver<?, ?> solver = solverFor(module.getType());
+        ModuleInput input = bindInput(solver, module.getType(), rawInput);
+        trace.type(module.getType());
+        SolveTrace.mark(SolvePhase.BIND);
+        boolean writeBehind = moduleStateStore.isEnabled();
+        if (writeBehind) {
+            moduleStateStore.flushBombExcept(bombId, moduleId);
+            module = moduleStateStore.workingCopy(module);
+        }
+        boolean physicallySolved = module.isSolved();
+        SolveResult<?> result = invokeSolver(solver, round, bomb, module, input);
+        module.setSolved(physicallySolved);
+        if (writeBehind) {
+            moduleStateStore.stage(module, round.getId());
+        } else {
+            moduleRepo.saveAndFlush(module);
+        }
+        roundCache.updateModule(round.getId(), module);
+        SolveTrace.mark(SolvePhase.PERSIST);
+        publishModuleDelta(round.getId(), bombId, module);
+        eventPublisher.publishEvent(new BombModuleUpdatedEvent(this, round.getId(), bombId, module.getId(), module.getType(), module.isSolved()));
+        return result;
+    }
+
+    /**
+     * Solves several inputs against one bomb in a single transaction. The bomb and its modules are loaded once and the
+     * items run in order on the same managed entities, so a later stage sees what an earlier one stored. Every changed
+     * module is written in one flush, and the round gets a single delta. All items are checked against the bomb's module
+     * types before any module loads or solver runs, so a bad module id or input rejects the whole batch without side
+     * effects; solver failures are returned in that item's place.
+     */
+    @Transactional
+    public List<SolveResult<?>> solveBatch(UUID roundId, UUID bombId, List<SolveBatchItem> items) {
+        if (items == null || items.isEmpty() || items.size() > MAX_BATCH_ITEMS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A solve batch needs between 1 and " + MAX_BATCH_ITEMS + " items");
+        }
+        Map<UUID, ModuleType> types = moduleRepo.findRefsByBombIdAndRoundId(bombId, roundId).stream()
+                .collect(Collectors.toMap(ModuleRef::id, ModuleRef::type));
+        List<BatchItem> checked = new ArrayList<>(items.size());
+        for (SolveBatchItem item : items) {
+            ModuleType type = item.moduleId() != null ? types.get(item.moduleId()) : null;
+            if (type == null) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Module not found in this bomb/round");
+            }
+            ModuleSolver<?, ?> solver = solverFor(type);
+            checked.add(new BatchItem(item.moduleId(), solver, bindInput(solver, type, item.input())));
+        }
+
+        // the batch writes through JPA, so the bomb's pending write-behind state has to reach the database before its
+        // modules load; the entries go once the batch commits, as they are older than what it writes
+        if (moduleStateStore.isEnabled()) {
+            moduleStateStore.flushBomb(bombId);
+            moduleStateStore.evictBomb(bombId);
+        }
+        BombEntity bomb = bombRepo.findByIdWithModules(bombId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Bomb not found in this round"));
+        RoundEntity round = bomb.getRound();
+        bomb.setStatistics(bombStatistics.get(roundId, bombId));
+        bomb.setEdgework(edgeworkCache.get(bomb));
+        Map<UUID, ModuleEntity> modules = bomb.getModules().stream()
+                .collect(Collectors.toMap(ModuleEntity::getId, Function.identity()));
+
+        List<BatchStep> steps = new ArrayList<>(checked.size());
+        for (BatchItem item : checked) {
+            ModuleEntity module = modules.get(item.moduleId());
+            if (module == null) {
+                throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Module not found in this bomb/round");
+            }
+            steps.add(new BatchStep(module, item.solver(), item.input()));
+        }
+
+        List<SolveResult<?>> results = new ArrayList<>(steps.size());
+        Map<UUID, ModuleEntity> changed = new LinkedHashMap<>();
+        for (BatchStep step : steps) {
+            ModuleEntity module = step.module();
+            SolveTrace trace = SolveTrace.start();
+            try {
+                trace.type(module.getType());
+                boolean physicallySolved = module.isSolved();
+                results.add(invokeSolver(step.solver(), round, bomb, module, step.input()));
+                module.setSolved(physicallySolved);
+            } finally {
+                solverMetrics.record(trace, trace.finish());
+            }
+            changed.put(module.getId(), module);
+        }
+
+        List<ModuleEntity> saved = moduleRepo.saveAllAndFlush(changed.values());
+        List<RoundChangeDto> deltas = new ArrayList<>(saved.size());
+        List<BombModulesUpdatedEvent.ModuleUpdate> updates = new ArrayList<>(saved.size());
+        for (ModuleEntity module : saved) {
+            roundCache.updateModule(roundId, module);
+            deltas.add(RoundChangeDto.module(bombId, module));
+            updates.add(new BombModulesUpdatedEvent.ModuleUpdate(module.getId(), module.getType(), module.isSolved()));
+        }
+        eventPublisher.publishEvent(new RoundDeltaEvent(this, roundId, deltas));
+        // one event for the batch, so dependents of the bomb are refreshed once rather than once per module
+        eventPublisher.publishEvent(new BombModulesUpdatedEvent(this, roundId, bombId, updates));
+        return results;
+    }
+
+    private ModuleSolver<?, ?> solverFor(ModuleType type) {
+        ModuleSolver<?, ?> solver = registry.get(type);
         if (solver == null) {
             throw new ResponseStatusException(
                     HttpStatus.NOT_IMPLEMENTED,
-                    "No solver is registered for module type " + module.getType());
+                    "No solver is registered for module type " + type);
         }
-        ModuleInput input;
+        return solver;
+    }
+
+    private static ModuleInput bindInput(ModuleSolver<?, ?> solver, ModuleType type, Map<String, Object> rawInput) {
         try {
-            input = Json.mapper().convertValue(rawInput, solver.inputType());
+            return Json.mapper().convertValue(rawInput, solver.inputType());
         } catch (IllegalArgumentException exception) {
             throw new ResponseStatusException(
                     HttpStatus.BAD_REQUEST,
-                    "Invalid solve input for module type " + module.getType(),
+                    "Invalid solve input for module type " + type,
                     exception);
         }
-        boolean physicallySolved = module.isSolved();
-        SolveResult<?> result = invokeSolver(solver, round, bomb, module, input);
-        module.setSolved(physicallySolved);
-        moduleRepo.saveAndFlush(module);
-        eventPublisher.publishEvent(new BombModuleUpdatedEvent(this, round.getId(), bombId, module.getId(), module.getType(), module.isSolved()));
-        return result;
+    }
+
+    private record BatchItem(UUID moduleId, ModuleSolver<?, ?> solver, ModuleInput input) {
+    }
+
+    private record BatchStep(ModuleEntity module, ModuleSolver<?, ?> solver, ModuleInput input) {
+    }
+
+    private void publishModuleDelta(UUID roundId, UUID bombId, ModuleEntity module) {
+        eventPublisher.publishEvent(new RoundDeltaEvent(this, roundId, List.of(RoundChangeDto.module(bombId, module))));
     }
 
     @SuppressWarnings("unchecked")
@@ -0,0 +1,132 @@
+package ktanesolver.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import ktanesolver.configuration.BroadcastProperties;
+import ktanesolver.dto.BroadcastStatsDto;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Merges the messages sent to one round topic within the coalescing window into a single STOMP frame. A
+ * {@code ROUND_UPDATED} in the window makes the earlier deltas and updates redundant (the client reloads the round
+ * anyway), so only the messages from the last one onward are kept; the rest go out in order inside a
+ * {@code ROUND_BATCH} frame.
+ */
+@Slf4j
+@Component
+public class RoundBroadcastCoalescer {
+
+    private static final String ROUND_TOPIC_PREFIX = "/topic/rounds/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final long windowMillis;
+    private final Map<UUID, List<Map<String, Object>>> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final LongAdder messagesIn = new LongAdder();
+    private final LongAdder framesOut = new LongAdder();
+
+    public RoundBroadcastCoalescer(SimpMessagingTemplate messagingTemplate, BroadcastProperties properties) {
+        this.messagingTemplate = messagingTemplate;
+        this.windowMillis = properties.coalesceWindow().toMillis();
+        this.scheduler = windowMillis > 0
+            ? Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("round-broadcast").daemon().factory())
+            : null;
+    }
+
+    @PreDestroy
+    void stop() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+        pending.keySet().forEach(this::flush);
+    }
+
+    public void send(UUID roundId, Map<String, Object> message) {
+        messagesIn.increment();
+        if (scheduler == null) {
+            sendFrame(roundId, message);
+            return;
+        }
+        pending.compute(roundId, (id, messages) -> {
+            if (messages == null) {
+                messages = new ArrayList<>();
+                scheduler.schedule(() -> flushQuietly(id), windowMillis, TimeUnit.MILLISECONDS);
+            }
+            messages.add(message);
+            return messages;
+        });
+    }
+
+    public BroadcastStatsDto stats() {
+        return new BroadcastStatsDto(messagesIn.sum(), framesOut.sum(), windowMillis);
+    }
+
+    void flush(UUID roundId) {
+        List<Map<String, Object>> messages = pending.remove(roundId);
+        if (messages == null || messages.isEmpty()) {
+            return;
+        }
+        List<Map<String, Object>> kept = dropSuperseded(messages);
+        if (kept.size() == 1) {
+            sendFrame(roundId, kept.getFirst());
+            return;
+        }
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("roundId", roundId.toString());
+        payload.put("messages", kept);
+        Map<String, Object> frame = new HashMap<>();
+        frame.put("type", "ROUND_BATCH");
+        frame.put("timestamp", Instant.now().toString());
+        frame.put("payload", payload);
+        sendFrame(roundId, frame);
+    }
+
+    private void flushQuietly(UUID roundId) {
+        try {
+            flush(roundId);
+        }
+        catch(RuntimeException exception) {
+            log.error("Broadcast to round {} failed", roundId, exception);
+        }
+    }
+
+    private void sendFrame(UUID roundId, Map<String, Object> frame) {
+        framesOut.increment();
+        messagingTemplate.convertAndSend(ROUND_TOPIC_PREFIX + roundId, frame);
+    }
+
+    private static List<Map<String, Object>> dropSuperseded(List<Map<String, Object>> messages) {
+        int lastUpdate = -1;
+        for (int i = 0; i < messages.size(); i++) {
+            if ("ROUND_UPDATED".equals(messages.get(i).get("type"))) {
+                lastUpdate = i;
+            }
+        }
+        if (lastUpdate <= 0) {
+            return messages;
+        }
+        List<Map<String, Object>> kept = new ArrayList<>();
+        for (int i = 0; i < messages.size(); i++) {
+            Object type = messages.get(i).get("type");
+            boolean superseded = i < lastUpdate && ("ROUND_UPDATED".equals(type) || "ROUND_DELTA".equals(type));
+            if (!superseded) {
+                kept.add(messages.get(i));
+            }
+        }
+        return kept;
+    }
+}
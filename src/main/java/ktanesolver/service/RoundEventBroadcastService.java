@@ -2,29 +2,44 @@ package ktanesolver.service;
 
 import java.time.Instant;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import ktanesolver.dto.RoundChangeDto;
+import ktanesolver.dto.RoundDeltaDto;
 import ktanesolver.dto.RoundEventDto;
+import ktanesolver.event.RoundDeltaEvent;
 import ktanesolver.event.RoundStateChangedEvent;
+import ktanesolver.state.RoundChangeLog;
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class RoundEventBroadcastService {
 
-    private static final String ROUND_TOPIC_PREFIX = "/topic/rounds/";
-
-    private final SimpMessagingTemplate messagingTemplate;
+    private final RoundBroadcastCoalescer coalescer;
+    private final RoundChangeLog changeLog;
+    // keeps versions leaving in the order the change log assigned them
+    private final Object sequencing = new Object();
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void onRoundStateChanged(RoundStateChangedEvent event) {
-        broadcastRoundUpdated(event.getRoundId());
+        synchronized (sequencing) {
+            RoundDeltaDto marker = changeLog.append(event.getRoundId(), List.of(RoundChangeDto.structural()));
+            broadcastRoundUpdated(event.getRoundId(), marker.version());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onRoundDelta(RoundDeltaEvent event) {
+        synchronized (sequencing) {
+            broadcastRoundDelta(changeLog.append(event.getRoundId(), event.getChanges()));
+        }
     }
 
     public void broadcastRoundEvent(UUID roundId, RoundEventDto event) {
@@ -33,16 +48,26 @@ public class RoundEventBroadcastService {
         message.put("timestamp", event.timestamp().toString());
         message.put("payload", event.payload());
         if (event.id() != null) message.put("id", event.id().toString());
-        messagingTemplate.convertAndSend(ROUND_TOPIC_PREFIX + roundId, message);
+        coalescer.send(roundId, message);
     }
 
-    public void broadcastRoundUpdated(UUID roundId) {
+    public void broadcastRoundUpdated(UUID roundId, long version) {
         Map<String, Object> message = new HashMap<>();
         message.put("type", "ROUND_UPDATED");
         message.put("timestamp", Instant.now().toString());
         Map<String, Object> payload = new HashMap<>();
         payload.put("roundId", roundId.toString());
+        payload.put("version", version);
         message.put("payload", payload);
-        messagingTemplate.convertAndSend(ROUND_TOPIC_PREFIX + roundId, message);
+        coalescer.send(roundId, message);
+    }
+
+    /** Sends only the changed bomb/module fields; clients patch their copy instead of reloading the round. */
+    public void broadcastRoundDelta(RoundDeltaDto delta) {
+        Map<String, Object> message = new HashMap<>();
+        message.put("type", "ROUND_DELTA");
+        message.put("timestamp", Instant.now().toString());
+        message.put("payload", delta);
+        coalescer.send(delta.roundId(), message);
     }
 }
@@ -10,11 +10,13 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.server.ResponseStatusException;
 
+import ktanesolver.dto.RoundChangesDto;
 import ktanesolver.dto.RoundEventDto;
 import ktanesolver.entity.RoundEntity;
 import ktanesolver.entity.RoundEventEntity;
 import ktanesolver.repository.RoundEventRepository;
 import ktanesolver.repository.RoundRepository;
+import ktanesolver.state.RoundChangeLog;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -23,6 +25,7 @@ public class RoundEventService {
 
 	private final RoundRepository roundRepo;
 	private final RoundEventRepository roundEventRepo;
+	private final RoundChangeLog changeLog;
 
 	public List<RoundEventDto> getEvents(UUID roundId, Instant since, int limit) {
 		RoundEntity round = roundRepo.findById(roundId).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Round not found"));
@@ -35,6 +38,11 @@ public class RoundEventService {
 			.collect(Collectors.toList());
 	}
 
+	/** Realtime deltas after {@code sinceVersion}, for clients that detected a gap in {@code ROUND_DELTA} versions. */
+	public RoundChangesDto getChanges(UUID roundId, long sinceVersion) {
+		return changeLog.since(roundId, sinceVersion);
+	}
+
 	private RoundEventDto toDto(RoundEventEntity e) {
 		return new RoundEventDto(e.getId(), e.getTimestamp(), e.getType(), e.getPayload());
 	}
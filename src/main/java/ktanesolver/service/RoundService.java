@@ -5,6 +5,7 @@ import java.time.Instant;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.function.Function;
@@ -23,6 +24,8 @@ import ktanesolver.enums.RoundStatus;
 import ktanesolver.repository.BombRepository;
 import ktanesolver.repository.RoundEventRepository;
 import ktanesolver.repository.RoundRepository;
+import ktanesolver.state.ModuleStateStore;
+import ktanesolver.state.RoundAggregateCache;
 import lombok.RequiredArgsConstructor;
 
 @Service
@@ -32,6 +35,8 @@ public class RoundService {
 	private final RoundRepository roundRepo;
 	private final BombRepository bombRepo;
 	private final RoundEventRepository roundEventRepo;
+	private final ModuleStateStore moduleStateStore;
+	private final RoundAggregateCache roundCache;
 
 	@Transactional
 	public RoundEntity createRound() {
@@ -54,6 +59,7 @@ public class RoundService {
 
 		round.setStatus(RoundStatus.ACTIVE);
 		round.setStartTime(Instant.now());
+		roundCache.invalidate(roundId);
 
 		roundRepo.save(round);
 		return getRoundWithDetails(roundId);
@@ -64,35 +70,49 @@ public class RoundService {
 		return roundRepo.findById(roundId).orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Round not found"));
 	}
 
+	/** Active round from the in-memory aggregate cache, without touching the database. */
+	public Optional<RoundEntity> findCachedRound(UUID roundId) {
+		return roundCache.get(roundId);
+	}
+
 	@Transactional(readOnly = true)
 	public RoundEntity getRoundWithDetails(UUID roundId) {
-		RoundEntity round = roundRepo.findByIdWithDetails(roundId)
-				.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Round not found"));
-
-		Set<UUID> seenBombIds = new HashSet<>();
-		round.getBombs().removeIf(bomb -> !seenBombIds.add(bomb.getId()));
-
-		Map<UUID, BombEntity> bombsWithModules = bombRepo.findAllByRoundIdWithModules(roundId).stream()
-				.collect(Collectors.toMap(BombEntity::getId, Function.identity()));
-
-		for (BombEntity bomb : round.getBombs()) {
-			BombEntity loadedBomb = bombsWithModules.get(bomb.getId());
-			if (loadedBomb == null || loadedBomb == bomb) {
-				continue;
+		long loadStartedAt = roundCache.beginLoad();
+		try {
+			moduleStateStore.flushRound(roundId);
+			RoundEntity round = roundRepo.findByIdWithDetails(roundId)
+					.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Round not found"));
+
+			Set<UUID> seenBombIds = new HashSet<>();
+			round.getBombs().removeIf(bomb -> !seenBombIds.add(bomb.getId()));
+
+			Map<UUID, BombEntity> bombsWithModules = bombRepo.findAllByRoundIdWithModules(roundId).stream()
+					.collect(Collectors.toMap(BombEntity::getId, Function.identity()));
+
+			for (BombEntity bomb : round.getBombs()) {
+				BombEntity loadedBomb = bombsWithModules.get(bomb.getId());
+				if (loadedBomb == null || loadedBomb == bomb) {
+					continue;
+				}
+
+				bomb.getModules().clear();
+				for (ModuleEntity module : loadedBomb.getModules()) {
+					module.setBomb(bomb);
+					bomb.getModules().add(module);
+				}
 			}
 
-			bomb.getModules().clear();
-			for (ModuleEntity module : loadedBomb.getModules()) {
-				module.setBomb(bomb);
-				bomb.getModules().add(module);
-			}
+			roundCache.put(round, loadStartedAt);
+			return round;
+		}
+		finally {
+			roundCache.endLoad(loadStartedAt);
 		}
-
-		return round;
 	}
 
 	@Transactional
 	public void completeRound(UUID roundId) {
+		finishWriteBehind(roundId);
 		RoundEntity round = getRound(roundId);
 		round.setStatus(RoundStatus.COMPLETED);
 		roundRepo.save(round);
@@ -100,11 +120,18 @@ public class RoundService {
 
 	@Transactional
 	public void failRound(UUID roundId) {
+		finishWriteBehind(roundId);
 		RoundEntity round = getRound(roundId);
 		round.setStatus(RoundStatus.FAILED);
 		roundRepo.save(round);
 	}
 
+	private void finishWriteBehind(UUID roundId) {
+		roundCache.invalidate(roundId);
+		moduleStateStore.flushRound(roundId);
+		moduleStateStore.evictRound(roundId);
+	}
+
 	@Transactional(readOnly = true)
 	public List<RoundEntity> getAllRounds() {
 		return roundRepo.findAll();
@@ -150,6 +177,8 @@ public class RoundService {
 	@Transactional
 	public void deleteRound(UUID roundId) {
 		RoundEntity round = getRound(roundId);
+		moduleStateStore.evictRound(roundId);
+		roundCache.invalidate(roundId);
 		roundEventRepo.deleteByRound_Id(roundId);
 		roundRepo.delete(round);
 	}
@@ -0,0 +1,80 @@
+package ktanesolver.state;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import ktanesolver.annotation.RefreshOn;
+import ktanesolver.event.RoundStateChangedEvent;
+import ktanesolver.registry.ModuleSolverRegistry;
+import ktanesolver.repository.ModuleRepository;
+
+/**
+ * Per-bomb index of the modules whose solution is derived from the rest of the bomb (solvers annotated with
+ * {@link RefreshOn}), so the refresh listener can return without touching the database on the common case of a bomb
+ * that has none. A bomb's entry is loaded with one id-only query on first use and dropped when its round changes
+ * structurally (modules or bombs added or removed), which is the only way the set of dependents can change.
+ */
+@Component
+public class BombDependencyIndex {
+
+	private static final int MAX_BOMBS = 512;
+
+	private final ModuleRepository moduleRepo;
+	private final ModuleSolverRegistry registry;
+	private final Map<UUID, Entry> bombs = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+			return size() > MAX_BOMBS;
+		}
+	};
+	private final AtomicLong invalidations = new AtomicLong();
+
+	public BombDependencyIndex(ModuleRepository moduleRepo, ModuleSolverRegistry registry) {
+		this.moduleRepo = moduleRepo;
+		this.registry = registry;
+	}
+
+	private record Entry(UUID roundId, List<DependentModule> dependents) {
+	}
+
+	/** The modules on the bomb that may need recomputing when something else on it changes. */
+	public List<DependentModule> dependents(UUID roundId, UUID bombId) {
+		if (registry.refreshableTypes().isEmpty()) {
+			return List.of();
+		}
+		synchronized (bombs) {
+			Entry entry = bombs.get(bombId);
+			if (entry != null) {
+				return entry.dependents();
+			}
+		}
+		long loadStartedAt = invalidations.get();
+		List<DependentModule> dependents = List.copyOf(moduleRepo.findDependentsByBombId(bombId, registry.refreshableTypes()));
+		synchronized (bombs) {
+			// a structural change raced with the load: answer this call, but let the next one reload
+			if (invalidations.get() == loadStartedAt) {
+				bombs.put(bombId, new Entry(roundId, dependents));
+			}
+		}
+		return dependents;
+	}
+
+	@TransactionalEventListener (phase = TransactionPhase.AFTER_COMMIT)
+	public void onRoundStateChanged(RoundStateChangedEvent event) {
+		invalidateRound(event.getRoundId());
+	}
+
+	void invalidateRound(UUID roundId) {
+		synchronized (bombs) {
+			invalidations.incrementAndGet();
+			bombs.values().removeIf(entry -> entry.roundId().equals(roundId));
+		}
+	}
+}
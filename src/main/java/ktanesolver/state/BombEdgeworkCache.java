@@ -0,0 +1,70 @@
+package ktanesolver.state;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+
+import ktanesolver.entity.BombEntity;
+import ktanesolver.module.shared.edgework.EdgeworkSnapshot;
+
+/**
+ * Shared {@link EdgeworkSnapshot} per bomb. Edgework only changes when a bomb is created or reconfigured, so the bomb
+ * service publishes a fresh snapshot when those transactions commit and every later solve and refresh reuses it without
+ * touching the bomb's indicator and port plate collections. A bomb with no entry (after a restart or eviction) is
+ * snapshotted from its entity on first use; such a load is not cached if a reconfiguration committed meanwhile.
+ */
+@Component
+public class BombEdgeworkCache {
+
+	private static final int MAX_BOMBS = 512;
+
+	private final Map<UUID, EdgeworkSnapshot> bombs = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<UUID, EdgeworkSnapshot> eldest) {
+			return size() > MAX_BOMBS;
+		}
+	};
+	private final AtomicLong changes = new AtomicLong();
+
+	public EdgeworkSnapshot get(BombEntity bomb) {
+		synchronized (bombs) {
+			EdgeworkSnapshot edgework = bombs.get(bomb.getId());
+			if (edgework != null) {
+				return edgework;
+			}
+		}
+		long loadStartedAt = changes.get();
+		EdgeworkSnapshot edgework = EdgeworkSnapshot.of(bomb);
+		synchronized (bombs) {
+			if (changes.get() == loadStartedAt) {
+				bombs.put(bomb.getId(), edgework);
+			}
+		}
+		return edgework;
+	}
+
+	/** Snapshots the bomb's edgework as it stands now and shares it once the current transaction commits. */
+	public EdgeworkSnapshot update(BombEntity bomb) {
+		EdgeworkSnapshot edgework = EdgeworkSnapshot.of(bomb);
+		UUID bombId = bomb.getId();
+		TransactionCallbacks.afterCommit(() -> {
+			synchronized (bombs) {
+				changes.incrementAndGet();
+				bombs.put(bombId, edgework);
+			}
+		});
+		return edgework;
+	}
+
+	public void evict(UUID bombId) {
+		TransactionCallbacks.afterCommit(() -> {
+			synchronized (bombs) {
+				changes.incrementAndGet();
+				bombs.remove(bombId);
+			}
+		});
+	}
+}
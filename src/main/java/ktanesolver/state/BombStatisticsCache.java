@@ -0,0 +1,81 @@
+package ktanesolver.state;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import ktanesolver.enums.ModuleType;
+import ktanesolver.event.RoundStateChangedEvent;
+import ktanesolver.logic.BombStatistics;
+import ktanesolver.repository.ModuleRepository;
+
+/**
+ * Maintained {@link BombStatistics} per bomb. A bomb's entry is loaded with one grouped count query on first use,
+ * adjusted in place when a module's solved flag flips, and dropped when its round changes structurally (modules added,
+ * removed or reset). A load that overlaps any of those changes answers its caller but is not cached.
+ */
+@Component
+public class BombStatisticsCache {
+
+	private static final int MAX_BOMBS = 512;
+
+	private final ModuleRepository moduleRepo;
+	private final Map<UUID, Entry> bombs = new LinkedHashMap<>(16, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<UUID, Entry> eldest) {
+			return size() > MAX_BOMBS;
+		}
+	};
+	private final AtomicLong changes = new AtomicLong();
+
+	public BombStatisticsCache(ModuleRepository moduleRepo) {
+		this.moduleRepo = moduleRepo;
+	}
+
+	private record Entry(UUID roundId, BombStatistics statistics) {
+	}
+
+	public BombStatistics get(UUID roundId, UUID bombId) {
+		synchronized (bombs) {
+			Entry entry = bombs.get(bombId);
+			if (entry != null) {
+				return entry.statistics();
+			}
+		}
+		long loadStartedAt = changes.get();
+		BombStatistics statistics = BombStatistics.ofCounts(moduleRepo.countByTypeForBomb(bombId));
+		synchronized (bombs) {
+			if (changes.get() == loadStartedAt) {
+				bombs.put(bombId, new Entry(roundId, statistics));
+			}
+		}
+		return statistics;
+	}
+
+	/** Records a module's solved flag flipping once the current transaction commits. */
+	public void solvedChanged(UUID bombId, ModuleType type, boolean solved) {
+		TransactionCallbacks.afterCommit(() -> {
+			synchronized (bombs) {
+				changes.incrementAndGet();
+				bombs.computeIfPresent(bombId, (id, entry) -> new Entry(entry.roundId(), entry.statistics().withSolved(type, solved)));
+			}
+		});
+	}
+
+	@TransactionalEventListener (phase = TransactionPhase.AFTER_COMMIT)
+	public void onRoundStateChanged(RoundStateChangedEvent event) {
+		invalidateRound(event.getRoundId());
+	}
+
+	void invalidateRound(UUID roundId) {
+		synchronized (bombs) {
+			changes.incrementAndGet();
+			bombs.values().removeIf(entry -> entry.roundId().equals(roundId));
+		}
+	}
+}
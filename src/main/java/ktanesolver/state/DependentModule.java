@@ -0,0 +1,9 @@
+package ktanesolver.state;
+
+import java.util.UUID;
+
+import ktanesolver.enums.ModuleType;
+
+/** A module whose solution is derived from the rest of its bomb, as listed by {@link BombDependencyIndex}. */
+public record DependentModule(UUID id, ModuleType type) {
+}
@@ -0,0 +1,32 @@
+package ktanesolver.state;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import ktanesolver.enums.ModuleType;
+
+/**
+ * The mutable columns of one module row as they should be written back by {@link ModuleStateWriter}. {@code state} is
+ * the encoded state map, never a typed state object a solver may still change. {@code stateKeys}
+ * and {@code solutionKeys} name the top-level keys that changed since the row was last written ({@code null} when the
+ * whole column has to be rewritten). {@code persistedVersion} is the version the row had when the first of the pending
+ * solves loaded it; the write only applies while the row still has it.
+ */
+public record ModuleStateSnapshot(
+	UUID moduleId,
+	ModuleType type,
+	UUID bombId,
+	UUID roundId,
+	Map<String, Object> state,
+	Map<String, Object> solution,
+	long version,
+	long persistedVersion,
+	Set<String> stateKeys,
+	Set<String> solutionKeys
+) {
+
+	ModuleStateSnapshot withPersistedVersion(long persistedVersion) {
+		return new ModuleStateSnapshot(moduleId, type, bombId, roundId, state, solution, version, persistedVersion, stateKeys, solutionKeys);
+	}
+}
@@ -0,0 +1,308 @@
+package ktanesolver.state;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import ktanesolver.configuration.ModuleStateProperties;
+import ktanesolver.entity.ModuleEntity;
+import ktanesolver.enums.ModuleType;
+import ktanesolver.utils.ChangeTrackingMap;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Optional write-behind cache for module state. While enabled, the entry for a module is authoritative: solves work on
+ * a detached copy built by {@link #workingCopy(ModuleEntity)}, {@link #stage(ModuleEntity, UUID)} replaces the entry
+ * once the solve's transaction commits, and a background task writes every dirty entry in one JDBC batch per flush
+ * interval. Written entries expire once idle for the configured time. Code that reads or writes a module through JPA
+ * must flush (and usually evict) its entry first.
+ * <p>
+ * A flush commits in a transaction of its own, so it works from read-only callers and what it marks clean is in the
+ * database whether or not the caller's transaction commits later. A write that finds its row at another version than
+ * the one the staged solves started from is dropped, and the flush reports it as an optimistic locking failure.
+ */
+@Slf4j
+@Component
+public class ModuleStateStore {
+
+	private final ModuleStateWriter writer;
+	private final ModuleStateProperties.WriteBehind properties;
+	private final TransactionTemplate transactionTemplate;
+	private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+	// staged by a transaction that has not committed yet; at most one per module
+	private final Map<UUID, ModuleStateSnapshot> uncommitted = new ConcurrentHashMap<>();
+	// not synchronized: a flush holds it across a JDBC batch, which would pin a virtual thread
+	private final ReentrantLock flushLock = new ReentrantLock();
+	private ScheduledExecutorService flusher;
+
+	public ModuleStateStore(ModuleStateWriter writer, ModuleStateProperties properties, PlatformTransactionManager transactionManager) {
+		this.writer = writer;
+		this.properties = properties.writeBehind();
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	/** {@code writtenAt} is the {@link System#nanoTime()} of the flush that wrote the entry; unused while it is dirty. */
+	private record Entry(ModuleStateSnapshot snapshot, boolean dirty, long writtenAt) {
+
+		static Entry dirty(ModuleStateSnapshot snapshot) {
+			return new Entry(snapshot, true, 0);
+		}
+	}
+
+	@PostConstruct
+	void start() {
+		if (!properties.enabled()) {
+			return;
+		}
+		long intervalMillis = Math.max(1, properties.flushInterval().toMillis());
+		flusher = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("module-state-writer").daemon().factory());
+		flusher.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	void stop() {
+		if (flusher != null) {
+			flusher.shutdown();
+		}
+		flushAll();
+	}
+
+	public boolean isEnabled() {
+		return properties.enabled();
+	}
+
+	/** Detached copy of a loaded module with any pending state applied; solving it leaves the managed entity untouched. */
+	public ModuleEntity workingCopy(ModuleEntity module) {
+		ModuleEntity copy = new ModuleEntity();
+		copy.setId(module.getId());
+		copy.setBomb(module.getBomb());
+		copy.setType(module.getType());
+		copy.setSolved(module.isSolved());
+		copy.setTwitchCode(module.getTwitchCode());
+		Entry entry = entries.get(module.getId());
+		ModuleStateSnapshot source = entry != null
+			? entry.snapshot()
+			: new ModuleStateSnapshot(module.getId(), module.getType(), null, null, module.stateValue(), module.getSolution(), module.getVersion(), module.getVersion(), Set.of(), Set.of());
+		copy.setVersion(source.version());
+		// tracked so stage() knows which keys the solve touched, and deep so in-place changes cannot reach the entry
+		copy.setState(ChangeTrackingMap.deepCopyOf(source.state()));
+		copy.setSolution(ChangeTrackingMap.deepCopyOf(source.solution()));
+		return copy;
+	}
+
+	/**
+	 * Records the solved working copy as the module's new authoritative state and bumps its version. The new state waits
+	 * in a pending slot until the current transaction commits and only then replaces the entry, so a rollback leaves the
+	 * previous entry in place and the flusher never writes state that was not committed. The keys the solve touched are
+	 * added to those still pending from earlier solves, so a flush can patch just those keys. Fails when another solve
+	 * staged the module since this working copy was taken, or has staged it and not committed yet.
+	 */
+	public void stage(ModuleEntity module, UUID roundId) {
+		long loadedVersion = module.getVersion();
+		module.setVersion(loadedVersion + 1);
+		// read the changed keys first: copying a tracked map gives up its tracking
+		Set<String> changedStateKeys = module.changedStateKeys();
+		Set<String> changedSolutionKeys = module.getSolution() instanceof ChangeTrackingMap tracked ? tracked.changedKeys() : null;
+		ModuleStateSnapshot staged = new ModuleStateSnapshot(
+			module.getId(),
+			module.getType(),
+			module.getBomb().getId(),
+			roundId,
+			module.stateValue(),
+			new HashMap<>(module.getSolution()),
+			loadedVersion + 1,
+			loadedVersion,
+			changedStateKeys,
+			changedSolutionKeys);
+		uncommitted.compute(staged.moduleId(), (id, pending) -> {
+			Entry current = entries.get(id);
+			if (pending != null || current != null && current.snapshot().version() != loadedVersion) {
+				throw new OptimisticLockingFailureException("Module " + id + " was staged by another solve");
+			}
+			return staged;
+		});
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			publish(staged);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				publish(staged);
+			}
+
+			@Override
+			public void afterCompletion(int status) {
+				if (status != STATUS_COMMITTED) {
+					uncommitted.remove(staged.moduleId(), staged);
+				}
+			}
+		});
+	}
+
+	public void flushAll() {
+		flush(snapshot -> true);
+	}
+
+	public void flushModule(UUID moduleId) {
+		flush(snapshot -> snapshot.moduleId().equals(moduleId));
+	}
+
+	public void flushBomb(UUID bombId) {
+		flush(snapshot -> bombId.equals(snapshot.bombId()));
+	}
+
+	/** Flushes pending modules of one type on a bomb, e.g. before a listener rewrites them through JPA. */
+	public void flushBomb(UUID bombId, ModuleType type) {
+		flush(snapshot -> bombId.equals(snapshot.bombId()) && snapshot.type() == type);
+	}
+
+	/** Flushes the bomb's other pending modules, so solvers reading sibling module state see it in the database. */
+	public void flushBombExcept(UUID bombId, UUID moduleId) {
+		flush(snapshot -> bombId.equals(snapshot.bombId()) && !snapshot.moduleId().equals(moduleId));
+	}
+
+	public void flushRound(UUID roundId) {
+		flush(snapshot -> roundId.equals(snapshot.roundId()));
+	}
+
+	/**
+	 * Drops the entry without writing it once the current transaction commits, so a rollback keeps it; the next solve
+	 * reloads the module from the database.
+	 */
+	public void evict(UUID moduleId) {
+		TransactionCallbacks.afterCommit(() -> entries.remove(moduleId));
+	}
+
+	public void evictBomb(UUID bombId) {
+		TransactionCallbacks.afterCommit(() -> entries.values().removeIf(entry -> bombId.equals(entry.snapshot().bombId())));
+	}
+
+	public void evictRound(UUID roundId) {
+		TransactionCallbacks.afterCommit(() -> entries.values().removeIf(entry -> roundId.equals(entry.snapshot().roundId())));
+	}
+
+	int pendingCount() {
+		return (int)entries.values().stream().filter(Entry::dirty).count();
+	}
+
+	private void flushQuietly() {
+		try {
+			flushAll();
+		}
+		catch(RuntimeException exception) {
+			log.error("Write-behind flush of module state failed; will retry", exception);
+		}
+	}
+
+	/** Moves a committed stage from its pending slot into the entry, on top of whatever the entry has not written yet. */
+	private void publish(ModuleStateSnapshot staged) {
+		entries.compute(staged.moduleId(), (id, previous) -> {
+			boolean pending = previous != null && previous.dirty();
+			ModuleStateSnapshot snapshot = !pending ? staged : new ModuleStateSnapshot(
+				id,
+				staged.type(),
+				staged.bombId(),
+				staged.roundId(),
+				staged.state(),
+				staged.solution(),
+				staged.version(),
+				previous.snapshot().persistedVersion(),
+				union(previous.snapshot().stateKeys(), staged.stateKeys()),
+				union(previous.snapshot().solutionKeys(), staged.solutionKeys()));
+			return Entry.dirty(snapshot);
+		});
+		// freed only after the entry carries the new version, so a concurrent stage() sees one or the other
+		uncommitted.remove(staged.moduleId(), staged);
+	}
+
+	private static Set<String> union(Set<String> pending, Set<String> changed) {
+		if (pending == null || changed == null) {
+			return null;
+		}
+		Set<String> keys = new HashSet<>(pending);
+		keys.addAll(changed);
+		return keys;
+	}
+
+	/**
+	 * Drops written entries no solve has staged since {@code idleExpiry}. They are kept that long, not dropped on write,
+	 * so a solve that loaded its module just before the flush still finds the version it was written at.
+	 */
+	private void expireIdle() {
+		long now = System.nanoTime();
+		long idleNanos = properties.idleExpiry().toNanos();
+		entries.values().removeIf(entry -> !entry.dirty() && now - entry.writtenAt() >= idleNanos);
+	}
+
+	private void flush(Predicate<ModuleStateSnapshot> filter) {
+		flushLock.lock();
+		try {
+			flushLocked(filter);
+		}
+		finally {
+			flushLock.unlock();
+		}
+	}
+
+	private void flushLocked(Predicate<ModuleStateSnapshot> filter) {
+		if (entries.isEmpty()) {
+			return;
+		}
+		expireIdle();
+		List<ModuleStateSnapshot> batch = new ArrayList<>();
+		for (Entry entry : entries.values()) {
+			if (entry.dirty() && filter.test(entry.snapshot())) {
+				batch.add(entry.snapshot());
+			}
+		}
+		if (batch.isEmpty()) {
+			return;
+		}
+		List<ModuleStateSnapshot> stale = transactionTemplate.execute(status -> writer.writeAll(batch));
+		long writtenAt = System.nanoTime();
+		Set<UUID> staleIds = stale.stream().map(ModuleStateSnapshot::moduleId).collect(Collectors.toSet());
+		for (ModuleStateSnapshot written : batch) {
+			if (staleIds.contains(written.moduleId())) {
+				// the row was changed through JPA meanwhile; its state wins over the staged solves
+				entries.computeIfPresent(written.moduleId(), (id, entry) ->
+					entry.snapshot().persistedVersion() == written.persistedVersion() ? null : entry);
+				continue;
+			}
+			entries.computeIfPresent(written.moduleId(), (id, entry) -> {
+				if (entry.snapshot().version() == written.version()) {
+					return new Entry(entry.snapshot(), false, writtenAt);
+				}
+				// a solve staged a newer version while the batch was being written: keep it dirty, on top of this write
+				return entry.snapshot().persistedVersion() == written.persistedVersion()
+					? Entry.dirty(entry.snapshot().withPersistedVersion(written.version()))
+					: entry;
+			});
+		}
+		if (!staleIds.isEmpty()) {
+			throw new OptimisticLockingFailureException("Module state changed in the database before it was written: " + staleIds);
+		}
+	}
+}
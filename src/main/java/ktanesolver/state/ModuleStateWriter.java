@@ -0,0 +1,101 @@
+package ktanesolver.state;
+
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import ktanesolver.utils.Json;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes module state, solution and version with JDBC batches, bypassing Hibernate dirty checking. A jsonb column is
+ * rewritten only when its snapshot does not say which keys changed; a single changed key is patched with
+ * {@code jsonb_set}, several with {@code ||}, and an unchanged column is left out of the statement. Snapshots that
+ * produce the same statement share one batch. Every statement is guarded by the row's expected version, so a row
+ * another writer changed since the snapshot's module was loaded is left alone and reported back.
+ */
+@Component
+@RequiredArgsConstructor
+public class ModuleStateWriter {
+
+	private final JdbcTemplate jdbcTemplate;
+
+	record Update(String sql, Object[] arguments) {
+	}
+
+	/** Writes the snapshots and returns those whose row no longer has their {@code persistedVersion} (or is gone). */
+	public List<ModuleStateSnapshot> writeAll(List<ModuleStateSnapshot> snapshots) {
+		if (snapshots.isEmpty()) {
+			return List.of();
+		}
+		Map<String, List<Object[]>> batches = new LinkedHashMap<>();
+		Map<String, List<ModuleStateSnapshot>> batched = new LinkedHashMap<>();
+		for (ModuleStateSnapshot snapshot : snapshots) {
+			Update update = update(snapshot);
+			batches.computeIfAbsent(update.sql(), sql -> new ArrayList<>()).add(update.arguments());
+			batched.computeIfAbsent(update.sql(), sql -> new ArrayList<>()).add(snapshot);
+		}
+		List<ModuleStateSnapshot> stale = new ArrayList<>();
+		batches.forEach((sql, arguments) -> {
+			int[] counts = jdbcTemplate.batchUpdate(sql, arguments);
+			for (int i = 0; i < counts.length; i++) {
+				if (counts[i] == 0) {
+					stale.add(batched.get(sql).get(i));
+				}
+			}
+		});
+		return stale;
+	}
+
+	static Update update(ModuleStateSnapshot snapshot) {
+		StringBuilder sql = new StringBuilder("UPDATE modules SET ");
+		List<Object> arguments = new ArrayList<>();
+		assign(sql, arguments, "state", snapshot.state(), snapshot.stateKeys());
+		assign(sql, arguments, "solution", snapshot.solution(), snapshot.solutionKeys());
+		sql.append("version = ? WHERE id = ? AND version = ?");
+		arguments.add(snapshot.version());
+		arguments.add(snapshot.moduleId());
+		arguments.add(snapshot.persistedVersion());
+		return new Update(sql.toString(), arguments.toArray());
+	}
+
+	private static void assign(StringBuilder sql, List<Object> arguments, String column, Object value, Set<String> changedKeys) {
+		if (changedKeys != null && changedKeys.isEmpty()) {
+			return;
+		}
+		// a removed key cannot be expressed as a merge, so it falls back to a full rewrite like an untracked change
+		if (changedKeys == null || !(value instanceof Map<?, ?> map) || !map.keySet().containsAll(changedKeys)) {
+			sql.append(column).append(" = CAST(? AS jsonb), ");
+			arguments.add(toJson(value));
+			return;
+		}
+		if (changedKeys.size() == 1) {
+			String key = changedKeys.iterator().next();
+			sql.append(column).append(" = jsonb_set(COALESCE(").append(column).append(", '{}'::jsonb), ARRAY[CAST(? AS text)], CAST(? AS jsonb)), ");
+			arguments.add(key);
+			arguments.add(toJson(map.get(key)));
+			return;
+		}
+		Map<Object, Object> changed = new LinkedHashMap<>();
+		changedKeys.forEach(key -> changed.put(key, map.get(key)));
+		sql.append(column).append(" = COALESCE(").append(column).append(", '{}'::jsonb) || CAST(? AS jsonb), ");
+		arguments.add(toJson(changed));
+	}
+
+	private static String toJson(Object value) {
+		try {
+			return Json.mapper().writeValueAsString(value);
+		}
+		catch(JsonProcessingException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+}
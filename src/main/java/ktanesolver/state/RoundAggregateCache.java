@@ -0,0 +1,218 @@
+package ktanesolver.state;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import ktanesolver.configuration.RoundCacheProperties;
+import ktanesolver.dto.RoundCacheStatsDto;
+import ktanesolver.entity.BombEntity;
+import ktanesolver.entity.ModuleEntity;
+import ktanesolver.entity.RoundEntity;
+import ktanesolver.enums.RoundStatus;
+
+/**
+ * LRU cache of fully hydrated {@code ACTIVE} rounds, as returned by {@code RoundService.getRoundWithDetails}.
+ * <p>
+ * Field-level mutations (solves, completions, strikes) are applied to the cached entities in place after their
+ * transaction commits; structural mutations (adding or removing bombs and modules, status changes) invalidate the
+ * round. State and solution maps are replaced rather than mutated so a concurrent JSON serialization never sees a
+ * half-written map. A load that overlaps a mutation of the same round is not cached; a change is remembered only
+ * while some load that began before it is still running.
+ */
+@Component
+public class RoundAggregateCache {
+
+	private final RoundCacheProperties properties;
+	private final Map<UUID, RoundEntity> rounds;
+	private final Map<UUID, Long> lastChange = new ConcurrentHashMap<>();
+	private final AtomicLong changeSequence = new AtomicLong();
+	// start sequence -> loads begun at it and not yet ended; guarded by rounds
+	private final TreeMap<Long, Integer> activeLoads = new TreeMap<>();
+	private final AtomicInteger loadsInFlight = new AtomicInteger();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	public RoundAggregateCache(RoundCacheProperties properties) {
+		this.properties = properties;
+		this.rounds = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<UUID, RoundEntity> eldest) {
+				return size() > properties.maxActiveRounds();
+			}
+		};
+	}
+
+	public Optional<RoundEntity> get(UUID roundId) {
+		if (!properties.enabled()) {
+			return Optional.empty();
+		}
+		RoundEntity round;
+		synchronized (rounds) {
+			round = rounds.get(roundId);
+		}
+		(round != null ? hits : misses).increment();
+		return Optional.ofNullable(round);
+	}
+
+	/**
+	 * Marks the start of a database load; pass the result to {@link #put(RoundEntity, long)} and, whether or not the
+	 * load succeeds, to {@link #endLoad(long)}.
+	 */
+	public long beginLoad() {
+		synchronized (rounds) {
+			// counted before the sequence is read, so markChanged() never skips a change this load could miss
+			loadsInFlight.incrementAndGet();
+			long loadStartedAt = changeSequence.get();
+			activeLoads.merge(loadStartedAt, 1, Integer::sum);
+			return loadStartedAt;
+		}
+	}
+
+	/** Ends a load and forgets the changes that no load still running began before. */
+	public void endLoad(long loadStartedAt) {
+		synchronized (rounds) {
+			Integer loads = activeLoads.get(loadStartedAt);
+			if (loads == null) {
+				return;
+			}
+			if (loads > 1) {
+				activeLoads.put(loadStartedAt, loads - 1);
+			}
+			else {
+				activeLoads.remove(loadStartedAt);
+			}
+			loadsInFlight.decrementAndGet();
+			long oldestLoad = activeLoads.isEmpty() ? changeSequence.get() : activeLoads.firstKey();
+			lastChange.values().removeIf(changedAt -> changedAt <= oldestLoad);
+		}
+	}
+
+	/** Caches an active round unless the round changed after {@code loadStartedAt}. */
+	public void put(RoundEntity round, long loadStartedAt) {
+		if (!properties.enabled() || round.getStatus() != RoundStatus.ACTIVE) {
+			return;
+		}
+		synchronized (rounds) {
+			Long changedAt = lastChange.get(round.getId());
+			if (changedAt != null && changedAt > loadStartedAt) {
+				return;
+			}
+			rounds.put(round.getId(), round);
+		}
+	}
+
+	/** Drops the round now and again after commit, so a reader cannot re-cache the pre-commit state in between. */
+	public void invalidate(UUID roundId) {
+		evict(roundId);
+		TransactionCallbacks.afterCommit(() -> evict(roundId));
+	}
+
+	/** Copies the module's mutable fields into the cached round once the current transaction commits. */
+	public void updateModule(UUID roundId, ModuleEntity module) {
+		UUID moduleId = module.getId();
+		boolean solved = module.isSolved();
+		long version = module.getVersion();
+		String twitchCode = module.getTwitchCode();
+		Map<String, Object> state = module.stateValue();
+		Map<String, Object> solution = new HashMap<>(module.getSolution());
+		TransactionCallbacks.afterCommit(() -> {
+			markChanged(roundId);
+			ModuleEntity cached = findModule(roundId, moduleId);
+			if (cached == null) {
+				evict(roundId);
+				return;
+			}
+			if (cached.getVersion() > version) {
+				return;
+			}
+			cached.setSolved(solved);
+			cached.setVersion(version);
+			cached.setTwitchCode(twitchCode);
+			cached.setState(state);
+			cached.setSolution(solution);
+		});
+	}
+
+	public void updateStrikes(UUID roundId, UUID bombId, int strikes) {
+		TransactionCallbacks.afterCommit(() -> {
+			markChanged(roundId);
+			BombEntity cached = findBomb(roundId, bombId);
+			if (cached == null) {
+				evict(roundId);
+				return;
+			}
+			cached.setStrikes(Math.max(cached.getStrikes(), strikes));
+		});
+	}
+
+	public RoundCacheStatsDto stats() {
+		int size;
+		synchronized (rounds) {
+			size = rounds.size();
+		}
+		return new RoundCacheStatsDto(hits.sum(), misses.sum(), size, properties.maxActiveRounds());
+	}
+
+	private void evict(UUID roundId) {
+		synchronized (rounds) {
+			markChanged(roundId);
+			rounds.remove(roundId);
+		}
+	}
+
+	private void markChanged(UUID roundId) {
+		long changedAt = changeSequence.incrementAndGet();
+		// with no load running, every later load starts after this change and may cache what it reads
+		if (loadsInFlight.get() > 0) {
+			lastChange.put(roundId, changedAt);
+		}
+	}
+
+	int trackedChanges() {
+		return lastChange.size();
+	}
+
+	private BombEntity findBomb(UUID roundId, UUID bombId) {
+		RoundEntity round;
+		synchronized (rounds) {
+			round = rounds.get(roundId);
+		}
+		if (round == null) {
+			return null;
+		}
+		for (BombEntity bomb : round.getBombs()) {
+			if (bomb.getId().equals(bombId)) {
+				return bomb;
+			}
+		}
+		return null;
+	}
+
+	private ModuleEntity findModule(UUID roundId, UUID moduleId) {
+		RoundEntity round;
+		synchronized (rounds) {
+			round = rounds.get(roundId);
+		}
+		if (round == null) {
+			return null;
+		}
+		for (BombEntity bomb : round.getBombs()) {
+			for (ModuleEntity module : bomb.getModules()) {
+				if (module.getId().equals(moduleId)) {
+					return module;
+				}
+			}
+		}
+		return null;
+	}
+}
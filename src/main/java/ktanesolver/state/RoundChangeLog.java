@@ -0,0 +1,84 @@
+package ktanesolver.state;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import ktanesolver.configuration.RoundChangeLogProperties;
+import ktanesolver.dto.RoundChangeDto;
+import ktanesolver.dto.RoundChangesDto;
+import ktanesolver.dto.RoundDeltaDto;
+
+/**
+ * Numbers the deltas broadcast for each round and keeps the most recent ones so a client that missed messages can
+ * catch up with {@link #since(UUID, long)} instead of reloading the round. Versions start at 1 per round and are only
+ * kept in memory: after a restart, or once a round falls out of the log (least recently used first), any client ahead
+ * of or too far behind the current version is told to resync.
+ */
+@Component
+public class RoundChangeLog {
+
+	private final RoundChangeLogProperties properties;
+	private final Map<UUID, RoundLog> rounds;
+
+	public RoundChangeLog(RoundChangeLogProperties properties) {
+		this.properties = properties;
+		this.rounds = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<UUID, RoundLog> eldest) {
+				return size() > properties.maxRounds();
+			}
+		};
+	}
+
+	private static final class RoundLog {
+		private long version;
+		private final Deque<RoundDeltaDto> deltas = new ArrayDeque<>();
+	}
+
+	/** Assigns the round's next version to the changes and retains the resulting delta. */
+	public RoundDeltaDto append(UUID roundId, List<RoundChangeDto> changes) {
+		synchronized (rounds) {
+			RoundLog log = rounds.computeIfAbsent(roundId, id -> new RoundLog());
+			RoundDeltaDto delta = new RoundDeltaDto(roundId, ++log.version, List.copyOf(changes));
+			log.deltas.addLast(delta);
+			while (log.deltas.size() > properties.retainedPerRound()) {
+				log.deltas.removeFirst();
+			}
+			return delta;
+		}
+	}
+
+	public RoundChangesDto since(UUID roundId, long sinceVersion) {
+		synchronized (rounds) {
+			RoundLog log = rounds.get(roundId);
+			if (log == null) {
+				return new RoundChangesDto(roundId, 0, sinceVersion != 0, List.of());
+			}
+			if (sinceVersion > log.version || (!log.deltas.isEmpty() && log.deltas.getFirst().version() > sinceVersion + 1)) {
+				return resync(roundId, log);
+			}
+			List<RoundDeltaDto> missed = new ArrayList<>();
+			for (RoundDeltaDto delta : log.deltas) {
+				if (delta.version() <= sinceVersion) {
+					continue;
+				}
+				if (delta.changes().stream().anyMatch(change -> change.kind() == RoundChangeDto.Kind.ROUND)) {
+					return resync(roundId, log);
+				}
+				missed.add(delta);
+			}
+			return new RoundChangesDto(roundId, log.version, false, missed);
+		}
+	}
+
+	private static RoundChangesDto resync(UUID roundId, RoundLog log) {
+		return new RoundChangesDto(roundId, log.version, true, List.of());
+	}
+}
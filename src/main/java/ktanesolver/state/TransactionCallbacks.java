@@ -0,0 +1,28 @@
+package ktanesolver.state;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/** Defers cache and store updates to the commit of the transaction that made them. */
+final class TransactionCallbacks {
+
+	private TransactionCallbacks() {
+	}
+
+	/**
+	 * Runs {@code action} once the current transaction commits, and not at all if it rolls back. Without transaction
+	 * synchronization (a caller outside any transaction, or a unit test) it runs immediately.
+	 */
+	static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
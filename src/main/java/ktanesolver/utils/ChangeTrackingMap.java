@@ -0,0 +1,195 @@
+package ktanesolver.utils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * A {@link HashMap} that remembers which top-level keys may have changed since it was created, so a jsonb column can
+ * be patched instead of rewritten. A key counts as changed when it is written or removed, and also when its value is
+ * read and that value is a container the caller could modify in place. Operations that expose every entry
+ * ({@link #entrySet()}, {@link #values()}, {@link #forEach}, ...) or rewrite the whole map give up tracking, after
+ * which {@link #changedKeys()} returns {@code null}.
+ */
+public class ChangeTrackingMap extends HashMap<String, Object> {
+
+	private final Set<String> changed = new HashSet<>();
+	private boolean tracking = true;
+
+	public ChangeTrackingMap(Map<String, Object> initial) {
+		// HashMap's copy constructor does not go through put, so nothing counts as changed yet
+		super(initial);
+	}
+
+	/**
+	 * A tracked copy whose nested maps and lists are copied as well, so changing them in place neither reaches
+	 * {@code source} nor goes unseen: reading a container value marks its key as changed.
+	 */
+	public static ChangeTrackingMap deepCopyOf(Map<String, Object> source) {
+		Map<String, Object> copy = new HashMap<>();
+		source.forEach((key, value) -> copy.put(key, copyValue(value)));
+		return new ChangeTrackingMap(copy);
+	}
+
+	/** Keys that may differ from the initial content, or {@code null} when that is no longer known. */
+	public Set<String> changedKeys() {
+		return tracking ? Set.copyOf(changed) : null;
+	}
+
+	@Override
+	public Object get(Object key) {
+		return touched(key, super.get(key));
+	}
+
+	@Override
+	public Object getOrDefault(Object key, Object defaultValue) {
+		return touched(key, super.getOrDefault(key, defaultValue));
+	}
+
+	@Override
+	public Object put(String key, Object value) {
+		changed.add(key);
+		return super.put(key, value);
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ?> values) {
+		changed.addAll(values.keySet());
+		super.putAll(values);
+	}
+
+	@Override
+	public Object putIfAbsent(String key, Object value) {
+		changed.add(key);
+		return super.putIfAbsent(key, value);
+	}
+
+	@Override
+	public Object remove(Object key) {
+		markChanged(key);
+		return super.remove(key);
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+		markChanged(key);
+		return super.remove(key, value);
+	}
+
+	@Override
+	public Object replace(String key, Object value) {
+		changed.add(key);
+		return super.replace(key, value);
+	}
+
+	@Override
+	public boolean replace(String key, Object oldValue, Object newValue) {
+		changed.add(key);
+		return super.replace(key, oldValue, newValue);
+	}
+
+	@Override
+	public Object compute(String key, BiFunction<? super String, ? super Object, ?> remapping) {
+		changed.add(key);
+		return super.compute(key, remapping);
+	}
+
+	@Override
+	public Object computeIfAbsent(String key, Function<? super String, ?> mapping) {
+		changed.add(key);
+		return super.computeIfAbsent(key, mapping);
+	}
+
+	@Override
+	public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> remapping) {
+		changed.add(key);
+		return super.computeIfPresent(key, remapping);
+	}
+
+	@Override
+	public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remapping) {
+		changed.add(key);
+		return super.merge(key, value, remapping);
+	}
+
+	// AbstractMap hashes through entrySet(); hashing only reads the entries, so it must not give up tracking
+	@Override
+	public int hashCode() {
+		int hash = 0;
+		for (Map.Entry<String, Object> entry : super.entrySet()) {
+			hash += entry.hashCode();
+		}
+		return hash;
+	}
+
+	@Override
+	public void clear() {
+		tracking = false;
+		super.clear();
+	}
+
+	@Override
+	public void replaceAll(BiFunction<? super String, ? super Object, ?> function) {
+		tracking = false;
+		super.replaceAll(function);
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super String, ? super Object> action) {
+		tracking = false;
+		super.forEach(action);
+	}
+
+	@Override
+	public Set<String> keySet() {
+		tracking = false;
+		return super.keySet();
+	}
+
+	@Override
+	public Collection<Object> values() {
+		tracking = false;
+		return super.values();
+	}
+
+	@Override
+	public Set<Map.Entry<String, Object>> entrySet() {
+		tracking = false;
+		return super.entrySet();
+	}
+
+	private Object touched(Object key, Object value) {
+		if (value != null && !(value instanceof String || value instanceof Number || value instanceof Boolean || value instanceof Enum<?>)) {
+			markChanged(key);
+		}
+		return value;
+	}
+
+	private static Object copyValue(Object value) {
+		if (value instanceof Map<?, ?> map) {
+			Map<Object, Object> copy = new LinkedHashMap<>();
+			map.forEach((key, nested) -> copy.put(key, copyValue(nested)));
+			return copy;
+		}
+		if (value instanceof List<?> list) {
+			List<Object> copy = new ArrayList<>(list.size());
+			list.forEach(nested -> copy.add(copyValue(nested)));
+			return copy;
+		}
+		return value;
+	}
+
+	private void markChanged(Object key) {
+		if (key instanceof String name) {
+			changed.add(name);
+		}
+	}
+}
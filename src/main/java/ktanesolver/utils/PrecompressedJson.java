@@ -0,0 +1,150 @@
+package ktanesolver.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * A JSON body that does not change while the application runs, serialized and gzipped once and kept in memory with a
+ * strong ETag over the JSON bytes. The gzipped bytes are a different representation and get their own tag, the same
+ * value with a {@code -gzip} suffix. The hash doubles as the body's version: a URL that names the current version is
+ * served as immutable, the plain URL must be revalidated and is answered with 304 when the client's
+ * {@code If-None-Match} names either tag.
+ */
+public final class PrecompressedJson {
+
+	private static final CacheControl REVALIDATE = CacheControl.noCache();
+	private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+	private final byte[] json;
+	private final byte[] gzip;
+	private final String version;
+	private final String etag;
+	private final String gzipEtag;
+
+	private PrecompressedJson(byte[] json) {
+		this.json = json;
+		this.gzip = gzip(json);
+		this.version = HexFormat.of().formatHex(sha256(json), 0, 16);
+		this.etag = '"' + version + '"';
+		this.gzipEtag = '"' + version + "-gzip\"";
+	}
+
+	public static PrecompressedJson of(ObjectMapper mapper, Object body) {
+		try {
+			return new PrecompressedJson(mapper.writeValueAsBytes(body));
+		}
+		catch(JsonProcessingException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+	public String version() {
+		return version;
+	}
+
+	/**
+	 * The response to a GET of this body. {@code location} is the body's versioned URL: it is sent as
+	 * {@code Content-Location} when the request came through the plain URL ({@code versioned} false) and lets clients
+	 * switch to the immutable one.
+	 */
+	public ResponseEntity<byte[]> respond(String ifNoneMatch, String acceptEncoding, boolean versioned, String location) {
+		boolean notModified = matches(ifNoneMatch);
+		boolean gzipped = acceptsGzip(acceptEncoding);
+		ResponseEntity.BodyBuilder response = ResponseEntity.status(notModified ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+			.eTag(gzipped ? gzipEtag : etag)
+			.cacheControl(versioned ? IMMUTABLE : REVALIDATE)
+			.varyBy(HttpHeaders.ACCEPT_ENCODING);
+		if (!versioned) {
+			response.header(HttpHeaders.CONTENT_LOCATION, location);
+		}
+		if (notModified) {
+			return response.build();
+		}
+		response.contentType(MediaType.APPLICATION_JSON);
+		if (gzipped) {
+			return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").contentLength(gzip.length).body(gzip);
+		}
+		return response.contentLength(json.length).body(json);
+	}
+
+	/**
+	 * If-None-Match uses the weak comparison, so {@code W/} prefixes are ignored. Both tags name the same JSON, so
+	 * either one is still current whatever encoding this request accepts.
+	 */
+	private boolean matches(String ifNoneMatch) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		for (String candidate : ifNoneMatch.split(",")) {
+			String tag = candidate.trim();
+			if (tag.startsWith("W/")) {
+				tag = tag.substring(2);
+			}
+			if (tag.equals("*") || tag.equals(etag) || tag.equals(gzipEtag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/** An explicit {@code gzip} coding decides; otherwise {@code *} does. A quality of 0 refuses the coding. */
+	private static boolean acceptsGzip(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+		boolean anyAccepted = false;
+		for (String coding : acceptEncoding.split(",")) {
+			String[] parts = coding.split(";");
+			String name = parts[0].trim();
+			boolean accepted = true;
+			for (int i = 1; i < parts.length; i++) {
+				String parameter = parts[i].trim();
+				if (parameter.startsWith("q=")) {
+					accepted = !parameter.substring(2).trim().matches("0(\\.0{0,3})?");
+				}
+			}
+			if (name.equalsIgnoreCase("gzip")) {
+				return accepted;
+			}
+			if (name.equals("*")) {
+				anyAccepted = accepted;
+			}
+		}
+		return anyAccepted;
+	}
+
+	private static byte[] gzip(byte[] json) {
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+		try (GZIPOutputStream out = new GZIPOutputStream(compressed)) {
+			out.write(json);
+		}
+		catch(IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+		return compressed.toByteArray();
+	}
+
+	private static byte[] sha256(byte[] bytes) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(bytes);
+		}
+		catch(NoSuchAlgorithmException exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+}
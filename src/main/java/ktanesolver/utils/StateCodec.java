@@ -0,0 +1,105 @@
+package ktanesolver.utils;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Converts between typed module state (or solver output) and the {@code Map} form stored in jsonb columns, with one
+ * {@link ObjectReader} and {@link ObjectWriter} resolved per class instead of a serializer lookup on every
+ * {@link ObjectMapper#convertValue} call. The readers and writers follow {@link Json#mapper()}, so they are rebuilt if
+ * Spring replaces the mapper.
+ */
+public final class StateCodec {
+
+	private static volatile Codecs codecs;
+
+	private StateCodec() {
+	}
+
+	private record Codecs(
+		ObjectMapper mapper,
+		ObjectReader mapReader,
+		ObjectReader listReader,
+		ConcurrentMap<Class<?>, ObjectReader> readers,
+		ConcurrentMap<Class<?>, ObjectWriter> writers
+	) {
+		ObjectReader reader(Class<?> type) {
+			return readers.computeIfAbsent(type, mapper::readerFor);
+		}
+
+		ObjectWriter writer(Class<?> type) {
+			return writers.computeIfAbsent(type, mapper::writerFor);
+		}
+	}
+
+	/** Reads a stored value (normally a {@code Map} from a jsonb column) as the given type. */
+	public static <T> T decode(Object value, Class<T> type) {
+		if (value == null) {
+			return null;
+		}
+		if (type.isInstance(value)) {
+			return type.cast(value);
+		}
+		Codecs current = codecs();
+		try {
+			return current.reader(type).readValue(tokens(current, value).asParser());
+		}
+		catch(IOException exception) {
+			throw new IllegalArgumentException("Cannot read stored state as " + type.getName(), exception);
+		}
+	}
+
+	/** The {@code Map} form of a typed value, as it will be stored in a jsonb column. */
+	public static Map<String, Object> encode(Object value) {
+		Codecs current = codecs();
+		try {
+			return current.mapReader().readValue(tokens(current, value).asParser());
+		}
+		catch(IOException exception) {
+			throw new IllegalArgumentException("Cannot store " + value.getClass().getName() + " as module state", exception);
+		}
+	}
+
+	/** The stored forms of several values, converted in a single pass; {@code null} values stay {@code null}. */
+	public static List<Object> encodeAll(Object... values) {
+		Codecs current = codecs();
+		try {
+			return current.listReader().readValue(tokens(current, values).asParser());
+		}
+		catch(IOException exception) {
+			throw new IllegalArgumentException("Cannot convert values for storage", exception);
+		}
+	}
+
+	private static TokenBuffer tokens(Codecs current, Object value) throws IOException {
+		TokenBuffer buffer = new TokenBuffer(current.mapper(), false);
+		current.writer(value.getClass()).writeValue(buffer, value);
+		return buffer;
+	}
+
+	private static Codecs codecs() {
+		ObjectMapper mapper = Json.mapper();
+		Codecs current = codecs;
+		if (current == null || current.mapper() != mapper) {
+			current = new Codecs(
+				mapper,
+				mapper.readerFor(new TypeReference<Map<String, Object>>() {
+				}),
+				mapper.readerFor(new TypeReference<List<Object>>() {
+				}),
+				new ConcurrentHashMap<>(),
+				new ConcurrentHashMap<>());
+			codecs = current;
+		}
+		return current;
+	}
+}
@@ -0,0 +1,97 @@
+package ktanesolver.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import ktanesolver.dto.ModuleCatalogDto;
+import ktanesolver.service.ModuleCatalogService;
+import ktanesolver.utils.PrecompressedJson;
+
+class ModuleCatalogControllerTest {
+
+    private final ModuleCatalogDto wires = new ModuleCatalogDto("wires", "Wires", ModuleCatalogDto.ModuleCategory.VANILLA_REGULAR, "WIRES",
+            List.of("cut"), "Cut the right wire", true, true, false);
+    private final PrecompressedJson catalog = PrecompressedJson.of(new ObjectMapper(), List.of(wires));
+
+    private MockMvc mockMvc;
+    private ModuleCatalogService moduleCatalogService;
+
+    @BeforeEach
+    void setUp() {
+        moduleCatalogService = mock(ModuleCatalogService.class);
+        when(moduleCatalogService.catalogBody()).thenReturn(catalog);
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new ModuleCatalogController(moduleCatalogService))
+                .build();
+    }
+
+    @Test
+    void fullCatalogIsServedPrecompressedWithAStrongETag() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/modules").header("Accept-Encoding", "br, gzip;q=0.8"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + catalog.version() + "-gzip\""))
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andExpect(header().string("Content-Location", "/api/modules/v/" + catalog.version()))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).contains("\"name\":\"Wires\"");
+        }
+    }
+
+    @Test
+    void matchingIfNoneMatchIsAnsweredWithNotModified() throws Exception {
+        mockMvc.perform(get("/api/modules").header("If-None-Match", "W/\"other\", \"" + catalog.version() + "\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"" + catalog.version() + "\""));
+
+        mockMvc.perform(get("/api/modules").header("If-None-Match", "\"" + catalog.version() + "-gzip\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"" + catalog.version() + "\""));
+
+        mockMvc.perform(get("/api/modules"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"" + catalog.version() + "\""))
+                .andExpect(header().doesNotExist("Content-Encoding"))
+                .andExpect(jsonPath("$[0].id").value("wires"));
+    }
+
+    @Test
+    void versionedUrlIsImmutableAndAStaleVersionIsNotServed() throws Exception {
+        mockMvc.perform(get("/api/modules/v/" + catalog.version()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"))
+                .andExpect(header().doesNotExist("Content-Location"));
+
+        mockMvc.perform(get("/api/modules/v/0123456789abcdef"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void filteredSearchIsServedFromTheIndex() throws Exception {
+        when(moduleCatalogService.getAllModules(null, "wire")).thenReturn(List.of(wires));
+
+        mockMvc.perform(get("/api/modules").param("search", "wire"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("ETag"))
+                .andExpect(jsonPath("$[0].name").value("Wires"));
+    }
+}
@@ -2,10 +2,15 @@ package ktanesolver.entity;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
+import ktanesolver.enums.ModuleType;
+import ktanesolver.logic.BombStatistics;
+
 class BombEntityTest {
 
     private BombEntity bomb(String serial) {
@@ -56,4 +61,24 @@ class BombEntityTest {
         assertThat(b.isIndicatorUnlit("SND")).isFalse();
         assertThat(b.isIndicatorUnlit("BOB")).isFalse();
     }
+
+    @Test
+    void getStatistics_keepsComputedCountsUntilAModuleChanges() {
+        BombEntity b = bomb("AB1CD2");
+        ModuleEntity wires = new ModuleEntity();
+        wires.setBomb(b);
+        wires.setType(ModuleType.WIRES);
+        b.setModules(new ArrayList<>(List.of(wires)));
+        BombStatistics first = b.getStatistics();
+
+        assertThat(b.getStatistics()).isSameAs(first);
+
+        wires.setSolved(true);
+        assertThat(b.getStatistics().solvedCount()).isEqualTo(1);
+
+        ModuleEntity button = new ModuleEntity();
+        button.setType(ModuleType.BUTTON);
+        b.getModules().add(button);
+        assertThat(b.getStatistics().moduleCount()).isEqualTo(2);
+    }
 }
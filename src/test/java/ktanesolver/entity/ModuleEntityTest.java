@@ -0,0 +1,89 @@
+package ktanesolver.entity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import ktanesolver.utils.ChangeTrackingMap;
+
+class ModuleEntityTest {
+
+    record StageState(List<Integer> stages) {
+    }
+
+    @Test
+    void getStateAs_keepsTheDecodedObjectAttached() {
+        ModuleEntity module = new ModuleEntity();
+        module.setState(Map.of("stages", List.of(1, 2)));
+
+        StageState first = module.getStateAs(StageState.class, () -> new StageState(new ArrayList<>()));
+        StageState second = module.getStateAs(StageState.class, () -> new StageState(new ArrayList<>()));
+
+        assertThat(first.stages()).containsExactly(1, 2);
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void setState_keepsTypedStateAttachedButHandsOutOnlyItsEncodedForm() {
+        ModuleEntity module = new ModuleEntity();
+        StageState stored = new StageState(new ArrayList<>(List.of(3)));
+
+        module.setState(stored);
+        Map<String, Object> sent = module.stateValue();
+        stored.stages().add(4);
+
+        assertThat(sent).isEqualTo(Map.of("stages", List.of(3)));
+        assertThat(module.getStateAs(StageState.class, () -> null)).isSameAs(stored);
+        assertThat(module.getState()).isEqualTo(Map.of("stages", List.of(3)));
+    }
+
+    @Test
+    void mapWritesAfterATypedStoreAreNotHiddenByTheAttachedObject() {
+        ModuleEntity module = new ModuleEntity();
+        module.setState(new StageState(List.of(1)));
+
+        module.getState().put("stages", List.of(1, 2));
+
+        assertThat(module.getStateAs(StageState.class, () -> null).stages()).containsExactly(1, 2);
+    }
+
+    @Test
+    void getStateAs_storesTheDefaultForAnEmptyState() {
+        ModuleEntity module = new ModuleEntity();
+
+        StageState state = module.getStateAs(StageState.class, () -> new StageState(new ArrayList<>(List.of(5))));
+
+        assertThat(module.changedStateKeys()).isNull();
+        assertThat(module.stateValue()).isEqualTo(Map.of("stages", List.of(5)));
+        assertThat(module.getStateAs(StageState.class, () -> null)).isSameAs(state);
+    }
+
+    @Test
+    void readingTheStateKeepsTheAttachedTypedState() {
+        ModuleEntity module = new ModuleEntity();
+        module.setState(Map.of("stages", List.of(1)));
+        StageState state = module.getStateAs(StageState.class, () -> null);
+
+        module.toString();
+        module.hashCode();
+        module.getState();
+
+        assertThat(module.getStateAs(StageState.class, () -> null)).isSameAs(state);
+    }
+
+    @Test
+    void hashingAndPrintingTheModuleKeepTheStateChangeTracking() {
+        ModuleEntity module = new ModuleEntity();
+        module.setState(new ChangeTrackingMap(Map.of("stages", List.of(1))));
+
+        module.toString();
+        module.hashCode();
+        module.getState().hashCode();
+
+        assertThat(module.changedStateKeys()).isEmpty();
+    }
+}
@@ -0,0 +1,105 @@
+package ktanesolver.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import ktanesolver.configuration.RoundEventProperties;
+import ktanesolver.dto.RoundEventDto;
+import ktanesolver.entity.RoundEventEntity;
+import ktanesolver.enums.EventType;
+import ktanesolver.listener.RoundEventWriter.PendingRoundEvent;
+import ktanesolver.repository.RoundEventRepository;
+import ktanesolver.repository.RoundRepository;
+import ktanesolver.service.RoundEventBroadcastService;
+
+@ExtendWith (MockitoExtension.class)
+class RoundEventWriterTest {
+
+	private final UUID roundId = UUID.randomUUID();
+
+	@Mock
+	private RoundRepository roundRepo;
+
+	@Mock
+	private RoundEventRepository roundEventRepo;
+
+	@Mock
+	private RoundEventBroadcastService broadcastService;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Captor
+	private ArgumentCaptor<List<RoundEventEntity>> batches;
+
+	private RoundEventWriter writer;
+
+	@BeforeEach
+	void setUp() {
+		writer = new RoundEventWriter(roundRepo, roundEventRepo, broadcastService, transactionManager,
+			new RoundEventProperties(16, 8, Duration.ofMillis(10)));
+	}
+
+	@Test
+	void persistsQueuedEventsInOrderAndDrainsOnShutdown() throws InterruptedException {
+		when(roundEventRepo.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+		writer.start();
+
+		for (int strikes = 1; strikes <= 5; strikes++) {
+			writer.enqueue(strike(strikes));
+		}
+		writer.stop();
+
+		verify(roundEventRepo, atLeastOnce()).saveAll(batches.capture());
+		assertThat(batches.getAllValues()).flatExtracting(batch -> batch)
+			.extracting(event -> event.getPayload().get("strikes"))
+			.containsExactly(1, 2, 3, 4, 5);
+		assertThat(writer.queuedCount()).isZero();
+		verify(broadcastService, times(5)).broadcastRoundEvent(eq(roundId), any(RoundEventDto.class));
+	}
+
+	@Test
+	void writesInlineWhenTheWriterIsNotRunning() {
+		when(roundEventRepo.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		writer.enqueue(strike(1));
+
+		verify(roundEventRepo).saveAll(anyList());
+		verify(broadcastService).broadcastRoundEvent(eq(roundId), any(RoundEventDto.class));
+	}
+
+	@Test
+	void dropsEventsThatCannotBePersisted() {
+		when(roundEventRepo.saveAll(anyList())).thenThrow(new IllegalStateException("round deleted"));
+
+		writer.enqueue(strike(1));
+
+		verify(broadcastService, never()).broadcastRoundEvent(any(), any());
+	}
+
+	private PendingRoundEvent strike(int strikes) {
+		return new PendingRoundEvent(roundId, Instant.now(), EventType.ROUND_STRIKE, Map.of("strikes", strikes));
+	}
+}
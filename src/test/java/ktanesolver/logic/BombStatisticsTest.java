@@ -0,0 +1,68 @@
+package ktanesolver.logic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import ktanesolver.entity.ModuleEntity;
+import ktanesolver.enums.ModuleType;
+
+class BombStatisticsTest {
+
+    @Test
+    void countsModulesBySolvedStateAndNeediness() {
+        BombStatistics statistics = BombStatistics.of(List.of(
+            module(ModuleType.WIRES, true),
+            module(ModuleType.WIRES, false),
+            module(ModuleType.BUTTON, false),
+            module(ModuleType.NEEDY_MRS_BOB, false)
+        ));
+
+        assertThat(statistics.moduleCount()).isEqualTo(4);
+        assertThat(statistics.solvedCount()).isEqualTo(1);
+        assertThat(statistics.needyCount()).isEqualTo(1);
+        assertThat(statistics.unsolvedRegularCount()).isEqualTo(2);
+        assertThat(statistics.count(ModuleType.WIRES)).isEqualTo(2);
+        assertThat(statistics.solvedCount(ModuleType.WIRES)).isEqualTo(1);
+        assertThat(statistics.has(ModuleType.MAZES)).isFalse();
+        assertThat(statistics.distinctTypeCount()).isEqualTo(3);
+    }
+
+    @Test
+    void groupedCountsMatchTheModuleScan() {
+        BombStatistics scanned = BombStatistics.of(List.of(
+            module(ModuleType.WIRES, true),
+            module(ModuleType.WIRES, false),
+            module(ModuleType.NEEDY_MRS_BOB, true)
+        ));
+        BombStatistics grouped = BombStatistics.ofCounts(List.of(
+            new ModuleTypeCount(ModuleType.WIRES, 2, 1),
+            new ModuleTypeCount(ModuleType.NEEDY_MRS_BOB, 1, 1)
+        ));
+
+        assertThat(grouped.moduleCount()).isEqualTo(scanned.moduleCount());
+        assertThat(grouped.solvedCount()).isEqualTo(scanned.solvedCount());
+        assertThat(grouped.solvedRegularCount()).isEqualTo(scanned.solvedRegularCount());
+        assertThat(grouped.solvedCount(ModuleType.WIRES)).isEqualTo(scanned.solvedCount(ModuleType.WIRES));
+    }
+
+    @Test
+    void withSolvedStaysWithinTheModuleCount() {
+        BombStatistics statistics = BombStatistics.ofCounts(List.of(new ModuleTypeCount(ModuleType.WIRES, 1, 0)));
+
+        BombStatistics solved = statistics.withSolved(ModuleType.WIRES, true).withSolved(ModuleType.WIRES, true);
+
+        assertThat(solved.solvedCount()).isEqualTo(1);
+        assertThat(statistics.solvedCount()).isZero();
+        assertThat(solved.withSolved(ModuleType.WIRES, false).solvedCount()).isZero();
+    }
+
+    private static ModuleEntity module(ModuleType type, boolean solved) {
+        ModuleEntity module = new ModuleEntity();
+        module.setType(type);
+        module.setSolved(solved);
+        return module;
+    }
+}
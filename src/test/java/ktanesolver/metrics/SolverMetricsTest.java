@@ -0,0 +1,51 @@
+package ktanesolver.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import ktanesolver.dto.SolverMetricsDto;
+import ktanesolver.enums.ModuleType;
+
+class SolverMetricsTest {
+
+	@Test
+	void recordsEveryPhaseOfAFinishedTrace() {
+		SolverMetrics metrics = new SolverMetrics();
+		SolveTrace trace = SolveTrace.start();
+		trace.type(ModuleType.WIRES);
+		SolveTrace.mark(SolvePhase.LOAD);
+		SolveTrace.mark(SolvePhase.BIND);
+		SolveTrace.mark(SolvePhase.SOLVE);
+		metrics.record(trace, trace.finish());
+
+		List<SolverMetricsDto> snapshot = metrics.snapshot();
+
+		assertThat(snapshot).singleElement().satisfies(dto -> {
+			assertThat(dto.type()).isEqualTo(ModuleType.WIRES);
+			assertThat(dto.count()).isEqualTo(1);
+			assertThat(dto.phases()).containsOnlyKeys(SolvePhase.values());
+			assertThat(dto.total().p99Micros()).isGreaterThanOrEqualTo(dto.total().p50Micros());
+		});
+	}
+
+	@Test
+	void marksWithoutAnActiveTraceAreIgnored() {
+		SolveTrace.mark(SolvePhase.SOLVE);
+
+		assertThat(new SolverMetrics().snapshot()).isEmpty();
+	}
+
+	@Test
+	void percentilesStayWithinTheBucketResolution() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		for (int i = 1; i <= 100; i++) {
+			histogram.record(i * 10_000L);
+		}
+
+		assertThat(histogram.percentileMicros(0.50)).isBetween(500.0, 600.0);
+		assertThat(histogram.percentileMicros(0.99)).isBetween(990.0, 1_200.0);
+	}
+}
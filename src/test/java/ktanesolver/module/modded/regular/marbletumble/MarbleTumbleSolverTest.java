@@ -31,6 +31,20 @@ class MarbleTumbleSolverTest {
 		assertThat(result.solved()).isTrue();
 	}
 
+	@Test
+	void reusedSearchBuffersKeepFindingTheSameRoute() {
+		MarbleTumbleSearch search = new MarbleTumbleSearch();
+		int[] colors = { 0, 1, 2, 3, 4 };
+
+		// more searches than the byte generation stamp counts before it wraps
+		for (int i = 0; i < 300; i++) {
+			assertThat(search.findPath(colors, new int[] { 1, 2, 3, 4, 5 }, new int[] { 4, 5, 6, 7, 8 }))
+				.containsExactly(0, 5, 5, 9);
+			assertThat(search.findPath(colors, new int[] { 0, 0, 0, 0, 0 }, new int[] { 1, 1, 1, 1, 1 }))
+				.containsExactly(1, 0, 5, 4);
+		}
+	}
+
 	@Test
 	void rejectsDuplicateCylinderColors() {
 		MarbleTumbleInput input = new MarbleTumbleInput(
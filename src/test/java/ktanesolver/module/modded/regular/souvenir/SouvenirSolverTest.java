@@ -39,6 +39,24 @@ class SouvenirSolverTest {
 		}
 	}
 
+	@Test
+	void reindexesRecordedFactsWhenTheSourceModuleChanges() {
+		BombEntity bomb = new BombEntity();
+		bomb.setId(UUID.randomUUID());
+		ModuleEntity souvenir = module(ModuleType.SOUVENIR, false, Map.of());
+		ModuleEntity chess = module(ModuleType.CHESS, true, Map.of("displayedCoordinates", List.of("a1", "b2")));
+		chess.setVersion(1);
+		bomb.setModules(List.of(souvenir, chess));
+		List<String> answers = List.of("a1", "b2", "c3");
+
+		assertThat(solve(bomb, souvenir, chess.getId(), "second displayed coordinate", answers, false).answerIndex()).isEqualTo(2);
+
+		chess.setState(new HashMap<>(Map.of("displayedCoordinates", List.of("a1", "c3"))));
+		assertThat(solve(bomb, souvenir, chess.getId(), "second displayed coordinate", answers, false).answerIndex()).isEqualTo(2);
+		chess.setVersion(2);
+		assertThat(solve(bomb, souvenir, chess.getId(), "second displayed coordinate", answers, false).answerIndex()).isEqualTo(3);
+	}
+
 	@Test
 	void returnsEveryJewelVaultWheelQuestion() {
 		BombEntity bomb = new BombEntity();
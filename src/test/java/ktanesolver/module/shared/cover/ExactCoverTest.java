@@ -0,0 +1,43 @@
+package ktanesolver.module.shared.cover;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ExactCoverTest {
+	// a 2 x 3 board, cells numbered row by row:
+	// 0 1 2
+	// 3 4 5
+	private static final long BOARD = 0b111111;
+	private static final long[] DOMINOES = { 0b11, 0b110, 0b11000, 0b110000, 0b1001, 0b10010, 0b100100 };
+
+	@Test
+	void everyGroupPlacesOneOptionAndTogetherTheyFillTheBoard() {
+		long[][] options = { DOMINOES, DOMINOES, DOMINOES };
+
+		int[] chosen = ExactCover.solve(options, BOARD);
+
+		assertThat(chosen).hasSize(3);
+		long covered = 0;
+		for (int group = 0; group < options.length; group++) {
+			long mask = options[group][chosen[group]];
+			assertThat(covered & mask).isZero();
+			covered |= mask;
+		}
+		assertThat(covered).isEqualTo(BOARD);
+	}
+
+	@Test
+	void findsTheCoverWhenTheFirstOptionTriedLeadsNowhere() {
+		// cells 0 and 3 are only in the first group's second option
+		long[][] options = { { 0b110, 0b1001 }, { 0b110, 0b110000 }, { 0b110000, 0b100100 } };
+
+		assertThat(ExactCover.solve(options, BOARD)).containsExactly(1, 0, 0);
+	}
+
+	@Test
+	void noCoverWhenTheAreaOrTheShapesDoNotFit() {
+		assertThat(ExactCover.solve(new long[][] { DOMINOES, DOMINOES }, BOARD)).isNull();
+		assertThat(ExactCover.solve(new long[][] { { 0b111 }, { 0b1001, 0b100100 } }, BOARD)).isNull();
+	}
+}
@@ -0,0 +1,73 @@
+package ktanesolver.module.shared.edgework;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import ktanesolver.entity.BombEntity;
+import ktanesolver.enums.PortType;
+
+class EdgeworkSnapshotTest {
+
+	@Test
+	void parsesSerialIndicatorsAndPortsOnce() {
+		BombEntity bomb = new BombEntity();
+		bomb.setSerialNumber("AB3DE7");
+		Map<String, Boolean> indicators = new HashMap<>();
+		indicators.put("FRK", true);
+		indicators.put("CLR", false);
+		indicators.put("BOB", null);
+		bomb.setIndicators(indicators);
+		bomb.replacePortPlates(List.of(Set.of(PortType.DVI, PortType.PARALLEL), Set.of(PortType.DVI), Set.of()));
+
+		EdgeworkSnapshot edgework = EdgeworkSnapshot.of(bomb);
+
+		assertThat(edgework.serialDigitCount()).isEqualTo(2);
+		assertThat(edgework.firstSerialDigit()).isEqualTo(3);
+		assertThat(edgework.lastSerialDigit()).isEqualTo(7);
+		assertThat(edgework.serialDigitSum()).isEqualTo(10);
+		assertThat(edgework.serialLetters()).isEqualTo("ABDE");
+		assertThat(edgework.serialHasVowel()).isTrue();
+		assertThat(edgework.isIndicatorLit("FRK")).isTrue();
+		assertThat(edgework.isIndicatorUnlit("CLR")).isTrue();
+		assertThat(edgework.isIndicatorUnlit("BOB")).isFalse();
+		assertThat(edgework.unlitIndicatorCount()).isEqualTo(2);
+		assertThat(edgework.portPlateCount()).isEqualTo(3);
+		assertThat(edgework.totalPortCount()).isEqualTo(3);
+		assertThat(edgework.distinctPortTypeCount()).isEqualTo(2);
+		assertThat(edgework.portPlatesWith(PortType.DVI)).isEqualTo(2);
+		assertThat(edgework.hasDuplicatePorts()).isTrue();
+		assertThat(edgework.hasEmptyPortPlate()).isTrue();
+		assertThat(edgework.hasPort(PortType.SERIAL)).isFalse();
+	}
+
+	@Test
+	void replacingEdgeworkDetachesAnAttachedSnapshot() {
+		BombEntity bomb = new BombEntity();
+		bomb.setSerialNumber("AB1CD2");
+		bomb.setEdgework(EdgeworkSnapshot.of(bomb));
+
+		bomb.setSerialNumber("AB1CD5");
+
+		assertThat(bomb.getLastDigit()).isEqualTo(5);
+	}
+
+	@Test
+	void theComputedSnapshotIsKeptUntilTheIndicatorsCanChange() {
+		BombEntity bomb = new BombEntity();
+		bomb.setSerialNumber("AB1CD2");
+		EdgeworkSnapshot first = bomb.getEdgework();
+
+		assertThat(bomb.getEdgework()).isSameAs(first);
+
+		bomb.getIndicators().put("BOB", true);
+
+		assertThat(bomb.getEdgework()).isNotSameAs(first);
+		assertThat(bomb.isIndicatorLit("BOB")).isTrue();
+	}
+}
@@ -0,0 +1,84 @@
+package ktanesolver.module.shared.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class GraphSearchTest {
+	// 0 - 1 - 2
+	// |       |
+	// 3 - 4 - 5    6 (unreachable)
+	private final AdjacencyGraph graph = undirected(7, new int[][] { { 0, 1 }, { 1, 2 }, { 0, 3 }, { 3, 4 }, { 4, 5 }, { 2, 5 } });
+
+	@Test
+	void breadthFirstFollowsTheNeighborOrderAndStopsAtTheFirstGoalReached() {
+		GraphSearch search = new GraphSearch();
+
+		int found = search.breadthFirst(7, 0, state -> state == 5, graph);
+
+		assertThat(found).isEqualTo(5);
+		assertThat(search.states(found)).containsExactly(0, 1, 2, 5);
+		assertThat(search.moves(found)).containsExactly(1, 2, 5);
+		assertThat(search.cost(found)).isEqualTo(3);
+		assertThat(search.breadthFirst(7, 0, state -> state == 4 || state == 2, graph)).isEqualTo(2);
+		assertThat(search.moves(search.breadthFirst(7, 3, state -> state == 3, graph))).isEmpty();
+		assertThat(search.breadthFirst(7, 0, state -> state == 6, graph)).isEqualTo(GraphSearch.NONE);
+	}
+
+	@Test
+	void aStarFindsAShortestPathAndSkipsStaleQueueEntries() {
+		GraphSearch search = new GraphSearch();
+
+		int found = search.aStar(7, 3, state -> state == 2, graph, state -> state == 2 ? 0 : 1);
+
+		assertThat(search.cost(found)).isEqualTo(3);
+		assertThat(search.states(found)).startsWith(3).endsWith(2).hasSize(4);
+		assertThat(search.aStar(7, 0, state -> state == 6, graph, state -> 0)).isEqualTo(GraphSearch.NONE);
+	}
+
+	@Test
+	void buffersAreReusedAcrossSearchesOfDifferentSizes() {
+		GraphSearch search = new GraphSearch();
+		AdjacencyGraph.Builder line = AdjacencyGraph.builder(1000);
+		for (int state = 0; state + 1 < 1000; state++) {
+			line.edge(state, state + 1, state);
+		}
+
+		assertThat(search.cost(search.breadthFirst(1000, 0, state -> state == 999, line.build()))).isEqualTo(999);
+		assertThat(search.states(search.breadthFirst(7, 4, state -> state == 0, graph))).containsExactly(4, 3, 0);
+	}
+
+	@Test
+	void releasedSearchesAreHandedOutAgain() {
+		List<GraphSearch> held = new ArrayList<>();
+		for (int i = 0; i < Runtime.getRuntime().availableProcessors(); i++) {
+			held.add(GraphSearch.acquire());
+		}
+		GraphSearch released = held.remove(0);
+		GraphSearch.release(released);
+
+		GraphSearch reused = GraphSearch.acquire();
+		held.add(reused);
+		held.forEach(GraphSearch::release);
+
+		assertThat(reused).isSameAs(released);
+	}
+
+	@Test
+	void edgesMustStayInsideTheGraph() {
+		assertThatThrownBy(() -> AdjacencyGraph.builder(2).edge(0, 2, 0)).isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private static AdjacencyGraph undirected(int stateCount, int[][] edges) {
+		AdjacencyGraph.Builder graph = AdjacencyGraph.builder(stateCount);
+		for (int[] edge : edges) {
+			graph.edge(edge[0], edge[1], edge[1]);
+			graph.edge(edge[1], edge[0], edge[0]);
+		}
+		return graph.build();
+	}
+}
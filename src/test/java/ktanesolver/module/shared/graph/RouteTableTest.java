@@ -0,0 +1,51 @@
+package ktanesolver.module.shared.graph;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class RouteTableTest {
+
+	@Test
+	void tableWalksReturnTheRoutesBreadthFirstSearchFinds() {
+		Random random = new Random(22);
+		for (int round = 0; round < 20; round++) {
+			int stateCount = 2 + random.nextInt(40);
+			AdjacencyGraph.Builder builder = AdjacencyGraph.builder(stateCount);
+			for (int edge = 0; edge < stateCount * 2; edge++) {
+				builder.edge(random.nextInt(stateCount), random.nextInt(stateCount), random.nextInt(4));
+			}
+			AdjacencyGraph graph = builder.build();
+			RouteTable routes = RouteTable.of("Random", graph);
+			GraphSearch search = new GraphSearch();
+
+			for (int from = 0; from < stateCount; from++) {
+				for (int to = 0; to < stateCount; to++) {
+					int target = to;
+					int found = search.breadthFirst(stateCount, from, state -> state == target, graph);
+					if (found == GraphSearch.NONE) {
+						assertThat(routes.moves(from, to)).isNull();
+						assertThat(routes.states(from, to)).isNull();
+					}
+					else {
+						assertThat(routes.moves(from, to)).containsExactly(search.moves(found));
+						assertThat(routes.states(from, to)).containsExactly(search.states(found));
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	void familiesReportTheMemoryOfBuiltAndPendingTables() {
+		AdjacencyGraph line = AdjacencyGraph.builder(10).edge(0, 1, 0).edge(1, 2, 0).build();
+		RouteTable used = RouteTable.of("Report test", line);
+		RouteTable.of("Report test", line);
+
+		assertThat(used.moves(0, 2)).containsExactly(0, 0);
+		assertThat(RouteTable.families()).filteredOn(family -> family.name().equals("Report test"))
+			.containsExactly(new RouteTable.Family("Report test", 2, 1, 100, 200));
+	}
+}
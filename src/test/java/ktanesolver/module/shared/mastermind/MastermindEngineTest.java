@@ -0,0 +1,61 @@
+package ktanesolver.module.shared.mastermind;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class MastermindEngineTest {
+
+	@Test
+	void codesFollowTheColorOrderAndDecodeBack() {
+		assertThat(MastermindEngine.encode(List.of("WHITE", "WHITE", "WHITE", "WHITE", "MAGENTA"))).isEqualTo(1);
+		assertThat(MastermindEngine.encode(List.of("BLUE", "BLUE", "BLUE", "BLUE", "BLUE"))).isEqualTo(7775);
+		assertThat(MastermindEngine.decode(MastermindEngine.encode(List.of("RED", "BLUE", "RED", "GREEN", "WHITE"))))
+			.containsExactly("RED", "BLUE", "RED", "GREEN", "WHITE");
+	}
+
+	@Test
+	void scoresCountRepeatedColorsOnce() {
+		int secret = MastermindEngine.encode(List.of("RED", "BLUE", "RED", "GREEN", "WHITE"));
+
+		assertThat(MastermindEngine.score(secret, MastermindEngine.encode(List.of("RED", "RED", "RED", "RED", "RED"))))
+			.isEqualTo(MastermindEngine.response(2, 0));
+		assertThat(MastermindEngine.score(secret, MastermindEngine.encode(List.of("WHITE", "RED", "BLUE", "GREEN", "YELLOW"))))
+			.isEqualTo(MastermindEngine.response(1, 3));
+		assertThat(MastermindEngine.score(secret, secret)).isEqualTo(MastermindEngine.SOLVED);
+	}
+
+	@Test
+	void minimaxGuessesSolveSampledCodesWithinSixQueries() {
+		int firstGuess = MastermindEngine.encode(List.of("WHITE", "WHITE", "MAGENTA", "MAGENTA", "YELLOW"));
+
+		for (int secret = 0; secret < MastermindEngine.CODE_COUNT; secret += 389) {
+			BitSet candidates = MastermindEngine.allCodes();
+			int guess = firstGuess;
+			int queries = 1;
+			while (MastermindEngine.score(secret, guess) != MastermindEngine.SOLVED) {
+				MastermindEngine.filter(candidates, guess, MastermindEngine.score(secret, guess));
+				assertThat(candidates.get(secret)).isTrue();
+				guess = MastermindEngine.nextGuess(candidates);
+				queries++;
+			}
+			assertThat(queries).isLessThanOrEqualTo(6);
+		}
+	}
+
+	@Test
+	void nextGuessIsTheSameWhicheverWayTheRankingIsSplit() {
+		BitSet candidates = MastermindEngine.allCodes();
+		MastermindEngine.filter(candidates, MastermindEngine.encode(List.of("WHITE", "WHITE", "MAGENTA", "MAGENTA", "YELLOW")),
+			MastermindEngine.response(1, 1));
+
+		int guess = MastermindEngine.nextGuess(candidates);
+
+		for (int i = 0; i < 5; i++) {
+			assertThat(MastermindEngine.nextGuess((BitSet)candidates.clone())).isEqualTo(guess);
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package ktanesolver.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+import ktanesolver.dto.ModuleCatalogDto;
+import ktanesolver.dto.ModuleCatalogDto.ModuleCategory;
+
+class ModuleCatalogIndexTest {
+
+    private final ModuleCatalogDto wires = module("Wires", ModuleCategory.VANILLA_REGULAR, List.of("cut"), "Cut the right wire");
+    private final ModuleCatalogDto complicatedWires = module("Complicated Wires", ModuleCategory.VANILLA_REGULAR, List.of("venn"), "Venn diagram of wires");
+    private final ModuleCatalogDto skinnyWires = module("Skinny Wires", ModuleCategory.MODDED_REGULAR, List.of(), "Thin cables");
+    private final ModuleCatalogDto hotwire = module("Hotwire", ModuleCategory.MODDED_REGULAR, List.of(), "Start the engine");
+    private final ModuleCatalogDto ventingGas = module("Venting Gas", ModuleCategory.VANILLA_NEEDY, List.of("needy"), "Answer the prompt");
+    private final ModuleCatalogDto plumbing = module("Plumbing", ModuleCategory.MODDED_REGULAR, List.of("pipes", "wires"), "Connect the inputs");
+    private final List<ModuleCatalogDto> catalog = List.of(wires, complicatedWires, skinnyWires, hotwire, ventingGas, plumbing);
+    private final ModuleCatalogIndex index = ModuleCatalogIndex.of(catalog);
+
+    @Test
+    void searchRanksNamePrefixThenNameWordThenNameThenTagThenDescription() {
+        assertThat(index.search(null, "WIRE"))
+                .containsExactly(wires, complicatedWires, skinnyWires, hotwire, plumbing);
+        assertThat(index.search(null, "venn")).containsExactly(complicatedWires);
+    }
+
+    @Test
+    void searchMatchesTheSameModulesAsAPlainSubstringFilter() {
+        for (ModuleCatalogDto module : catalog) {
+            for (String field : List.of(module.name(), module.description())) {
+                for (int start = 0; start < field.length(); start++) {
+                    for (int end = start + 1; end <= Math.min(field.length(), start + 7); end++) {
+                        String query = field.substring(start, end).toUpperCase(Locale.ROOT);
+                        assertThat(index.search(null, query)).as(query).containsExactlyInAnyOrderElementsOf(plainFilter(query));
+                    }
+                }
+            }
+        }
+        assertThat(index.search(null, "wiresx")).isEmpty();
+        assertThat(index.search(null, "q")).isEmpty();
+    }
+
+    @Test
+    void categoryRestrictsResultsAndAnEmptyQueryKeepsCatalogOrder() {
+        assertThat(index.search(ModuleCategory.MODDED_REGULAR, "wire")).containsExactly(skinnyWires, hotwire, plumbing);
+        assertThat(index.search(ModuleCategory.VANILLA_REGULAR, null)).containsExactly(wires, complicatedWires);
+        assertThat(index.search(ModuleCategory.MODDED_NEEDY, "")).isEmpty();
+        assertThat(index.search(null, "")).isEqualTo(catalog);
+    }
+
+    private List<ModuleCatalogDto> plainFilter(String query) {
+        String lower = query.toLowerCase(Locale.ROOT);
+        return catalog.stream()
+                .filter(m -> m.name().toLowerCase(Locale.ROOT).contains(lower)
+                        || m.description().toLowerCase(Locale.ROOT).contains(lower)
+                        || m.tags().stream().anyMatch(t -> t.toLowerCase(Locale.ROOT).contains(lower)))
+                .toList();
+    }
+
+    private static ModuleCatalogDto module(String name, ModuleCategory category, List<String> tags, String description) {
+        return new ModuleCatalogDto(name.toLowerCase(Locale.ROOT), name, category, name.toUpperCase(Locale.ROOT), tags, description, true, true, false);
+    }
+}
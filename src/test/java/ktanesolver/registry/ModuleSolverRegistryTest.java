@@ -0,0 +1,140 @@
+package ktanesolver.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import ktanesolver.annotation.ModuleInfo;
+import ktanesolver.annotation.RefreshOn;
+import ktanesolver.configuration.SolverRegistryProperties;
+import ktanesolver.dto.ModuleCatalogDto;
+import ktanesolver.entity.BombEntity;
+import ktanesolver.entity.ModuleEntity;
+import ktanesolver.entity.RoundEntity;
+import ktanesolver.enums.ModuleType;
+import ktanesolver.enums.RoundStatus;
+import ktanesolver.logic.AbstractModuleSolver;
+import ktanesolver.logic.ModuleInput;
+import ktanesolver.logic.ModuleOutput;
+import ktanesolver.logic.RefreshableSolver;
+import ktanesolver.logic.SolveResult;
+import ktanesolver.repository.ModuleRepository;
+
+class ModuleSolverRegistryTest {
+
+    private final AtomicInteger wiresCreated = new AtomicInteger();
+    private final AtomicInteger keysCreated = new AtomicInteger();
+    private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+    @BeforeEach
+    void setUp() {
+        beanFactory.registerBeanDefinition("wiresSolver", new RootBeanDefinition(WiresSolver.class, () -> {
+            wiresCreated.incrementAndGet();
+            return new WiresSolver();
+        }));
+        beanFactory.registerBeanDefinition("turnTheKeysSolver", new RootBeanDefinition(TurnTheKeysSolver.class, () -> {
+            keysCreated.incrementAndGet();
+            return new TurnTheKeysSolver();
+        }));
+    }
+
+    @Test
+    void lazyRegistryCreatesASolverOnlyWhenItsTypeIsFirstUsed() {
+        ModuleSolverRegistry registry = new ModuleSolverRegistry(beanFactory, properties(true));
+
+        assertThat(registry.types()).containsExactlyInAnyOrder(ModuleType.WIRES, ModuleType.TURN_THE_KEYS);
+        assertThat(registry.catalog()).extracting(ModuleCatalogDto::name).containsExactly("Wires", "Turn The Keys");
+        assertThat(ModuleSolverRegistry.catalogInfo(ModuleType.WIRES).category()).isEqualTo(ModuleCatalogDto.ModuleCategory.VANILLA_REGULAR);
+        assertThat(registry.refreshableTypes()).containsExactly(ModuleType.TURN_THE_KEYS);
+        assertThat(registry.refreshesOnStrike(ModuleType.TURN_THE_KEYS)).isTrue();
+        assertThat(wiresCreated).hasValue(0);
+        assertThat(keysCreated).hasValue(0);
+
+        assertThat(registry.get(ModuleType.WIRES)).isInstanceOf(WiresSolver.class);
+        assertThat(registry.get(ModuleType.WIRES)).isSameAs(registry.get(ModuleType.WIRES));
+
+        assertThat(wiresCreated).hasValue(1);
+        assertThat(keysCreated).hasValue(0);
+        assertThat(registry.isCreated(ModuleType.WIRES)).isTrue();
+        assertThat(registry.isCreated(ModuleType.TURN_THE_KEYS)).isFalse();
+        assertThat(registry.get(ModuleType.PASSWORDS)).isNull();
+    }
+
+    @Test
+    void eagerRegistryCreatesEverySolverUpFront() {
+        ModuleSolverRegistry registry = new ModuleSolverRegistry(beanFactory, properties(false));
+
+        assertThat(wiresCreated).hasValue(1);
+        assertThat(keysCreated).hasValue(1);
+        assertThat(registry.refreshable(ModuleType.TURN_THE_KEYS)).isInstanceOf(TurnTheKeysSolver.class);
+        assertThat(registry.getAllSolvers()).hasSize(2);
+    }
+
+    @Test
+    void warmUpCreatesVanillaAndActiveRoundSolversAheadOfUse() {
+        ModuleSolverRegistry registry = new ModuleSolverRegistry(beanFactory, properties(true));
+        ModuleRepository moduleRepo = mock(ModuleRepository.class);
+        when(moduleRepo.findTypesInRoundsWithStatus(RoundStatus.ACTIVE)).thenReturn(List.of(ModuleType.TURN_THE_KEYS, ModuleType.PASSWORDS));
+        SolverWarmUp warmUp = new SolverWarmUp(registry, moduleRepo, properties(true));
+
+        // active-round types come first; types without a solver are dropped
+        assertThat(warmUp.typesToWarm()).containsExactly(ModuleType.TURN_THE_KEYS, ModuleType.WIRES);
+
+        warmUp.warmUp();
+
+        assertThat(wiresCreated).hasValue(1);
+        assertThat(keysCreated).hasValue(1);
+    }
+
+    private static SolverRegistryProperties properties(boolean lazy) {
+        return new SolverRegistryProperties(lazy, true, Duration.ofSeconds(1));
+    }
+
+    record TestInput(String value) implements ModuleInput {
+    }
+
+    record TestOutput(String value) implements ModuleOutput {
+    }
+
+    @ModuleInfo (
+        type = ModuleType.WIRES,
+        id = "wires",
+        name = "Wires",
+        category = ModuleCatalogDto.ModuleCategory.VANILLA_REGULAR,
+        description = "Cut the right wire"
+    )
+    static class WiresSolver extends AbstractModuleSolver<TestInput, TestOutput> {
+        @Override
+        protected SolveResult<TestOutput> doSolve(RoundEntity round, BombEntity bomb, ModuleEntity module, TestInput input) {
+            return success(new TestOutput(input.value()));
+        }
+    }
+
+    @ModuleInfo (
+        type = ModuleType.TURN_THE_KEYS,
+        id = "turnTheKey",
+        name = "Turn The Keys",
+        category = ModuleCatalogDto.ModuleCategory.MODDED_REGULAR,
+        description = "Turn the keys in order"
+    )
+    @RefreshOn (strikes = true)
+    static class TurnTheKeysSolver extends AbstractModuleSolver<TestInput, TestOutput> implements RefreshableSolver {
+        @Override
+        protected SolveResult<TestOutput> doSolve(RoundEntity round, BombEntity bomb, ModuleEntity module, TestInput input) {
+            return success(new TestOutput(input.value()));
+        }
+
+        @Override
+        public void refreshSolution(RoundEntity round, BombEntity bomb, ModuleEntity module) {
+        }
+    }
+}
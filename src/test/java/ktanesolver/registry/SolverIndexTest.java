@@ -0,0 +1,77 @@
+package ktanesolver.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+
+import ktanesolver.annotation.ModuleInfo;
+import ktanesolver.logic.ModuleSolver;
+
+class SolverIndexTest {
+
+    @Test
+    void everyPublicSolverWithAPublicNoArgConstructorIsIndexed() throws Exception {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AnnotationTypeFilter(ModuleInfo.class));
+        List<Class<?>> indexable = new ArrayList<>();
+        for (BeanDefinition definition : scanner.findCandidateComponents("ktanesolver.module")) {
+            Class<?> solverClass = Class.forName(definition.getBeanClassName());
+            if (isIndexable(solverClass)) {
+                indexable.add(solverClass);
+            }
+        }
+
+        assertThat(SolverIndex.entries()).isNotEmpty();
+        assertThat(SolverIndex.entries()).extracting(SolverIndex.Entry::solverClass).containsExactlyInAnyOrderElementsOf(indexable);
+    }
+
+    @Test
+    void entriesMatchTheAnnotationsTheyWereGeneratedFrom() {
+        for (SolverIndex.Entry entry : SolverIndex.entries()) {
+            ModuleInfo info = entry.solverClass().getAnnotation(ModuleInfo.class);
+
+            assertThat(entry.type()).isEqualTo(info.type());
+            assertThat(entry.catalog().id()).isEqualTo(info.id());
+            assertThat(entry.catalog().description()).isEqualTo(info.description());
+            assertThat(entry.catalog().tags()).isEqualTo(List.of(info.tags()));
+            assertThat(entry.catalog().checkFirst()).isEqualTo(info.checkFirst());
+        }
+    }
+
+    @Test
+    void indexedSolversAreCreatedWithTheirIndexedInputType() {
+        for (SolverIndex.Entry entry : SolverIndex.entries()) {
+            ModuleSolver<?, ?> solver = entry.factory().get();
+
+            assertThat(solver).isInstanceOf(entry.solverClass());
+            assertThat(solver.getType()).isEqualTo(entry.type());
+            if (entry.inputType() != null) {
+                assertThat(solver.inputType()).isEqualTo(entry.inputType());
+            }
+        }
+    }
+
+    // what the annotation processor can index: reachable from generated code and created without arguments
+    private static boolean isIndexable(Class<?> solverClass) {
+        for (Class<?> type = solverClass; type != null; type = type.getEnclosingClass()) {
+            if (!Modifier.isPublic(type.getModifiers())
+                || type.getEnclosingClass() != null && !Modifier.isStatic(type.getModifiers())) {
+                return false;
+            }
+        }
+        try {
+            solverClass.getConstructor();
+            return true;
+        }
+        catch(NoSuchMethodException exception) {
+            return false;
+        }
+    }
+}
@@ -19,14 +19,19 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 
+import ktanesolver.dto.BombConfig;
 import ktanesolver.dto.CreateBombRequest;
 import ktanesolver.entity.BombEntity;
 import ktanesolver.entity.ModuleEntity;
 import ktanesolver.entity.RoundEntity;
 import ktanesolver.enums.ModuleType;
 import ktanesolver.enums.PortType;
+import ktanesolver.module.shared.edgework.EdgeworkSnapshot;
 import ktanesolver.repository.BombRepository;
 import ktanesolver.repository.RoundRepository;
+import ktanesolver.state.BombEdgeworkCache;
+import ktanesolver.state.ModuleStateStore;
+import ktanesolver.state.RoundAggregateCache;
 
 @ExtendWith(MockitoExtension.class)
 class BombServiceTest {
@@ -40,11 +45,20 @@ class BombServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private ModuleStateStore moduleStateStore;
+
+    @Mock
+    private RoundAggregateCache roundCache;
+
+    @Mock
+    private BombEdgeworkCache edgeworkCache;
+
     private BombService bombService;
 
     @BeforeEach
     void setUp() {
-        bombService = new BombService(bombRepo, roundRepo, eventPublisher);
+        bombService = new BombService(bombRepo, roundRepo, eventPublisher, moduleStateStore, roundCache, edgeworkCache);
         lenient().when(bombRepo.save(any(BombEntity.class))).thenAnswer(invocation -> {
             BombEntity bomb = invocation.getArgument(0);
             if (bomb.getId() == null) {
@@ -107,6 +121,25 @@ class BombServiceTest {
         verify(eventPublisher).publishEvent(any());
     }
 
+    @Test
+    void configureBombAttachesTheReconfiguredEdgework() {
+        BombEntity bomb = new BombEntity();
+        bomb.setId(UUID.randomUUID());
+        bomb.setRound(createRound(UUID.randomUUID()));
+        bomb.setSerialNumber("AB1CD2");
+        when(bombRepo.findById(bomb.getId())).thenReturn(Optional.of(bomb));
+        when(edgeworkCache.update(bomb)).thenAnswer(invocation -> EdgeworkSnapshot.of(invocation.getArgument(0)));
+
+        BombEntity result = bombService.configureBomb(
+                bomb.getId(),
+                new BombConfig("XY7ZZ5", null, null, Map.of("FRK", true), List.of(Set.of(PortType.DVI))));
+
+        verify(edgeworkCache).update(bomb);
+        assertThat(result.getEdgework().lastSerialDigit()).isEqualTo(5);
+        assertThat(result.getEdgework().isIndicatorLit("FRK")).isTrue();
+        assertThat(result.getEdgework().hasPort(PortType.DVI)).isTrue();
+    }
+
     @Test
     void deleteBombDeletesItAndPublishesRoundUpdate() {
         UUID roundId = UUID.randomUUID();
@@ -118,6 +151,7 @@ class BombServiceTest {
         bombService.deleteBomb(bomb.getId());
 
         verify(bombRepo).delete(bomb);
+        verify(edgeworkCache).evict(bomb.getId());
         verify(eventPublisher).publishEvent(any());
     }
 
@@ -3,12 +3,15 @@ package ktanesolver.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,7 +19,9 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.springframework.context.ApplicationEvent;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
@@ -29,17 +34,27 @@ import ktanesolver.entity.ModuleEntity;
 import ktanesolver.entity.RoundEntity;
 import ktanesolver.event.RoundStateChangedEvent;
 import ktanesolver.event.BombModuleUpdatedEvent;
+import ktanesolver.event.BombModulesUpdatedEvent;
+import ktanesolver.event.RoundDeltaEvent;
+import ktanesolver.dto.RoundChangeDto;
 import ktanesolver.dto.CompleteModuleRequest;
+import ktanesolver.dto.SolveBatchItem;
 import ktanesolver.dto.UpdateTwitchCodeRequest;
 import ktanesolver.enums.ModuleType;
 import ktanesolver.utils.Json;
 import ktanesolver.registry.ModuleSolverRegistry;
 import ktanesolver.repository.BombRepository;
 import ktanesolver.repository.ModuleRepository;
+import ktanesolver.state.BombEdgeworkCache;
+import ktanesolver.state.BombStatisticsCache;
+import ktanesolver.state.ModuleStateStore;
+import ktanesolver.state.RoundAggregateCache;
 import ktanesolver.logic.ModuleInput;
 import ktanesolver.logic.ModuleOutput;
+import ktanesolver.logic.ModuleRef;
 import ktanesolver.logic.ModuleSolver;
 import ktanesolver.logic.SolveSuccess;
+import ktanesolver.metrics.SolverMetrics;
 
 @ExtendWith(MockitoExtension.class)
 class ModuleServiceTest {
@@ -56,6 +71,18 @@ class ModuleServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private ModuleStateStore moduleStateStore;
+
+    @Mock
+    private RoundAggregateCache roundCache;
+
+    @Mock
+    private BombStatisticsCache bombStatistics;
+
+    @Mock
+    private BombEdgeworkCache edgeworkCache;
+
     @Mock
     private ModuleSolver<TestInput, TestOutput> solver;
 
@@ -64,7 +91,7 @@ class ModuleServiceTest {
     @BeforeEach
     void setUp() {
         new Json(new ObjectMapper());
-        moduleService = new ModuleService(bombRepo, moduleRepo, registry, eventPublisher);
+        moduleService = new ModuleService(bombRepo, moduleRepo, registry, eventPublisher, new SolverMetrics(), moduleStateStore, roundCache, bombStatistics, edgeworkCache);
     }
 
     @Test
@@ -136,6 +163,101 @@ class ModuleServiceTest {
         verify(eventPublisher).publishEvent(any(BombModuleUpdatedEvent.class));
     }
 
+    @Test
+    void solveModuleBroadcastsOnlyTheChangedModule() {
+        ModuleEntity module = createModule(ModuleType.BUTTON);
+        when(moduleRepo.findByIdWithBombAndRound(module.getId())).thenReturn(Optional.of(module));
+        when(registry.<TestInput, TestOutput>get(ModuleType.BUTTON)).thenReturn(solver);
+        when(solver.inputType()).thenReturn(TestInput.class);
+        when(solver.solve(any(), any(), any(), any())).thenAnswer(invocation -> {
+            ModuleEntity solving = invocation.getArgument(2);
+            solving.getSolution().put("value", "HOLD");
+            return new SolveSuccess<>(new TestOutput("HOLD"), false);
+        });
+        when(moduleRepo.saveAndFlush(module)).thenReturn(module);
+
+        moduleService.solveModule(
+                module.getBomb().getRound().getId(), module.getBomb().getId(), module.getId(),
+                Map.of("selection", "BUTTON"));
+
+        ArgumentCaptor<ApplicationEvent> events = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(events.capture());
+        assertThat(events.getAllValues())
+                .filteredOn(RoundDeltaEvent.class::isInstance)
+                .singleElement()
+                .satisfies(event -> {
+                    RoundDeltaEvent delta = (RoundDeltaEvent) event;
+                    assertThat(delta.getRoundId()).isEqualTo(module.getBomb().getRound().getId());
+                    assertThat(delta.getChanges()).singleElement().satisfies(change -> {
+                        assertThat(change.kind()).isEqualTo(RoundChangeDto.Kind.MODULE);
+                        assertThat(change.moduleId()).isEqualTo(module.getId());
+                        assertThat(change.solution()).containsEntry("value", "HOLD");
+                    });
+                });
+    }
+
+    @Test
+    void solveBatchRunsItemsInOrderAndBroadcastsOneDelta() {
+        ModuleEntity module = createModule(ModuleType.BUTTON);
+        BombEntity bomb = module.getBomb();
+        bomb.getModules().add(module);
+        when(moduleRepo.findRefsByBombIdAndRoundId(bomb.getId(), bomb.getRound().getId()))
+                .thenReturn(List.of(new ModuleRef(module.getId(), ModuleType.BUTTON)));
+        when(bombRepo.findByIdWithModules(bomb.getId())).thenReturn(Optional.of(bomb));
+        when(registry.<TestInput, TestOutput>get(ModuleType.BUTTON)).thenReturn(solver);
+        when(solver.inputType()).thenReturn(TestInput.class);
+        when(solver.solve(any(), any(), any(), any())).thenAnswer(invocation -> {
+            ModuleEntity solving = invocation.getArgument(2);
+            int stage = (int) solving.getSolution().getOrDefault("stage", 0) + 1;
+            solving.getSolution().put("stage", stage);
+            return new SolveSuccess<>(new TestOutput("STAGE " + stage), false);
+        });
+        when(moduleRepo.saveAllAndFlush(any())).thenAnswer(invocation -> List.copyOf(invocation.<Collection<ModuleEntity>>getArgument(0)));
+
+        List<?> results = moduleService.solveBatch(bomb.getRound().getId(), bomb.getId(), List.of(
+                new SolveBatchItem(module.getId(), Map.of("selection", "BUTTON")),
+                new SolveBatchItem(module.getId(), Map.of("selection", "BUTTON"))));
+
+        assertThat(results).containsExactly(
+                new SolveSuccess<>(new TestOutput("STAGE 1"), false),
+                new SolveSuccess<>(new TestOutput("STAGE 2"), false));
+        ArgumentCaptor<ApplicationEvent> events = ArgumentCaptor.forClass(ApplicationEvent.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(events.capture());
+        assertThat(events.getAllValues())
+                .filteredOn(RoundDeltaEvent.class::isInstance)
+                .singleElement()
+                .satisfies(event -> assertThat(((RoundDeltaEvent) event).getChanges()).singleElement()
+                        .satisfies(change -> assertThat(change.solution()).containsEntry("stage", 2)));
+        assertThat(events.getAllValues()).noneMatch(BombModuleUpdatedEvent.class::isInstance);
+        assertThat(events.getAllValues())
+                .filteredOn(BombModulesUpdatedEvent.class::isInstance)
+                .singleElement()
+                .satisfies(event -> assertThat(((BombModulesUpdatedEvent) event).getModules())
+                        .containsExactly(new BombModulesUpdatedEvent.ModuleUpdate(module.getId(), ModuleType.BUTTON, false)));
+    }
+
+    @Test
+    void solveBatchRejectsModulesFromAnotherBombBeforeTouchingAnything() {
+        ModuleEntity module = createModule(ModuleType.BUTTON);
+        BombEntity bomb = module.getBomb();
+        when(moduleRepo.findRefsByBombIdAndRoundId(bomb.getId(), bomb.getRound().getId()))
+                .thenReturn(List.of(new ModuleRef(module.getId(), ModuleType.BUTTON)));
+        when(registry.<TestInput, TestOutput>get(ModuleType.BUTTON)).thenReturn(solver);
+        when(solver.inputType()).thenReturn(TestInput.class);
+
+        assertThatThrownBy(() -> moduleService.solveBatch(bomb.getRound().getId(), bomb.getId(), List.of(
+                new SolveBatchItem(module.getId(), Map.of("selection", "BUTTON")),
+                new SolveBatchItem(UUID.randomUUID(), Map.of()))))
+                .isInstanceOf(ResponseStatusException.class)
+                .satisfies(error -> assertThat(((ResponseStatusException) error).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+
+        verify(moduleStateStore, never()).flushBomb(any());
+        verify(moduleStateStore, never()).evictBomb(any());
+        verify(bombRepo, never()).findByIdWithModules(any());
+        verify(solver, never()).solve(any(), any(), any(), any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
     @Test
     void completeModuleMarksPhysicalCompletionAtTheExpectedVersion() {
         ModuleEntity module = createModule(ModuleType.BUTTON);
@@ -0,0 +1,108 @@
+package ktanesolver.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import ktanesolver.configuration.BroadcastProperties;
+import ktanesolver.dto.RoundDeltaDto;
+
+@ExtendWith(MockitoExtension.class)
+class RoundBroadcastCoalescerTest {
+
+    private final UUID roundId = UUID.randomUUID();
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Captor
+    private ArgumentCaptor<Map<String, Object>> frame;
+
+    private RoundBroadcastCoalescer coalescer;
+
+    @AfterEach
+    void tearDown() {
+        coalescer.stop();
+    }
+
+    @Test
+    void sendsImmediatelyWithoutAWindow() {
+        coalescer = new RoundBroadcastCoalescer(messagingTemplate, new BroadcastProperties(Duration.ZERO));
+
+        coalescer.send(roundId, roundDelta(1L));
+
+        verify(messagingTemplate).convertAndSend(eq("/topic/rounds/" + roundId), any(Object.class));
+        assertThat(coalescer.stats().framesOut()).isEqualTo(1);
+    }
+
+    @Test
+    void mergesMessagesWithinTheWindowIntoOneFrame() {
+        coalescer = new RoundBroadcastCoalescer(messagingTemplate, new BroadcastProperties(Duration.ofMinutes(1)));
+
+        coalescer.send(roundId, roundDelta(1L));
+        coalescer.send(roundId, roundEvent("MODULE_SOLVED"));
+        coalescer.send(roundId, roundDelta(2L));
+        verify(messagingTemplate, never()).convertAndSend(any(String.class), any(Object.class));
+        coalescer.flush(roundId);
+
+        verify(messagingTemplate).convertAndSend(eq("/topic/rounds/" + roundId), frame.capture());
+        assertThat(frame.getValue()).containsEntry("type", "ROUND_BATCH");
+        assertThat(messagesOf(frame.getValue())).extracting(m -> m.get("type"))
+                .containsExactly("ROUND_DELTA", "MODULE_SOLVED", "ROUND_DELTA");
+        assertThat(coalescer.stats().messagesIn()).isEqualTo(3);
+        assertThat(coalescer.stats().framesOut()).isEqualTo(1);
+    }
+
+    @Test
+    void dropsDeltasSupersededByALaterRoundUpdate() {
+        coalescer = new RoundBroadcastCoalescer(messagingTemplate, new BroadcastProperties(Duration.ofMinutes(1)));
+
+        coalescer.send(roundId, roundDelta(1L));
+        coalescer.send(roundId, roundUpdated(2L));
+        coalescer.send(roundId, roundUpdated(3L));
+        coalescer.flush(roundId);
+
+        verify(messagingTemplate).convertAndSend(eq("/topic/rounds/" + roundId), frame.capture());
+        assertThat(frame.getValue()).containsEntry("type", "ROUND_UPDATED");
+        assertThat(payloadOf(frame.getValue())).containsEntry("version", 3L);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> payloadOf(Map<String, Object> frame) {
+        return (Map<String, Object>) frame.get("payload");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> messagesOf(Map<String, Object> frame) {
+        return (List<Map<String, Object>>) payloadOf(frame).get("messages");
+    }
+
+    // shaped like the messages RoundEventBroadcastService sends
+    private Map<String, Object> roundUpdated(long version) {
+        return Map.of("type", "ROUND_UPDATED", "payload", Map.of("roundId", roundId.toString(), "version", version));
+    }
+
+    private Map<String, Object> roundDelta(long version) {
+        return Map.of("type", "ROUND_DELTA", "payload", new RoundDeltaDto(roundId, version, List.of()));
+    }
+
+    private static Map<String, Object> roundEvent(String type) {
+        return Map.of("type", type, "payload", Map.of());
+    }
+}
@@ -21,6 +21,8 @@ import ktanesolver.enums.ModuleType;
 import ktanesolver.repository.BombRepository;
 import ktanesolver.repository.RoundEventRepository;
 import ktanesolver.repository.RoundRepository;
+import ktanesolver.state.ModuleStateStore;
+import ktanesolver.state.RoundAggregateCache;
 
 @ExtendWith(MockitoExtension.class)
 class RoundServiceTest {
@@ -34,11 +36,17 @@ class RoundServiceTest {
     @Mock
     private RoundEventRepository roundEventRepo;
 
+    @Mock
+    private ModuleStateStore moduleStateStore;
+
+    @Mock
+    private RoundAggregateCache roundCache;
+
     private RoundService roundService;
 
     @BeforeEach
     void setUp() {
-        roundService = new RoundService(roundRepo, bombRepo, roundEventRepo);
+        roundService = new RoundService(roundRepo, bombRepo, roundEventRepo, moduleStateStore, roundCache);
     }
 
     @Test
@@ -0,0 +1,67 @@
+package ktanesolver.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import ktanesolver.enums.ModuleType;
+import ktanesolver.registry.ModuleSolverRegistry;
+import ktanesolver.repository.ModuleRepository;
+
+@ExtendWith (MockitoExtension.class)
+class BombDependencyIndexTest {
+
+	private final UUID roundId = UUID.randomUUID();
+	private final UUID bombId = UUID.randomUUID();
+	private final Set<ModuleType> refreshable = Set.of(ModuleType.TURN_THE_KEYS);
+
+	@Mock
+	private ModuleRepository moduleRepo;
+
+	@Mock
+	private ModuleSolverRegistry registry;
+
+	private BombDependencyIndex index;
+
+	@BeforeEach
+	void setUp() {
+		index = new BombDependencyIndex(moduleRepo, registry);
+		when(registry.refreshableTypes()).thenReturn(refreshable);
+	}
+
+	@Test
+	void queriesEachBombOnce() {
+		when(moduleRepo.findDependentsByBombId(bombId, refreshable)).thenReturn(List.of());
+
+		assertThat(index.dependents(roundId, bombId)).isEmpty();
+		assertThat(index.dependents(roundId, bombId)).isEmpty();
+
+		verify(moduleRepo, times(1)).findDependentsByBombId(bombId, refreshable);
+	}
+
+	@Test
+	void reloadsAfterTheRoundChangesStructurally() {
+		DependentModule turnTheKeys = new DependentModule(UUID.randomUUID(), ModuleType.TURN_THE_KEYS);
+		when(moduleRepo.findDependentsByBombId(bombId, refreshable))
+			.thenReturn(List.of())
+			.thenReturn(List.of(turnTheKeys));
+
+		assertThat(index.dependents(roundId, bombId)).isEmpty();
+		index.invalidateRound(UUID.randomUUID());
+		assertThat(index.dependents(roundId, bombId)).isEmpty();
+		index.invalidateRound(roundId);
+
+		assertThat(index.dependents(roundId, bombId)).containsExactly(turnTheKeys);
+	}
+}
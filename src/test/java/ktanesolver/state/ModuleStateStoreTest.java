@@ -0,0 +1,270 @@
+package ktanesolver.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import ktanesolver.configuration.ModuleStateProperties;
+import ktanesolver.entity.BombEntity;
+import ktanesolver.entity.ModuleEntity;
+import ktanesolver.enums.ModuleType;
+
+@ExtendWith (MockitoExtension.class)
+class ModuleStateStoreTest {
+
+	@Mock
+	private ModuleStateWriter writer;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@Captor
+	private ArgumentCaptor<List<ModuleStateSnapshot>> batch;
+
+	private ModuleStateStore store;
+
+	@BeforeEach
+	void setUp() {
+		store = new ModuleStateStore(writer, new ModuleStateProperties(new ModuleStateProperties.WriteBehind(true, Duration.ofSeconds(1), Duration.ofMinutes(5))), transactionManager);
+	}
+
+	@Test
+	void coalescesConsecutiveStagesIntoOneWrite() {
+		UUID roundId = UUID.randomUUID();
+		ModuleEntity loaded = module();
+
+		ModuleEntity first = store.workingCopy(loaded);
+		first.getState().put("stage", 1);
+		store.stage(first, roundId);
+		ModuleEntity second = store.workingCopy(loaded);
+		second.getState().put("stage", 2);
+		store.stage(second, roundId);
+		store.flushRound(roundId);
+
+		verify(writer).writeAll(batch.capture());
+		assertThat(batch.getValue()).singleElement().satisfies(snapshot -> {
+			assertThat(snapshot.version()).isEqualTo(2);
+			assertThat(snapshot.state()).isEqualTo(Map.of("stage", 2));
+		});
+		assertThat(loaded.getState()).isEmpty();
+		assertThat(store.pendingCount()).isZero();
+	}
+
+	@Test
+	void writtenEntriesExpireOnceIdle() {
+		store = new ModuleStateStore(writer, new ModuleStateProperties(new ModuleStateProperties.WriteBehind(true, Duration.ofSeconds(1), Duration.ZERO)), transactionManager);
+		UUID roundId = UUID.randomUUID();
+		ModuleEntity loaded = module();
+		ModuleEntity copy = store.workingCopy(loaded);
+		copy.getState().put("stage", 1);
+		store.stage(copy, roundId);
+
+		store.flushRound(roundId);
+		assertThat(store.workingCopy(loaded).getState()).isEqualTo(Map.of("stage", 1));
+		store.flushAll();
+
+		assertThat(store.workingCopy(loaded).getState()).isEmpty();
+		verify(writer).writeAll(anyList());
+	}
+
+	@Test
+	void evictedModulesAreNeverWritten() {
+		ModuleEntity loaded = module();
+		store.stage(store.workingCopy(loaded), UUID.randomUUID());
+
+		store.evict(loaded.getId());
+		store.flushAll();
+
+		verify(writer, never()).writeAll(anyList());
+	}
+
+	@Test
+	void evictionWaitsForTheTransactionToCommit() {
+		ModuleEntity loaded = module();
+		store.stage(store.workingCopy(loaded), UUID.randomUUID());
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			store.evictBomb(loaded.getBomb().getId());
+			assertThat(store.pendingCount()).isOne();
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		}
+		finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		assertThat(store.pendingCount()).isZero();
+	}
+
+	@Test
+	void aRolledBackSolveLeavesThePreviousEntryInPlace() {
+		UUID roundId = UUID.randomUUID();
+		ModuleEntity loaded = module();
+		ModuleEntity first = store.workingCopy(loaded);
+		first.getState().put("stage", 1);
+		store.stage(first, roundId);
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			ModuleEntity second = store.workingCopy(loaded);
+			second.getState().put("stage", 2);
+			store.stage(second, roundId);
+			TransactionSynchronizationManager.getSynchronizations()
+				.forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+		}
+		finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		store.flushRound(roundId);
+
+		verify(writer).writeAll(batch.capture());
+		assertThat(batch.getValue()).singleElement().satisfies(snapshot -> {
+			assertThat(snapshot.version()).isEqualTo(1);
+			assertThat(snapshot.state()).isEqualTo(Map.of("stage", 1));
+		});
+	}
+
+	@Test
+	void aStageIsNeitherVisibleNorWrittenBeforeItsTransactionCommits() {
+		UUID roundId = UUID.randomUUID();
+		ModuleEntity loaded = module();
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			ModuleEntity copy = store.workingCopy(loaded);
+			copy.getState().put("stage", 1);
+			store.stage(copy, roundId);
+			store.flushRound(roundId);
+			assertThat(store.workingCopy(loaded).getState()).isEmpty();
+			assertThatThrownBy(() -> store.stage(store.workingCopy(loaded), roundId)).isInstanceOf(OptimisticLockingFailureException.class);
+
+			TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+		}
+		finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		verify(writer, never()).writeAll(anyList());
+		assertThat(store.workingCopy(loaded).getState()).isEqualTo(Map.of("stage", 1));
+	}
+
+	@Test
+	void flushBombExceptLeavesTheSolvedModulePending() {
+		UUID roundId = UUID.randomUUID();
+		ModuleEntity solving = module();
+		ModuleEntity sibling = module();
+		sibling.setBomb(solving.getBomb());
+		store.stage(store.workingCopy(solving), roundId);
+		store.stage(store.workingCopy(sibling), roundId);
+
+		store.flushBombExcept(solving.getBomb().getId(), solving.getId());
+
+		verify(writer).writeAll(batch.capture());
+		assertThat(batch.getValue()).extracting(ModuleStateSnapshot::moduleId).containsExactly(sibling.getId());
+		assertThat(store.pendingCount()).isOne();
+	}
+
+	@Test
+	void changedKeysAccumulateUntilTheModuleIsWritten() {
+		UUID roundId = UUID.randomUUID();
+		ModuleEntity loaded = module();
+		loaded.getState().put("stage", 0);
+		loaded.getState().put("history", List.of());
+
+		ModuleEntity first = store.workingCopy(loaded);
+		first.getState().put("stage", 1);
+		store.stage(first, roundId);
+		ModuleEntity second = store.workingCopy(loaded);
+		second.getSolution().put("answer", 3);
+		store.stage(second, roundId);
+		store.flushRound(roundId);
+
+		verify(writer).writeAll(batch.capture());
+		assertThat(batch.getValue()).singleElement().satisfies(snapshot -> {
+			assertThat(snapshot.stateKeys()).containsExactly("stage");
+			assertThat(snapshot.solutionKeys()).containsExactly("answer");
+		});
+	}
+
+	@Test
+	@SuppressWarnings ("unchecked")
+	void nestedChangesToAWorkingCopyDoNotReachTheStagedState() {
+		UUID roundId = UUID.randomUUID();
+		ModuleEntity loaded = module();
+		loaded.getState().put("history", new ArrayList<>(List.of(1)));
+		store.stage(store.workingCopy(loaded), roundId);
+
+		ModuleEntity copy = store.workingCopy(loaded);
+		((List<Object>)copy.getState().get("history")).add(2);
+
+		assertThat(store.workingCopy(loaded).getState()).isEqualTo(Map.of("history", List.of(1)));
+		assertThat(copy.changedStateKeys()).containsExactly("history");
+	}
+
+	@Test
+	void laterSolvesWriteOnTheVersionTheFirstOneLoaded() {
+		UUID roundId = UUID.randomUUID();
+		ModuleEntity loaded = module();
+		loaded.setVersion(4);
+
+		store.stage(store.workingCopy(loaded), roundId);
+		store.stage(store.workingCopy(loaded), roundId);
+		store.flushRound(roundId);
+
+		verify(writer).writeAll(batch.capture());
+		assertThat(batch.getValue()).singleElement().satisfies(snapshot -> {
+			assertThat(snapshot.version()).isEqualTo(6);
+			assertThat(snapshot.persistedVersion()).isEqualTo(4);
+		});
+	}
+
+	@Test
+	void stagingOverAnotherSolveFails() {
+		ModuleEntity loaded = module();
+		ModuleEntity first = store.workingCopy(loaded);
+		ModuleEntity second = store.workingCopy(loaded);
+		store.stage(first, UUID.randomUUID());
+
+		assertThatThrownBy(() -> store.stage(second, UUID.randomUUID())).isInstanceOf(OptimisticLockingFailureException.class);
+	}
+
+	@Test
+	void aRowChangedInTheDatabaseDropsTheStagedStateAndFails() {
+		UUID roundId = UUID.randomUUID();
+		ModuleEntity loaded = module();
+		store.stage(store.workingCopy(loaded), roundId);
+		when(writer.writeAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		assertThatThrownBy(() -> store.flushRound(roundId)).isInstanceOf(OptimisticLockingFailureException.class);
+		assertThat(store.pendingCount()).isZero();
+	}
+
+	private static ModuleEntity module() {
+		BombEntity bomb = new BombEntity();
+		bomb.setId(UUID.randomUUID());
+		ModuleEntity module = new ModuleEntity();
+		module.setId(UUID.randomUUID());
+		module.setBomb(bomb);
+		module.setType(ModuleType.MEMORY);
+		return module;
+	}
+}
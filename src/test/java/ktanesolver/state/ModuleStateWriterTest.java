@@ -0,0 +1,70 @@
+package ktanesolver.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import ktanesolver.enums.ModuleType;
+
+class ModuleStateWriterTest {
+
+	@Test
+	void patchesASingleChangedKeyAndSkipsAnUnchangedSolution() {
+		ModuleStateWriter.Update update = ModuleStateWriter.update(snapshot(Set.of("history"), Set.of()));
+
+		assertThat(update.sql()).isEqualTo(
+			"UPDATE modules SET state = jsonb_set(COALESCE(state, '{}'::jsonb), ARRAY[CAST(? AS text)], CAST(? AS jsonb)), "
+				+ "version = ? WHERE id = ? AND version = ?");
+		assertThat(update.arguments()).startsWith("history", "[1,2]", 3L).endsWith(2L);
+	}
+
+	@Test
+	void rewritesColumnsWhoseChangesAreUnknown() {
+		ModuleStateWriter.Update update = ModuleStateWriter.update(snapshot(null, Set.of("answer", "removed")));
+
+		assertThat(update.sql()).isEqualTo(
+			"UPDATE modules SET state = CAST(? AS jsonb), solution = CAST(? AS jsonb), version = ? WHERE id = ? AND version = ?");
+	}
+
+	@Test
+	void mergesSeveralChangedKeys() {
+		ModuleStateWriter.Update update = ModuleStateWriter.update(snapshot(Set.of("history", "stage"), Set.of("answer")));
+
+		assertThat(update.sql()).startsWith("UPDATE modules SET state = COALESCE(state, '{}'::jsonb) || CAST(? AS jsonb), ");
+		assertThat(update.arguments()[0]).isIn("{\"history\":[1,2],\"stage\":2}", "{\"stage\":2,\"history\":[1,2]}");
+	}
+
+	@Test
+	void reportsSnapshotsWhoseRowIsNoLongerAtTheExpectedVersion() {
+		JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+		when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] { 1, 0 });
+		ModuleStateSnapshot written = snapshot(Set.of("stage"), Set.of());
+		ModuleStateSnapshot stale = snapshot(Set.of("stage"), Set.of());
+
+		assertThat(new ModuleStateWriter(jdbcTemplate).writeAll(List.of(written, stale))).containsExactly(stale);
+	}
+
+	private static ModuleStateSnapshot snapshot(Set<String> stateKeys, Set<String> solutionKeys) {
+		return new ModuleStateSnapshot(
+			UUID.randomUUID(),
+			ModuleType.MEMORY,
+			UUID.randomUUID(),
+			UUID.randomUUID(),
+			Map.of("history", List.of(1, 2), "stage", 2),
+			Map.of("answer", 4),
+			3,
+			2,
+			stateKeys,
+			solutionKeys);
+	}
+}
@@ -0,0 +1,172 @@
+package ktanesolver.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ktanesolver.configuration.RoundCacheProperties;
+import ktanesolver.entity.BombEntity;
+import ktanesolver.entity.ModuleEntity;
+import ktanesolver.entity.RoundEntity;
+import ktanesolver.enums.ModuleType;
+import ktanesolver.enums.RoundStatus;
+
+class RoundAggregateCacheTest {
+
+	private RoundAggregateCache cache;
+
+	@BeforeEach
+	void setUp() {
+		cache = new RoundAggregateCache(new RoundCacheProperties(true, 2));
+	}
+
+	@Test
+	void cachesOnlyActiveRounds() {
+		RoundEntity active = round(RoundStatus.ACTIVE);
+		RoundEntity setup = round(RoundStatus.SETUP);
+
+		cache.put(active, cache.beginLoad());
+		cache.put(setup, cache.beginLoad());
+
+		assertThat(cache.get(active.getId())).containsSame(active);
+		assertThat(cache.get(setup.getId())).isEmpty();
+		assertThat(cache.stats().hits()).isEqualTo(1);
+		assertThat(cache.stats().misses()).isEqualTo(1);
+	}
+
+	@Test
+	void evictsLeastRecentlyUsedRound() {
+		RoundEntity first = round(RoundStatus.ACTIVE);
+		RoundEntity second = round(RoundStatus.ACTIVE);
+		RoundEntity third = round(RoundStatus.ACTIVE);
+
+		cache.put(first, cache.beginLoad());
+		cache.put(second, cache.beginLoad());
+		cache.get(first.getId());
+		cache.put(third, cache.beginLoad());
+
+		assertThat(cache.get(first.getId())).isPresent();
+		assertThat(cache.get(second.getId())).isEmpty();
+		assertThat(cache.stats().size()).isEqualTo(2);
+	}
+
+	@Test
+	void appliesModuleUpdatesToCachedRound() {
+		RoundEntity round = round(RoundStatus.ACTIVE);
+		ModuleEntity cached = round.getBombs().getFirst().getModules().getFirst();
+		cache.put(round, cache.beginLoad());
+
+		ModuleEntity saved = copyOf(cached);
+		saved.setVersion(1);
+		saved.setSolved(true);
+		saved.getState().put("stage", 2);
+		saved.getSolution().put("cut", 3);
+		cache.updateModule(round.getId(), saved);
+
+		assertThat(cached.isSolved()).isTrue();
+		assertThat(cached.getVersion()).isEqualTo(1);
+		assertThat(cached.getState()).containsEntry("stage", 2);
+		assertThat(cached.getSolution()).containsEntry("cut", 3);
+	}
+
+	@Test
+	void ignoresOutOfOrderModuleUpdates() {
+		RoundEntity round = round(RoundStatus.ACTIVE);
+		ModuleEntity cached = round.getBombs().getFirst().getModules().getFirst();
+		cached.setVersion(3);
+		cache.put(round, cache.beginLoad());
+
+		ModuleEntity stale = copyOf(cached);
+		stale.setVersion(2);
+		stale.setSolved(true);
+		cache.updateModule(round.getId(), stale);
+
+		assertThat(cached.isSolved()).isFalse();
+		assertThat(cached.getVersion()).isEqualTo(3);
+	}
+
+	@Test
+	void appliesStrikesToCachedBomb() {
+		RoundEntity round = round(RoundStatus.ACTIVE);
+		BombEntity bomb = round.getBombs().getFirst();
+		cache.put(round, cache.beginLoad());
+
+		cache.updateStrikes(round.getId(), bomb.getId(), 2);
+
+		assertThat(bomb.getStrikes()).isEqualTo(2);
+	}
+
+	@Test
+	void doesNotCacheLoadThatOverlapsAChange() {
+		RoundEntity round = round(RoundStatus.ACTIVE);
+		long loadStartedAt = cache.beginLoad();
+
+		cache.invalidate(round.getId());
+		cache.put(round, loadStartedAt);
+
+		assertThat(cache.get(round.getId())).isEmpty();
+	}
+
+	@Test
+	void forgetsChangesOnceNoRunningLoadBeganBeforeThem() {
+		RoundEntity round = round(RoundStatus.ACTIVE);
+		long loadStartedAt = cache.beginLoad();
+		cache.invalidate(round.getId());
+		assertThat(cache.trackedChanges()).isOne();
+
+		cache.endLoad(loadStartedAt);
+		cache.invalidate(round.getId());
+
+		assertThat(cache.trackedChanges()).isZero();
+		cache.put(round, cache.beginLoad());
+		assertThat(cache.get(round.getId())).isPresent();
+	}
+
+	@Test
+	void invalidateDropsRound() {
+		RoundEntity round = round(RoundStatus.ACTIVE);
+		cache.put(round, cache.beginLoad());
+
+		cache.invalidate(round.getId());
+
+		assertThat(cache.get(round.getId())).isEmpty();
+	}
+
+	@Test
+	void disabledCacheNeverHits() {
+		cache = new RoundAggregateCache(new RoundCacheProperties(false, 2));
+		RoundEntity round = round(RoundStatus.ACTIVE);
+
+		cache.put(round, cache.beginLoad());
+
+		assertThat(cache.get(round.getId())).isEmpty();
+	}
+
+	private static RoundEntity round(RoundStatus status) {
+		RoundEntity round = new RoundEntity();
+		round.setId(UUID.randomUUID());
+		round.setStatus(status);
+		BombEntity bomb = new BombEntity();
+		bomb.setId(UUID.randomUUID());
+		bomb.setRound(round);
+		ModuleEntity module = new ModuleEntity();
+		module.setId(UUID.randomUUID());
+		module.setBomb(bomb);
+		module.setType(ModuleType.WIRES);
+		bomb.getModules().add(module);
+		round.getBombs().add(bomb);
+		return round;
+	}
+
+	private static ModuleEntity copyOf(ModuleEntity module) {
+		ModuleEntity copy = new ModuleEntity();
+		copy.setId(module.getId());
+		copy.setBomb(module.getBomb());
+		copy.setType(module.getType());
+		copy.setVersion(module.getVersion());
+		return copy;
+	}
+}
@@ -0,0 +1,82 @@
+package ktanesolver.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ktanesolver.configuration.RoundChangeLogProperties;
+import ktanesolver.dto.RoundChangeDto;
+import ktanesolver.dto.RoundChangesDto;
+import ktanesolver.dto.RoundDeltaDto;
+
+class RoundChangeLogTest {
+
+	private final UUID roundId = UUID.randomUUID();
+	private final UUID bombId = UUID.randomUUID();
+
+	private RoundChangeLog log;
+
+	@BeforeEach
+	void setUp() {
+		log = new RoundChangeLog(new RoundChangeLogProperties(3, 8));
+	}
+
+	@Test
+	void numbersDeltasPerRound() {
+		RoundDeltaDto first = log.append(roundId, List.of(RoundChangeDto.strikes(bombId, 1)));
+		RoundDeltaDto second = log.append(roundId, List.of(RoundChangeDto.strikes(bombId, 2)));
+		RoundDeltaDto otherRound = log.append(UUID.randomUUID(), List.of(RoundChangeDto.strikes(bombId, 1)));
+
+		assertThat(first.version()).isEqualTo(1);
+		assertThat(second.version()).isEqualTo(2);
+		assertThat(otherRound.version()).isEqualTo(1);
+	}
+
+	@Test
+	void returnsDeltasMissedSinceVersion() {
+		log.append(roundId, List.of(RoundChangeDto.strikes(bombId, 1)));
+		log.append(roundId, List.of(RoundChangeDto.strikes(bombId, 2)));
+		log.append(roundId, List.of(RoundChangeDto.strikes(bombId, 3)));
+
+		RoundChangesDto changes = log.since(roundId, 1);
+
+		assertThat(changes.resync()).isFalse();
+		assertThat(changes.version()).isEqualTo(3);
+		assertThat(changes.deltas()).extracting(RoundDeltaDto::version).containsExactly(2L, 3L);
+	}
+
+	@Test
+	void requestsResyncWhenMissedDeltasWereDropped() {
+		for (int strikes = 1; strikes <= 5; strikes++) {
+			log.append(roundId, List.of(RoundChangeDto.strikes(bombId, strikes)));
+		}
+
+		assertThat(log.since(roundId, 1).resync()).isTrue();
+		assertThat(log.since(roundId, 2).resync()).isFalse();
+	}
+
+	@Test
+	void requestsResyncAcrossStructuralChanges() {
+		log.append(roundId, List.of(RoundChangeDto.strikes(bombId, 1)));
+		log.append(roundId, List.of(RoundChangeDto.structural()));
+
+		RoundChangesDto changes = log.since(roundId, 0);
+
+		assertThat(changes.resync()).isTrue();
+		assertThat(changes.deltas()).isEmpty();
+	}
+
+	@Test
+	void requestsResyncWhenClientIsAheadOfTheLog() {
+		assertThat(log.since(roundId, 0).resync()).isFalse();
+		assertThat(log.since(roundId, 7).resync()).isTrue();
+
+		log.append(roundId, List.of(RoundChangeDto.strikes(bombId, 1)));
+
+		assertThat(log.since(roundId, 7).resync()).isTrue();
+	}
+}